@@ -0,0 +1,103 @@
+package dev.gmky.utils.csv.benchmark;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.mapper.AnnotationCsvRowMapper;
+import dev.gmky.utils.csv.mapper.CsvRowMapper;
+import dev.gmky.utils.csv.mapper.GeneratedCsvRowMapper;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.parser.CsvRowBatch;
+import lombok.Data;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the reflective {@link AnnotationCsvRowMapper} with the {@link GeneratedCsvRowMapper}
+ * on pre-tokenized rows, both from {@code String[]} and from char slices.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args="CsvRowMapperBenchmark"}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvRowMapperBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final String[] HEADERS = {"id", "name", "country", "amount", "quantity", "active", "date", "comment"};
+
+    @Data
+    public static class OrderRow {
+        @CsvColumn("id") private long id;
+        @CsvColumn("name") private String name;
+        @CsvColumn("country") private String country;
+        @CsvColumn("amount") private double amount;
+        @CsvColumn("quantity") private int quantity;
+        @CsvColumn("active") private boolean active;
+        @CsvColumn("date") private LocalDate date;
+        @CsvColumn("comment") private String comment;
+    }
+
+    private String[][] rows;
+    private CsvRowBatch batch;
+    private CsvRowMapper<OrderRow> reflective;
+    private CsvRowMapper<OrderRow> generated;
+
+    @Setup
+    public void setUp() {
+        rows = new String[ROWS][];
+        batch = new CsvRowBatch(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new String[]{String.valueOf(1_000_000L + i), "User " + i, i % 2 == 0 ? "VN" : "US",
+                    (i % 997) + ".25", String.valueOf(i % 40), i % 3 == 0 ? "true" : "false",
+                    "2024-01-" + (10 + i % 18), "some, comment text"};
+            batch.add(new ArrayRowView(rows[i]), i + 2L);
+        }
+        reflective = new AnnotationCsvRowMapper<>(OrderRow.class, HEADERS);
+        generated = GeneratedCsvRowMapper.forType(OrderRow.class, HEADERS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reflectiveStrings(Blackhole bh) throws Exception {
+        for (int i = 0; i < ROWS; i++) bh.consume(reflective.map(rows[i], HEADERS, i + 2L));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generatedStrings(Blackhole bh) throws Exception {
+        for (int i = 0; i < ROWS; i++) bh.consume(generated.map(rows[i], HEADERS, i + 2L));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void reflectiveSlices(Blackhole bh) throws Exception {
+        CsvRowBatch.Cursor cursor = batch.cursor();
+        for (int i = 0; i < ROWS; i++) bh.consume(reflective.map(cursor.moveTo(i), HEADERS, i + 2L));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void generatedSlices(Blackhole bh) throws Exception {
+        CsvRowBatch.Cursor cursor = batch.cursor();
+        for (int i = 0; i < ROWS; i++) bh.consume(generated.map(cursor.moveTo(i), HEADERS, i + 2L));
+    }
+}
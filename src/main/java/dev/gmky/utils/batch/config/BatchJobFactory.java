@@ -1,5 +1,8 @@
 package dev.gmky.utils.batch.config;
 
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.reader.CsvPartitionReader;
+import dev.gmky.utils.csv.reader.CsvRangePartitioner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
@@ -10,14 +13,16 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.nio.file.Path;
 import java.util.List;
 
 /**
  * Factory for creating batch jobs with consistent configuration.
  * <p>
- * Provides methods for creating simple and multi-step jobs.
+ * Provides methods for creating simple and multi-step jobs, and partitioned CSV import steps.
  * </p>
  *
  * @author HiepVH
@@ -107,6 +112,54 @@ public class BatchJobFactory {
         return chunkBuilder.build();
     }
 
+    /**
+     * Creates a partitioned step that imports a local CSV file in parallel.
+     * <p>
+     * The file is split into quote-safe byte ranges by {@link CsvRangePartitioner}, and each
+     * range is read by a worker step execution on the task executor through a
+     * {@link CsvPartitionReader}. Every partition keeps its own restart state. The processor
+     * and writer are shared by all partitions and must be thread-safe.
+     * </p>
+     *
+     * @param stepName the name of the step; workers are named {@code stepName + ":worker"}
+     * @param targetType the DTO class rows are mapped to
+     * @param file the local CSV file
+     * @param csvConfig the CSV reader configuration
+     * @param processor the item processor (can be null)
+     * @param writer the item writer
+     * @param config the job configuration, applied to each worker step
+     * @param taskExecutor the executor running the partitions
+     * @param gridSize the number of partitions to aim for, typically the number of cores
+     * @param <I> input type
+     * @param <O> output type
+     * @return the configured partitioned Step
+     */
+    public <I, O> Step createPartitionedCsvStep(
+            String stepName,
+            Class<I> targetType,
+            Path file,
+            CsvReaderConfig csvConfig,
+            ItemProcessor<I, O> processor,
+            ItemWriter<O> writer,
+            BatchJobConfig config,
+            TaskExecutor taskExecutor,
+            int gridSize) {
+
+        if (gridSize < 1) {
+            throw new IllegalArgumentException("gridSize must be positive");
+        }
+        String workerName = stepName + ":worker";
+        Step worker = createStep(workerName, new CsvPartitionReader<>(targetType, file, csvConfig),
+                processor, writer, config);
+
+        return new StepBuilder(stepName, jobRepository)
+                .partitioner(workerName, new CsvRangePartitioner(file, csvConfig))
+                .step(worker)
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
     /**
      * Creates a multistep job with sequential execution.
      *
@@ -27,10 +27,17 @@ import java.lang.annotation.Target;
  * private String phone;
  * }</pre>
  *
+ * <h3>Example (record component or constructor parameter):</h3>
+ * <pre>{@code
+ * public record UserRow(@CsvColumn("Name") String name, @CsvColumn("Age") int age) {}
+ * }</pre>
+ * Records are created through their canonical constructor; other classes through the
+ * constructor whose parameters are all annotated, if there is one.
+ *
  * @author HiepVH
  * @since 1.0.3
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CsvColumn {
 
@@ -52,4 +59,12 @@ public @interface CsvColumn {
      */
     @SuppressWarnings("rawtypes")
     Class<? extends TypeConverter> converter() default TypeConverter.class;
+
+    /**
+     * Whether to deduplicate the values of this {@code String} column through a bounded
+     * {@link dev.gmky.utils.csv.mapper.CsvStringPool}, so repeated values share one instance.
+     * Worth enabling for low-cardinality columns (country, currency, status). Ignored for
+     * other field types and for fields with a custom converter.
+     */
+    boolean dedup() default false;
 }
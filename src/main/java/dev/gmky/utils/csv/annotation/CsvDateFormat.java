@@ -22,7 +22,7 @@ import java.lang.annotation.Target;
  * @author HiepVH
  * @since 1.0.3
  */
-@Target(ElementType.FIELD)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CsvDateFormat {
 
@@ -0,0 +1,34 @@
+package dev.gmky.utils.csv.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the CSV codes that map to an enum constant, in addition to its name.
+ * <p>
+ * Codes are matched ignoring case, like constant names. When writing, the first code is
+ * used instead of the constant name.
+ * </p>
+ *
+ * <h3>Example:</h3>
+ * <pre>{@code
+ * public enum Status {
+ *     @CsvEnumValue({"A", "ACT"}) ACTIVE,
+ *     @CsvEnumValue("I") INACTIVE
+ * }
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CsvEnumValue {
+
+    /**
+     * Codes that resolve to the annotated constant.
+     */
+    String[] value();
+}
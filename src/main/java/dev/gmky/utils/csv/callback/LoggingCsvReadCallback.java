@@ -38,8 +38,8 @@ public class LoggingCsvReadCallback<T> implements CsvReadCallback<T> {
 
     @Override
     public void onComplete(CsvReadResult<T> result) {
-        log.info("CSV reading complete: {} total rows, {} success, {} errors, elapsed={}ms",
-                result.totalRows(), result.successCount(), result.errorCount(),
-                result.elapsed().toMillis());
+        log.info("CSV reading complete: {} total rows, {} success, {} errors, {} filtered, elapsed={}ms, {} rows/s",
+                result.totalRows(), result.successCount(), result.errorCount(), result.filteredCount(),
+                result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
     }
 }
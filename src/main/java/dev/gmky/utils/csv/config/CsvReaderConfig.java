@@ -1,12 +1,15 @@
 package dev.gmky.utils.csv.config;
 
 import dev.gmky.utils.csv.callback.CsvReadCallback;
+import dev.gmky.utils.csv.filter.CsvRowFilter;
+import dev.gmky.utils.csv.parser.CsvReadAheadMetrics;
 import dev.gmky.utils.csv.validator.CsvRowValidator;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
 
 /**
  * Configuration for the CSV reader.
@@ -69,7 +72,8 @@ public class CsvReaderConfig {
     private final char escapeChar = '\\';
 
     /**
-     * Whether to trim whitespace from cell values. Defaults to true.
+     * Whether to trim leading and trailing whitespace from cell values and headers, in every
+     * reader and engine. Defaults to true.
      */
     @Builder.Default
     private final boolean trimValues = true;
@@ -87,18 +91,154 @@ public class CsvReaderConfig {
     @Builder.Default
     private final int maxErrors = 100;
 
+    /**
+     * Number of errors {@code readWithResult} keeps in memory. Later errors are appended to
+     * a temporary CSV file exposed as {@link dev.gmky.utils.csv.model.CsvReadResult#errorSpillFile()};
+     * the caller owns and should delete it. Set to -1 to keep every error in memory. Defaults to -1.
+     */
+    @Builder.Default
+    private final int errorSpillThreshold = -1;
+
+    /**
+     * Maximum length of the raw line recorded with an error; longer lines are cut and end
+     * with {@code "..."}. Set to -1 for no limit. Defaults to -1.
+     */
+    @Builder.Default
+    private final int maxRawLineLength = -1;
+
+    /**
+     * Whether row-level mapping and validation exceptions are created without a stack trace.
+     * Their messages, line numbers and causes are kept; only the costly and memory-heavy
+     * trace of the reader's own frames is dropped. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean stacklessErrors = false;
+
     /**
      * Whether to enable parallel DTO mapping for large files. Defaults to false.
+     * <p>
+     * When enabled, the calling thread tokenizes while batches of rows are mapped and
+     * validated on the {@link #executor}. Results, callbacks and error accounting are
+     * still applied in file order, so output is identical to a sequential read.
+     * Custom mappers and validators must be thread-safe.
+     * </p>
      */
     @Builder.Default
     private final boolean parallel = false;
 
     /**
-     * Batch size for parallel mapping. Defaults to 5000.
+     * Number of rows handed to a worker at a time for parallel mapping. Defaults to 5000.
      */
     @Builder.Default
     private final int batchSize = 5000;
 
+    /**
+     * Target size, in bytes, of the record-aligned ranges that parallel {@code Path} and
+     * {@code FileChannel} reads split a file into. Defaults to 8 MiB.
+     */
+    @Builder.Default
+    private final long splitSize = 8L * 1024 * 1024;
+
+    /**
+     * Number of data rows {@link dev.gmky.utils.csv.reader.ColumnarCsvReader} samples to infer
+     * column types when no schema is given. Defaults to 1000.
+     */
+    @Builder.Default
+    private final int schemaSampleRows = 1000;
+
+    /**
+     * Executor used for parallel mapping. Null means {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     */
+    @Builder.Default
+    private final Executor executor = null;
+
+    /**
+     * Whether to map rows with a {@link dev.gmky.utils.csv.mapper.GeneratedCsvRowMapper},
+     * which binds fields through generated accessors instead of reflection and parses
+     * primitive fields without boxing. Ignored when a custom mapper is supplied. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean generatedMapper = false;
+
+    /**
+     * Whether to deduplicate every {@code String} column through a bounded per-column
+     * {@link dev.gmky.utils.csv.mapper.CsvStringPool}, as if each had
+     * {@code @CsvColumn(dedup = true)}. Ignored when a custom mapper is supplied. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean dedupStrings = false;
+
+    /**
+     * Whether to fully tokenize only the columns the mapper binds (see
+     * {@link dev.gmky.utils.csv.mapper.CsvRowMapper#boundColumns()}). With the
+     * {@link Engine#NATIVE NATIVE} and {@link Engine#NATIVE_BYTES NATIVE_BYTES} engines, cells
+     * of other columns are skipped without trimming, unescaping or copying, and appear in
+     * reported raw lines as they are in the file. Worth enabling for wide files of which a
+     * DTO binds few columns. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean projection = false;
+
+    /**
+     * Compression of the input. {@link Compression#AUTO AUTO} recognizes gzip, Zstandard and
+     * zip input by its magic bytes (or, failing that, by a {@code .gz}, {@code .zst} or
+     * {@code .zip} file name) and decompresses it on a background thread; plain input is
+     * read as before. Defaults to {@link Compression#AUTO}.
+     */
+    @Builder.Default
+    private final Compression compression = Compression.AUTO;
+
+    /**
+     * Whether input is read on a separate thread into a ring of {@code readAheadBuffers}
+     * buffers of {@code readAheadBufferSize} bytes while the previous buffers are parsed, so
+     * blocking I/O on slow or remote storage overlaps with tokenizing and mapping. Applies to
+     * {@code InputStream} and {@code Resource} input, and to {@code Path} and
+     * {@code FileChannel} input that is not split for a parallel read, which is then streamed
+     * instead of memory-mapped. Defaults to false.
+     */
+    @Builder.Default
+    private final boolean readAhead = false;
+
+    /**
+     * Number of buffers in the read-ahead ring; at least 2. Defaults to 4.
+     */
+    @Builder.Default
+    private final int readAheadBuffers = 4;
+
+    /**
+     * Size, in bytes, of each read-ahead buffer. Defaults to 1 MiB.
+     */
+    @Builder.Default
+    private final int readAheadBufferSize = 1024 * 1024;
+
+    /**
+     * Whether the read-ahead runs on a virtual thread instead of a platform daemon thread.
+     * Defaults to false.
+     */
+    @Builder.Default
+    private final boolean readAheadVirtualThread = false;
+
+    /**
+     * Optional counters of read-ahead buffers and of the time either side waited for the
+     * other. Null means no metrics are kept.
+     */
+    @Builder.Default
+    private final CsvReadAheadMetrics readAheadMetrics = null;
+
+    /**
+     * Tokenizer engine used to split input into cells. Defaults to {@link Engine#OPENCSV}.
+     */
+    @Builder.Default
+    private final Engine engine = Engine.OPENCSV;
+
+    /**
+     * Optional filter on the raw cells of each record, applied before mapping. Rejected
+     * records are not mapped, validated or passed to callbacks, and are counted in
+     * {@link dev.gmky.utils.csv.model.CsvReadResult#filteredCount()}. Null means every record is read.
+     */
+    @Builder.Default
+    private final CsvRowFilter rowFilter = null;
+
     /**
      * Optional row validator applied after mapping. Null means no validation.
      */
@@ -129,4 +269,36 @@ public class CsvReaderConfig {
         /** Skip bad rows silently without collecting errors. */
         SKIP_SILENT
     }
+
+    /**
+     * Input compression formats.
+     */
+    public enum Compression {
+        /** Detect the format from the input's magic bytes or file name. */
+        AUTO,
+        /** Plain, uncompressed input. */
+        NONE,
+        /** gzip, including multi-member files; BGZF members are inflated in parallel. */
+        GZIP,
+        /** Zstandard; requires {@code com.github.luben:zstd-jni} on the classpath. */
+        ZSTD,
+        /** zip archive; the first file entry is read. */
+        ZIP
+    }
+
+    /**
+     * Tokenizer engines available to the CSV readers.
+     */
+    public enum Engine {
+        /** OpenCSV {@code CSVReader}: materializes every cell as a {@code String}. */
+        OPENCSV,
+        /** Built-in {@link dev.gmky.utils.csv.parser.NativeCsvTokenizer}: scans a reusable buffer and exposes cells as slices. */
+        NATIVE,
+        /**
+         * Built-in {@link dev.gmky.utils.csv.parser.ByteCsvTokenizer}: like {@code NATIVE}, but scans the raw
+         * bytes of UTF-8, ISO-8859-1 or US-ASCII input and decodes only the cells that are read as strings.
+         * Other charsets, and non-ASCII delimiter, quote or escape characters, fall back to {@code NATIVE}.
+         */
+        NATIVE_BYTES
+    }
 }
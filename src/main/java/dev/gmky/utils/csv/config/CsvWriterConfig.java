@@ -0,0 +1,100 @@
+package dev.gmky.utils.csv.config;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Configuration for the CSV writer.
+ * <p>
+ * Use the {@link CsvWriterConfigBuilder builder} to construct an instance
+ * with custom settings. The defaults produce output that {@link CsvReaderConfig#defaultConfig()}
+ * reads back unchanged.
+ * </p>
+ *
+ * <h3>Example:</h3>
+ * <pre>{@code
+ * CsvWriterConfig config = CsvWriterConfig.builder()
+ *     .delimiter(';')
+ *     .lineSeparator("\r\n")
+ *     .quoteMode(QuoteMode.ALL)
+ *     .build();
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@Getter
+@Builder
+public class CsvWriterConfig {
+
+    /**
+     * Column delimiter character. Defaults to comma {@code ','}.
+     */
+    @Builder.Default
+    private final char delimiter = ',';
+
+    /**
+     * Output charset. Defaults to UTF-8.
+     */
+    @Builder.Default
+    private final Charset charset = StandardCharsets.UTF_8;
+
+    /**
+     * Whether to write a header row of column names first. Defaults to true.
+     */
+    @Builder.Default
+    private final boolean hasHeader = true;
+
+    /**
+     * Quote character for enclosed fields. Defaults to double-quote {@code '"'}.
+     */
+    @Builder.Default
+    private final char quoteChar = '"';
+
+    /**
+     * Escape character the output will be read with. A cell containing it is quoted and
+     * the character doubled, so the reader's unescaping restores it. Set to {@code '\0'}
+     * for plain RFC 4180 output. Defaults to backslash {@code '\\'}.
+     */
+    @Builder.Default
+    private final char escapeChar = '\\';
+
+    /**
+     * Record separator. Defaults to {@code "\n"}.
+     */
+    @Builder.Default
+    private final String lineSeparator = "\n";
+
+    /**
+     * When cells are enclosed in quotes. Defaults to {@link QuoteMode#MINIMAL}.
+     */
+    @Builder.Default
+    private final QuoteMode quoteMode = QuoteMode.MINIMAL;
+
+    /**
+     * Size, in chars, of the buffer rows are formatted into; it is encoded and handed to the
+     * output whenever it fills up. Defaults to 64 Ki chars.
+     */
+    @Builder.Default
+    private final int bufferSize = 64 * 1024;
+
+    /**
+     * Returns a default configuration instance.
+     */
+    public static CsvWriterConfig defaultConfig() {
+        return CsvWriterConfig.builder().build();
+    }
+
+    /**
+     * Quoting policies.
+     */
+    public enum QuoteMode {
+        /** Quote only cells containing the delimiter, quote or escape character, or a line break. */
+        MINIMAL,
+        /** Quote every non-null cell. */
+        ALL
+    }
+}
@@ -0,0 +1,29 @@
+package dev.gmky.utils.csv.converter;
+
+/**
+ * Trimming helpers for converters that work on cell slices without copying them.
+ * Both follow {@link String#trim()}: every char up to {@code ' '} is whitespace.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CharSequences {
+
+    private CharSequences() {
+    }
+
+    /** Index of the first char above {@code ' '}, matching {@link String#trim()}. */
+    public static int trimStart(CharSequence value) {
+        int start = 0;
+        int len = value.length();
+        while (start < len && value.charAt(start) <= ' ') start++;
+        return start;
+    }
+
+    /** End index (exclusive) after dropping trailing chars up to {@code ' '}. */
+    public static int trimEnd(CharSequence value, int start) {
+        int end = value.length();
+        while (end > start && value.charAt(end - 1) <= ' ') end--;
+        return end;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.gmky.utils.csv.converter;
+
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+
+/**
+ * Primitive {@code double} counterpart of {@link TypeConverter}, used for {@code double} fields so
+ * values are parsed from the cell and written to the field without boxing.
+ * <p>
+ * Implement it alongside {@code TypeConverter<Double>}: mappers call {@link #convertDouble} for
+ * primitive {@code double} fields and {@link TypeConverter#convert} for everything else.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface DoubleConverter {
+
+    /**
+     * Converts a non-blank CSV cell to a {@code double}.
+     *
+     * @param value the cell; may be a slice of the reader's buffer that is only valid during the call
+     * @param meta  metadata about the target field
+     * @return the converted value
+     * @throws Exception if conversion fails
+     */
+    double convertDouble(CharSequence value, CsvFieldMeta meta) throws Exception;
+}
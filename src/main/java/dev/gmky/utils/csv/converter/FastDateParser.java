@@ -0,0 +1,125 @@
+package dev.gmky.utils.csv.converter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Date parsers that read common fixed-width layouts straight from a {@link CharSequence},
+ * such as a cell slice, without creating intermediate strings or formatter state.
+ * <p>
+ * Handled in place: {@code yyyy-MM-dd}, {@code yyyyMMdd}, {@code yyyy-MM-dd'T'HH:mm:ss} and
+ * {@code yyyy-MM-dd HH:mm:ss} (a blank pattern means ISO {@code yyyy-MM-dd}). Any other
+ * pattern, and any value that does not fit the layout or is not a plainly valid date
+ * (for example a day the {@code SMART} resolver would adjust), is parsed with the given
+ * {@link DateTimeFormatter}, so results and errors match {@code LocalDate.parse(text, formatter)}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class FastDateParser {
+
+    private static final int ISO_DATE = 1;       // yyyy-MM-dd
+    private static final int BASIC_DATE = 2;     // yyyyMMdd
+    private static final int ISO_DATE_TIME = 3;  // yyyy-MM-dd'T'HH:mm:ss
+    private static final int DATE_TIME = 4;      // yyyy-MM-dd HH:mm:ss
+
+    private FastDateParser() {
+    }
+
+    /**
+     * Parses a {@link LocalDate} using {@code pattern} (the pattern {@code formatter} was built from).
+     */
+    public static LocalDate parseLocalDate(CharSequence value, String pattern, DateTimeFormatter formatter) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        LocalDate date = switch (layoutOf(pattern)) {
+            case ISO_DATE -> isoDate(value, start, end);
+            case BASIC_DATE -> basicDate(value, start, end);
+            case ISO_DATE_TIME, DATE_TIME -> {
+                LocalDateTime dateTime = dateTime(value, start, end, layoutOf(pattern) == ISO_DATE_TIME ? 'T' : ' ');
+                yield dateTime != null ? dateTime.toLocalDate() : null;
+            }
+            default -> null;
+        };
+        return date != null ? date : LocalDate.parse(value.subSequence(start, end), formatter);
+    }
+
+    /**
+     * Parses a {@link LocalDateTime} using {@code pattern} (the pattern {@code formatter} was built from).
+     */
+    public static LocalDateTime parseLocalDateTime(CharSequence value, String pattern, DateTimeFormatter formatter) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        LocalDateTime dateTime = switch (layoutOf(pattern)) {
+            case ISO_DATE_TIME -> dateTime(value, start, end, 'T');
+            case DATE_TIME -> dateTime(value, start, end, ' ');
+            default -> null;
+        };
+        return dateTime != null ? dateTime : LocalDateTime.parse(value.subSequence(start, end), formatter);
+    }
+
+    private static int layoutOf(String pattern) {
+        if (pattern == null || pattern.isBlank()) return ISO_DATE;
+        return switch (pattern) {
+            case "yyyy-MM-dd" -> ISO_DATE;
+            case "yyyyMMdd" -> BASIC_DATE;
+            case "yyyy-MM-dd'T'HH:mm:ss" -> ISO_DATE_TIME;
+            case "yyyy-MM-dd HH:mm:ss" -> DATE_TIME;
+            default -> 0;
+        };
+    }
+
+    private static LocalDate isoDate(CharSequence s, int start, int end) {
+        if (end - start != 10 || s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') return null;
+        return date(digits(s, start, 4), digits(s, start + 5, 2), digits(s, start + 8, 2));
+    }
+
+    private static LocalDate basicDate(CharSequence s, int start, int end) {
+        if (end - start != 8) return null;
+        return date(digits(s, start, 4), digits(s, start + 4, 2), digits(s, start + 6, 2));
+    }
+
+    private static LocalDateTime dateTime(CharSequence s, int start, int end, char separator) {
+        if (end - start != 19 || s.charAt(start + 10) != separator
+                || s.charAt(start + 13) != ':' || s.charAt(start + 16) != ':') {
+            return null;
+        }
+        LocalDate date = isoDate(s, start, start + 10);
+        int hour = digits(s, start + 11, 2);
+        int minute = digits(s, start + 14, 2);
+        int second = digits(s, start + 17, 2);
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour, minute, second);
+    }
+
+    /** Returns a date only when every field is in range, leaving adjustments to the formatter. */
+    private static LocalDate date(int year, int month, int day) {
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /** Parses {@code count} ASCII digits, or returns -1 if any char is not a digit. */
+    private static int digits(CharSequence s, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) return -1;
+            value = value * 10 + d;
+        }
+        return value;
+    }
+}
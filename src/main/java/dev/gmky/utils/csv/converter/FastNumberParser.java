@@ -0,0 +1,145 @@
+package dev.gmky.utils.csv.converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Number parsers that read straight from a {@link CharSequence}, such as a cell slice,
+ * without trimming or copying it into intermediate strings.
+ * <p>
+ * Every method accepts exactly the same input and produces exactly the same result as
+ * the JDK parse it replaces (after {@link String#trim()}). Common plain forms are parsed
+ * in place; anything else (exponents, hex floats, very long mantissas, invalid input)
+ * is handed to the JDK parser so results and error messages stay identical.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class FastNumberParser {
+
+    /** Largest mantissa for which {@code mantissa / 10^k} is exactly rounded (Clinger's fast path). */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /** Any 18-digit unscaled value fits in a long. */
+    private static final int MAX_DECIMAL_DIGITS = 18;
+
+    private FastNumberParser() {
+    }
+
+    /**
+     * Parses a decimal {@code int}, like {@code Integer.parseInt(value.toString().trim())}.
+     */
+    public static int parseInt(CharSequence value) {
+        int start = CharSequences.trimStart(value);
+        try {
+            return Integer.parseInt(value, start, CharSequences.trimEnd(value, start), 10);
+        } catch (NumberFormatException e) {
+            return Integer.parseInt(value.toString().trim()); // rethrow with the usual message
+        }
+    }
+
+    /**
+     * Parses a decimal {@code long}, like {@code Long.parseLong(value.toString().trim())}.
+     */
+    public static long parseLong(CharSequence value) {
+        int start = CharSequences.trimStart(value);
+        try {
+            return Long.parseLong(value, start, CharSequences.trimEnd(value, start), 10);
+        } catch (NumberFormatException e) {
+            return Long.parseLong(value.toString().trim()); // rethrow with the usual message
+        }
+    }
+
+    /**
+     * Parses a {@code double}, like {@link Double#parseDouble(String)}.
+     * <p>
+     * Plain decimals ({@code [+-]digits[.digits]}) whose digits fit in 53 bits and that have
+     * at most 22 fraction digits are computed as one exactly-rounded division.
+     * </p>
+     */
+    public static double parseDouble(CharSequence value) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        int i = start;
+        boolean negative = false;
+        if (i < end && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1; // -1 until the decimal point is seen
+        for (; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = mantissa * 10 + (c - '0');
+                if (mantissa > MAX_EXACT_MANTISSA) return Double.parseDouble(value.toString());
+                digits++;
+                if (fractionDigits >= 0) fractionDigits++;
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                return Double.parseDouble(value.toString());
+            }
+        }
+        if (digits == 0 || fractionDigits >= POWERS_OF_TEN.length) return Double.parseDouble(value.toString());
+        double result = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        return negative ? -result : result;
+    }
+
+    /**
+     * Parses a {@link BigDecimal} from a money-style cell: the currency symbols {@code $ € £ ¥}
+     * and the thousand separator {@code ,} are ignored wherever they occur, as
+     * {@code new BigDecimal(trimmed value with those chars removed)} would.
+     * <p>
+     * Plain values with up to 18 digits become {@link BigDecimal#valueOf(long, int)} with the
+     * same unscaled value and scale the string constructor would produce.
+     * </p>
+     */
+    public static BigDecimal parseBigDecimal(CharSequence value) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        boolean negative = false;
+        boolean signSeen = false;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1; // -1 until the decimal point is seen
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == MAX_DECIMAL_DIGITS) return parseBigDecimalSlow(value);
+                unscaled = unscaled * 10 + (c - '0');
+                digits++;
+                if (scale >= 0) scale++;
+            } else if (isIgnoredInDecimal(c)) {
+                // currency symbol or thousand separator
+            } else if (c == '.' && scale < 0) {
+                scale = 0;
+            } else if ((c == '-' || c == '+') && !signSeen && digits == 0 && scale < 0) {
+                negative = c == '-';
+                signSeen = true;
+            } else {
+                return parseBigDecimalSlow(value);
+            }
+        }
+        if (digits == 0) return parseBigDecimalSlow(value);
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(scale, 0));
+    }
+
+    private static boolean isIgnoredInDecimal(char c) {
+        return c == ',' || c == '$' || c == '€' || c == '£' || c == '¥';
+    }
+
+    private static BigDecimal parseBigDecimalSlow(CharSequence value) {
+        StringBuilder cleaned = new StringBuilder(value.length());
+        String trimmed = value.toString().trim();
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!isIgnoredInDecimal(c)) cleaned.append(c);
+        }
+        return new BigDecimal(cleaned.toString());
+    }
+}
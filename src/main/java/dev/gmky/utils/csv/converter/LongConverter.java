@@ -0,0 +1,39 @@
+package dev.gmky.utils.csv.converter;
+
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+
+/**
+ * Primitive {@code long} counterpart of {@link TypeConverter}, used for {@code long} fields so
+ * values are parsed from the cell and written to the field without boxing.
+ * <p>
+ * Implement it alongside {@code TypeConverter<Long>}: mappers call {@link #convertLong} for
+ * primitive {@code long} fields and {@link TypeConverter#convert} for everything else.
+ * </p>
+ *
+ * <h3>Example:</h3>
+ * <pre>{@code
+ * public class CentsConverter implements TypeConverter<Long>, LongConverter {
+ *     public long convertLong(CharSequence value, CsvFieldMeta meta) {
+ *         return Math.round(Double.parseDouble(value.toString()) * 100);
+ *     }
+ *     public Long convert(String value, CsvFieldMeta meta) { return convertLong(value, meta); }
+ *     public Class<Long> getTargetType() { return Long.class; }
+ * }
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface LongConverter {
+
+    /**
+     * Converts a non-blank CSV cell to a {@code long}.
+     *
+     * @param value the cell; may be a slice of the reader's buffer that is only valid during the call
+     * @param meta  metadata about the target field
+     * @return the converted value
+     * @throws Exception if conversion fails
+     */
+    long convertLong(CharSequence value, CsvFieldMeta meta) throws Exception;
+}
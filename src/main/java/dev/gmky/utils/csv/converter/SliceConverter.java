@@ -0,0 +1,30 @@
+package dev.gmky.utils.csv.converter;
+
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+
+/**
+ * Counterpart of {@link TypeConverter} that reads the cell as a {@link CharSequence}, so values
+ * can be resolved straight from the reader's buffer without first copying the cell to a
+ * {@code String}.
+ * <p>
+ * Implement it alongside {@code TypeConverter<T>}: mappers call {@link #convertSlice} for fields
+ * the converter is resolved for, and {@link TypeConverter#convert} for default values.
+ * </p>
+ *
+ * @param <T> the target Java type this converter produces
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface SliceConverter<T> {
+
+    /**
+     * Converts a non-blank CSV cell to the target type.
+     *
+     * @param value the cell; may be a slice of the reader's buffer that is only valid during the call
+     * @param meta  metadata about the target field
+     * @return the converted value
+     * @throws Exception if conversion fails
+     */
+    T convertSlice(CharSequence value, CsvFieldMeta meta) throws Exception;
+}
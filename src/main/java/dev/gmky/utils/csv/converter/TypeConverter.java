@@ -3,7 +3,8 @@ package dev.gmky.utils.csv.converter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 
 /**
- * SPI interface for converting a raw CSV string value to a target Java type.
+ * SPI interface for converting a raw CSV string value to a target Java type, and back
+ * again for {@link dev.gmky.utils.csv.writer.CsvWriter}.
  * <p>
  * Implement this interface and register via {@link TypeConverterRegistry} to support
  * custom types globally, or specify per-field via {@code @CsvColumn(converter = ...)}.
@@ -35,6 +36,20 @@ public interface TypeConverter<T> {
      */
     T convert(String value, CsvFieldMeta meta) throws Exception;
 
+    /**
+     * Formats a value as a CSV cell, the inverse of {@link #convert}. The default uses
+     * {@link String#valueOf(Object)}; override it when {@code convert} expects another form.
+     *
+     * @param value the non-null field value
+     * @param meta  metadata about the source field (type, annotations, etc.)
+     * @return the cell text, unquoted
+     * @throws Exception if formatting fails
+     * @since 1.0.4
+     */
+    default String format(T value, CsvFieldMeta meta) throws Exception {
+        return String.valueOf(value);
+    }
+
     /**
      * The Java type this converter produces.
      *
@@ -1,5 +1,6 @@
 package dev.gmky.utils.csv.converter.impl;
 
+import dev.gmky.utils.csv.converter.FastNumberParser;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.apache.commons.lang3.StringUtils;
@@ -8,7 +9,8 @@ import java.math.BigDecimal;
 
 /**
  * Built-in converter for {@link BigDecimal} fields.
- * Strips common currency symbols and group separators before parsing.
+ * Ignores common currency symbols and group separators; parsed in place by
+ * {@link FastNumberParser#parseBigDecimal(CharSequence)}. Formatted without an exponent.
  *
  * @author HiepVH
  * @since 1.0.3
@@ -18,14 +20,13 @@ public class BigDecimalConverter implements TypeConverter<BigDecimal> {
     @Override
     public BigDecimal convert(String value, CsvFieldMeta meta) {
         if (StringUtils.isBlank(value)) return null;
-        // Strip common currency symbols and thousand separators
-        String cleaned = value.trim()
-                .replace("$", "")
-                .replace("€", "")
-                .replace("£", "")
-                .replace("¥", "")
-                .replace(",", "");
-        return new BigDecimal(cleaned);
+        // Currency symbols and thousand separators are skipped while parsing
+        return FastNumberParser.parseBigDecimal(value);
+    }
+
+    @Override
+    public String format(BigDecimal value, CsvFieldMeta meta) {
+        return value.toPlainString();
     }
 
     @Override
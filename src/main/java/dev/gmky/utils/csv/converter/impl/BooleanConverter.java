@@ -1,5 +1,7 @@
 package dev.gmky.utils.csv.converter.impl;
 
+import dev.gmky.utils.csv.converter.BoolConverter;
+import dev.gmky.utils.csv.converter.CharSequences;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.apache.commons.lang3.StringUtils;
@@ -7,12 +9,13 @@ import org.apache.commons.lang3.StringUtils;
 /**
  * Built-in converter for {@link Boolean} fields.
  * Recognizes: "true", "yes", "1", "on" as true (case-insensitive).
- * Everything else is false.
+ * Everything else is false. Primitive {@code boolean} fields are matched against the cell
+ * directly through {@link BoolConverter}.
  *
  * @author HiepVH
  * @since 1.0.3
  */
-public class BooleanConverter implements TypeConverter<Boolean> {
+public class BooleanConverter implements TypeConverter<Boolean>, BoolConverter {
 
     @Override
     public Boolean convert(String value, CsvFieldMeta meta) {
@@ -21,6 +24,22 @@ public class BooleanConverter implements TypeConverter<Boolean> {
         return "true".equals(lower) || "yes".equals(lower) || "1".equals(lower) || "on".equals(lower);
     }
 
+    @Override
+    public boolean convertBoolean(CharSequence value, CsvFieldMeta meta) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        return matches(value, start, end, "true") || matches(value, start, end, "yes")
+                || matches(value, start, end, "1") || matches(value, start, end, "on");
+    }
+
+    private static boolean matches(CharSequence value, int start, int end, String word) {
+        if (end - start != word.length()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != word.charAt(i)) return false;
+        }
+        return true;
+    }
+
     @Override
     public Class<Boolean> getTargetType() {
         return Boolean.class;
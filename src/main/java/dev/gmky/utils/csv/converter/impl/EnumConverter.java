@@ -1,36 +1,156 @@
 package dev.gmky.utils.csv.converter.impl;
 
+import dev.gmky.utils.csv.annotation.CsvEnumValue;
+import dev.gmky.utils.csv.converter.CharSequences;
+import dev.gmky.utils.csv.converter.SliceConverter;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * Built-in converter for Java {@link Enum} types.
- * Performs case-insensitive matching against enum constant names.
+ * Performs case-insensitive matching against enum constant names and their {@link CsvEnumValue}
+ * codes, and formats constants by their first code or, failing that, by name.
+ * <p>
+ * Names and codes are looked up in a hash table built once per enum type, which hashes the
+ * cell in place instead of copying, lower-casing or comparing it with every constant.
+ * </p>
  *
  * @author HiepVH
  * @since 1.0.3
  */
 @SuppressWarnings({"unchecked", "rawtypes"})
-public class EnumConverter implements TypeConverter<Enum> {
+public class EnumConverter implements TypeConverter<Enum>, SliceConverter<Enum> {
+
+    private static final ClassValue<EnumTable> TABLES = new ClassValue<>() {
+        @Override
+        protected EnumTable computeValue(Class<?> type) {
+            return new EnumTable((Class<? extends Enum>) type);
+        }
+    };
 
     @Override
     public Enum convert(String value, CsvFieldMeta meta) {
         if (StringUtils.isBlank(value)) return null;
-        Class<? extends Enum> enumType = (Class<? extends Enum>) meta.getFieldType();
-        String trimmed = value.trim();
-        for (Enum constant : enumType.getEnumConstants()) {
-            if (constant.name().equalsIgnoreCase(trimmed)) {
-                return constant;
-            }
+        return convertSlice(value, meta);
+    }
+
+    @Override
+    public Enum convertSlice(CharSequence value, CsvFieldMeta meta) {
+        Class<?> enumType = meta.getFieldType();
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        Enum constant = TABLES.get(enumType).find(value, start, end);
+        if (constant == null) {
+            throw new IllegalArgumentException(
+                    String.format("Unknown enum value '%s' for type %s", value.subSequence(start, end),
+                            enumType.getSimpleName())
+            );
         }
-        throw new IllegalArgumentException(
-                String.format("Unknown enum value '%s' for type %s", trimmed, enumType.getSimpleName())
-        );
+        return constant;
+    }
+
+    @Override
+    public String format(Enum value, CsvFieldMeta meta) {
+        return TABLES.get(value.getDeclaringClass()).code(value);
     }
 
     @Override
     public Class<Enum> getTargetType() {
         return Enum.class;
     }
+
+    /**
+     * Open-addressing table from case-folded names and codes to constants. Keys are folded
+     * char by char as {@link String#equalsIgnoreCase} does, so no folded copies are made.
+     */
+    private static final class EnumTable {
+
+        private final String[] keys;
+        private final Enum[] values;
+        private final String[] codes; // written form, by ordinal
+        private final int mask;
+
+        EnumTable(Class<? extends Enum> type) {
+            Enum[] constants = type.getEnumConstants();
+            CsvEnumValue[] annotations = new CsvEnumValue[constants.length];
+            int entries = constants.length;
+            for (int i = 0; i < constants.length; i++) {
+                annotations[i] = annotation(type, constants[i]);
+                if (annotations[i] != null) entries += annotations[i].value().length;
+            }
+
+            int capacity = 2;
+            while (capacity < entries * 2) capacity <<= 1;
+            this.keys = new String[capacity];
+            this.values = new Enum[capacity];
+            this.mask = capacity - 1;
+            this.codes = new String[constants.length];
+
+            // names first: as with a linear scan, the first declared constant wins a clash
+            for (Enum constant : constants) {
+                put(constant.name(), constant, false);
+            }
+            for (int i = 0; i < constants.length; i++) {
+                String[] aliases = annotations[i] != null ? annotations[i].value() : new String[0];
+                for (String alias : aliases) {
+                    put(alias, constants[i], true);
+                }
+                codes[i] = aliases.length > 0 ? aliases[0] : constants[i].name();
+            }
+        }
+
+        Enum find(CharSequence value, int start, int end) {
+            for (int i = hash(value, start, end) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (matches(keys[i], value, start, end)) return values[i];
+            }
+            return null;
+        }
+
+        String code(Enum constant) {
+            return codes[constant.ordinal()];
+        }
+
+        private void put(String key, Enum constant, boolean alias) {
+            int i = hash(key, 0, key.length()) & mask;
+            for (; keys[i] != null; i = (i + 1) & mask) {
+                if (!matches(keys[i], key, 0, key.length())) continue;
+                if (alias && values[i] != constant) {
+                    throw new IllegalStateException(String.format("Enum code '%s' of %s.%s clashes with %s",
+                            key, constant.getDeclaringClass().getSimpleName(), constant.name(), values[i].name()));
+                }
+                return;
+            }
+            keys[i] = key;
+            values[i] = constant;
+        }
+
+        private static CsvEnumValue annotation(Class<?> type, Enum constant) {
+            try {
+                return type.getDeclaredField(constant.name()).getAnnotation(CsvEnumValue.class);
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException("Cannot read enum constant " + type.getName() + "." + constant.name(), e);
+            }
+        }
+
+        private static boolean matches(String key, CharSequence value, int start, int end) {
+            if (key.length() != end - start) return false;
+            for (int i = 0; i < key.length(); i++) {
+                if (fold(key.charAt(i)) != fold(value.charAt(start + i))) return false;
+            }
+            return true;
+        }
+
+        private static int hash(CharSequence value, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + fold(value.charAt(i));
+            }
+            return h ^ (h >>> 16);
+        }
+
+        private static char fold(char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+    }
 }
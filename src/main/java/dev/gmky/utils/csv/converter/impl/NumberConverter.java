@@ -1,17 +1,23 @@
 package dev.gmky.utils.csv.converter.impl;
 
+import dev.gmky.utils.csv.converter.DoubleConverter;
+import dev.gmky.utils.csv.converter.FastNumberParser;
+import dev.gmky.utils.csv.converter.IntConverter;
+import dev.gmky.utils.csv.converter.LongConverter;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.apache.commons.lang3.StringUtils;
 
 /**
  * Built-in converter for numeric types: {@link Integer}, {@link Long}, {@link Double}, {@link Float}, {@link Short}.
- * Handles both primitive and boxed types.
+ * Handles both primitive and boxed types. Primitive {@code int}, {@code long} and {@code double}
+ * fields are parsed through {@link IntConverter}, {@link LongConverter} and {@link DoubleConverter}
+ * without boxing, straight from the cell via {@link FastNumberParser}.
  *
  * @author HiepVH
  * @since 1.0.3
  */
-public class NumberConverter implements TypeConverter<Number> {
+public class NumberConverter implements TypeConverter<Number>, IntConverter, LongConverter, DoubleConverter {
 
     @Override
     public Number convert(String value, CsvFieldMeta meta) {
@@ -21,7 +27,7 @@ public class NumberConverter implements TypeConverter<Number> {
 
         if (fieldType == Integer.class || fieldType == int.class) return Integer.parseInt(trimmed);
         if (fieldType == Long.class || fieldType == long.class) return Long.parseLong(trimmed);
-        if (fieldType == Double.class || fieldType == double.class) return Double.parseDouble(trimmed);
+        if (fieldType == Double.class || fieldType == double.class) return FastNumberParser.parseDouble(trimmed);
         if (fieldType == Float.class || fieldType == float.class) return Float.parseFloat(trimmed);
         if (fieldType == Short.class || fieldType == short.class) return Short.parseShort(trimmed);
         if (fieldType == Byte.class || fieldType == byte.class) return Byte.parseByte(trimmed);
@@ -29,6 +35,21 @@ public class NumberConverter implements TypeConverter<Number> {
         throw new IllegalArgumentException("Unsupported numeric type: " + fieldType.getName());
     }
 
+    @Override
+    public int convertInt(CharSequence value, CsvFieldMeta meta) {
+        return FastNumberParser.parseInt(value);
+    }
+
+    @Override
+    public long convertLong(CharSequence value, CsvFieldMeta meta) {
+        return FastNumberParser.parseLong(value);
+    }
+
+    @Override
+    public double convertDouble(CharSequence value, CsvFieldMeta meta) {
+        return FastNumberParser.parseDouble(value);
+    }
+
     @Override
     public Class<Number> getTargetType() {
         return Number.class;
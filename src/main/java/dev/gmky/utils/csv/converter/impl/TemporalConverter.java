@@ -1,18 +1,22 @@
 package dev.gmky.utils.csv.converter.impl;
 
 import dev.gmky.utils.csv.annotation.CsvDateFormat;
+import dev.gmky.utils.csv.converter.FastDateParser;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.apache.commons.lang3.StringUtils;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
 
 /**
  * Built-in converter for Java temporal types:
  * {@link LocalDate}, {@link LocalDateTime}, {@link LocalTime}, {@link Instant}, {@link ZonedDateTime}.
  * <p>
- * Uses the pattern from {@link CsvDateFormat} on the field, or ISO defaults.
+ * Uses the pattern from {@link CsvDateFormat} on the field, or ISO defaults. Common
+ * fixed-width patterns are parsed in place by {@link FastDateParser}. Values are formatted
+ * with the same pattern, and {@link Instant}s in the same timezone, so they read back unchanged.
  * </p>
  *
  * @author HiepVH
@@ -26,9 +30,10 @@ public class TemporalConverter implements TypeConverter<Object> {
         String trimmed = value.trim();
         Class<?> fieldType = meta.getFieldType();
         DateTimeFormatter formatter = meta.getDateTimeFormatter();
+        String pattern = meta.getDateFormatPattern();
 
-        if (fieldType == LocalDate.class) return LocalDate.parse(trimmed, formatter);
-        if (fieldType == LocalDateTime.class) return LocalDateTime.parse(trimmed, formatter);
+        if (fieldType == LocalDate.class) return FastDateParser.parseLocalDate(trimmed, pattern, formatter);
+        if (fieldType == LocalDateTime.class) return FastDateParser.parseLocalDateTime(trimmed, pattern, formatter);
         if (fieldType == LocalTime.class) return LocalTime.parse(trimmed, formatter);
         if (fieldType == ZonedDateTime.class) return ZonedDateTime.parse(trimmed, formatter);
         if (fieldType == Instant.class) {
@@ -36,16 +41,27 @@ public class TemporalConverter implements TypeConverter<Object> {
             String tz = meta.getDateFormatTimezone();
             ZoneId zone = StringUtils.isBlank(tz) ? ZoneId.systemDefault() : ZoneId.of(tz);
             try {
-                return LocalDateTime.parse(trimmed, formatter).atZone(zone).toInstant();
+                return FastDateParser.parseLocalDateTime(trimmed, pattern, formatter).atZone(zone).toInstant();
             } catch (java.time.DateTimeException e) {
                 // Fallback if formatter only provides date
-                return LocalDate.parse(trimmed, formatter).atStartOfDay(zone).toInstant();
+                return FastDateParser.parseLocalDate(trimmed, pattern, formatter).atStartOfDay(zone).toInstant();
             }
         }
 
         throw new IllegalArgumentException("Unsupported temporal type: " + fieldType.getName());
     }
 
+    @Override
+    public String format(Object value, CsvFieldMeta meta) {
+        DateTimeFormatter formatter = meta.getDateTimeFormatter();
+        if (value instanceof Instant instant && formatter.getZone() == null) {
+            String tz = meta.getDateFormatTimezone();
+            return formatter.withZone(StringUtils.isBlank(tz) ? ZoneId.systemDefault() : ZoneId.of(tz)).format(instant);
+        }
+        if (value instanceof TemporalAccessor temporal) return formatter.format(temporal);
+        throw new IllegalArgumentException("Unsupported temporal type: " + value.getClass().getName());
+    }
+
     @Override
     public Class<Object> getTargetType() {
         // Handles multiple types; type routing is done in convert()
@@ -14,8 +14,20 @@ public class CsvMappingException extends RuntimeException {
     private final String rawValue;
 
     public CsvMappingException(long lineNumber, String fieldName, String rawValue, String message, Throwable cause) {
+        this(lineNumber, fieldName, rawValue, message, cause, true);
+    }
+
+    /**
+     * Creates the exception, optionally without filling in a stack trace.
+     *
+     * @param writableStackTrace false to skip capturing the stack trace, which is cheaper
+     *                           when many rows fail and only the message is of interest
+     * @since 1.0.4
+     */
+    public CsvMappingException(long lineNumber, String fieldName, String rawValue, String message, Throwable cause,
+                               boolean writableStackTrace) {
         super(String.format("CSV mapping failed at line %d, field [%s], value [%s]: %s",
-                lineNumber, fieldName, rawValue, message), cause);
+                lineNumber, fieldName, rawValue, message), cause, true, writableStackTrace);
         this.lineNumber = lineNumber;
         this.fieldName = fieldName;
         this.rawValue = rawValue;
@@ -10,11 +10,13 @@ public class CsvParsingException extends RuntimeException {
 
     private final long lineNumber;
     private final String rawLine;
+    private final String reason;
 
     public CsvParsingException(long lineNumber, String rawLine, String message, Throwable cause) {
         super(String.format("CSV parsing failed at line %d: %s. Raw: [%s]", lineNumber, message, rawLine), cause);
         this.lineNumber = lineNumber;
         this.rawLine = rawLine;
+        this.reason = message;
     }
 
     public CsvParsingException(long lineNumber, String rawLine, String message) {
@@ -28,4 +30,11 @@ public class CsvParsingException extends RuntimeException {
     public String getRawLine() {
         return rawLine;
     }
+
+    /**
+     * Returns the failure description without the line number and raw line decoration.
+     */
+    public String getReason() {
+        return reason;
+    }
 }
@@ -14,7 +14,18 @@ public class CsvValidationException extends RuntimeException {
     private final List<String> violations;
 
     public CsvValidationException(long lineNumber, List<String> violations) {
-        super(String.format("CSV validation failed at line %d: %s", lineNumber, violations));
+        this(lineNumber, violations, true);
+    }
+
+    /**
+     * Creates the exception, optionally without filling in a stack trace.
+     *
+     * @param writableStackTrace false to skip capturing the stack trace
+     * @since 1.0.4
+     */
+    public CsvValidationException(long lineNumber, List<String> violations, boolean writableStackTrace) {
+        super(String.format("CSV validation failed at line %d: %s", lineNumber, violations), null, true,
+                writableStackTrace);
         this.lineNumber = lineNumber;
         this.violations = List.copyOf(violations);
     }
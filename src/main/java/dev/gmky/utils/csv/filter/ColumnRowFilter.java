@@ -0,0 +1,72 @@
+package dev.gmky.utils.csv.filter;
+
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.util.function.Predicate;
+
+/**
+ * {@link CsvRowFilter} that tests one cell, addressed by index or, until bound, by header name.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class ColumnRowFilter implements CsvRowFilter {
+
+    private final String header; // null once bound or when addressed by index
+    private final int index;
+    private final Predicate<CharSequence> predicate;
+
+    ColumnRowFilter(String header, int index, Predicate<CharSequence> predicate) {
+        this.header = header;
+        this.index = index;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean accept(CsvRowView row) {
+        if (header != null) {
+            throw new IllegalStateException("Filter on column '" + header + "' has not been bound to a header");
+        }
+        return predicate.test(index < row.size() ? row.cell(index) : "");
+    }
+
+    @Override
+    public CsvRowFilter bind(String[] headers) {
+        if (header == null) return this;
+        String wanted = header.trim();
+        if (headers != null) {
+            for (int i = 0; i < headers.length; i++) {
+                if (headers[i] != null && headers[i].trim().equalsIgnoreCase(wanted)) {
+                    return new ColumnRowFilter(null, i, predicate);
+                }
+            }
+        }
+        throw new IllegalArgumentException("Row filter column '" + header + "' is not in the CSV header");
+    }
+
+    @Override
+    public int[] columns() {
+        return header == null ? new int[]{index} : null;
+    }
+
+    /**
+     * Returns a predicate matching cells whose characters equal one of {@code values}.
+     */
+    static Predicate<CharSequence> equalsAny(String... values) {
+        String[] candidates = values.clone();
+        return cell -> {
+            int length = cell.length();
+            for (String candidate : candidates) {
+                if (candidate.length() == length && contentEquals(candidate, cell, length)) return true;
+            }
+            return false;
+        };
+    }
+
+    private static boolean contentEquals(String candidate, CharSequence cell, int length) {
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != cell.charAt(i)) return false;
+        }
+        return true;
+    }
+}
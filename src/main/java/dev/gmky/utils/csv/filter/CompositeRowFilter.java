@@ -0,0 +1,45 @@
+package dev.gmky.utils.csv.filter;
+
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Conjunction or disjunction of two {@link CsvRowFilter}s.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class CompositeRowFilter implements CsvRowFilter {
+
+    private final CsvRowFilter left;
+    private final CsvRowFilter right;
+    private final boolean and;
+
+    CompositeRowFilter(CsvRowFilter left, CsvRowFilter right, boolean and) {
+        this.left = left;
+        this.right = right;
+        this.and = and;
+    }
+
+    @Override
+    public boolean accept(CsvRowView row) {
+        return and ? left.accept(row) && right.accept(row) : left.accept(row) || right.accept(row);
+    }
+
+    @Override
+    public CsvRowFilter bind(String[] headers) {
+        CsvRowFilter boundLeft = left.bind(headers);
+        CsvRowFilter boundRight = right.bind(headers);
+        return boundLeft == left && boundRight == right ? this : new CompositeRowFilter(boundLeft, boundRight, and);
+    }
+
+    @Override
+    public int[] columns() {
+        int[] l = left.columns();
+        int[] r = right.columns();
+        if (l == null || r == null) return null;
+        return IntStream.concat(Arrays.stream(l), Arrays.stream(r)).distinct().sorted().toArray();
+    }
+}
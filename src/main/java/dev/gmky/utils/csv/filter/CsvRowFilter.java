@@ -0,0 +1,119 @@
+package dev.gmky.utils.csv.filter;
+
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Predicate on the raw cells of a tokenized record, evaluated before the record is mapped.
+ * <p>
+ * Set through {@link dev.gmky.utils.csv.config.CsvReaderConfig#getRowFilter() rowFilter}.
+ * Readers test every non-empty record right after tokenizing it; a rejected record is never
+ * mapped, validated or passed to callbacks, and is counted in
+ * {@link dev.gmky.utils.csv.model.CsvReadResult#filteredCount()} instead. Filters built
+ * with {@link #column(String, Predicate)} address columns by header name and are resolved
+ * through {@link #bind(String[])} once the header has been read.
+ * </p>
+ * <p>
+ * Cells are passed as they are tokenized ({@link CsvRowView#cell(int)}): they may be reused
+ * flyweights, so predicates must not retain them. With parallel reads a filter is called
+ * from several threads at once and must be thread-safe.
+ * </p>
+ *
+ * <h3>Example:</h3>
+ * <pre>{@code
+ * CsvReaderConfig config = CsvReaderConfig.builder()
+ *     .rowFilter(CsvRowFilter.equalsAny("Region", "EU", "APAC")
+ *         .and(CsvRowFilter.equalsAny("Status", "INACTIVE").negate()))
+ *     .build();
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@FunctionalInterface
+public interface CsvRowFilter {
+
+    /**
+     * Returns true to read the record, false to drop it.
+     *
+     * @param row the tokenized record; only valid during the call
+     */
+    boolean accept(CsvRowView row);
+
+    /**
+     * Resolves column names against the header. Called once per read before the first
+     * {@link #accept}; the default implementation returns this filter.
+     *
+     * @param headers the header row, or null if the file has none
+     * @return the filter to apply to the data rows
+     * @throws IllegalArgumentException if a named column is not in the header
+     */
+    default CsvRowFilter bind(String[] headers) {
+        return this;
+    }
+
+    /**
+     * Returns the zero-based indexes of the columns this filter reads, or null if unknown.
+     * With {@link dev.gmky.utils.csv.config.CsvReaderConfig#isProjection() projection} these
+     * columns are tokenized in full even if the mapper does not bind them; when null, so are
+     * all columns. Only meaningful on a {@link #bind bound} filter.
+     */
+    default int[] columns() {
+        return null;
+    }
+
+    /**
+     * Returns a filter that accepts records accepted by both this filter and {@code other}.
+     */
+    default CsvRowFilter and(CsvRowFilter other) {
+        return new CompositeRowFilter(this, Objects.requireNonNull(other, "other"), true);
+    }
+
+    /**
+     * Returns a filter that accepts records accepted by this filter or {@code other}.
+     */
+    default CsvRowFilter or(CsvRowFilter other) {
+        return new CompositeRowFilter(this, Objects.requireNonNull(other, "other"), false);
+    }
+
+    /**
+     * Returns a filter that accepts exactly the records this filter drops.
+     */
+    default CsvRowFilter negate() {
+        return new NegatedRowFilter(this);
+    }
+
+    /**
+     * Accepts records whose cell at {@code index} matches {@code predicate}. A record too
+     * short to have the cell is tested with an empty value.
+     */
+    static CsvRowFilter column(int index, Predicate<CharSequence> predicate) {
+        if (index < 0) throw new IllegalArgumentException("Column index must not be negative: " + index);
+        return new ColumnRowFilter(null, index, Objects.requireNonNull(predicate, "predicate"));
+    }
+
+    /**
+     * Accepts records whose cell in the column named {@code header} matches {@code predicate}.
+     * Names are matched like {@code @CsvColumn} names: trimmed and ignoring case.
+     */
+    static CsvRowFilter column(String header, Predicate<CharSequence> predicate) {
+        return new ColumnRowFilter(Objects.requireNonNull(header, "header"), -1,
+                Objects.requireNonNull(predicate, "predicate"));
+    }
+
+    /**
+     * Accepts records whose cell at {@code index} equals one of {@code values}.
+     */
+    static CsvRowFilter equalsAny(int index, String... values) {
+        return column(index, ColumnRowFilter.equalsAny(values));
+    }
+
+    /**
+     * Accepts records whose cell in the column named {@code header} equals one of {@code values}.
+     */
+    static CsvRowFilter equalsAny(String header, String... values) {
+        return column(header, ColumnRowFilter.equalsAny(values));
+    }
+}
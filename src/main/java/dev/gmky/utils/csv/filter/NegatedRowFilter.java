@@ -0,0 +1,39 @@
+package dev.gmky.utils.csv.filter;
+
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+/**
+ * {@link CsvRowFilter} that accepts the records another filter drops.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class NegatedRowFilter implements CsvRowFilter {
+
+    private final CsvRowFilter filter;
+
+    NegatedRowFilter(CsvRowFilter filter) {
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean accept(CsvRowView row) {
+        return !filter.accept(row);
+    }
+
+    @Override
+    public CsvRowFilter bind(String[] headers) {
+        CsvRowFilter bound = filter.bind(headers);
+        return bound == filter ? this : new NegatedRowFilter(bound);
+    }
+
+    @Override
+    public int[] columns() {
+        return filter.columns();
+    }
+
+    @Override
+    public CsvRowFilter negate() {
+        return filter;
+    }
+}
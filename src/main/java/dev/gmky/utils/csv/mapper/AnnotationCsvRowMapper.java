@@ -3,15 +3,26 @@ package dev.gmky.utils.csv.mapper;
 import dev.gmky.utils.csv.annotation.CsvColumn;
 import dev.gmky.utils.csv.annotation.CsvDateFormat;
 import dev.gmky.utils.csv.annotation.CsvIgnore;
+import dev.gmky.utils.csv.converter.BoolConverter;
+import dev.gmky.utils.csv.converter.DoubleConverter;
+import dev.gmky.utils.csv.converter.IntConverter;
+import dev.gmky.utils.csv.converter.LongConverter;
+import dev.gmky.utils.csv.converter.SliceConverter;
 import dev.gmky.utils.csv.converter.TypeConverter;
 import dev.gmky.utils.csv.converter.TypeConverterRegistry;
 import dev.gmky.utils.csv.converter.impl.*;
 import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.parser.CsvRowView;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,6 +35,15 @@ import java.util.concurrent.ConcurrentHashMap;
  * Metadata is computed once per DTO class and stored in a static
  * {@link ConcurrentHashMap} for the lifetime of the JVM.
  * </p>
+ * <p>
+ * Each mapper compiles a binding plan for its header layout (see {@link #getBindingPlan()}).
+ * </p>
+ * <p>
+ * Records, and classes with a constructor whose parameters all carry {@link CsvColumn},
+ * are created through that constructor: values are collected into a per-thread argument
+ * array that is reused across rows and the constructor is invoked once per row, so no
+ * half-initialized instance is ever built.
+ * </p>
  *
  * @param <T> the target DTO type
  * @author HiepVH
@@ -34,6 +54,8 @@ public class AnnotationCsvRowMapper<T> implements CsvRowMapper<T> {
 
     private static final ConcurrentHashMap<Class<?>, List<CsvFieldMeta>> METADATA_CACHE =
             new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Class<?>, CsvConstructorBinding> CONSTRUCTOR_CACHE =
+            new ConcurrentHashMap<>();
 
     // Singleton converter instances — declared before DEFAULT_REGISTRY to ensure correct init order
     private static final TemporalConverter TEMPORAL_CONVERTER = new TemporalConverter();
@@ -42,10 +64,39 @@ public class AnnotationCsvRowMapper<T> implements CsvRowMapper<T> {
 
     private static final TypeConverterRegistry DEFAULT_REGISTRY = buildDefaultRegistry();
 
+    // How each field is converted, decided once per mapper
+    private static final byte KIND_STRING = 0;
+    private static final byte KIND_CONVERTER = 1;
+    private static final byte KIND_INT = 2;
+    private static final byte KIND_LONG = 3;
+    private static final byte KIND_DOUBLE = 4;
+    private static final byte KIND_BOOLEAN = 5;
+    private static final byte KIND_NO_CONVERTER = 6;
+    private static final byte KIND_SLICE = 7;
+
+    /** Marks a field without a usable default value. */
+    private static final Object NO_DEFAULT = new Object();
+    /** Marks a default value that has to be converted on every use. */
+    private static final Object UNCONVERTED = new Object();
+
     private final Class<T> targetType;
     private final List<CsvFieldMeta> fieldMetas;
-    private final Map<String, Integer> headerIndexMap; // header name -> column index
-    private final TypeConverterRegistry registry;
+    private final CsvConstructorBinding constructorBinding; // null: no-arg constructor and field writes
+    private final ThreadLocal<Object[]> arguments;
+    private final Constructor<T> noArgConstructor;          // null if missing or constructor-bound
+    private final Exception noArgConstructorFailure;
+
+    // Binding plan, aligned with fieldMetas
+    private final CsvFieldMeta[] fields;
+    private final int[] columnIndexes;
+    private final int[] slots;                  // argument slot per field when constructor-bound
+    private final byte[] kinds;
+    private final TypeConverter<?>[] converters;
+    private final Object[] defaults;            // converted default, NO_DEFAULT or UNCONVERTED
+    private final CsvStringPool[] pools;        // null entries: values are not deduplicated
+    private final Map<String, CsvStringPool> stringPools;
+    private final CsvBindingPlan bindingPlan;
+    private final boolean stacklessErrors;
 
     /**
      * Creates a mapper for the given DTO type with header-based binding.
@@ -57,97 +108,346 @@ public class AnnotationCsvRowMapper<T> implements CsvRowMapper<T> {
         this(targetType, headers, DEFAULT_REGISTRY);
     }
 
+    /**
+     * Creates a mapper for the given DTO type with header-based binding.
+     *
+     * @param dedupStrings whether to deduplicate every {@code String} column, not only those
+     *                     annotated with {@code @CsvColumn(dedup = true)}
+     */
+    public AnnotationCsvRowMapper(Class<T> targetType, String[] headers, boolean dedupStrings) {
+        this(targetType, headers, DEFAULT_REGISTRY, dedupStrings);
+    }
+
     /**
      * Creates a mapper with a custom converter registry.
+     * <p>
+     * The binding plan is compiled here: column indexes are resolved against {@code headers},
+     * converters are looked up and default values are converted once, so mapping a row does
+     * no header hashing and no registry lookups.
+     * </p>
      */
     public AnnotationCsvRowMapper(Class<T> targetType, String[] headers, TypeConverterRegistry registry) {
+        this(targetType, headers, registry, false);
+    }
+
+    /**
+     * Creates a mapper with a custom converter registry.
+     *
+     * @param dedupStrings whether to deduplicate every {@code String} column, not only those
+     *                     annotated with {@code @CsvColumn(dedup = true)}
+     */
+    public AnnotationCsvRowMapper(Class<T> targetType, String[] headers, TypeConverterRegistry registry,
+                                  boolean dedupStrings) {
+        this(targetType, headers, registry, dedupStrings, false);
+    }
+
+    /**
+     * Creates a mapper with a custom converter registry.
+     *
+     * @param dedupStrings    whether to deduplicate every {@code String} column, not only those
+     *                        annotated with {@code @CsvColumn(dedup = true)}
+     * @param stacklessErrors whether to throw {@link CsvMappingException}s without a stack trace
+     */
+    public AnnotationCsvRowMapper(Class<T> targetType, String[] headers, TypeConverterRegistry registry,
+                                  boolean dedupStrings, boolean stacklessErrors) {
         this.targetType = targetType;
-        this.registry = registry;
+        this.stacklessErrors = stacklessErrors;
         this.fieldMetas = METADATA_CACHE.computeIfAbsent(targetType,
                 AnnotationCsvRowMapper::introspect);
-        this.headerIndexMap = buildHeaderIndexMap(headers);
+        this.constructorBinding = CONSTRUCTOR_CACHE.get(targetType);
+        this.arguments = constructorBinding != null ? ThreadLocal.withInitial(constructorBinding::newArguments) : null;
+
+        Constructor<T> constructor = null;
+        Exception failure = null;
+        if (constructorBinding == null) {
+            try {
+                constructor = targetType.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (Exception e) {
+                failure = e;
+            }
+        }
+        this.noArgConstructor = constructor;
+        this.noArgConstructorFailure = failure;
+
+        Map<String, Integer> headerIndexMap = buildHeaderIndexMap(headers);
+        int n = fieldMetas.size();
+        this.fields = fieldMetas.toArray(new CsvFieldMeta[0]);
+        this.columnIndexes = new int[n];
+        this.slots = new int[n];
+        this.kinds = new byte[n];
+        this.converters = new TypeConverter<?>[n];
+        this.defaults = new Object[n];
+        this.pools = new CsvStringPool[n];
+        Map<String, CsvStringPool> poolsByField = new LinkedHashMap<>();
+        Class<?>[] converterTypes = new Class<?>[n];
+        for (int i = 0; i < n; i++) {
+            CsvFieldMeta meta = fields[i];
+            columnIndexes[i] = meta.isIndexBased()
+                    ? meta.getColumnIndex()
+                    : headerIndexMap.getOrDefault(meta.getColumnName().trim().toLowerCase(), -1);
+            slots[i] = constructorBinding != null ? constructorBinding.position(i) : -1;
+            converters[i] = resolveConverter(meta, registry);
+            kinds[i] = kindOf(meta, converters[i]);
+            defaults[i] = convertDefault(meta, kinds[i], converters[i]);
+            converterTypes[i] = converters[i] != null ? converters[i].getClass() : null;
+            if (kinds[i] == KIND_STRING && (dedupStrings || meta.isDedup())) {
+                pools[i] = new CsvStringPool();
+                poolsByField.put(meta.getFieldName(), pools[i]);
+            }
+        }
+        this.stringPools = Collections.unmodifiableMap(poolsByField);
+        this.bindingPlan = CsvBindingPlan.of(targetType, fields, columnIndexes, converterTypes, headers);
+    }
+
+    /**
+     * Compiles the binding plan of a DTO class against a header row without reading any data.
+     *
+     * @param targetType the DTO class
+     * @param headers    the CSV header row (may be null for index-based binding)
+     */
+    public static CsvBindingPlan inspect(Class<?> targetType, String[] headers) {
+        return new AnnotationCsvRowMapper<>(targetType, headers).getBindingPlan();
+    }
+
+    /**
+     * Returns the binding plan compiled for this mapper's header layout.
+     */
+    public CsvBindingPlan getBindingPlan() {
+        return bindingPlan;
+    }
+
+    @Override
+    public Map<String, CsvStringPool> stringPools() {
+        return stringPools;
+    }
+
+    @Override
+    public int[] boundColumns() {
+        return Arrays.stream(columnIndexes).filter(i -> i >= 0).distinct().sorted().toArray();
     }
 
     @Override
     public T map(String[] columns, String[] headers, long lineNumber) throws Exception {
-        T instance;
-        try {
-            var constructor = targetType.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            instance = constructor.newInstance();
-        } catch (Exception e) {
-            throw new CsvMappingException(lineNumber, targetType.getSimpleName(), "",
-                    "Cannot instantiate DTO. Ensure a no-arg constructor exists.", e);
+        return map(new ArrayRowView(columns), headers, lineNumber);
+    }
+
+    /**
+     * Maps a record read as cell slices. Blank checks are done on the slices, primitive
+     * fields are parsed from the slice through the primitive converter SPI, and a
+     * {@code String} is only materialized for other cells bound to a field whose converter
+     * is not a {@link SliceConverter}.
+     */
+    @Override
+    public T map(CsvRowView row, String[] headers, long lineNumber) throws Exception {
+        T instance = null;
+        Object[] args = null;
+        if (constructorBinding != null) {
+            args = arguments.get();
+            constructorBinding.reset(args);
+        } else {
+            if (noArgConstructor == null) {
+                throw mappingError(lineNumber, targetType.getSimpleName(), "",
+                        "Cannot instantiate DTO. Ensure a no-arg constructor exists.", noArgConstructorFailure);
+            }
+            try {
+                instance = noArgConstructor.newInstance();
+            } catch (Exception e) {
+                throw mappingError(lineNumber, targetType.getSimpleName(), "",
+                        "Cannot instantiate DTO. Ensure a no-arg constructor exists.", e);
+            }
         }
 
-        for (CsvFieldMeta meta : fieldMetas) {
-            int colIdx = resolveColumnIndex(meta);
-            if (colIdx < 0 || colIdx >= columns.length) {
+        int size = row.size();
+        for (int i = 0; i < fields.length; i++) {
+            CsvFieldMeta meta = fields[i];
+            int colIdx = columnIndexes[i];
+            if (colIdx < 0 || colIdx >= size) {
                 if (meta.isRequired()) {
-                    throw new CsvMappingException(lineNumber, meta.getFieldName(), "",
-                            "Required column '" + meta.getColumnName() + "' not found");
+                    throw mappingError(lineNumber, meta.getFieldName(), "",
+                            "Required column '" + meta.getColumnName() + "' not found", null);
                 }
                 continue;
             }
 
-            String rawValue = columns[colIdx];
-            if (StringUtils.isBlank(rawValue)) {
-                rawValue = meta.getDefaultValue();
-            }
-            if (StringUtils.isBlank(rawValue)) {
-                if (meta.isRequired()) {
-                    throw new CsvMappingException(lineNumber, meta.getFieldName(), rawValue,
-                            "Required field is blank");
+            CharSequence value;
+            if (row.isBlank(colIdx)) {
+                Object defaultValue = defaults[i];
+                if (defaultValue == NO_DEFAULT) {
+                    if (meta.isRequired()) {
+                        throw mappingError(lineNumber, meta.getFieldName(), meta.getDefaultValue(),
+                                "Required field is blank", null);
+                    }
+                    continue;
                 }
-                continue;
+                if (defaultValue != UNCONVERTED) {
+                    try {
+                        assign(instance, args, i, defaultValue);
+                    } catch (Exception e) {
+                        throw mappingError(lineNumber, meta.getFieldName(), meta.getDefaultValue(),
+                                "Conversion failed: " + e.getMessage(), e);
+                    }
+                    continue;
+                }
+                value = meta.getDefaultValue();
+            } else {
+                value = row.cell(colIdx);
             }
 
             try {
-                Object converted = convertValue(rawValue, meta);
-                meta.setValue(instance, converted);
+                convertAndAssign(instance, args, i, value);
             } catch (CsvMappingException e) {
                 throw e;
             } catch (Exception e) {
-                throw new CsvMappingException(lineNumber, meta.getFieldName(), rawValue,
+                throw mappingError(lineNumber, meta.getFieldName(), value.toString(),
                         "Conversion failed: " + e.getMessage(), e);
             }
         }
 
-        return instance;
+        return args != null ? construct(args, lineNumber) : instance;
     }
 
-    private int resolveColumnIndex(CsvFieldMeta meta) {
-        if (meta.isIndexBased()) {
-            return meta.getColumnIndex();
+    private T construct(Object[] args, long lineNumber) {
+        try {
+            return (T) constructorBinding.newInstance(args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw mappingError(lineNumber, targetType.getSimpleName(), "",
+                    "Constructor failed: " + e.getMessage(), e);
         }
-        return headerIndexMap.getOrDefault(meta.getColumnName().trim().toLowerCase(), -1);
     }
 
-    private Object convertValue(String value, CsvFieldMeta meta) throws Exception {
+    /**
+     * Converts a non-blank value with the field's pre-resolved converter and writes it.
+     * {@code int}, {@code long}, {@code double} and {@code boolean} fields go through the
+     * primitive converter SPI and are written without boxing; {@link SliceConverter}s read
+     * the value without copying it.
+     */
+    private void convertAndAssign(T instance, Object[] args, int i, CharSequence value) throws Exception {
+        CsvFieldMeta meta = fields[i];
+        switch (kinds[i]) {
+            case KIND_STRING -> assign(instance, args, i, pools[i] != null ? pools[i].intern(value) : value.toString());
+            case KIND_INT -> {
+                int v = ((IntConverter) converters[i]).convertInt(value, meta);
+                if (args != null) args[slots[i]] = v;
+                else meta.setInt(instance, v);
+            }
+            case KIND_LONG -> {
+                long v = ((LongConverter) converters[i]).convertLong(value, meta);
+                if (args != null) args[slots[i]] = v;
+                else meta.setLong(instance, v);
+            }
+            case KIND_DOUBLE -> {
+                double v = ((DoubleConverter) converters[i]).convertDouble(value, meta);
+                if (args != null) args[slots[i]] = v;
+                else meta.setDouble(instance, v);
+            }
+            case KIND_BOOLEAN -> {
+                boolean v = ((BoolConverter) converters[i]).convertBoolean(value, meta);
+                if (args != null) args[slots[i]] = v;
+                else meta.setBoolean(instance, v);
+            }
+            case KIND_CONVERTER -> assign(instance, args, i, converters[i].convert(value.toString(), meta));
+            case KIND_SLICE -> assign(instance, args, i, ((SliceConverter<?>) converters[i]).convertSlice(value, meta));
+            default -> throw new IllegalStateException("No converter found for type: " + meta.getFieldType().getName());
+        }
+    }
+
+    private CsvMappingException mappingError(long lineNumber, String fieldName, String rawValue, String message,
+                                             Throwable cause) {
+        return new CsvMappingException(lineNumber, fieldName, rawValue, message, cause, !stacklessErrors);
+    }
+
+    private void assign(T instance, Object[] args, int i, Object value) {
+        if (args != null) {
+            args[slots[i]] = value;
+        } else {
+            fields[i].setValue(instance, value);
+        }
+    }
+
+    private static TypeConverter<?> resolveConverter(CsvFieldMeta meta, TypeConverterRegistry registry) {
         // 1. Custom per-field converter takes highest priority
         TypeConverter<?> custom = meta.getCustomConverter();
         if (custom != null) {
-            return custom.convert(value, meta);
+            return custom;
         }
 
-        Class<?> type = meta.getFieldType();
-
-        // 2. String shortcut — no registry lookup needed
-        if (type == String.class) {
-            return value;
+        // 2. String shortcut — no converter needed
+        if (meta.getFieldType() == String.class) {
+            return null;
         }
 
         // 3. Registry lookup (covers all built-in types registered in CsvAutoConfiguration
         //    or in buildDefaultRegistry(), including numeric, temporal, enum, boolean, BigDecimal)
-        TypeConverter<?> converter = registry.findConverter(type);
-        if (converter != null) {
-            return converter.convert(value, meta);
+        return registry.findConverter(meta.getFieldType());
+    }
+
+    private static byte kindOf(CsvFieldMeta meta, TypeConverter<?> converter) {
+        Class<?> type = meta.getFieldType();
+        if (converter == null) {
+            return meta.getCustomConverter() == null && type == String.class ? KIND_STRING : KIND_NO_CONVERTER;
+        }
+        if (type == int.class && converter instanceof IntConverter) return KIND_INT;
+        if (type == long.class && converter instanceof LongConverter) return KIND_LONG;
+        if (type == double.class && converter instanceof DoubleConverter) return KIND_DOUBLE;
+        if (type == boolean.class && converter instanceof BoolConverter) return KIND_BOOLEAN;
+        if (converter instanceof SliceConverter) return KIND_SLICE;
+        return KIND_CONVERTER;
+    }
+
+    /**
+     * Converts the field's default value once. Defaults of fields with a custom converter are
+     * converted on every use, since such converters may return mutable or varying values, and
+     * defaults that fail to convert are left for each row to report.
+     */
+    private static Object convertDefault(CsvFieldMeta meta, byte kind, TypeConverter<?> converter) {
+        String value = meta.getDefaultValue();
+        if (StringUtils.isBlank(value)) return NO_DEFAULT;
+        if (meta.getCustomConverter() != null) return UNCONVERTED;
+        try {
+            return switch (kind) {
+                case KIND_STRING -> value;
+                case KIND_INT -> ((IntConverter) converter).convertInt(value, meta);
+                case KIND_LONG -> ((LongConverter) converter).convertLong(value, meta);
+                case KIND_DOUBLE -> ((DoubleConverter) converter).convertDouble(value, meta);
+                case KIND_BOOLEAN -> ((BoolConverter) converter).convertBoolean(value, meta);
+                case KIND_CONVERTER, KIND_SLICE -> {
+                    Object converted = converter.convert(value, meta);
+                    yield converted != null ? converted : UNCONVERTED;
+                }
+                default -> UNCONVERTED;
+            };
+        } catch (Exception e) {
+            return UNCONVERTED;
         }
+    }
 
-        throw new IllegalStateException("No converter found for type: " + type.getName());
+    /**
+     * Returns the cached field metadata for the given DTO class, in declaration order.
+     */
+    public static List<CsvFieldMeta> fieldMetas(Class<?> clazz) {
+        return METADATA_CACHE.computeIfAbsent(clazz, AnnotationCsvRowMapper::introspect);
     }
 
-    private static Map<String, Integer> buildHeaderIndexMap(String[] headers) {
+    /**
+     * Returns the constructor binding of the given DTO class, or null if it is populated
+     * through a no-arg constructor and field writes.
+     */
+    static CsvConstructorBinding constructorBinding(Class<?> clazz) {
+        fieldMetas(clazz);
+        return CONSTRUCTOR_CACHE.get(clazz);
+    }
+
+    /**
+     * Returns the registry used when no custom registry is supplied.
+     */
+    public static TypeConverterRegistry defaultRegistry() {
+        return DEFAULT_REGISTRY;
+    }
+
+    static Map<String, Integer> buildHeaderIndexMap(String[] headers) {
         Map<String, Integer> map = new HashMap<>();
         if (headers != null) {
             for (int i = 0; i < headers.length; i++) {
@@ -160,6 +460,11 @@ public class AnnotationCsvRowMapper<T> implements CsvRowMapper<T> {
     }
 
     private static List<CsvFieldMeta> introspect(Class<?> clazz) {
+        CsvConstructorBinding binding = CsvConstructorBinding.find(clazz);
+        if (binding != null) {
+            CONSTRUCTOR_CACHE.put(clazz, binding);
+            return binding.parameters();
+        }
         List<CsvFieldMeta> metas = new ArrayList<>();
         for (Field field : clazz.getDeclaredFields()) {
             if (field.isAnnotationPresent(CsvIgnore.class)) continue;
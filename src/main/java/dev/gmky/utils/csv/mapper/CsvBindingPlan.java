@@ -0,0 +1,80 @@
+package dev.gmky.utils.csv.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * How the {@code @CsvColumn} fields of a DTO bind to one CSV header layout, as compiled by
+ * {@link AnnotationCsvRowMapper}. Use it to report unmapped or missing columns before
+ * reading any rows.
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * CsvBindingPlan plan = AnnotationCsvRowMapper.inspect(UserDto.class, headers);
+ * if (!plan.missingRequiredColumns().isEmpty()) {
+ *     throw new IllegalArgumentException("Missing columns: " + plan.missingRequiredColumns());
+ * }
+ * log.info("Ignored columns: {}", plan.unmappedHeaders());
+ * }</pre>
+ *
+ * @param targetType      the DTO class
+ * @param fields          one entry per mapped field, in mapping order
+ * @param unmappedHeaders header names that no field binds to
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public record CsvBindingPlan(Class<?> targetType, List<FieldBinding> fields, List<String> unmappedHeaders) {
+
+    /**
+     * Binding of one field.
+     *
+     * @param fieldName     the field, record component or constructor parameter name
+     * @param columnName    the configured header name (the field name if not set)
+     * @param columnIndex   the resolved zero-based column, or -1 if the header has no such column
+     * @param required      whether the column is required
+     * @param defaultValue  the configured default value (empty if none)
+     * @param converterType the converter class used, or null for plain {@code String} fields
+     */
+    public record FieldBinding(String fieldName, String columnName, int columnIndex, boolean required,
+                               String defaultValue, Class<?> converterType) {
+
+        /** Returns true if the column exists in the header (or is index-based and in range). */
+        public boolean isPresent() {
+            return columnIndex >= 0;
+        }
+    }
+
+    /**
+     * Returns the fields whose column is not in the header.
+     */
+    public List<FieldBinding> missingColumns() {
+        return fields.stream().filter(f -> !f.isPresent()).toList();
+    }
+
+    /**
+     * Returns the required fields whose column is not in the header. Every row would fail
+     * to map while this is not empty.
+     */
+    public List<FieldBinding> missingRequiredColumns() {
+        return fields.stream().filter(f -> f.required() && !f.isPresent()).toList();
+    }
+
+    static CsvBindingPlan of(Class<?> targetType, CsvFieldMeta[] metas, int[] columnIndexes,
+                             Class<?>[] converterTypes, String[] headers) {
+        List<FieldBinding> fields = new ArrayList<>(metas.length);
+        boolean[] used = new boolean[headers != null ? headers.length : 0];
+        for (int i = 0; i < metas.length; i++) {
+            CsvFieldMeta meta = metas[i];
+            int column = columnIndexes[i];
+            if (headers != null && column >= headers.length) column = -1;
+            if (column >= 0 && column < used.length) used[column] = true;
+            fields.add(new FieldBinding(meta.getFieldName(), meta.getColumnName(), column, meta.isRequired(),
+                    meta.getDefaultValue(), converterTypes[i]));
+        }
+        List<String> unmapped = new ArrayList<>();
+        for (int i = 0; i < used.length; i++) {
+            if (!used[i] && headers[i] != null) unmapped.add(headers[i]);
+        }
+        return new CsvBindingPlan(targetType, List.copyOf(fields), List.copyOf(unmapped));
+    }
+}
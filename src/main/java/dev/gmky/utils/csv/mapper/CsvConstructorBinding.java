@@ -0,0 +1,191 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.annotation.CsvDateFormat;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Constructor through which an immutable DTO is created from CSV values.
+ * <p>
+ * Records use their canonical constructor; {@link CsvColumn} on a record component is
+ * propagated to the matching constructor parameter. Other classes qualify when one of
+ * their constructors has {@link CsvColumn} on every parameter. Values are collected into
+ * an argument array that starts from {@link #newArguments() defaults} (null, or zero for
+ * primitives) and the constructor is invoked once per row through a spreading
+ * {@link MethodHandle}. Mapped values are read back through the record accessor, or
+ * through a field of the same name and type, when there is one.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class CsvConstructorBinding {
+
+    private final MethodHandle constructor; // (Object[])Object
+    private final List<CsvFieldMeta> parameters; // mapped parameters only
+    private final int[] positions;               // argument slot of each mapped parameter
+    private final Object[] defaults;
+
+    private CsvConstructorBinding(MethodHandle constructor, List<CsvFieldMeta> parameters, int[] positions,
+                                  Object[] defaults) {
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.positions = positions;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Returns the constructor binding for the given class, or null if it is populated
+     * through a no-arg constructor and field writes.
+     */
+    static CsvConstructorBinding find(Class<?> type) {
+        Constructor<?> constructor;
+        String[] names;
+        RecordComponent[] components = null;
+        if (type.isRecord()) {
+            components = type.getRecordComponents();
+            Class<?>[] types = new Class<?>[components.length];
+            names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                names[i] = components[i].getName();
+            }
+            try {
+                constructor = type.getDeclaredConstructor(types);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("Record has no canonical constructor: " + type.getName(), e);
+            }
+        } else {
+            constructor = annotatedConstructor(type);
+            if (constructor == null) return null;
+            names = null;
+        }
+
+        Parameter[] params = constructor.getParameters();
+        List<CsvFieldMeta> metas = new ArrayList<>(params.length);
+        int[] positions = new int[params.length];
+        Object[] defaults = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            Parameter param = params[i];
+            defaults[i] = zero(param.getType());
+            CsvColumn column = param.getAnnotation(CsvColumn.class);
+            if (column == null) continue; // unmapped record component: keeps its default
+            String name = names != null ? names[i] : param.getName();
+            if (names == null && !param.isNamePresent() && column.value().isBlank() && column.index() < 0) {
+                throw new IllegalStateException("Constructor parameter " + i + " of " + type.getName()
+                        + " needs a column name or index (or compile with -parameters)");
+            }
+            positions[metas.size()] = i;
+            MethodHandle getter = components != null
+                    ? accessor(components[i])
+                    : fieldGetter(type, name, param.getType());
+            metas.add(new CsvFieldMeta(param, name, column, param.getAnnotation(CsvDateFormat.class), getter));
+        }
+
+        try {
+            constructor.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, params.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new CsvConstructorBinding(handle, List.copyOf(metas),
+                    Arrays.copyOf(positions, metas.size()), defaults);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot create MethodHandle for constructor of: " + type.getName(), e);
+        }
+    }
+
+    private static Constructor<?> annotatedConstructor(Class<?> type) {
+        Constructor<?> found = null;
+        for (Constructor<?> candidate : type.getDeclaredConstructors()) {
+            Parameter[] params = candidate.getParameters();
+            if (params.length == 0) continue;
+            boolean annotated = Arrays.stream(params).allMatch(p -> p.isAnnotationPresent(CsvColumn.class));
+            if (!annotated) continue;
+            if (found != null) {
+                throw new IllegalStateException("More than one @CsvColumn constructor on: " + type.getName());
+            }
+            found = candidate;
+        }
+        return found;
+    }
+
+    private static MethodHandle accessor(RecordComponent component) {
+        try {
+            Method accessor = component.getAccessor();
+            accessor.setAccessible(true);
+            return MethodHandles.lookup().unreflect(accessor);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns a getter for the field holding a constructor parameter's value, assumed to
+     * share its name and type, or null if there is no such field.
+     */
+    private static MethodHandle fieldGetter(Class<?> type, String name, Class<?> valueType) {
+        try {
+            Field field = type.getDeclaredField(name);
+            if (field.getType() != valueType || Modifier.isStatic(field.getModifiers())) return null;
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static Object zero(Class<?> type) {
+        if (!type.isPrimitive()) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0d;
+        if (type == float.class) return 0f;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        return 0;
+    }
+
+    /**
+     * Returns metadata for the mapped parameters, in parameter order. Record components
+     * without {@link CsvColumn} are left out and receive their default.
+     */
+    List<CsvFieldMeta> parameters() {
+        return parameters;
+    }
+
+    /** Returns the argument slot of the {@code index}-th mapped parameter. */
+    int position(int index) {
+        return positions[index];
+    }
+
+    /** Returns a fresh argument array holding the defaults. */
+    Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /** Resets a reused argument array to the defaults. */
+    void reset(Object[] arguments) {
+        System.arraycopy(defaults, 0, arguments, 0, defaults.length);
+    }
+
+    /**
+     * Invokes the constructor. Exceptions thrown by the constructor itself (for example a
+     * compact record constructor rejecting a value) propagate unchanged.
+     */
+    Object newInstance(Object[] arguments) throws Throwable {
+        return constructor.invokeExact(arguments);
+    }
+}
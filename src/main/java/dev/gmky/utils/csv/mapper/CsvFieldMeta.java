@@ -3,18 +3,23 @@ package dev.gmky.utils.csv.mapper;
 import dev.gmky.utils.csv.annotation.CsvColumn;
 import dev.gmky.utils.csv.annotation.CsvDateFormat;
 import dev.gmky.utils.csv.converter.TypeConverter;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
 
 /**
- * Immutable metadata about a DTO field that is mapped from a CSV column.
+ * Immutable metadata about a DTO field, record component or constructor parameter
+ * that is mapped from a CSV column.
  * <p>
  * Built once per field during DTO class introspection and cached for reuse.
- * Uses a {@link MethodHandle} for writing field values instead of {@link Field#set(Object, Object)}
- * to benefit from JIT optimization in hot mapping loops.
+ * Uses {@link MethodHandle}s for writing and reading field values instead of
+ * {@link Field#set(Object, Object)} and {@link Field#get(Object)} to benefit from JIT
+ * optimization in hot mapping and writing loops.
  * </p>
  *
  * @author HiepVH
@@ -29,19 +34,78 @@ public class CsvFieldMeta {
     private final int columnIndex;    // -1 if header-based
     private final boolean required;
     private final String defaultValue;
+    private final boolean dedup;
     private final TypeConverter<?> customConverter;  // may be null (use registry)
     private final String dateFormatPattern;
     private final String dateFormatTimezone;
     private final java.time.format.DateTimeFormatter dateTimeFormatter;
-    private final MethodHandle setter;
+    private final MethodHandle setter; // null for constructor parameters
+    private final MethodHandle getter; // null if the value cannot be read back
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle primitiveSetter; // setter typed (Object, primitive)void, else null
+    @Getter(AccessLevel.NONE)
+    private final MethodHandle primitiveGetter; // getter typed (Object)primitive, else null
 
     public CsvFieldMeta(Field field, CsvColumn column, CsvDateFormat dateFormat) {
-        this.fieldName = field.getName();
-        this.fieldType = field.getType();
-        this.columnName = column.value().isBlank() ? field.getName() : column.value();
+        this(field.getName(), field.getType(), column, dateFormat, fieldSetter(field), fieldGetter(field));
+    }
+
+    /**
+     * Creates metadata for a constructor parameter or record component. Such values are
+     * passed to the constructor, so there is no {@link #getSetter() setter}.
+     *
+     * @param name the parameter or record component name
+     */
+    public CsvFieldMeta(Parameter parameter, String name, CsvColumn column, CsvDateFormat dateFormat) {
+        this(parameter, name, column, dateFormat, null);
+    }
+
+    /**
+     * Creates metadata for a constructor parameter or record component whose value can be
+     * read back through {@code getter}, e.g. a record accessor.
+     *
+     * @param getter a handle typed {@code (Owner)ParameterType}, or null if the value cannot be read
+     * @since 1.0.4
+     */
+    public CsvFieldMeta(Parameter parameter, String name, CsvColumn column, CsvDateFormat dateFormat,
+                        MethodHandle getter) {
+        this(name, parameter.getType(), column, dateFormat, null, getter);
+    }
+
+    /**
+     * Creates metadata for a cell converted on demand rather than bound to a field, as by
+     * {@link CsvRow#get(String, Class)}: no custom converter, no default value, and dates in
+     * {@code datePattern}.
+     *
+     * @since 1.0.4
+     */
+    CsvFieldMeta(String columnName, Class<?> type, String datePattern) {
+        this.fieldName = columnName;
+        this.fieldType = type;
+        this.columnName = columnName;
+        this.columnIndex = -1;
+        this.required = false;
+        this.defaultValue = "";
+        this.dedup = false;
+        this.customConverter = null;
+        this.dateFormatPattern = datePattern;
+        this.dateFormatTimezone = "";
+        this.dateTimeFormatter = java.time.format.DateTimeFormatter.ofPattern(datePattern);
+        this.setter = null;
+        this.primitiveSetter = null;
+        this.getter = null;
+        this.primitiveGetter = null;
+    }
+
+    private CsvFieldMeta(String name, Class<?> type, CsvColumn column, CsvDateFormat dateFormat, MethodHandle setter,
+                         MethodHandle getter) {
+        this.fieldName = name;
+        this.fieldType = type;
+        this.columnName = column.value().isBlank() ? name : column.value();
         this.columnIndex = column.index();
         this.required = column.required();
         this.defaultValue = column.defaultValue();
+        this.dedup = column.dedup();
         this.dateFormatPattern = dateFormat != null ? dateFormat.pattern() : "yyyy-MM-dd";
         this.dateFormatTimezone = dateFormat != null ? dateFormat.timezone() : "";
         
@@ -66,10 +130,31 @@ public class CsvFieldMeta {
         }
         this.customConverter = resolvedConverter;
 
-        // Build MethodHandle for fast field write
+        this.setter = setter;
+        this.primitiveSetter = setter != null && type.isPrimitive()
+                ? setter.asType(MethodType.methodType(void.class, Object.class, type))
+                : null;
+        this.getter = getter;
+        this.primitiveGetter = getter != null && type.isPrimitive()
+                ? getter.asType(MethodType.methodType(type, Object.class))
+                : null;
+    }
+
+    // Build MethodHandle for fast field write
+    private static MethodHandle fieldSetter(Field field) {
         try {
             field.setAccessible(true);
-            this.setter = MethodHandles.lookup().unreflectSetter(field);
+            return MethodHandles.lookup().unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot create MethodHandle for field: " + field.getName(), e);
+        }
+    }
+
+    // Build MethodHandle for fast field read
+    private static MethodHandle fieldGetter(Field field) {
+        try {
+            field.setAccessible(true);
+            return MethodHandles.lookup().unreflectGetter(field);
         } catch (IllegalAccessException e) {
             throw new IllegalStateException("Cannot create MethodHandle for field: " + field.getName(), e);
         }
@@ -85,11 +170,113 @@ public class CsvFieldMeta {
         try {
             setter.invoke(target, value);
         } catch (Throwable e) {
-            throw new IllegalStateException(
-                    "Failed to set field [" + fieldName + "] on " + target.getClass().getSimpleName(), e);
+            throw setFailure(target, e);
+        }
+    }
+
+    /** Writes a primitive {@code int} field without boxing. */
+    public void setInt(Object target, int value) {
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw setFailure(target, e);
+        }
+    }
+
+    /** Writes a primitive {@code long} field without boxing. */
+    public void setLong(Object target, long value) {
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw setFailure(target, e);
+        }
+    }
+
+    /** Writes a primitive {@code double} field without boxing. */
+    public void setDouble(Object target, double value) {
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw setFailure(target, e);
         }
     }
 
+    /** Writes a primitive {@code boolean} field without boxing. */
+    public void setBoolean(Object target, boolean value) {
+        try {
+            primitiveSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw setFailure(target, e);
+        }
+    }
+
+    private IllegalStateException setFailure(Object target, Throwable cause) {
+        return new IllegalStateException(
+                "Failed to set field [" + fieldName + "] on " + target.getClass().getSimpleName(), cause);
+    }
+
+    /**
+     * Returns true if the value can be read back from an instance.
+     */
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    /**
+     * Reads the value from the source object using the cached MethodHandle.
+     *
+     * @param source the DTO instance
+     * @return the value, boxed for primitive fields
+     */
+    public Object getValue(Object source) {
+        try {
+            return getter.invoke(source);
+        } catch (Throwable e) {
+            throw getFailure(source, e);
+        }
+    }
+
+    /** Reads a primitive {@code int} field without boxing. */
+    public int getInt(Object source) {
+        try {
+            return (int) primitiveGetter.invokeExact(source);
+        } catch (Throwable e) {
+            throw getFailure(source, e);
+        }
+    }
+
+    /** Reads a primitive {@code long} field without boxing. */
+    public long getLong(Object source) {
+        try {
+            return (long) primitiveGetter.invokeExact(source);
+        } catch (Throwable e) {
+            throw getFailure(source, e);
+        }
+    }
+
+    /** Reads a primitive {@code double} field without boxing. */
+    public double getDouble(Object source) {
+        try {
+            return (double) primitiveGetter.invokeExact(source);
+        } catch (Throwable e) {
+            throw getFailure(source, e);
+        }
+    }
+
+    /** Reads a primitive {@code boolean} field without boxing. */
+    public boolean getBoolean(Object source) {
+        try {
+            return (boolean) primitiveGetter.invokeExact(source);
+        } catch (Throwable e) {
+            throw getFailure(source, e);
+        }
+    }
+
+    private IllegalStateException getFailure(Object source, Throwable cause) {
+        return new IllegalStateException(
+                "Failed to read field [" + fieldName + "] of " + source.getClass().getSimpleName(), cause);
+    }
+
     /**
      * Returns true if this field uses index-based column binding.
      */
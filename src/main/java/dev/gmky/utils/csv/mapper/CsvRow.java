@@ -0,0 +1,480 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.converter.BoolConverter;
+import dev.gmky.utils.csv.converter.FastDateParser;
+import dev.gmky.utils.csv.converter.FastNumberParser;
+import dev.gmky.utils.csv.converter.SliceConverter;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.converter.TypeConverterRegistry;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A CSV record read without a DTO: cells are looked up by index or header name and
+ * converted only when accessed.
+ * <p>
+ * {@link #getInt}, {@link #getLong}, {@link #getDouble} and {@link #getDecimal} parse the
+ * cell in place, {@link #getDate} and {@link #getDateTime} go through {@link FastDateParser},
+ * and {@link #get(int, Class)} uses the {@link TypeConverterRegistry} for any other type.
+ * Header names are matched exactly first, then trimmed and ignoring case.
+ * </p>
+ * <p>
+ * Rows handed to a row consumer by a sequential read are <em>flyweights</em>: the reader
+ * rebinds one instance to each record, so a row is only valid during the callback it is
+ * passed to. Call {@link #copy()} to keep it. Rows collected by {@code readAll}, batches,
+ * streams and parallel reads are already copies.
+ * </p>
+ * <pre>{@code
+ * OpenCsvStreamingReader.forRows().read(in, row -> {
+ *     if (row.getInt("status") == 3) route(row.getString("id"), row.getDecimal("amount"));
+ * });
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvRow {
+
+    private static final String ISO_DATE = "yyyy-MM-dd";
+    private static final String ISO_DATE_TIME = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final Map<String, DateTimeFormatter> FORMATTERS = new ConcurrentHashMap<>();
+
+    private final Columns columns;
+    private final boolean detached;
+    private CsvRowView view;
+    private long lineNumber;
+
+    private CsvRow(Columns columns, boolean detached, CsvRowView view, long lineNumber) {
+        this.columns = columns;
+        this.detached = detached;
+        this.view = view;
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * Creates the mapper that reads records as {@code CsvRow}s.
+     *
+     * @param headers the header row, or null to address cells by index only
+     * @param reuse   true to rebind one flyweight row to every record, false to return an
+     *                independent copy per record
+     */
+    public static CsvRowMapper<CsvRow> mapper(String[] headers, CsvReaderConfig config, boolean reuse) {
+        return new Mapper(new Columns(headers, AnnotationCsvRowMapper.defaultRegistry(), config.isStacklessErrors()),
+                reuse);
+    }
+
+    /**
+     * Returns a copy of {@code value} that outlives the current record if it is a flyweight
+     * {@code CsvRow}, otherwise {@code value} itself.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T detach(T value) {
+        return value instanceof CsvRow row ? (T) row.copy() : value;
+    }
+
+    /** Returns the number of cells in this record. */
+    public int size() {
+        return view.size();
+    }
+
+    /** Returns the 1-based line number this record was read from. */
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    /** Returns the header row, or null if the file has none. */
+    public String[] headers() {
+        return columns.headers;
+    }
+
+    /**
+     * Returns the index of the named column.
+     *
+     * @throws IllegalArgumentException if the header has no such column
+     */
+    public int indexOf(String name) {
+        return columns.indexOf(name);
+    }
+
+    /**
+     * Returns the cell without copying it, or an empty sequence if the record is shorter.
+     * The sequence may be a slice of the reader's buffer: do not keep it.
+     */
+    public CharSequence cell(int index) {
+        return index < view.size() ? view.cell(index) : "";
+    }
+
+    /** @see #cell(int) */
+    public CharSequence cell(String name) {
+        return cell(indexOf(name));
+    }
+
+    /** Returns the cell as a string, or null if the record is shorter. */
+    public String getString(int index) {
+        return index < view.size() ? view.get(index) : null;
+    }
+
+    /** @see #getString(int) */
+    public String getString(String name) {
+        return getString(indexOf(name));
+    }
+
+    /** Returns true if the cell is empty, whitespace or missing. */
+    public boolean isBlank(int index) {
+        return index >= view.size() || view.isBlank(index);
+    }
+
+    /** @see #isBlank(int) */
+    public boolean isBlank(String name) {
+        return isBlank(indexOf(name));
+    }
+
+    /**
+     * Parses the cell as an {@code int}.
+     *
+     * @throws CsvMappingException if the cell is blank or not an integer
+     */
+    public int getInt(int index) {
+        CharSequence cell = required(index);
+        try {
+            return FastNumberParser.parseInt(cell);
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid int value", e);
+        }
+    }
+
+    /** @see #getInt(int) */
+    public int getInt(String name) {
+        return getInt(indexOf(name));
+    }
+
+    /**
+     * Parses the cell as a {@code long}.
+     *
+     * @throws CsvMappingException if the cell is blank or not an integer
+     */
+    public long getLong(int index) {
+        CharSequence cell = required(index);
+        try {
+            return FastNumberParser.parseLong(cell);
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid long value", e);
+        }
+    }
+
+    /** @see #getLong(int) */
+    public long getLong(String name) {
+        return getLong(indexOf(name));
+    }
+
+    /**
+     * Parses the cell as a {@code double}.
+     *
+     * @throws CsvMappingException if the cell is blank or not a number
+     */
+    public double getDouble(int index) {
+        CharSequence cell = required(index);
+        try {
+            return FastNumberParser.parseDouble(cell);
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid double value", e);
+        }
+    }
+
+    /** @see #getDouble(int) */
+    public double getDouble(String name) {
+        return getDouble(indexOf(name));
+    }
+
+    /**
+     * Reads the cell as a {@code boolean} with the registry's {@link Boolean} converter, which
+     * by default accepts {@code true}, {@code yes}, {@code 1} and {@code on}.
+     *
+     * @throws CsvMappingException if the cell is blank
+     */
+    public boolean getBoolean(int index) {
+        CharSequence cell = required(index);
+        try {
+            BoolConverter converter = columns.booleans;
+            return converter != null
+                    ? converter.convertBoolean(cell, columns.meta(index, Boolean.class, ISO_DATE))
+                    : convert(index, cell, Boolean.class, ISO_DATE);
+        } catch (CsvMappingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw failure(index, cell, "Not a valid boolean value", e);
+        }
+    }
+
+    /** @see #getBoolean(int) */
+    public boolean getBoolean(String name) {
+        return getBoolean(indexOf(name));
+    }
+
+    /**
+     * Parses the cell as a {@link BigDecimal}, or returns null if it is blank.
+     *
+     * @throws CsvMappingException if the cell is not a number
+     */
+    public BigDecimal getDecimal(int index) {
+        if (isBlank(index)) return null;
+        CharSequence cell = view.cell(index);
+        try {
+            return FastNumberParser.parseBigDecimal(cell);
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid decimal value", e);
+        }
+    }
+
+    /** @see #getDecimal(int) */
+    public BigDecimal getDecimal(String name) {
+        return getDecimal(indexOf(name));
+    }
+
+    /**
+     * Parses the cell as an ISO {@code yyyy-MM-dd} date, or returns null if it is blank.
+     *
+     * @throws CsvMappingException if the cell is not a date
+     */
+    public LocalDate getDate(int index) {
+        return getDate(index, ISO_DATE);
+    }
+
+    /** @see #getDate(int) */
+    public LocalDate getDate(String name) {
+        return getDate(indexOf(name), ISO_DATE);
+    }
+
+    /**
+     * Parses the cell as a date in {@code pattern}, or returns null if it is blank.
+     *
+     * @throws CsvMappingException if the cell does not match the pattern
+     */
+    public LocalDate getDate(int index, String pattern) {
+        if (isBlank(index)) return null;
+        CharSequence cell = view.cell(index);
+        try {
+            return FastDateParser.parseLocalDate(cell, pattern, formatter(pattern));
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid date for pattern " + pattern, e);
+        }
+    }
+
+    /** @see #getDate(int, String) */
+    public LocalDate getDate(String name, String pattern) {
+        return getDate(indexOf(name), pattern);
+    }
+
+    /**
+     * Parses the cell as an ISO {@code yyyy-MM-dd'T'HH:mm:ss} date-time, or returns null if it is blank.
+     *
+     * @throws CsvMappingException if the cell is not a date-time
+     */
+    public LocalDateTime getDateTime(int index) {
+        return getDateTime(index, ISO_DATE_TIME);
+    }
+
+    /** @see #getDateTime(int) */
+    public LocalDateTime getDateTime(String name) {
+        return getDateTime(indexOf(name), ISO_DATE_TIME);
+    }
+
+    /**
+     * Parses the cell as a date-time in {@code pattern}, or returns null if it is blank.
+     *
+     * @throws CsvMappingException if the cell does not match the pattern
+     */
+    public LocalDateTime getDateTime(int index, String pattern) {
+        if (isBlank(index)) return null;
+        CharSequence cell = view.cell(index);
+        try {
+            return FastDateParser.parseLocalDateTime(cell, pattern, formatter(pattern));
+        } catch (RuntimeException e) {
+            throw failure(index, cell, "Not a valid date-time for pattern " + pattern, e);
+        }
+    }
+
+    /** @see #getDateTime(int, String) */
+    public LocalDateTime getDateTime(String name, String pattern) {
+        return getDateTime(indexOf(name), pattern);
+    }
+
+    /**
+     * Converts the cell with the {@link TypeConverter} registered for {@code type}, or returns
+     * null if it is blank. Temporal types use ISO patterns; see {@link #get(int, Class, String)}.
+     *
+     * @throws CsvMappingException if no converter is registered or the conversion fails
+     */
+    public <V> V get(int index, Class<V> type) {
+        return get(index, type, ISO_DATE);
+    }
+
+    /** @see #get(int, Class) */
+    public <V> V get(String name, Class<V> type) {
+        return get(indexOf(name), type, ISO_DATE);
+    }
+
+    /**
+     * Converts the cell with the {@link TypeConverter} registered for {@code type}, formatting
+     * temporal types with {@code datePattern}, or returns null if the cell is blank.
+     *
+     * @throws CsvMappingException if no converter is registered or the conversion fails
+     */
+    public <V> V get(int index, Class<V> type, String datePattern) {
+        if (isBlank(index)) return null;
+        CharSequence cell = view.cell(index);
+        try {
+            return convert(index, cell, type, datePattern);
+        } catch (CsvMappingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw failure(index, cell, "Cannot convert to " + type.getSimpleName(), e);
+        }
+    }
+
+    /** @see #get(int, Class, String) */
+    public <V> V get(String name, Class<V> type, String datePattern) {
+        return get(indexOf(name), type, datePattern);
+    }
+
+    /** Materializes all cells into a new array. */
+    public String[] toArray() {
+        return view.toArray().clone();
+    }
+
+    /**
+     * Returns a row that stays valid after the reader moves on: this row if it is already a
+     * copy, otherwise a copy of its cells.
+     */
+    public CsvRow copy() {
+        return detached ? this : new CsvRow(columns, true, new ArrayRowView(view.toArray()), lineNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "CsvRow[line=" + lineNumber + ", cells=" + String.join(",", view.toArray()) + "]";
+    }
+
+    private CsvRow bind(CsvRowView view, long lineNumber) {
+        this.view = view;
+        this.lineNumber = lineNumber;
+        return this;
+    }
+
+    private CharSequence required(int index) {
+        if (isBlank(index)) {
+            throw new CsvMappingException(lineNumber, columns.name(index), index < view.size() ? view.get(index) : null,
+                    "Column is blank", null, !columns.stacklessErrors);
+        }
+        return view.cell(index);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <V> V convert(int index, CharSequence cell, Class<V> type, String datePattern) throws Exception {
+        TypeConverter<V> converter = columns.registry.findConverter(type);
+        if (converter == null) {
+            throw failure(index, cell, "No TypeConverter registered for type: " + type.getName(), null);
+        }
+        CsvFieldMeta meta = columns.meta(index, type, datePattern);
+        if (converter instanceof SliceConverter<?> slices) {
+            return (V) slices.convertSlice(cell, meta);
+        }
+        return converter.convert(cell.toString(), meta);
+    }
+
+    private CsvMappingException failure(int index, CharSequence cell, String message, Exception cause) {
+        return new CsvMappingException(lineNumber, columns.name(index), cell.toString(), message, cause,
+                !columns.stacklessErrors);
+    }
+
+    private static DateTimeFormatter formatter(String pattern) {
+        return FORMATTERS.computeIfAbsent(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Per-read column lookup shared by every row of the read.
+     */
+    private static final class Columns {
+
+        private final String[] headers;
+        private final Map<String, Integer> exact = new HashMap<>();
+        private final Map<String, Integer> normalized;
+        private final TypeConverterRegistry registry;
+        private final BoolConverter booleans;
+        private final boolean stacklessErrors;
+        private final Map<MetaKey, CsvFieldMeta> metas = new ConcurrentHashMap<>();
+
+        Columns(String[] headers, TypeConverterRegistry registry, boolean stacklessErrors) {
+            this.headers = headers;
+            if (headers != null) {
+                for (int i = headers.length - 1; i >= 0; i--) {
+                    if (headers[i] != null) exact.put(headers[i], i);
+                }
+            }
+            this.normalized = AnnotationCsvRowMapper.buildHeaderIndexMap(headers);
+            this.registry = registry;
+            this.booleans = registry.findConverter(Boolean.class) instanceof BoolConverter b ? b : null;
+            this.stacklessErrors = stacklessErrors;
+        }
+
+        int indexOf(String name) {
+            Integer index = exact.get(name);
+            if (index == null) index = normalized.get(name.trim().toLowerCase());
+            if (index == null) {
+                throw new IllegalArgumentException(headers == null
+                        ? "Cannot look up column '" + name + "' without a header row"
+                        : "Unknown column: " + name);
+            }
+            return index;
+        }
+
+        String name(int index) {
+            return headers != null && index < headers.length && headers[index] != null
+                    ? headers[index]
+                    : "column" + index;
+        }
+
+        CsvFieldMeta meta(int index, Class<?> type, String datePattern) {
+            return metas.computeIfAbsent(new MetaKey(index, type, datePattern),
+                    key -> new CsvFieldMeta(name(index), type, datePattern));
+        }
+    }
+
+    private record MetaKey(int index, Class<?> type, String datePattern) {
+    }
+
+    /**
+     * Maps records to {@code CsvRow}s, rebinding a single flyweight when {@code reuse} is set.
+     */
+    private static final class Mapper implements CsvRowMapper<CsvRow> {
+
+        private final Columns columns;
+        private final CsvRow flyweight;
+
+        Mapper(Columns columns, boolean reuse) {
+            this.columns = columns;
+            this.flyweight = reuse ? new CsvRow(columns, false, null, 0) : null;
+        }
+
+        @Override
+        public CsvRow map(String[] cells, String[] headers, long lineNumber) {
+            return new CsvRow(columns, true, new ArrayRowView(cells), lineNumber);
+        }
+
+        @Override
+        public CsvRow map(CsvRowView row, String[] headers, long lineNumber) {
+            if (flyweight != null) return flyweight.bind(row, lineNumber);
+            return new CsvRow(columns, true, new ArrayRowView(row.toArray()), lineNumber);
+        }
+    }
+}
@@ -1,5 +1,11 @@
 package dev.gmky.utils.csv.mapper;
 
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.converter.TypeConverterRegistry;
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.util.Map;
+
 /**
  * Functional interface for mapping a single parsed CSV row (as a {@code String[]} of columns)
  * to a target DTO instance.
@@ -23,4 +29,57 @@ public interface CsvRowMapper<T> {
      * @throws Exception if mapping fails
      */
     T map(String[] columns, String[] headers, long lineNumber) throws Exception;
+
+    /**
+     * Maps the current record of a tokenizer to a DTO instance.
+     * <p>
+     * The default implementation materializes the row and delegates to
+     * {@link #map(String[], String[], long)}. Implementations that can read cells
+     * as slices should override this to avoid the copy.
+     * </p>
+     *
+     * @param row        view over the current record's cells (valid only during this call)
+     * @param headers    the header row (may be null if no header)
+     * @param lineNumber the 1-based line number in the file (for error reporting)
+     * @return the mapped DTO instance
+     * @throws Exception if mapping fails
+     */
+    default T map(CsvRowView row, String[] headers, long lineNumber) throws Exception {
+        return map(row.toArray(), headers, lineNumber);
+    }
+
+    /**
+     * Returns the string pools used to deduplicate column values, keyed by field name.
+     * Empty unless the mapper deduplicates columns.
+     */
+    default Map<String, CsvStringPool> stringPools() {
+        return Map.of();
+    }
+
+    /**
+     * Returns the zero-based indexes of the columns this mapper reads, or null if it may
+     * read any column. Readers use it to let the tokenizer skip the other columns.
+     */
+    default int[] boundColumns() {
+        return null;
+    }
+
+    /**
+     * Creates the built-in mapper selected by {@code config}: a {@link GeneratedCsvRowMapper}
+     * if {@link CsvReaderConfig#isGeneratedMapper() generatedMapper} is set, otherwise an
+     * {@link AnnotationCsvRowMapper}, honouring {@code dedupStrings} and {@code stacklessErrors}.
+     * A {@link CsvRow} target gets a mapper that returns an independent row per record.
+     *
+     * @since 1.0.4
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CsvRowMapper<T> forConfig(Class<T> targetType, String[] headers, CsvReaderConfig config) {
+        if (targetType == CsvRow.class) return (CsvRowMapper<T>) CsvRow.mapper(headers, config, false);
+        TypeConverterRegistry registry = AnnotationCsvRowMapper.defaultRegistry();
+        return config.isGeneratedMapper()
+                ? GeneratedCsvRowMapper.forType(targetType, headers, registry, config.isDedupStrings(),
+                        config.isStacklessErrors())
+                : new AnnotationCsvRowMapper<>(targetType, headers, registry, config.isDedupStrings(),
+                        config.isStacklessErrors());
+    }
 }
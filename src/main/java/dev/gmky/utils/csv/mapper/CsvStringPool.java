@@ -0,0 +1,138 @@
+package dev.gmky.utils.csv.mapper;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded pool of canonical {@link String}s for low-cardinality columns such as country,
+ * currency or status codes.
+ * <p>
+ * {@link #intern(CharSequence)} looks a cell up by its characters, so a hit on a cell slice
+ * returns the pooled instance without allocating. The table has a fixed number of slots:
+ * when a short probe finds neither the value nor a free slot, the new value replaces the
+ * entry in its home slot, so memory stays bounded even if a column turns out to be
+ * high-cardinality. Values longer than {@link #MAX_LENGTH} chars are never pooled.
+ * </p>
+ * <p>
+ * The pool is safe for concurrent use: slots hold immutable strings, and a racing
+ * write at worst costs a miss.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvStringPool {
+
+    /** Default number of slots. */
+    public static final int DEFAULT_CAPACITY = 1024;
+    /** Longest value that is pooled. */
+    public static final int MAX_LENGTH = 64;
+
+    private static final int MAX_PROBES = 4;
+
+    private final String[] table;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool with {@link #DEFAULT_CAPACITY} slots.
+     */
+    public CsvStringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with at least {@code capacity} slots (rounded up to a power of two).
+     */
+    public CsvStringPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        int size = Integer.highestOneBit(Math.max(capacity, MAX_PROBES) - 1) << 1;
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the canonical string with the same characters as {@code value}.
+     */
+    public String intern(CharSequence value) {
+        int length = value.length();
+        if (length > MAX_LENGTH) {
+            misses.increment();
+            return value.toString();
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + value.charAt(i); // same as String.hashCode(), which strings cache
+        }
+        String[] slots = table;
+        int home = spread(hash) & mask;
+        int free = -1;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (home + probe) & mask;
+            String candidate = slots[slot];
+            if (candidate == null) {
+                free = slot;
+                break;
+            }
+            if (candidate.hashCode() == hash && contentEquals(candidate, value, length)) {
+                hits.increment();
+                return candidate;
+            }
+        }
+        misses.increment();
+        String canonical = value.toString();
+        slots[free >= 0 ? free : home] = canonical;
+        return canonical;
+    }
+
+    /** Returns the number of lookups answered from the pool. */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /** Returns the number of lookups that created a new string. */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /** Returns the fraction of lookups answered from the pool, or 0 if there were none. */
+    public double hitRate() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0d : (double) h / total;
+    }
+
+    /** Returns the number of slots. */
+    public int capacity() {
+        return table.length;
+    }
+
+    /** Returns the number of pooled strings. */
+    public int size() {
+        int size = 0;
+        for (String s : table) {
+            if (s != null) size++;
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CsvStringPool[hits=%d, misses=%d, hitRate=%.2f%%, size=%d/%d]",
+                hits(), misses(), hitRate() * 100, size(), capacity());
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean contentEquals(String candidate, CharSequence value, int length) {
+        if (candidate.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != value.charAt(i)) return false;
+        }
+        return true;
+    }
+}
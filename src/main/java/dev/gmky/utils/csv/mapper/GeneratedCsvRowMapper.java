@@ -0,0 +1,668 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.converter.BoolConverter;
+import dev.gmky.utils.csv.converter.DoubleConverter;
+import dev.gmky.utils.csv.converter.IntConverter;
+import dev.gmky.utils.csv.converter.LongConverter;
+import dev.gmky.utils.csv.converter.SliceConverter;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.converter.TypeConverterRegistry;
+import dev.gmky.utils.csv.converter.impl.NumberConverter;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.parser.CsvRowView;
+import org.apache.commons.lang3.StringUtils;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * {@link CsvRowMapper} that binds DTO fields through pre-built accessors instead of per-row
+ * reflection.
+ * <p>
+ * For each DTO class, the no-arg constructor is spun once into a {@link Supplier} via
+ * {@link LambdaMetafactory}, and every field's write {@link MethodHandle} is wrapped once in
+ * a functional-interface implementation ({@link ObjIntConsumer}, {@link BiConsumer}, ...);
+ * both are cached. For each header layout the column index of every field and its converter
+ * are resolved once, so mapping a row does no reflection, no header lookups and no registry
+ * lookups. Primitive {@code int}, {@code long},
+ * {@code double} and {@code boolean} fields whose converter implements {@link IntConverter},
+ * {@link LongConverter}, {@link DoubleConverter} or {@link BoolConverter} (as the built-in
+ * ones do), and {@code float}, {@code short} and {@code byte} fields using the built-in
+ * number converter, are parsed and written without boxing.
+ * </p>
+ * <p>
+ * Mapping semantics (required columns, defaults, blank handling, custom and registry
+ * converters, error messages) match {@link AnnotationCsvRowMapper}. Like it, fields are
+ * written directly and {@code setX} methods are never called. Records and
+ * {@link dev.gmky.utils.csv.annotation.CsvColumn}-annotated constructors are supported the
+ * same way as by {@link AnnotationCsvRowMapper}; their primitive values are boxed into the
+ * reused argument array.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * CsvReaderConfig config = CsvReaderConfig.builder().generatedMapper(true).build();
+ * // or directly:
+ * CsvRowMapper<UserDto> mapper = GeneratedCsvRowMapper.forType(UserDto.class, headers);
+ * }</pre>
+ *
+ * @param <T> the target DTO type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class GeneratedCsvRowMapper<T> implements CsvRowMapper<T> {
+
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return Accessors.generate(type);
+        }
+    };
+
+    private final Class<T> targetType;
+    private final Supplier<?> constructor;
+    private final CsvConstructorBinding constructorBinding; // null: no-arg constructor and setters
+    private final ThreadLocal<Object[]> arguments;
+    private final Binding[] bindings;
+    private final Map<String, CsvStringPool> stringPools;
+    private final boolean stacklessErrors;
+
+    private GeneratedCsvRowMapper(Class<T> targetType, String[] headers, TypeConverterRegistry registry,
+                                  boolean dedupStrings, boolean stacklessErrors) {
+        this.stacklessErrors = stacklessErrors;
+        Accessors accessors = ACCESSORS.get(targetType);
+        Map<String, Integer> headerIndexMap = AnnotationCsvRowMapper.buildHeaderIndexMap(headers);
+        this.targetType = targetType;
+        this.constructor = accessors.constructor;
+        this.constructorBinding = accessors.constructorBinding;
+        this.arguments = constructorBinding != null ? ThreadLocal.withInitial(constructorBinding::newArguments) : null;
+        this.bindings = new Binding[accessors.fields.size()];
+        Map<String, CsvStringPool> pools = new LinkedHashMap<>();
+        for (int i = 0; i < bindings.length; i++) {
+            FieldAccessor field = accessors.fields.get(i);
+            CsvFieldMeta meta = field.meta;
+            int column = meta.isIndexBased()
+                    ? meta.getColumnIndex()
+                    : headerIndexMap.getOrDefault(meta.getColumnName().trim().toLowerCase(), -1);
+            bindings[i] = field.bind(column, registry, dedupStrings);
+            if (bindings[i] instanceof StringBinding b && b.pool != null) {
+                pools.put(meta.getFieldName(), b.pool);
+            }
+        }
+        this.stringPools = Collections.unmodifiableMap(pools);
+    }
+
+    /**
+     * Creates a mapper for the given DTO type and header layout using the default converters.
+     *
+     * @param targetType the DTO class
+     * @param headers    the CSV header row (may be null for index-based binding)
+     */
+    public static <T> GeneratedCsvRowMapper<T> forType(Class<T> targetType, String[] headers) {
+        return forType(targetType, headers, AnnotationCsvRowMapper.defaultRegistry());
+    }
+
+    /**
+     * Creates a mapper for the given DTO type and header layout using the default converters.
+     *
+     * @param dedupStrings whether to deduplicate every {@code String} column, not only those
+     *                     annotated with {@code @CsvColumn(dedup = true)}
+     */
+    public static <T> GeneratedCsvRowMapper<T> forType(Class<T> targetType, String[] headers, boolean dedupStrings) {
+        return forType(targetType, headers, AnnotationCsvRowMapper.defaultRegistry(), dedupStrings);
+    }
+
+    /**
+     * Creates a mapper for the given DTO type and header layout with a custom converter registry.
+     */
+    public static <T> GeneratedCsvRowMapper<T> forType(Class<T> targetType, String[] headers,
+                                                       TypeConverterRegistry registry) {
+        return forType(targetType, headers, registry, false);
+    }
+
+    /**
+     * Creates a mapper with a custom converter registry.
+     *
+     * @param dedupStrings whether to deduplicate every {@code String} column, not only those
+     *                     annotated with {@code @CsvColumn(dedup = true)}
+     */
+    public static <T> GeneratedCsvRowMapper<T> forType(Class<T> targetType, String[] headers,
+                                                       TypeConverterRegistry registry, boolean dedupStrings) {
+        return forType(targetType, headers, registry, dedupStrings, false);
+    }
+
+    /**
+     * Creates a mapper with a custom converter registry.
+     *
+     * @param dedupStrings    whether to deduplicate every {@code String} column, not only those
+     *                        annotated with {@code @CsvColumn(dedup = true)}
+     * @param stacklessErrors whether to throw {@link CsvMappingException}s without a stack trace
+     */
+    public static <T> GeneratedCsvRowMapper<T> forType(Class<T> targetType, String[] headers,
+                                                       TypeConverterRegistry registry, boolean dedupStrings,
+                                                       boolean stacklessErrors) {
+        return new GeneratedCsvRowMapper<>(targetType, headers, registry, dedupStrings, stacklessErrors);
+    }
+
+    @Override
+    public Map<String, CsvStringPool> stringPools() {
+        return stringPools;
+    }
+
+    @Override
+    public int[] boundColumns() {
+        return Arrays.stream(bindings).mapToInt(b -> b.column).filter(i -> i >= 0).distinct().sorted().toArray();
+    }
+
+    @Override
+    public T map(String[] columns, String[] headers, long lineNumber) throws Exception {
+        return map(new ArrayRowView(columns), headers, lineNumber);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T map(CsvRowView row, String[] headers, long lineNumber) throws Exception {
+        Object instance;
+        Object[] args = null;
+        if (constructorBinding != null) {
+            args = arguments.get();
+            constructorBinding.reset(args);
+            instance = args;
+        } else if (constructor != null) {
+            instance = constructor.get();
+        } else {
+            throw mappingError(lineNumber, targetType.getSimpleName(), "",
+                    "Cannot instantiate DTO. Ensure a no-arg constructor exists.", null);
+        }
+        int size = row.size();
+
+        for (Binding binding : bindings) {
+            CsvFieldMeta meta = binding.meta;
+            int col = binding.column;
+            if (col < 0 || col >= size) {
+                if (meta.isRequired()) {
+                    throw mappingError(lineNumber, meta.getFieldName(), "",
+                            "Required column '" + meta.getColumnName() + "' not found", null);
+                }
+                continue;
+            }
+
+            CharSequence value;
+            if (row.isBlank(col)) {
+                value = meta.getDefaultValue();
+                if (StringUtils.isBlank((String) value)) {
+                    if (meta.isRequired()) {
+                        throw mappingError(lineNumber, meta.getFieldName(), (String) value,
+                                "Required field is blank", null);
+                    }
+                    continue;
+                }
+            } else {
+                value = row.cell(col);
+            }
+
+            try {
+                binding.bind(instance, value);
+            } catch (CsvMappingException e) {
+                throw e;
+            } catch (Exception e) {
+                throw mappingError(lineNumber, meta.getFieldName(), value.toString(),
+                        "Conversion failed: " + e.getMessage(), e);
+            }
+        }
+        return args != null ? construct(args, lineNumber) : (T) instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T construct(Object[] args, long lineNumber) {
+        try {
+            return (T) constructorBinding.newInstance(args);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw mappingError(lineNumber, targetType.getSimpleName(), "",
+                    "Constructor failed: " + e.getMessage(), e);
+        }
+    }
+
+    private CsvMappingException mappingError(long lineNumber, String fieldName, String rawValue, String message,
+                                             Throwable cause) {
+        return new CsvMappingException(lineNumber, fieldName, rawValue, message, cause, !stacklessErrors);
+    }
+
+    // ---------------------------- Setter interfaces -----------------------------------
+
+    /** Writes a {@code boolean} field. */
+    @FunctionalInterface
+    public interface BooleanSetter<T> {
+        void accept(T target, boolean value);
+    }
+
+    /** Writes a {@code float} field. */
+    @FunctionalInterface
+    public interface FloatSetter<T> {
+        void accept(T target, float value);
+    }
+
+    /** Writes a {@code short} field. */
+    @FunctionalInterface
+    public interface ShortSetter<T> {
+        void accept(T target, short value);
+    }
+
+    /** Writes a {@code byte} field. */
+    @FunctionalInterface
+    public interface ByteSetter<T> {
+        void accept(T target, byte value);
+    }
+
+    // ---------------------------- Per-class accessors -----------------------------------
+
+    /** Generated constructor and field accessors for one DTO class. */
+    private static final class Accessors {
+
+        private final Supplier<?> constructor; // null if there is no usable no-arg constructor
+        private final CsvConstructorBinding constructorBinding;
+        private final List<FieldAccessor> fields;
+
+        private Accessors(Supplier<?> constructor, CsvConstructorBinding constructorBinding,
+                          List<FieldAccessor> fields) {
+            this.constructor = constructor;
+            this.constructorBinding = constructorBinding;
+            this.fields = fields;
+        }
+
+        static Accessors generate(Class<?> type) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access DTO class: " + type.getName(), e);
+            }
+            List<CsvFieldMeta> metas = AnnotationCsvRowMapper.fieldMetas(type);
+            CsvConstructorBinding binding = AnnotationCsvRowMapper.constructorBinding(type);
+            List<FieldAccessor> fields = new ArrayList<>();
+            if (binding != null) {
+                // Values go into the constructor's argument array instead of the instance
+                MethodHandle slotSetter = MethodHandles.arrayElementSetter(Object[].class);
+                for (int i = 0; i < metas.size(); i++) {
+                    CsvFieldMeta meta = metas.get(i);
+                    MethodHandle setter = MethodHandles.insertArguments(slotSetter, 1, binding.position(i))
+                            .asType(MethodType.methodType(void.class, Object.class, meta.getFieldType()));
+                    fields.add(new FieldAccessor(meta, setter));
+                }
+                return new Accessors(null, binding, fields);
+            }
+            for (CsvFieldMeta meta : metas) {
+                // the same field write AnnotationCsvRowMapper uses: setX methods are bypassed by both
+                fields.add(new FieldAccessor(meta, meta.getSetter()));
+            }
+            return new Accessors(constructor(lookup, type), null, fields);
+        }
+
+        private static Supplier<?> constructor(MethodHandles.Lookup lookup, Class<?> type) {
+            MethodHandle handle;
+            try {
+                handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+            } catch (ReflectiveOperationException e) {
+                return null;
+            }
+            try {
+                return (Supplier<?>) LambdaMetafactory.metafactory(lookup, "get",
+                                MethodType.methodType(Supplier.class), MethodType.methodType(Object.class),
+                                handle, MethodType.methodType(type))
+                        .getTarget().invokeExact();
+            } catch (Throwable e) {
+                MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+                return () -> {
+                    try {
+                        return generic.invokeExact();
+                    } catch (Throwable t) {
+                        throw new IllegalStateException("Cannot instantiate DTO: " + type.getName(), t);
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * Generated setter for one field. Primitive fields get a primitive setter; every field
+     * also gets a reference setter for values produced by custom or registry converters.
+     */
+    private static final class FieldAccessor {
+
+        private final CsvFieldMeta meta;
+        private final Object primitiveSetter; // null for reference fields
+        private final BiConsumer<Object, Object> referenceSetter;
+
+        FieldAccessor(CsvFieldMeta meta, MethodHandle setter) {
+            this.meta = meta;
+            Class<?> type = meta.getFieldType();
+            this.referenceSetter = adapt(setter, Object.class,
+                    h -> (BiConsumer<Object, Object>) (target, value) -> invoke(h, target, value));
+            if (type == int.class) {
+                this.primitiveSetter = adapt(setter, int.class,
+                        h -> (ObjIntConsumer<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == long.class) {
+                this.primitiveSetter = adapt(setter, long.class,
+                        h -> (ObjLongConsumer<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == double.class) {
+                this.primitiveSetter = adapt(setter, double.class,
+                        h -> (ObjDoubleConsumer<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == boolean.class) {
+                this.primitiveSetter = adapt(setter, boolean.class,
+                        h -> (BooleanSetter<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == float.class) {
+                this.primitiveSetter = adapt(setter, float.class,
+                        h -> (FloatSetter<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == short.class) {
+                this.primitiveSetter = adapt(setter, short.class,
+                        h -> (ShortSetter<Object>) (target, value) -> invoke(h, target, value));
+            } else if (type == byte.class) {
+                this.primitiveSetter = adapt(setter, byte.class,
+                        h -> (ByteSetter<Object>) (target, value) -> invoke(h, target, value));
+            } else {
+                this.primitiveSetter = null;
+            }
+        }
+
+        /**
+         * Resolves the converter for this field once and returns the binding for a column.
+         */
+        @SuppressWarnings("unchecked")
+        Binding bind(int column, TypeConverterRegistry registry, boolean dedupStrings) {
+            TypeConverter<?> custom = meta.getCustomConverter();
+            Class<?> type = meta.getFieldType();
+            if (custom == null && type == String.class) {
+                CsvStringPool pool = dedupStrings || meta.isDedup() ? new CsvStringPool() : null;
+                return new StringBinding(meta, column, referenceSetter, pool);
+            }
+
+            TypeConverter<?> converter = custom != null ? custom : registry.findConverter(type);
+            if (primitiveSetter != null) {
+                if (type == int.class && converter instanceof IntConverter c) {
+                    return new IntBinding(meta, column, (ObjIntConsumer<Object>) primitiveSetter, c);
+                }
+                if (type == long.class && converter instanceof LongConverter c) {
+                    return new LongBinding(meta, column, (ObjLongConsumer<Object>) primitiveSetter, c);
+                }
+                if (type == double.class && converter instanceof DoubleConverter c) {
+                    return new DoubleBinding(meta, column, (ObjDoubleConsumer<Object>) primitiveSetter, c);
+                }
+                if (type == boolean.class && converter instanceof BoolConverter c) {
+                    return new BooleanBinding(meta, column, (BooleanSetter<Object>) primitiveSetter, c);
+                }
+                if (converter != null && converter.getClass() == NumberConverter.class) {
+                    if (type == float.class) return new FloatBinding(meta, column, (FloatSetter<Object>) primitiveSetter);
+                    if (type == short.class) return new ShortBinding(meta, column, (ShortSetter<Object>) primitiveSetter);
+                    if (type == byte.class) return new ByteBinding(meta, column, (ByteSetter<Object>) primitiveSetter);
+                }
+            }
+            if (converter instanceof SliceConverter<?> c) {
+                return new SliceBinding(meta, column, referenceSetter, c);
+            }
+            return new ConverterBinding(meta, column, referenceSetter, converter);
+        }
+
+        /**
+         * Adapts {@code setter} to {@code (Object, valueType)void} so the wrapper can invoke it
+         * exactly, without boxing primitive values.
+         */
+        private static <F> F adapt(MethodHandle setter, Class<?> valueType, Function<MethodHandle, F> wrapper) {
+            return wrapper.apply(setter.asType(MethodType.methodType(void.class, Object.class, valueType)));
+        }
+
+        private static void invoke(MethodHandle h, Object target, Object value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, int value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, long value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, double value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, boolean value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, float value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, short value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+
+        private static void invoke(MethodHandle h, Object target, byte value) {
+            try {
+                h.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field on " + target.getClass().getSimpleName(), t);
+            }
+        }
+    }
+
+    // ---------------------------- Bindings -----------------------------------
+
+    /** One field bound to one column of the current header layout. */
+    private abstract static class Binding {
+
+        final CsvFieldMeta meta;
+        final int column;
+
+        Binding(CsvFieldMeta meta, int column) {
+            this.meta = meta;
+            this.column = column;
+        }
+
+        /** Converts a non-blank value and writes it to the target. */
+        abstract void bind(Object target, CharSequence value) throws Exception;
+    }
+
+    private static final class StringBinding extends Binding {
+        private final BiConsumer<Object, Object> setter;
+        private final CsvStringPool pool; // null: values are not deduplicated
+
+        StringBinding(CsvFieldMeta meta, int column, BiConsumer<Object, Object> setter, CsvStringPool pool) {
+            super(meta, column);
+            this.setter = setter;
+            this.pool = pool;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) {
+            setter.accept(target, pool != null ? pool.intern(value) : value.toString());
+        }
+    }
+
+    private static final class ConverterBinding extends Binding {
+        private final BiConsumer<Object, Object> setter;
+        private final TypeConverter<?> converter; // null: no converter registered for the type
+
+        ConverterBinding(CsvFieldMeta meta, int column, BiConsumer<Object, Object> setter, TypeConverter<?> converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            if (converter == null) {
+                throw new IllegalStateException("No converter found for type: " + meta.getFieldType().getName());
+            }
+            setter.accept(target, converter.convert(value.toString(), meta));
+        }
+    }
+
+    private static final class SliceBinding extends Binding {
+        private final BiConsumer<Object, Object> setter;
+        private final SliceConverter<?> converter;
+
+        SliceBinding(CsvFieldMeta meta, int column, BiConsumer<Object, Object> setter, SliceConverter<?> converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            setter.accept(target, converter.convertSlice(value, meta));
+        }
+    }
+
+    private static final class IntBinding extends Binding {
+        private final ObjIntConsumer<Object> setter;
+        private final IntConverter converter;
+
+        IntBinding(CsvFieldMeta meta, int column, ObjIntConsumer<Object> setter, IntConverter converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            setter.accept(target, converter.convertInt(value, meta));
+        }
+    }
+
+    private static final class LongBinding extends Binding {
+        private final ObjLongConsumer<Object> setter;
+        private final LongConverter converter;
+
+        LongBinding(CsvFieldMeta meta, int column, ObjLongConsumer<Object> setter, LongConverter converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            setter.accept(target, converter.convertLong(value, meta));
+        }
+    }
+
+    private static final class DoubleBinding extends Binding {
+        private final ObjDoubleConsumer<Object> setter;
+        private final DoubleConverter converter;
+
+        DoubleBinding(CsvFieldMeta meta, int column, ObjDoubleConsumer<Object> setter, DoubleConverter converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            setter.accept(target, converter.convertDouble(value, meta));
+        }
+    }
+
+    private static final class FloatBinding extends Binding {
+        private final FloatSetter<Object> setter;
+
+        FloatBinding(CsvFieldMeta meta, int column, FloatSetter<Object> setter) {
+            super(meta, column);
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) {
+            setter.accept(target, Float.parseFloat(value.toString().trim()));
+        }
+    }
+
+    private static final class ShortBinding extends Binding {
+        private final ShortSetter<Object> setter;
+
+        ShortBinding(CsvFieldMeta meta, int column, ShortSetter<Object> setter) {
+            super(meta, column);
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) {
+            setter.accept(target, Short.parseShort(value.toString().trim()));
+        }
+    }
+
+    private static final class ByteBinding extends Binding {
+        private final ByteSetter<Object> setter;
+
+        ByteBinding(CsvFieldMeta meta, int column, ByteSetter<Object> setter) {
+            super(meta, column);
+            this.setter = setter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) {
+            setter.accept(target, Byte.parseByte(value.toString().trim()));
+        }
+    }
+
+    private static final class BooleanBinding extends Binding {
+        private final BooleanSetter<Object> setter;
+        private final BoolConverter converter;
+
+        BooleanBinding(CsvFieldMeta meta, int column, BooleanSetter<Object> setter, BoolConverter converter) {
+            super(meta, column);
+            this.setter = setter;
+            this.converter = converter;
+        }
+
+        @Override
+        void bind(Object target, CharSequence value) throws Exception {
+            setter.accept(target, converter.convertBoolean(value, meta));
+        }
+    }
+}
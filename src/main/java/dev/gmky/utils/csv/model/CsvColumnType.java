@@ -0,0 +1,23 @@
+package dev.gmky.utils.csv.model;
+
+/**
+ * Value types of a {@link CsvSchema} column, each stored in a primitive array by
+ * {@link dev.gmky.utils.csv.reader.CsvColumnBatch}.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public enum CsvColumnType {
+    /** 32-bit integers, stored in an {@code int[]}. */
+    INT,
+    /** 64-bit integers, stored in a {@code long[]}. */
+    LONG,
+    /** Decimal numbers, stored as {@code double}s in a {@code double[]}. */
+    DECIMAL,
+    /** ISO {@code yyyy-MM-dd} dates, stored as epoch days in an {@code int[]}. */
+    DATE,
+    /** {@code true}/{@code false} (case-insensitive), stored in a {@code boolean[]}. */
+    BOOLEAN,
+    /** Text, stored as codes in an {@code int[]} into a per-column dictionary. */
+    STRING
+}
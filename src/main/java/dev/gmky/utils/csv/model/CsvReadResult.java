@@ -1,5 +1,6 @@
 package dev.gmky.utils.csv.model;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
 
@@ -8,6 +9,20 @@ import java.util.List;
  * <p>
  * Returned by {@link dev.gmky.utils.csv.reader.CsvReader#readWithResult}.
  * </p>
+ * <p>
+ * When {@link dev.gmky.utils.csv.config.CsvReaderConfig#getErrorSpillThreshold() errorSpillThreshold}
+ * is set, {@link #errors()} holds only the first errors and the rest are in
+ * {@link #errorSpillFile()}; {@link #errorCount()} always counts all of them.
+ * </p>
+ * <p>
+ * Results of the streaming {@code readWithResult(input, rowConsumer)} variants carry an empty
+ * {@link #successRecords()}: rows go to the consumer and only {@link #successCount()} is kept.
+ * </p>
+ * <p>
+ * {@link #filteredCount()} counts the rows dropped by the configured
+ * {@link dev.gmky.utils.csv.config.CsvReaderConfig#getRowFilter() rowFilter} before mapping;
+ * they are included in {@link #totalRows()} but are neither successes nor errors.
+ * </p>
  *
  * @param <T> the target DTO type
  * @author HiepVH
@@ -19,12 +34,42 @@ public record CsvReadResult<T>(
     long totalRows,
     long successCount,
     long errorCount,
-    Duration elapsed
+    Duration elapsed,
+    Path errorSpillFile,
+    long filteredCount
 ) {
+    /**
+     * Creates a result whose errors are all held in {@link #errors()}.
+     */
+    public CsvReadResult(List<T> successRecords, List<CsvError> errors, long totalRows,
+                         long successCount, long errorCount, Duration elapsed) {
+        this(successRecords, errors, totalRows, successCount, errorCount, elapsed, null);
+    }
+
+    /**
+     * Creates a result in which no rows were filtered out.
+     *
+     * @since 1.0.4
+     */
+    public CsvReadResult(List<T> successRecords, List<CsvError> errors, long totalRows,
+                         long successCount, long errorCount, Duration elapsed, Path errorSpillFile) {
+        this(successRecords, errors, totalRows, successCount, errorCount, elapsed, errorSpillFile, 0);
+    }
+
+    /**
+     * Returns the number of data rows read per second, or 0 if no time was measured.
+     *
+     * @since 1.0.4
+     */
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos > 0 ? totalRows * 1_000_000_000d / nanos : 0d;
+    }
+
     /**
      * Returns true if no mapping errors occurred.
      */
     public boolean isFullySuccessful() {
-        return errors.isEmpty();
+        return errors.isEmpty() && errorSpillFile == null;
     }
 }
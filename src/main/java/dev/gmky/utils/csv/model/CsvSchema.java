@@ -0,0 +1,74 @@
+package dev.gmky.utils.csv.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Column names and types of a CSV file read without a DTO class.
+ * <p>
+ * Column {@code i} of the schema is cell {@code i} of every record. Schemas are inferred by
+ * {@link dev.gmky.utils.csv.reader.ColumnarCsvReader#inferSchema} or built by hand, and a
+ * guessed type can be corrected with {@link #withType(String, CsvColumnType)}.
+ * </p>
+ *
+ * @param columns the columns, in file order
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public record CsvSchema(List<Column> columns) {
+
+    public CsvSchema {
+        columns = List.copyOf(columns);
+    }
+
+    /**
+     * Returns the number of columns.
+     */
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * Returns the column at the given zero-based index.
+     */
+    public Column column(int index) {
+        return columns.get(index);
+    }
+
+    /**
+     * Returns the index of the first column with the given name, or -1 if there is none.
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(name)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a copy of this schema in which the named column has the given type.
+     *
+     * @throws IllegalArgumentException if there is no column with that name
+     */
+    public CsvSchema withType(String name, CsvColumnType type) {
+        int index = indexOf(name);
+        if (index < 0) throw new IllegalArgumentException("No column named '" + name + "' in " + this);
+        List<Column> copy = new ArrayList<>(columns);
+        copy.set(index, new Column(name, type));
+        return new CsvSchema(copy);
+    }
+
+    /**
+     * A named, typed column.
+     *
+     * @param name the header name, or {@code column<index>} for files without a header
+     * @param type the value type
+     */
+    public record Column(String name, CsvColumnType type) {
+        public Column {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(type, "type");
+        }
+    }
+}
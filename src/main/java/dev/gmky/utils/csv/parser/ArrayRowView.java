@@ -0,0 +1,50 @@
+package dev.gmky.utils.csv.parser;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link CsvRowView} backed by an already materialized {@code String[]} row.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class ArrayRowView implements CsvRowView {
+
+    private String[] cells;
+
+    public ArrayRowView(String[] cells) {
+        this.cells = cells;
+    }
+
+    /**
+     * Replaces the backing row, allowing the view to be reused.
+     */
+    protected void reset(String[] cells) {
+        this.cells = cells;
+    }
+
+    @Override
+    public int size() {
+        return cells != null ? cells.length : 0;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        return cells[index];
+    }
+
+    @Override
+    public String get(int index) {
+        return cells[index];
+    }
+
+    @Override
+    public boolean isBlank(int index) {
+        return StringUtils.isBlank(cells[index]);
+    }
+
+    @Override
+    public String[] toArray() {
+        return cells;
+    }
+}
@@ -0,0 +1,540 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Built-in RFC 4180 tokenizer that scans the raw bytes of UTF-8, ISO-8859-1 or US-ASCII
+ * input, without a {@link java.nio.charset.CharsetDecoder} in front of it.
+ * <p>
+ * In these encodings the delimiter, quote, escape and line-break characters are single
+ * bytes below {@code 0x80} that never occur inside a multi-byte sequence, so records and
+ * cells are found in the byte stream directly. Cells are then decoded only on demand:
+ * {@link #cell(int)} exposes an ISO-8859-1 cell, or a UTF-8 or US-ASCII cell made of ASCII
+ * bytes only, as a {@link ByteSlice} that numeric and date parsers read in place, and
+ * decodes other cells into a {@code String}. {@link #get(int)} decodes the cell.
+ * </p>
+ * <p>
+ * Parsing follows {@link NativeCsvTokenizer}: same quoting, escaping, line-break
+ * normalization, trimming and {@link #project(int[]) projection}. A leading UTF-8 byte
+ * order mark is stripped. Malformed UTF-8 and non-ASCII bytes in US-ASCII input decode to
+ * {@code U+FFFD}, as with the readers' decoder. Use {@link #supports(CsvReaderConfig)} to
+ * check whether a configuration can be read this way.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class ByteCsvTokenizer implements CsvTokenizer {
+
+    /** Default size of the read buffer, in bytes. The buffer grows for records that do not fit. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final byte NO_ESCAPE = 0;
+    private static final int RAW_PREVIEW_LENGTH = 200;
+
+    private final InputStream in;
+    private final Charset charset;
+    private final boolean latin1; // every byte decodes to the char of the same value
+    private final boolean utf8;
+    private final byte delimiter;
+    private final byte quoteChar;
+    private final byte escapeChar;
+    private final boolean escapeEnabled;
+    private final boolean trim;
+    private final ByteSlice slice = new ByteSlice();
+
+    private byte[] buf;
+    private long discarded; // bytes shifted out of the buffer so far
+    private int pos;
+    private int limit;
+    private int recordStart;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int cellCount;
+    private long recordCount;
+    private boolean eof;
+    private boolean pendingLf;
+    private boolean bomChecked;
+    private boolean[] projection; // null: every column is tokenized
+
+    public ByteCsvTokenizer(InputStream in, CsvReaderConfig config) {
+        this(in, config, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code config} is not {@link #supports(CsvReaderConfig) supported}
+     */
+    public ByteCsvTokenizer(InputStream in, CsvReaderConfig config, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        if (!supports(config)) {
+            throw new IllegalArgumentException("Byte tokenizing needs UTF-8, ISO-8859-1 or US-ASCII input and ASCII"
+                    + " delimiter, quote and escape characters, not " + config.getCharset());
+        }
+        this.in = in;
+        this.charset = config.getCharset();
+        this.latin1 = StandardCharsets.ISO_8859_1.equals(charset);
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.delimiter = (byte) config.getDelimiter();
+        this.quoteChar = (byte) config.getQuoteChar();
+        this.escapeChar = (byte) config.getEscapeChar();
+        this.escapeEnabled = escapeChar != NO_ESCAPE && escapeChar != quoteChar;
+        this.trim = config.isTrimValues();
+        this.buf = new byte[bufferSize];
+    }
+
+    /**
+     * Returns whether input read with the given configuration can be tokenized on raw bytes:
+     * the charset is UTF-8, ISO-8859-1 or US-ASCII and the delimiter, quote and escape
+     * characters are ASCII.
+     */
+    public static boolean supports(CsvReaderConfig config) {
+        Charset charset = config.getCharset();
+        return (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.ISO_8859_1.equals(charset)
+                || StandardCharsets.US_ASCII.equals(charset))
+                && config.getDelimiter() < 0x80 && config.getQuoteChar() < 0x80 && config.getEscapeChar() < 0x80;
+    }
+
+    // ---------------------------- CsvTokenizer -----------------------------------
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        cellCount = 0;
+        recordStart = pos;
+        if (!bomChecked) {
+            bomChecked = true;
+            if (utf8 && ensure() && buf[pos] == (byte) 0xEF) {
+                while (limit - pos < 3 && !eof) fill();
+                if (limit - pos >= 3 && buf[pos + 1] == (byte) 0xBB && buf[pos + 2] == (byte) 0xBF) {
+                    pos += 3;
+                    recordStart = pos;
+                }
+            }
+        }
+        if (pendingLf) {
+            pendingLf = false;
+            if (ensure() && buf[pos] == '\n') recordStart = ++pos;
+        }
+        if (!ensure()) return false;
+
+        recordCount++;
+        while (parseCell()) {
+            // keep reading cells until the record terminator
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return cellCount;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        checkIndex(index);
+        int start = starts[index];
+        int end = ends[index];
+        if (latin1 || isAscii(start, end)) return slice.set(buf, start, end - start);
+        return new String(buf, start, end - start, charset);
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return new String(buf, starts[index], ends[index] - starts[index], charset);
+    }
+
+    @Override
+    public boolean isBlank(int index) {
+        checkIndex(index);
+        for (int i = starts[index], end = ends[index]; i < end; i++) {
+            byte b = buf[i];
+            if (b < 0 && !latin1) return get(index).isBlank();
+            if (!Character.isWhitespace(b & 0xFF)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String rawRecord() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cellCount; i++) {
+            if (i > 0) sb.append((char) delimiter);
+            sb.append(cell(i));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void project(int[] columns) {
+        if (columns == null) {
+            projection = null;
+            return;
+        }
+        int max = -1;
+        for (int column : columns) max = Math.max(max, column);
+        boolean[] projected = new boolean[max + 1];
+        for (int column : columns) {
+            if (column >= 0) projected[column] = true;
+        }
+        projection = projected;
+    }
+
+    /**
+     * Returns the number of chars consumed so far for ISO-8859-1 input, in which it equals
+     * the number of bytes, and -1 otherwise; see {@link #byteOffset()}.
+     */
+    @Override
+    public long charOffset() {
+        return latin1 ? byteOffset() : -1;
+    }
+
+    @Override
+    public long byteOffset() {
+        return discarded + pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    // ---------------------------- State machine -----------------------------------
+
+    /**
+     * Parses one cell starting at {@code pos}.
+     *
+     * @return true if a delimiter follows, i.e. the record has more cells
+     */
+    private boolean parseCell() throws IOException {
+        if (trim) {
+            // Skip leading whitespace so that a quote after it still opens a quoted cell
+            while (ensure()) {
+                byte c = buf[pos];
+                if (c < 0 || c > ' ' || c == '\n' || c == '\r' || c == delimiter) break;
+                pos++;
+            }
+        }
+        if (!ensure()) {
+            addCell(pos, pos);
+            return false;
+        }
+        if (projection != null && (cellCount >= projection.length || !projection[cellCount])) {
+            return skipCell();
+        }
+        if (buf[pos] == quoteChar) {
+            int start = ++pos;
+            return parseQuoted(start);
+        }
+        return parseUnquoted(pos, pos);
+    }
+
+    /**
+     * Scans an unquoted cell (or the tail following a closing quote) whose content
+     * starts at {@code start} and has been written up to {@code w}.
+     */
+    private boolean parseUnquoted(int start, int w) throws IOException {
+        final byte d = delimiter;
+        final byte esc = escapeChar;
+        final boolean escOn = escapeEnabled;
+        for (;;) {
+            final byte[] b = buf;
+            final int lim = limit;
+            final int p = pos;
+            int r = p;
+            if (escOn) {
+                while (r < lim) {
+                    byte c = b[r];
+                    if (c == d || c == '\n' || c == '\r' || c == esc) break;
+                    r++;
+                }
+            } else {
+                while (r < lim) {
+                    byte c = b[r];
+                    if (c == d || c == '\n' || c == '\r') break;
+                    r++;
+                }
+            }
+            if (w != p) System.arraycopy(b, p, b, w, r - p);
+            w += r - p;
+            pos = r;
+
+            if (r == lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos >= limit) {
+                    addCell(start, w);
+                    return false;
+                }
+                continue;
+            }
+
+            byte c = b[r];
+            if (c == d) {
+                pos = r + 1;
+                addCell(start, w);
+                return true;
+            }
+            if (c == '\n' || c == '\r') {
+                pos = r + 1;
+                pendingLf = c == '\r';
+                addCell(start, w);
+                return false;
+            }
+
+            // Escape character: look at the next byte
+            if (r + 1 >= lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos + 1 >= limit) {
+                    // Dangling escape at end of input is dropped
+                    pos = limit;
+                    addCell(start, w);
+                    return false;
+                }
+            }
+            byte next = buf[pos + 1];
+            if (next == quoteChar || next == esc) {
+                buf[w++] = next;
+                pos += 2;
+            } else {
+                pos += 1;
+            }
+        }
+    }
+
+    /**
+     * Scans a quoted cell whose content starts at {@code start} (just past the opening quote).
+     */
+    private boolean parseQuoted(int start) throws IOException {
+        final byte q = quoteChar;
+        final byte esc = escapeEnabled ? escapeChar : quoteChar;
+        int w = start;
+        for (;;) {
+            final byte[] b = buf;
+            final int lim = limit;
+            final int p = pos;
+            int r = p;
+            while (r < lim) {
+                byte c = b[r];
+                if (c == q || c == esc || c == '\r') break;
+                r++;
+            }
+            if (w != p) System.arraycopy(b, p, b, w, r - p);
+            w += r - p;
+            pos = r;
+
+            if (r == lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos >= limit) throw unterminated();
+                continue;
+            }
+
+            byte c = b[r];
+            if (c == '\r') {
+                // Normalize \r\n and lone \r inside quotes to \n
+                b[w++] = '\n';
+                pos = r + 1;
+                if (pos >= limit) {
+                    int shift = fill();
+                    start -= shift;
+                    w -= shift;
+                }
+                if (pos < limit && buf[pos] == '\n') pos++;
+                continue;
+            }
+
+            // Quote or escape: both need one byte of lookahead
+            if (r + 1 >= lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos + 1 >= limit) {
+                    if (c != q) throw unterminated();
+                    pos++;
+                    addCell(start, w);
+                    return false;
+                }
+            }
+            byte next = buf[pos + 1];
+            if (c == q) {
+                if (next == q) {
+                    buf[w++] = q;
+                    pos += 2;
+                    continue;
+                }
+                pos++;
+                return parseUnquoted(start, w);
+            }
+            if (next == q || next == esc) {
+                buf[w++] = next;
+                pos += 2;
+            } else {
+                pos += 1;
+            }
+        }
+    }
+
+    /**
+     * Scans past a cell outside the projection, starting at {@code pos}, and records its raw
+     * extent. Quotes are tracked only to find the true end of the cell; nothing is copied.
+     *
+     * @return true if a delimiter follows, i.e. the record has more cells
+     */
+    private boolean skipCell() throws IOException {
+        final byte d = delimiter;
+        final byte q = quoteChar;
+        final byte esc = escapeEnabled ? escapeChar : quoteChar;
+        int start = pos;
+        boolean quoted = buf[pos] == q;
+        if (quoted) pos++;
+        for (;;) {
+            if (pos >= limit) {
+                start -= fill();
+                if (pos >= limit) {
+                    if (quoted) throw unterminated();
+                    addRawCell(start, pos);
+                    return false;
+                }
+            }
+            final byte[] bb = buf;
+            final int lim = limit;
+            int r = pos;
+            if (quoted) {
+                while (r < lim && bb[r] != q && bb[r] != esc) r++;
+            } else {
+                while (r < lim) {
+                    byte c = bb[r];
+                    if (c == d || c == '\n' || c == '\r') break;
+                    r++;
+                }
+            }
+            pos = r;
+            if (r == lim) continue;
+
+            byte c = bb[r];
+            if (quoted) {
+                // Quote or escape: both need one byte of lookahead
+                if (pos + 1 >= limit) {
+                    start -= fill();
+                    if (pos + 1 >= limit) {
+                        if (c != q) throw unterminated();
+                        pos++;
+                        quoted = false;
+                        continue;
+                    }
+                }
+                byte next = buf[pos + 1];
+                if (c == q) {
+                    if (next == q) {
+                        pos += 2;
+                    } else {
+                        pos++;
+                        quoted = false;
+                    }
+                } else {
+                    pos += next == q || next == esc ? 2 : 1;
+                }
+                continue;
+            }
+            // Unquoted (or after the closing quote): an escape never hides a delimiter or line break
+            addRawCell(start, pos++);
+            if (c == d) return true;
+            pendingLf = c == '\r';
+            return false;
+        }
+    }
+
+    private void addCell(int start, int end) {
+        if (trim) {
+            while (start < end && isSpace(buf[start])) start++;
+            while (end > start && isSpace(buf[end - 1])) end--;
+        }
+        addRawCell(start, end);
+    }
+
+    private void addRawCell(int start, int end) {
+        if (cellCount == starts.length) {
+            starts = Arrays.copyOf(starts, cellCount << 1);
+            ends = Arrays.copyOf(ends, cellCount << 1);
+        }
+        starts[cellCount] = start;
+        ends[cellCount] = end;
+        cellCount++;
+    }
+
+    /** Whether {@code b} is a char {@code <= ' '}, which trimming removes. */
+    private static boolean isSpace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+
+    private boolean isAscii(int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (buf[i] < 0) return false;
+        }
+        return true;
+    }
+
+    // ---------------------------- Buffer management -----------------------------------
+
+    private boolean ensure() throws IOException {
+        if (pos < limit) return true;
+        fill();
+        return pos < limit;
+    }
+
+    /**
+     * Discards everything before the current record, growing the buffer if the record
+     * fills it entirely, and reads more input.
+     *
+     * @return the number of positions buffer indexes were shifted left by
+     */
+    private int fill() throws IOException {
+        if (eof) return 0;
+        int shift = recordStart;
+        if (shift > 0) {
+            System.arraycopy(buf, shift, buf, 0, limit - shift);
+            discarded += shift;
+            limit -= shift;
+            pos -= shift;
+            recordStart = 0;
+            for (int i = 0; i < cellCount; i++) {
+                starts[i] -= shift;
+                ends[i] -= shift;
+            }
+        } else if (limit == buf.length) {
+            buf = Arrays.copyOf(buf, buf.length << 1);
+        }
+        int n = in.read(buf, limit, buf.length - limit);
+        if (n < 0) {
+            eof = true;
+        } else {
+            limit += n;
+        }
+        return shift;
+    }
+
+    private CsvParsingException unterminated() {
+        int len = Math.min(limit - recordStart, RAW_PREVIEW_LENGTH);
+        return new CsvParsingException(recordCount, new String(buf, recordStart, len, charset),
+                "Unterminated quoted field at end of input");
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= cellCount) {
+            throw new IndexOutOfBoundsException("Cell index " + index + " out of bounds for " + cellCount + " cells");
+        }
+    }
+}
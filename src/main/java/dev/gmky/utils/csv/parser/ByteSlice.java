@@ -0,0 +1,85 @@
+package dev.gmky.utils.csv.parser;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Mutable {@link CharSequence} flyweight over a range of a {@code byte[]} buffer holding
+ * ISO-8859-1 or US-ASCII text, in which every byte is one char.
+ * <p>
+ * Used by {@link ByteCsvTokenizer} to expose cells without decoding them: numeric and
+ * date parsers read the chars straight from the bytes. A slice is only valid while the
+ * backing buffer region is not overwritten.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class ByteSlice implements CharSequence {
+
+    private byte[] buffer;
+    private int offset;
+    private int length;
+
+    public ByteSlice() {
+        this.buffer = new byte[0];
+    }
+
+    public ByteSlice(byte[] buffer, int offset, int length) {
+        set(buffer, offset, length);
+    }
+
+    /**
+     * Repoints this slice to a new buffer range.
+     *
+     * @return this slice, for chaining
+     */
+    public ByteSlice set(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return (char) (buffer[offset + index] & 0xFF);
+    }
+
+    /**
+     * Widens the chars of this slice into {@code dst}, starting at {@code dstBegin}.
+     */
+    public void getChars(char[] dst, int dstBegin) {
+        for (int i = 0; i < length; i++) {
+            dst[dstBegin + i] = (char) (buffer[offset + i] & 0xFF);
+        }
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new String(buffer, offset + start, end - start, StandardCharsets.ISO_8859_1);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, offset, length, StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,58 @@
+package dev.gmky.utils.csv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+/**
+ * {@link InputStream} over the byte range {@code [position, position + length)} of a file
+ * channel, read with positional reads so the channel's own position is left alone and
+ * several streams can read ranges of one channel.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class ChannelRangeInputStream extends InputStream {
+
+    private final FileChannel channel;
+    private final boolean closeChannel;
+    private final long end;
+    private long position;
+
+    /**
+     * @param closeChannel whether {@link #close()} also closes the channel
+     */
+    ChannelRangeInputStream(FileChannel channel, long position, long length, boolean closeChannel) {
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("position and length must not be negative");
+        }
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.position = position;
+        this.end = position + length;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+        if (position >= end) return -1;
+        int n = channel.read(ByteBuffer.wrap(b, off, (int) Math.min(len, end - position)), position);
+        if (n < 0) return -1;
+        position += n;
+        return n;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closeChannel) channel.close();
+    }
+}
@@ -0,0 +1,72 @@
+package dev.gmky.utils.csv.parser;
+
+/**
+ * Mutable {@link CharSequence} flyweight over a range of a {@code char[]} buffer.
+ * <p>
+ * Used by tokenizers to expose cells without copying them into a {@link String}.
+ * A slice is only valid while the backing buffer region is not overwritten.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CharSlice implements CharSequence {
+
+    private char[] buffer;
+    private int offset;
+    private int length;
+
+    public CharSlice() {
+        this.buffer = new char[0];
+    }
+
+    public CharSlice(char[] buffer, int offset, int length) {
+        set(buffer, offset, length);
+    }
+
+    /**
+     * Repoints this slice to a new buffer range.
+     *
+     * @return this slice, for chaining
+     */
+    public CharSlice set(char[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+        return this;
+    }
+
+    public char[] buffer() {
+        return buffer;
+    }
+
+    public int offset() {
+        return offset;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return buffer[offset + index];
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length);
+        }
+        return new String(buffer, offset + start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, offset, length);
+    }
+}
@@ -0,0 +1,158 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.config.CsvReaderConfig.Compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Detects and decompresses gzip, Zstandard and zip CSV input.
+ * <p>
+ * With {@link Compression#AUTO} the format is recognized by its magic bytes, falling back
+ * to the file name extension ({@code .gz}, {@code .zst}, {@code .zip}) when the bytes are
+ * not conclusive. Decompression runs on a background thread that fills a small ring of
+ * buffers ahead of the tokenizer (see {@link ReadAheadInputStream}), so inflating and
+ * parsing overlap. gzip files made of BGZF members are inflated several members at a time
+ * on the configured {@link CsvReaderConfig#getExecutor() executor} instead. Plain input is
+ * returned unchanged apart from a small pushback buffer for the peeked bytes.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvDecompression {
+
+    /** Bytes needed to recognize every format, including a BGZF member header. */
+    private static final int HEAD_LENGTH = 18;
+    private static final int MAGIC_LENGTH = 4;
+
+    private CsvDecompression() {
+    }
+
+    /**
+     * Detects the compression of input starting with {@code head}.
+     *
+     * @param head     the first bytes of the input
+     * @param length   number of valid bytes in {@code head}
+     * @param filename the input's file name, or null if unknown
+     * @return the detected format, {@link Compression#NONE} for plain input
+     */
+    public static Compression detect(byte[] head, int length, String filename) {
+        if (length >= 2 && (head[0] & 0xFF) == 0x1F && (head[1] & 0xFF) == 0x8B) return Compression.GZIP;
+        if (length >= 4 && (head[0] & 0xFF) == 0x28 && (head[1] & 0xFF) == 0xB5
+                && (head[2] & 0xFF) == 0x2F && (head[3] & 0xFF) == 0xFD) return Compression.ZSTD;
+        if (length >= 4 && head[0] == 'P' && head[1] == 'K' && head[2] == 3 && head[3] == 4) return Compression.ZIP;
+        if (filename == null) return Compression.NONE;
+        String name = filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".gz") || name.endsWith(".gzip")) return Compression.GZIP;
+        if (name.endsWith(".zst") || name.endsWith(".zstd")) return Compression.ZSTD;
+        if (name.endsWith(".zip")) return Compression.ZIP;
+        return Compression.NONE;
+    }
+
+    /**
+     * Returns the compression of a local file, as {@link #decompress} would treat it.
+     */
+    public static Compression compressionOf(Path path, CsvReaderConfig config) throws IOException {
+        if (config.getCompression() != Compression.AUTO) return config.getCompression();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return compressionOf(channel, String.valueOf(path.getFileName()), config);
+        }
+    }
+
+    /**
+     * Returns the compression of a file channel, judged from its first bytes. The channel's
+     * position is not changed.
+     *
+     * @param filename the file name, or null if unknown
+     */
+    public static Compression compressionOf(FileChannel channel, String filename, CsvReaderConfig config)
+            throws IOException {
+        if (config.getCompression() != Compression.AUTO) return config.getCompression();
+        ByteBuffer head = ByteBuffer.allocate(MAGIC_LENGTH);
+        while (head.hasRemaining() && channel.read(head, head.position()) > 0) {
+            // keep reading: a channel may return fewer bytes than requested
+        }
+        return detect(head.array(), head.position(), filename);
+    }
+
+    /**
+     * Returns a stream of the decompressed content of {@code in}. Closing the returned
+     * stream closes {@code in} and stops the background decompression.
+     *
+     * @param in       the possibly compressed input
+     * @param filename the input's file name, or null if unknown
+     * @param config   reader configuration; its {@link CsvReaderConfig#getCompression() compression}
+     *                 selects or detects the format
+     * @throws IOException if the input cannot be read or is not in the expected format
+     */
+    public static InputStream decompress(InputStream in, String filename, CsvReaderConfig config)
+            throws IOException {
+        if (config.getCompression() == Compression.NONE) return in;
+        PushbackInputStream peekable = new PushbackInputStream(in, HEAD_LENGTH);
+        byte[] head = peekable.readNBytes(HEAD_LENGTH);
+        peekable.unread(head);
+        Compression compression = config.getCompression() == Compression.AUTO
+                ? detect(head, head.length, filename)
+                : config.getCompression();
+        try {
+            return switch (compression) {
+                case AUTO, NONE -> peekable;
+                case GZIP -> ParallelGzipInputStream.isBgzf(head, head.length)
+                        ? new ParallelGzipInputStream(peekable, executor(config),
+                                2 * Runtime.getRuntime().availableProcessors())
+                        : new ReadAheadInputStream(new GZIPInputStream(peekable, ReadAheadInputStream.DEFAULT_BUFFER_SIZE));
+                case ZSTD -> new ReadAheadInputStream(zstd(peekable));
+                case ZIP -> new ReadAheadInputStream(firstEntry(new ZipInputStream(peekable)));
+            };
+        } catch (IOException | RuntimeException | Error e) {
+            peekable.close();
+            throw e;
+        }
+    }
+
+    private static InputStream zstd(InputStream in) throws IOException {
+        try {
+            return Zstd.open(in);
+        } catch (NoClassDefFoundError e) {
+            throw new IllegalStateException(
+                    "Reading Zstandard input requires com.github.luben:zstd-jni on the classpath", e);
+        }
+    }
+
+    /**
+     * Keeps the optional zstd-jni classes out of {@code CsvDecompression}'s own signatures, so
+     * they are only linked when Zstandard input is read, not whenever any input is.
+     */
+    private static final class Zstd {
+
+        static InputStream open(InputStream in) throws IOException {
+            return new com.github.luben.zstd.ZstdInputStream(in);
+        }
+    }
+
+    /** Positions {@code zip} at its first file entry; an archive without one reads as empty. */
+    private static InputStream firstEntry(ZipInputStream zip) throws IOException {
+        ZipEntry entry = zip.getNextEntry();
+        while (entry != null && entry.isDirectory()) {
+            entry = zip.getNextEntry();
+        }
+        return zip;
+    }
+
+    private static Executor executor(CsvReaderConfig config) {
+        return config.getExecutor() != null ? config.getExecutor() : ForkJoinPool.commonPool();
+    }
+}
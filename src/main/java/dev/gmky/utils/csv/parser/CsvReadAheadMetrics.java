@@ -0,0 +1,92 @@
+package dev.gmky.utils.csv.parser;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for the read-ahead stage enabled by
+ * {@link dev.gmky.utils.csv.config.CsvReaderConfig#isReadAhead() readAhead}.
+ * <p>
+ * The two stall counters tell which side is the bottleneck. The I/O thread stalls when every
+ * buffer is still waiting to be parsed, so parsing and mapping are the slower side. The parser
+ * stalls when no filled buffer is ready, so the input is the slower side.
+ * </p>
+ * <p>
+ * One instance may be shared by several reads and threads; counters accumulate until
+ * {@link #reset()} is called.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvReadAheadMetrics {
+
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder buffersFilled = new LongAdder();
+    private final LongAdder ioStalls = new LongAdder();
+    private final LongAdder ioStallNanos = new LongAdder();
+    private final LongAdder parserStalls = new LongAdder();
+    private final LongAdder parserStallNanos = new LongAdder();
+
+    /** Returns the number of bytes read ahead from the input. */
+    public long bytesRead() {
+        return bytesRead.sum();
+    }
+
+    /** Returns the number of buffers filled by the I/O thread. */
+    public long buffersFilled() {
+        return buffersFilled.sum();
+    }
+
+    /** Returns how often the I/O thread waited for the parser to release a buffer. */
+    public long ioStalls() {
+        return ioStalls.sum();
+    }
+
+    /** Returns the total time the I/O thread waited for the parser to release a buffer. */
+    public Duration ioStallTime() {
+        return Duration.ofNanos(ioStallNanos.sum());
+    }
+
+    /** Returns how often the parser waited for the I/O thread to fill a buffer. */
+    public long parserStalls() {
+        return parserStalls.sum();
+    }
+
+    /** Returns the total time the parser waited for the I/O thread to fill a buffer. */
+    public Duration parserStallTime() {
+        return Duration.ofNanos(parserStallNanos.sum());
+    }
+
+    /** Sets all counters to zero. */
+    public void reset() {
+        bytesRead.reset();
+        buffersFilled.reset();
+        ioStalls.reset();
+        ioStallNanos.reset();
+        parserStalls.reset();
+        parserStallNanos.reset();
+    }
+
+    void recordFill(int bytes) {
+        bytesRead.add(bytes);
+        buffersFilled.increment();
+    }
+
+    void recordIoStall(long nanos) {
+        ioStalls.increment();
+        ioStallNanos.add(nanos);
+    }
+
+    void recordParserStall(long nanos) {
+        parserStalls.increment();
+        parserStallNanos.add(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "CsvReadAheadMetrics[bytesRead=" + bytesRead() + ", buffersFilled=" + buffersFilled()
+                + ", ioStalls=" + ioStalls() + " (" + ioStallTime().toMillis() + " ms)"
+                + ", parserStalls=" + parserStalls() + " (" + parserStallTime().toMillis() + " ms)]";
+    }
+}
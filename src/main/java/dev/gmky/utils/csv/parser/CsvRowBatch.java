@@ -0,0 +1,166 @@
+package dev.gmky.utils.csv.parser;
+
+import java.util.Arrays;
+
+/**
+ * Compact, reusable snapshot of a batch of tokenized records.
+ * <p>
+ * Cell contents are copied into a single shared {@code char[]} with integer bounds,
+ * so a batch can be handed to another thread after the tokenizer has moved on
+ * without allocating a {@code String} per cell. Use {@link #cursor()} to read the
+ * rows back as {@link CsvRowView}s; each thread should use its own cursor.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvRowBatch {
+
+    private char[] chars;
+    private int charCount;
+    private int[] cellEnds;          // cell i spans [cellEnds[i - 1], cellEnds[i]) (start 0 for i == 0)
+    private int cellCount;
+    private int[] rowFirstCell;      // row r spans cells [rowFirstCell[r], rowFirstCell[r + 1])
+    private long[] lineNumbers;
+    private int rowCount;
+
+    public CsvRowBatch(int expectedRows) {
+        int rows = Math.max(expectedRows, 1);
+        this.chars = new char[rows * 32];
+        this.cellEnds = new int[rows * 4];
+        this.rowFirstCell = new int[rows + 1];
+        this.lineNumbers = new long[rows];
+    }
+
+    /**
+     * Copies the current record of the given view into this batch.
+     *
+     * @param row        the record to copy
+     * @param lineNumber its line number, reported back through {@link #lineNumber(int)}
+     */
+    public void add(CsvRowView row, long lineNumber) {
+        if (rowCount == lineNumbers.length) {
+            lineNumbers = Arrays.copyOf(lineNumbers, rowCount << 1);
+            rowFirstCell = Arrays.copyOf(rowFirstCell, (rowCount << 1) + 1);
+        }
+        int cells = row.size();
+        if (cellCount + cells > cellEnds.length) {
+            cellEnds = Arrays.copyOf(cellEnds, Math.max(cellEnds.length << 1, cellCount + cells));
+        }
+        for (int i = 0; i < cells; i++) {
+            appendCell(row.cell(i));
+            cellEnds[cellCount++] = charCount;
+        }
+        lineNumbers[rowCount] = lineNumber;
+        rowFirstCell[++rowCount] = cellCount;
+    }
+
+    /**
+     * Returns the number of records in this batch.
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Returns the line number recorded for the given row.
+     */
+    public long lineNumber(int row) {
+        return lineNumbers[row];
+    }
+
+    /**
+     * Reconstructs the given row as a single delimited line, for error reporting.
+     */
+    public String rawRecord(int row, char delimiter) {
+        StringBuilder sb = new StringBuilder();
+        for (int c = rowFirstCell[row], end = rowFirstCell[row + 1]; c < end; c++) {
+            if (c > rowFirstCell[row]) sb.append(delimiter);
+            int start = c == 0 ? 0 : cellEnds[c - 1];
+            sb.append(chars, start, cellEnds[c] - start);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Empties the batch, keeping its buffers for reuse.
+     */
+    public void clear() {
+        charCount = 0;
+        cellCount = 0;
+        rowCount = 0;
+    }
+
+    /**
+     * Returns a new cursor over the rows of this batch.
+     */
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void appendCell(CharSequence cell) {
+        int len = cell != null ? cell.length() : 0;
+        if (charCount + len > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length << 1, charCount + len));
+        }
+        if (cell instanceof CharSlice slice) {
+            System.arraycopy(slice.buffer(), slice.offset(), chars, charCount, len);
+        } else if (cell instanceof ByteSlice slice) {
+            slice.getChars(chars, charCount);
+        } else if (cell instanceof String s) {
+            s.getChars(0, len, chars, charCount);
+        } else {
+            for (int i = 0; i < len; i++) {
+                chars[charCount + i] = cell.charAt(i);
+            }
+        }
+        charCount += len;
+    }
+
+    /**
+     * {@link CsvRowView} positioned on one row of the enclosing batch.
+     */
+    public final class Cursor implements CsvRowView {
+
+        private final CharSlice slice = new CharSlice();
+        private int firstCell;
+        private int size;
+
+        /**
+         * Positions this cursor on the given row.
+         *
+         * @return this cursor
+         */
+        public Cursor moveTo(int row) {
+            this.firstCell = rowFirstCell[row];
+            this.size = rowFirstCell[row + 1] - firstCell;
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public CharSequence cell(int index) {
+            int c = cellIndex(index);
+            int start = c == 0 ? 0 : cellEnds[c - 1];
+            return slice.set(chars, start, cellEnds[c] - start);
+        }
+
+        @Override
+        public String get(int index) {
+            int c = cellIndex(index);
+            int start = c == 0 ? 0 : cellEnds[c - 1];
+            return new String(chars, start, cellEnds[c] - start);
+        }
+
+        private int cellIndex(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Cell index " + index + " out of bounds for " + size + " cells");
+            }
+            return firstCell + index;
+        }
+    }
+}
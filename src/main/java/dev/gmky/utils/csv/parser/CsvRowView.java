@@ -0,0 +1,66 @@
+package dev.gmky.utils.csv.parser;
+
+/**
+ * Read-only view over the cells of a single tokenized CSV record.
+ * <p>
+ * Implementations may be backed by a reusable buffer: the view (and every
+ * {@link CharSequence} returned by {@link #cell(int)}) is only valid until the
+ * underlying tokenizer advances to the next record. Use {@link #get(int)} or
+ * {@link #toArray()} to obtain values that outlive the current record.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public interface CsvRowView {
+
+    /**
+     * Returns the number of cells in the current record.
+     */
+    int size();
+
+    /**
+     * Returns a zero-copy view of the cell at the given index.
+     * <p>The returned sequence may be a reused flyweight; do not retain it.</p>
+     *
+     * @param index zero-based cell index
+     * @return the cell content (never {@code null} for native tokenizers)
+     */
+    CharSequence cell(int index);
+
+    /**
+     * Returns the cell at the given index as a newly materialized {@link String}.
+     *
+     * @param index zero-based cell index
+     * @return the cell value
+     */
+    default String get(int index) {
+        CharSequence cell = cell(index);
+        return cell != null ? cell.toString() : null;
+    }
+
+    /**
+     * Returns true if the cell is empty or contains only whitespace, without materializing it.
+     *
+     * @param index zero-based cell index
+     */
+    default boolean isBlank(int index) {
+        CharSequence cell = cell(index);
+        if (cell == null) return true;
+        for (int i = 0, len = cell.length(); i < len; i++) {
+            if (!Character.isWhitespace(cell.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Materializes all cells of the current record into a new array.
+     */
+    default String[] toArray() {
+        String[] values = new String[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.gmky.utils.csv.parser;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Pull-based CSV tokenizer that exposes the current record as a {@link CsvRowView}.
+ * <p>
+ * Call {@link #nextRecord()} to advance; the cell accessors then describe the record
+ * that was just read. Obtain instances through {@link CsvTokenizers}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public interface CsvTokenizer extends CsvRowView, Closeable {
+
+    /**
+     * Advances to the next record.
+     *
+     * @return {@code true} if a record was read, {@code false} at end of input
+     * @throws IOException if the underlying input fails or the record is malformed
+     */
+    boolean nextRecord() throws IOException;
+
+    /**
+     * Reconstructs the current record as a single delimited line, for error reporting.
+     */
+    String rawRecord();
+
+    /**
+     * Returns the number of chars consumed from the input through the end of the current
+     * record, including its line terminator (except the {@code \n} of a {@code \r\n} pair,
+     * which is consumed with the next record), or -1 if the tokenizer does not track it.
+     */
+    default long charOffset() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes consumed from the input through the end of the current
+     * record, counted like {@link #charOffset()}, or -1 if the tokenizer reads decoded chars.
+     *
+     * @since 1.0.4
+     */
+    default long byteOffset() {
+        return -1;
+    }
+
+    /**
+     * Restricts full tokenizing to the given columns. Cells of other columns are still
+     * counted, but a tokenizer may skip over them and return their raw text (untrimmed,
+     * with quotes and escapes left in place). The default implementation ignores the hint.
+     *
+     * @param columns zero-based indexes of the columns that are read, or null for all columns
+     */
+    default void project(int[] columns) {
+    }
+}
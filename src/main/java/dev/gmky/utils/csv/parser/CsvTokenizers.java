@@ -0,0 +1,169 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Factory for {@link CsvTokenizer} instances based on {@link CsvReaderConfig#getEngine()}.
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvTokenizers {
+
+    private CsvTokenizers() {
+    }
+
+    /**
+     * Opens a tokenizer over a byte stream, decoded with the configured charset.
+     * Compressed input is decompressed as described in {@link CsvDecompression}.
+     *
+     * @param inputStream the CSV input stream
+     * @param config      reader configuration
+     * @return a new tokenizer; closing it closes the stream
+     * @throws UncheckedIOException if the start of the stream cannot be read
+     */
+    public static CsvTokenizer open(InputStream inputStream, CsvReaderConfig config) {
+        try {
+            return open(inputStream, null, config);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a tokenizer over a byte stream, decoded with the configured charset. Compressed
+     * input is recognized by its magic bytes or, failing that, by {@code filename}. With
+     * {@link CsvReaderConfig#isReadAhead() readAhead} set, the stream is read on a separate
+     * thread (see {@link ReadAheadInputStream}).
+     *
+     * @param inputStream the CSV input stream
+     * @param filename    the name of the file the stream reads, or null if unknown
+     * @param config      reader configuration
+     * @return a new tokenizer; closing it closes the stream
+     * @throws IOException if the start of the stream cannot be read
+     */
+    public static CsvTokenizer open(InputStream inputStream, String filename, CsvReaderConfig config)
+            throws IOException {
+        InputStream content = CsvDecompression.decompress(readAhead(inputStream, config), filename, config);
+        if (bytes(config)) return new ByteCsvTokenizer(content, config);
+        return open(new InputStreamReader(content, config.getCharset()), config);
+    }
+
+    /**
+     * Opens a tokenizer over a memory-mapped local file. A compressed file is streamed
+     * through {@link CsvDecompression} instead of being mapped, as is any file when
+     * {@link CsvReaderConfig#isReadAhead() readAhead} is set.
+     *
+     * @param path   the CSV file
+     * @param config reader configuration
+     * @return a new tokenizer; closing it closes the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public static CsvTokenizer open(Path path, CsvReaderConfig config) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            if (config.isReadAhead() || CsvDecompression.compressionOf(channel, String.valueOf(path.getFileName()),
+                    config) != CsvReaderConfig.Compression.NONE) {
+                return open(Channels.newInputStream(channel), String.valueOf(path.getFileName()), config);
+            }
+            if (bytes(config)) {
+                return new ByteCsvTokenizer(new ChannelRangeInputStream(channel, 0, channel.size(), true), config);
+            }
+            return open(new MappedFileReader(channel, config.getCharset(), true), config);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a tokenizer over a memory-mapped file channel, from position zero to its current size.
+     * A compressed file, or any file when {@link CsvReaderConfig#isReadAhead() readAhead} is set,
+     * is streamed from position zero instead.
+     *
+     * @param channel the CSV file channel; it is <b>not</b> closed when the tokenizer is closed
+     * @param config  reader configuration
+     * @return a new tokenizer
+     * @throws IOException if the channel cannot be mapped
+     */
+    public static CsvTokenizer open(FileChannel channel, CsvReaderConfig config) throws IOException {
+        if (config.isReadAhead()
+                || CsvDecompression.compressionOf(channel, null, config) != CsvReaderConfig.Compression.NONE) {
+            InputStream content = new FilterInputStream(Channels.newInputStream(channel.position(0))) {
+                @Override
+                public void close() {
+                    // the caller owns the channel
+                }
+            };
+            return open(content, null, config);
+        }
+        if (bytes(config)) {
+            return new ByteCsvTokenizer(new ChannelRangeInputStream(channel, 0, channel.size(), false), config);
+        }
+        return open(new MappedFileReader(channel, config.getCharset(), false), config);
+    }
+
+    /**
+     * Opens a tokenizer over the byte range {@code [position, position + length)} of a file channel.
+     * The range must start on a record boundary, e.g. one computed by
+     * {@link dev.gmky.utils.csv.reader.CsvFileSplitter}.
+     *
+     * @param channel  the CSV file channel; it is <b>not</b> closed when the tokenizer is closed
+     * @param position offset of the first byte of the range
+     * @param length   length of the range, in bytes
+     * @param config   reader configuration
+     * @return a new tokenizer
+     * @throws IOException if the range cannot be mapped
+     */
+    public static CsvTokenizer open(FileChannel channel, long position, long length, CsvReaderConfig config)
+            throws IOException {
+        if (bytes(config)) {
+            return new ByteCsvTokenizer(new ChannelRangeInputStream(channel, position, length, false), config);
+        }
+        return open(new MappedFileReader(channel, config.getCharset(), position, length), config);
+    }
+
+    /**
+     * Whether {@code config} selects the {@link CsvReaderConfig.Engine#NATIVE_BYTES NATIVE_BYTES}
+     * engine for input it {@link ByteCsvTokenizer#supports(CsvReaderConfig) supports}.
+     */
+    private static boolean bytes(CsvReaderConfig config) {
+        return config.getEngine() == CsvReaderConfig.Engine.NATIVE_BYTES && ByteCsvTokenizer.supports(config);
+    }
+
+    /**
+     * Returns {@code in}, or a stream reading it ahead on a separate thread if
+     * {@link CsvReaderConfig#isReadAhead() readAhead} is set.
+     */
+    private static InputStream readAhead(InputStream in, CsvReaderConfig config) {
+        if (!config.isReadAhead()) return in;
+        return new ReadAheadInputStream(in, config.getReadAheadBufferSize(), config.getReadAheadBuffers(),
+                config.isReadAheadVirtualThread(), config.getReadAheadMetrics());
+    }
+
+    /**
+     * Opens a tokenizer over a character stream. The input is already decoded, so the
+     * {@link CsvReaderConfig.Engine#NATIVE_BYTES NATIVE_BYTES} engine reads it as {@code NATIVE}.
+     *
+     * @param reader the CSV character stream
+     * @param config reader configuration
+     * @return a new tokenizer; closing it closes the reader
+     */
+    public static CsvTokenizer open(Reader reader, CsvReaderConfig config) {
+        return switch (config.getEngine()) {
+            case NATIVE, NATIVE_BYTES -> new NativeCsvTokenizer(reader, config);
+            case OPENCSV -> new OpenCsvTokenizer(reader, config);
+        };
+    }
+}
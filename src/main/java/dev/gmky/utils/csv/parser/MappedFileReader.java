@@ -0,0 +1,163 @@
+package dev.gmky.utils.csv.parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * {@link Reader} that decodes a file through windowed {@link MappedByteBuffer} segments.
+ * <p>
+ * Bytes are decoded straight from the mapped pages into the caller's {@code char[]},
+ * so no heap byte buffer sits between the file and the tokenizer and the OS handles
+ * readahead. Multi-byte sequences that straddle a window boundary are handled by
+ * starting the next window at the first undecoded byte.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class MappedFileReader extends Reader {
+
+    /** Default size of each mapped window, in bytes. */
+    public static final int DEFAULT_WINDOW_SIZE = 32 * 1024 * 1024;
+
+    private static final int MIN_WINDOW_SIZE = 16;
+
+    private final FileChannel channel;
+    private final boolean closeChannel;
+    private final CharsetDecoder decoder;
+    private final long size;
+    private final long end;
+    private final int windowSize;
+
+    private final char[] pair = new char[2];
+    private MappedByteBuffer window;
+    private long windowStart;
+    private boolean eof;
+    private boolean closed;
+    private boolean hasLeftover; // low surrogate of a pair split by a one-char read
+    private char leftover;
+
+    /**
+     * Creates a reader over the whole channel using the default window size.
+     *
+     * @param channel      the file channel to map
+     * @param charset      charset used to decode the file
+     * @param closeChannel whether {@link #close()} also closes the channel
+     */
+    public MappedFileReader(FileChannel channel, Charset charset, boolean closeChannel) throws IOException {
+        this(channel, charset, closeChannel, DEFAULT_WINDOW_SIZE);
+    }
+
+    public MappedFileReader(FileChannel channel, Charset charset, boolean closeChannel, int windowSize)
+            throws IOException {
+        this(channel, charset, closeChannel, windowSize, 0, channel.size());
+    }
+
+    /**
+     * Creates a reader over the byte range {@code [position, position + length)} of the channel,
+     * which is left open. The range must start on a character boundary.
+     *
+     * @param channel  the file channel to map
+     * @param charset  charset used to decode the range
+     * @param position offset of the first byte to decode
+     * @param length   number of bytes to decode
+     */
+    public MappedFileReader(FileChannel channel, Charset charset, long position, long length) throws IOException {
+        this(channel, charset, false, DEFAULT_WINDOW_SIZE, position, length);
+    }
+
+    private MappedFileReader(FileChannel channel, Charset charset, boolean closeChannel, int windowSize,
+                             long position, long length) throws IOException {
+        if (windowSize < MIN_WINDOW_SIZE) {
+            throw new IllegalArgumentException("windowSize must be at least " + MIN_WINDOW_SIZE + " bytes");
+        }
+        this.channel = channel;
+        this.closeChannel = closeChannel;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        if (position < 0 || length < 0) {
+            throw new IllegalArgumentException("position and length must not be negative");
+        }
+        this.size = length;
+        this.end = position + length;
+        this.windowSize = windowSize;
+        this.eof = length == 0;
+        if (!eof) map(position);
+    }
+
+    /**
+     * Reads at least one char unless the end of input is reached. A one-char read of a
+     * supplementary code point returns its high surrogate and keeps the low one for the next
+     * read, as {@link java.io.InputStreamReader} does.
+     */
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (closed) throw new IOException("Reader closed");
+        if (len == 0) return 0;
+        if (hasLeftover) {
+            hasLeftover = false;
+            cbuf[off] = leftover;
+            return 1;
+        }
+        if (eof) return -1;
+        if (len > 1) return decode(cbuf, off, len);
+
+        int n = decode(pair, 0, 2);
+        if (n < 0) return -1;
+        cbuf[off] = pair[0];
+        if (n == 2) {
+            leftover = pair[1];
+            hasLeftover = true;
+        }
+        return 1;
+    }
+
+    /** Decodes into {@code cbuf}; with room for at least two chars, produces at least one unless at end of input. */
+    private int decode(char[] cbuf, int off, int len) throws IOException {
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        for (;;) {
+            boolean last = windowStart + window.limit() == end;
+            CoderResult result = decoder.decode(window, out, last);
+            if (result.isOverflow()) break;
+            if (result.isError()) result.throwException();
+            if (last) {
+                decoder.flush(out);
+                eof = true;
+                break;
+            }
+            // Window exhausted (possibly leaving a partial sequence): continue from the first undecoded byte
+            map(windowStart + window.position());
+        }
+        int produced = out.position() - off;
+        return produced == 0 && eof ? -1 : produced;
+    }
+
+    /**
+     * Returns the number of bytes this reader decodes: the file size, or the length of its range.
+     */
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        window = null;
+        if (closeChannel) channel.close();
+    }
+
+    private void map(long start) throws IOException {
+        long length = Math.min(windowSize, end - start);
+        this.window = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        this.windowStart = start;
+    }
+}
@@ -0,0 +1,499 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Built-in RFC 4180 tokenizer that scans a reusable {@code char[]} buffer.
+ * <p>
+ * Cells are recorded as offset/length pairs into the buffer and exposed through
+ * {@link #cell(int)} as {@link CharSlice} views, so no {@code String} is created
+ * unless a caller asks for one via {@link #get(int)}. Quoted cells containing
+ * doubled quotes or escape sequences are unescaped in place.
+ * </p>
+ * <p>
+ * Semantics follow the OpenCSV engine for well-formed input: configurable
+ * delimiter, quote and escape characters (the escape character escapes a following
+ * quote or escape character, inside or outside quotes), multiline quoted fields
+ * (with {@code \r\n} and {@code \r} normalized to {@code \n}), {@code \n},
+ * {@code \r\n} and {@code \r} record terminators, and optional trimming.
+ * A leading UTF byte order mark is stripped. Characters following a closing quote
+ * are appended to the cell as-is.
+ * </p>
+ * <p>
+ * With a {@link #project(int[]) projection}, cells of other columns are only scanned for
+ * their end: they are neither trimmed nor unescaped, and read back as raw text.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class NativeCsvTokenizer implements CsvTokenizer {
+
+    /** Default size of the read buffer, in chars. The buffer grows for records that do not fit. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final char BOM = '\uFEFF';
+    private static final char NO_ESCAPE = '\0';
+    private static final int RAW_PREVIEW_LENGTH = 200;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char quoteChar;
+    private final char escapeChar;
+    private final boolean escapeEnabled;
+    private final boolean trim;
+    private final CharSlice slice = new CharSlice();
+
+    private char[] buf;
+    private long discarded; // chars shifted out of the buffer so far
+    private int pos;
+    private int limit;
+    private int recordStart;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int cellCount;
+    private long recordCount;
+    private boolean eof;
+    private boolean pendingLf;
+    private boolean bomChecked;
+    private boolean[] projection; // null: every column is tokenized
+
+    public NativeCsvTokenizer(Reader reader, CsvReaderConfig config) {
+        this(reader, config, DEFAULT_BUFFER_SIZE);
+    }
+
+    public NativeCsvTokenizer(Reader reader, CsvReaderConfig config, int bufferSize) {
+        this(reader, config, bufferSize, 0);
+    }
+
+    /**
+     * Creates a tokenizer over a part of a larger input that starts at a record boundary,
+     * after {@code recordsBefore} records read by earlier tokenizers. Record numbers in
+     * parse errors continue from there, and a byte order mark is only stripped at the start
+     * of the input, when {@code recordsBefore} is 0.
+     */
+    public NativeCsvTokenizer(Reader reader, CsvReaderConfig config, int bufferSize, long recordsBefore) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be positive");
+        }
+        this.reader = reader;
+        this.delimiter = config.getDelimiter();
+        this.quoteChar = config.getQuoteChar();
+        this.escapeChar = config.getEscapeChar();
+        this.escapeEnabled = escapeChar != NO_ESCAPE && escapeChar != quoteChar;
+        this.trim = config.isTrimValues();
+        this.buf = new char[bufferSize];
+        this.recordCount = recordsBefore;
+        this.bomChecked = recordsBefore > 0;
+    }
+
+    // ---------------------------- CsvTokenizer -----------------------------------
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        cellCount = 0;
+        recordStart = pos;
+        if (!bomChecked) {
+            bomChecked = true;
+            if (ensure() && buf[pos] == BOM) recordStart = ++pos;
+        }
+        if (pendingLf) {
+            pendingLf = false;
+            if (ensure() && buf[pos] == '\n') recordStart = ++pos;
+        }
+        if (!ensure()) return false;
+
+        recordCount++;
+        while (parseCell()) {
+            // keep reading cells until the record terminator
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return cellCount;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        checkIndex(index);
+        return slice.set(buf, starts[index], ends[index] - starts[index]);
+    }
+
+    @Override
+    public String get(int index) {
+        checkIndex(index);
+        return new String(buf, starts[index], ends[index] - starts[index]);
+    }
+
+    @Override
+    public boolean isBlank(int index) {
+        checkIndex(index);
+        for (int i = starts[index], end = ends[index]; i < end; i++) {
+            if (!Character.isWhitespace(buf[i])) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public String rawRecord() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < cellCount; i++) {
+            if (i > 0) sb.append(delimiter);
+            sb.append(buf, starts[i], ends[i] - starts[i]);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void project(int[] columns) {
+        if (columns == null) {
+            projection = null;
+            return;
+        }
+        int max = -1;
+        for (int column : columns) max = Math.max(max, column);
+        boolean[] projected = new boolean[max + 1];
+        for (int column : columns) {
+            if (column >= 0) projected[column] = true;
+        }
+        projection = projected;
+    }
+
+    @Override
+    public long charOffset() {
+        return discarded + pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // ---------------------------- State machine -----------------------------------
+
+    /**
+     * Parses one cell starting at {@code pos}.
+     *
+     * @return true if a delimiter follows, i.e. the record has more cells
+     */
+    private boolean parseCell() throws IOException {
+        if (trim) {
+            // Skip leading whitespace so that a quote after it still opens a quoted cell
+            while (ensure()) {
+                char c = buf[pos];
+                if (c > ' ' || c == '\n' || c == '\r' || c == delimiter) break;
+                pos++;
+            }
+        }
+        if (!ensure()) {
+            addCell(pos, pos);
+            return false;
+        }
+        if (projection != null && (cellCount >= projection.length || !projection[cellCount])) {
+            return skipCell();
+        }
+        if (buf[pos] == quoteChar) {
+            int start = ++pos;
+            return parseQuoted(start);
+        }
+        return parseUnquoted(pos, pos);
+    }
+
+    /**
+     * Scans an unquoted cell (or the tail following a closing quote) whose content
+     * starts at {@code start} and has been written up to {@code w}.
+     */
+    private boolean parseUnquoted(int start, int w) throws IOException {
+        final char d = delimiter;
+        final char esc = escapeChar;
+        final boolean escOn = escapeEnabled;
+        for (;;) {
+            final char[] b = buf;
+            final int lim = limit;
+            final int p = pos;
+            int r = p;
+            if (escOn) {
+                while (r < lim) {
+                    char c = b[r];
+                    if (c == d || c == '\n' || c == '\r' || c == esc) break;
+                    r++;
+                }
+            } else {
+                while (r < lim) {
+                    char c = b[r];
+                    if (c == d || c == '\n' || c == '\r') break;
+                    r++;
+                }
+            }
+            if (w != p) System.arraycopy(b, p, b, w, r - p);
+            w += r - p;
+            pos = r;
+
+            if (r == lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos >= limit) {
+                    addCell(start, w);
+                    return false;
+                }
+                continue;
+            }
+
+            char c = b[r];
+            if (c == d) {
+                pos = r + 1;
+                addCell(start, w);
+                return true;
+            }
+            if (c == '\n' || c == '\r') {
+                pos = r + 1;
+                pendingLf = c == '\r';
+                addCell(start, w);
+                return false;
+            }
+
+            // Escape character: look at the next char
+            if (r + 1 >= lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos + 1 >= limit) {
+                    // Dangling escape at end of input is dropped
+                    pos = limit;
+                    addCell(start, w);
+                    return false;
+                }
+            }
+            char next = buf[pos + 1];
+            if (next == quoteChar || next == esc) {
+                buf[w++] = next;
+                pos += 2;
+            } else {
+                pos += 1;
+            }
+        }
+    }
+
+    /**
+     * Scans a quoted cell whose content starts at {@code start} (just past the opening quote).
+     */
+    private boolean parseQuoted(int start) throws IOException {
+        final char q = quoteChar;
+        final char esc = escapeEnabled ? escapeChar : quoteChar;
+        int w = start;
+        for (;;) {
+            final char[] b = buf;
+            final int lim = limit;
+            final int p = pos;
+            int r = p;
+            while (r < lim) {
+                char c = b[r];
+                if (c == q || c == esc || c == '\r') break;
+                r++;
+            }
+            if (w != p) System.arraycopy(b, p, b, w, r - p);
+            w += r - p;
+            pos = r;
+
+            if (r == lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos >= limit) throw unterminated();
+                continue;
+            }
+
+            char c = b[r];
+            if (c == '\r') {
+                // Normalize \r\n and lone \r inside quotes to \n
+                b[w++] = '\n';
+                pos = r + 1;
+                if (pos >= limit) {
+                    int shift = fill();
+                    start -= shift;
+                    w -= shift;
+                }
+                if (pos < limit && buf[pos] == '\n') pos++;
+                continue;
+            }
+
+            // Quote or escape: both need one char of lookahead
+            if (r + 1 >= lim) {
+                int shift = fill();
+                start -= shift;
+                w -= shift;
+                if (pos + 1 >= limit) {
+                    if (c != q) throw unterminated();
+                    pos++;
+                    addCell(start, w);
+                    return false;
+                }
+            }
+            char next = buf[pos + 1];
+            if (c == q) {
+                if (next == q) {
+                    buf[w++] = q;
+                    pos += 2;
+                    continue;
+                }
+                pos++;
+                return parseUnquoted(start, w);
+            }
+            if (next == q || next == esc) {
+                buf[w++] = next;
+                pos += 2;
+            } else {
+                pos += 1;
+            }
+        }
+    }
+
+    /**
+     * Scans past a cell outside the projection, starting at {@code pos}, and records its raw
+     * extent. Quotes are tracked only to find the true end of the cell; nothing is copied.
+     *
+     * @return true if a delimiter follows, i.e. the record has more cells
+     */
+    private boolean skipCell() throws IOException {
+        final char d = delimiter;
+        final char q = quoteChar;
+        final char esc = escapeEnabled ? escapeChar : quoteChar;
+        int start = pos;
+        boolean quoted = buf[pos] == q;
+        if (quoted) pos++;
+        for (;;) {
+            if (pos >= limit) {
+                start -= fill();
+                if (pos >= limit) {
+                    if (quoted) throw unterminated();
+                    addRawCell(start, pos);
+                    return false;
+                }
+            }
+            final char[] bb = buf;
+            final int lim = limit;
+            int r = pos;
+            if (quoted) {
+                while (r < lim && bb[r] != q && bb[r] != esc) r++;
+            } else {
+                while (r < lim) {
+                    char c = bb[r];
+                    if (c == d || c == '\n' || c == '\r') break;
+                    r++;
+                }
+            }
+            pos = r;
+            if (r == lim) continue;
+
+            char c = bb[r];
+            if (quoted) {
+                // Quote or escape: both need one char of lookahead
+                if (pos + 1 >= limit) {
+                    start -= fill();
+                    if (pos + 1 >= limit) {
+                        if (c != q) throw unterminated();
+                        pos++;
+                        quoted = false;
+                        continue;
+                    }
+                }
+                char next = buf[pos + 1];
+                if (c == q) {
+                    if (next == q) {
+                        pos += 2;
+                    } else {
+                        pos++;
+                        quoted = false;
+                    }
+                } else {
+                    pos += next == q || next == esc ? 2 : 1;
+                }
+                continue;
+            }
+            // Unquoted (or after the closing quote): an escape never hides a delimiter or line break
+            addRawCell(start, pos++);
+            if (c == d) return true;
+            pendingLf = c == '\r';
+            return false;
+        }
+    }
+
+    private void addCell(int start, int end) {
+        if (trim) {
+            while (start < end && buf[start] <= ' ') start++;
+            while (end > start && buf[end - 1] <= ' ') end--;
+        }
+        addRawCell(start, end);
+    }
+
+    private void addRawCell(int start, int end) {
+        if (cellCount == starts.length) {
+            starts = Arrays.copyOf(starts, cellCount << 1);
+            ends = Arrays.copyOf(ends, cellCount << 1);
+        }
+        starts[cellCount] = start;
+        ends[cellCount] = end;
+        cellCount++;
+    }
+
+    // ---------------------------- Buffer management -----------------------------------
+
+    private boolean ensure() throws IOException {
+        if (pos < limit) return true;
+        fill();
+        return pos < limit;
+    }
+
+    /**
+     * Discards everything before the current record, growing the buffer if fewer than two
+     * slots are then free, and reads more input.
+     *
+     * @return the number of positions buffer indexes were shifted left by
+     */
+    private int fill() throws IOException {
+        if (eof) return 0;
+        int shift = recordStart;
+        if (shift > 0) {
+            System.arraycopy(buf, shift, buf, 0, limit - shift);
+            discarded += shift;
+            limit -= shift;
+            pos -= shift;
+            recordStart = 0;
+            for (int i = 0; i < cellCount; i++) {
+                starts[i] -= shift;
+                ends[i] -= shift;
+            }
+        }
+        if (buf.length - limit < 2) {
+            // a reader may need room for both chars of a surrogate pair to make progress
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, 2));
+        }
+        int n = reader.read(buf, limit, buf.length - limit);
+        if (n < 0) {
+            eof = true;
+        } else {
+            limit += n;
+        }
+        return shift;
+    }
+
+    private CsvParsingException unterminated() {
+        int len = Math.min(limit - recordStart, RAW_PREVIEW_LENGTH);
+        return new CsvParsingException(recordCount, new String(buf, recordStart, len),
+                "Unterminated quoted field at end of input");
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= cellCount) {
+            throw new IndexOutOfBoundsException("Cell index " + index + " out of bounds for " + cellCount + " cells");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.gmky.utils.csv.parser;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * {@link CsvTokenizer} backed by OpenCSV's {@link CSVReader}.
+ * <p>
+ * This is the default engine. Every record is materialized as a {@code String[]}
+ * by OpenCSV; when {@code trimValues} is enabled, cells are trimmed as they are read,
+ * so cells that are never read are never copied.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class OpenCsvTokenizer extends ArrayRowView implements CsvTokenizer {
+
+    private final CSVReader csvReader;
+    private final boolean trim;
+    private final String delimiter;
+    private String[] raw;
+
+    public OpenCsvTokenizer(Reader reader, CsvReaderConfig config) {
+        super(null);
+        var parser = new CSVParserBuilder()
+                .withSeparator(config.getDelimiter())
+                .withQuoteChar(config.getQuoteChar())
+                .withEscapeChar(config.getEscapeChar())
+                .withIgnoreLeadingWhiteSpace(config.isTrimValues())
+                .build();
+        this.csvReader = new CSVReaderBuilder(reader)
+                .withCSVParser(parser)
+                .withSkipLines(0)
+                .build();
+        this.trim = config.isTrimValues();
+        this.delimiter = String.valueOf(config.getDelimiter());
+    }
+
+    @Override
+    public boolean nextRecord() throws IOException {
+        try {
+            raw = csvReader.readNext();
+        } catch (CsvValidationException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        reset(raw);
+        return raw != null;
+    }
+
+    @Override
+    public CharSequence cell(int index) {
+        return get(index);
+    }
+
+    @Override
+    public String get(int index) {
+        String value = super.get(index);
+        return trim && value != null ? value.trim() : value;
+    }
+
+    @Override
+    public String[] toArray() {
+        if (!trim || raw == null) return raw;
+        String[] trimmed = new String[raw.length];
+        for (int i = 0; i < raw.length; i++) {
+            trimmed[i] = get(i);
+        }
+        return trimmed;
+    }
+
+    @Override
+    public String rawRecord() {
+        return raw != null ? String.join(delimiter, raw) : "";
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+}
@@ -0,0 +1,176 @@
+package dev.gmky.utils.csv.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * {@link InputStream} that inflates the members of a multi-member gzip file in parallel.
+ * <p>
+ * A member can only be handed to another thread once its compressed length is known
+ * without inflating it, which gzip itself does not record. Members written in the BGZF
+ * layout (bgzip, htslib, many log shippers) carry that length in a {@code BC} extra
+ * subfield, so they are read one after another on the consumer's thread and inflated
+ * concurrently on the executor, up to {@code window} members ahead; their output is
+ * returned in file order, and each member's CRC and size are checked. From the first
+ * member without a {@code BC} subfield on, the rest of the file is inflated sequentially
+ * with {@link GZIPInputStream}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class ParallelGzipInputStream extends InputStream {
+
+    private static final int BGZF_HEADER = 18;
+    private static final int TRAILER = 8;
+    private static final int FLAG_EXTRA = 4;
+    private static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    private final InputStream source;
+    private final Executor executor;
+    private final int window;
+    private final ArrayDeque<CompletableFuture<byte[]>> inFlight = new ArrayDeque<>();
+    private InputStream sequential; // non-BGZF remainder, read after inFlight drains
+    private boolean sourceDone;
+    private byte[] current = new byte[0];
+    private int position;
+
+    ParallelGzipInputStream(InputStream source, Executor executor, int window) {
+        this.source = Objects.requireNonNull(source, "source");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.window = Math.max(1, window);
+    }
+
+    /** Returns whether {@code head} starts with a gzip member header carrying a BGZF block size. */
+    static boolean isBgzf(byte[] head, int length) {
+        return length >= BGZF_HEADER
+                && (head[0] & 0xFF) == 0x1F && (head[1] & 0xFF) == 0x8B && head[2] == 8
+                && head[3] == FLAG_EXTRA && littleEndian(head, 10, 2) == 6
+                && head[12] == 'B' && head[13] == 'C' && littleEndian(head, 14, 2) == 2;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        return read(one, 0, 1) < 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+        while (position == current.length) {
+            submitMembers();
+            if (inFlight.isEmpty()) {
+                return sequential != null ? sequential.read(b, off, len) : -1;
+            }
+            current = await(inFlight.poll());
+            position = 0;
+        }
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    private void submitMembers() throws IOException {
+        while (!sourceDone && inFlight.size() < window) {
+            byte[] member = readMember();
+            if (member == null) {
+                sourceDone = true;
+            } else {
+                inFlight.add(CompletableFuture.supplyAsync(() -> inflate(member), executor));
+            }
+        }
+    }
+
+    /**
+     * Reads the next whole BGZF member, or returns null at end of input or at the first
+     * member without a block size, in which case {@link #sequential} takes over.
+     */
+    private byte[] readMember() throws IOException {
+        byte[] header = source.readNBytes(BGZF_HEADER);
+        if (header.length == 0) return null;
+        if (!isBgzf(header, header.length)) {
+            sequential = new GZIPInputStream(new SequenceInputStream(new ByteArrayInputStream(header), source));
+            return null;
+        }
+        int size = littleEndian(header, 16, 2) + 1;
+        if (size < BGZF_HEADER + TRAILER) throw new ZipException("Invalid BGZF block size " + size);
+        byte[] member = Arrays.copyOf(header, size);
+        if (source.readNBytes(member, BGZF_HEADER, size - BGZF_HEADER) != size - BGZF_HEADER) {
+            throw new ZipException("Unexpected end of gzip member");
+        }
+        return member;
+    }
+
+    private static byte[] inflate(byte[] member) {
+        int crc = littleEndian(member, member.length - TRAILER, 4);
+        int size = littleEndian(member, member.length - 4, 4);
+        if (size < 0 || size > MAX_BLOCK_SIZE) throw corrupt("uncompressed size " + Integer.toUnsignedString(size));
+        byte[] out = new byte[size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(member, BGZF_HEADER, member.length - BGZF_HEADER - TRAILER);
+            byte[] overflow = new byte[1];
+            int n = 0;
+            while (!inflater.finished()) {
+                int inflated = n < size ? inflater.inflate(out, n, size - n) : inflater.inflate(overflow);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                n += inflated;
+            }
+            if (n != size || !inflater.finished()) throw corrupt("size mismatch");
+            CRC32 check = new CRC32();
+            check.update(out);
+            if ((int) check.getValue() != crc) throw corrupt("CRC mismatch");
+            return out;
+        } catch (DataFormatException e) {
+            throw corrupt(e.getMessage());
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static UncheckedIOException corrupt(String detail) {
+        return new UncheckedIOException(new ZipException("Corrupt gzip member: " + detail));
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> member) throws IOException {
+        try {
+            return member.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            throw e;
+        }
+    }
+
+    private static int littleEndian(byte[] bytes, int offset, int length) {
+        int value = 0;
+        for (int i = length - 1; i >= 0; i--) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inFlight.forEach(member -> member.cancel(false));
+        inFlight.clear();
+        if (sequential != null) sequential.close();
+        source.close();
+    }
+}
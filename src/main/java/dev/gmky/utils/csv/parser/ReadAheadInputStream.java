@@ -0,0 +1,167 @@
+package dev.gmky.utils.csv.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link InputStream} that reads its source on a dedicated daemon or virtual thread.
+ * <p>
+ * The thread fills a fixed ring of byte buffers and hands them over in order; the reader
+ * drains each buffer and returns it to the ring. Work done by the source, such as
+ * decompression, therefore overlaps with whatever consumes this stream, and at most
+ * {@code buffers * bufferSize} bytes are held ahead of the consumer. Errors raised by the
+ * source are rethrown from {@link #read} once the data before them has been consumed.
+ * The source is closed by the read-ahead thread when it reaches the end of the input or
+ * when this stream is closed. Waits on either side are counted in an optional
+ * {@link CsvReadAheadMetrics}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class ReadAheadInputStream extends InputStream {
+
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    static final int DEFAULT_BUFFERS = 4;
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+    private static final Chunk END = new Chunk(null, 0, null);
+
+    private final InputStream source;
+    private final CsvReadAheadMetrics metrics; // may be null
+    private final BlockingQueue<byte[]> free;
+    private final BlockingQueue<Chunk> filled = new LinkedBlockingQueue<>();
+    private Chunk current;
+    private int position;
+    private volatile boolean closed;
+
+    ReadAheadInputStream(InputStream source) {
+        this(source, DEFAULT_BUFFER_SIZE, DEFAULT_BUFFERS);
+    }
+
+    ReadAheadInputStream(InputStream source, int bufferSize, int buffers) {
+        this(source, bufferSize, buffers, false, null);
+    }
+
+    /**
+     * @param virtualThread true to read on a virtual thread rather than a platform daemon thread
+     * @param metrics       counters to update, or null
+     */
+    ReadAheadInputStream(InputStream source, int bufferSize, int buffers, boolean virtualThread,
+                         CsvReadAheadMetrics metrics) {
+        if (bufferSize < 1 || buffers < 2) {
+            throw new IllegalArgumentException("Need a positive bufferSize and at least 2 buffers");
+        }
+        this.source = Objects.requireNonNull(source, "source");
+        this.metrics = metrics;
+        this.free = new ArrayBlockingQueue<>(buffers);
+        for (int i = 0; i < buffers; i++) {
+            free.add(new byte[bufferSize]);
+        }
+        Thread.Builder thread = virtualThread ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        thread.name("csv-read-ahead-" + THREAD_ID.incrementAndGet()).start(this::fill);
+    }
+
+    private void fill() {
+        try (source) {
+            for (;;) {
+                byte[] buffer = free.poll();
+                if (buffer == null) {
+                    long waitStart = System.nanoTime();
+                    buffer = free.take();
+                    if (metrics != null) metrics.recordIoStall(System.nanoTime() - waitStart);
+                }
+                if (closed) return;
+                int n = source.readNBytes(buffer, 0, buffer.length);
+                if (n > 0 && metrics != null) metrics.recordFill(n);
+                if (n > 0) filled.add(new Chunk(buffer, n, null));
+                if (n < buffer.length) {
+                    filled.add(END);
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            if (!closed) filled.add(new Chunk(null, 0, e));
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureData()) return -1;
+        return current.data[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) return 0;
+        if (!ensureData()) return -1;
+        int n = Math.min(len, current.length - position);
+        System.arraycopy(current.data, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return current == null || current == END ? 0 : current.length - position;
+    }
+
+    /** Makes {@link #current} a chunk with unread bytes; returns false at end of input. */
+    private boolean ensureData() throws IOException {
+        if (closed) throw new IOException("Stream closed");
+        while (current == null || position == current.length) {
+            if (current == END) return false;
+            if (current != null) {
+                free.add(current.data);
+                current = null;
+            }
+            try {
+                current = filled.poll();
+                if (current == null) {
+                    long waitStart = System.nanoTime();
+                    current = filled.take();
+                    if (metrics != null) metrics.recordParserStall(System.nanoTime() - waitStart);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for input");
+            }
+            position = 0;
+            if (current.error != null) {
+                Exception error = current.error;
+                current = END;
+                if (error instanceof IOException io) throw new IOException(io.getMessage(), io);
+                throw (RuntimeException) error;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops the read-ahead thread, which closes the source once its current read returns.
+     * The thread is not interrupted, as that would close an interruptible channel the
+     * source may read from.
+     */
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        if (current != null && current.data != null) free.add(current.data);
+        current = END;
+        for (Chunk chunk; (chunk = filled.poll()) != null; ) {
+            if (chunk.data != null) free.add(chunk.data);
+        }
+    }
+
+    private record Chunk(byte[] data, int length, Exception error) {
+    }
+}
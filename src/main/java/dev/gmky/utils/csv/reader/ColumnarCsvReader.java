@@ -0,0 +1,405 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.config.CsvReaderConfig.ErrorStrategy;
+import dev.gmky.utils.csv.converter.CharSequences;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.model.CsvColumnType;
+import dev.gmky.utils.csv.model.CsvReadResult;
+import dev.gmky.utils.csv.model.CsvSchema;
+import dev.gmky.utils.csv.parser.CsvRowBatch;
+import dev.gmky.utils.csv.parser.CsvRowView;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.parser.CsvTokenizers;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Reads CSV files without a DTO class into {@link CsvColumnBatch}es of primitive arrays.
+ * <p>
+ * When no {@link CsvSchema} is given, the first {@link CsvReaderConfig#getSchemaSampleRows()
+ * schemaSampleRows} data rows are buffered and every column gets the narrowest type all of
+ * its non-blank sampled values fit, in the order {@code BOOLEAN}, {@code INT}, {@code LONG},
+ * {@code DECIMAL}, {@code DATE} (ISO {@code yyyy-MM-dd}), falling back to {@code STRING}.
+ * Numbers with a leading zero such as {@code 007} are kept as text, since they are usually
+ * codes. The sampled rows are then read like the rest of the file. Records rejected by the
+ * configured {@link CsvReaderConfig#getRowFilter() rowFilter} are neither sampled nor read.
+ * </p>
+ * <p>
+ * Rows are parsed straight from the tokenizer's cell slices into a batch of
+ * {@link CsvReaderConfig#getBatchSize() batchSize} rows, which is handed to the consumer when
+ * full and then reused, so a file of any length is aggregated without an object per row.
+ * A row whose cell does not fit its column's type (for example a value past the sample that
+ * does not fit the inferred type) follows the {@link ErrorStrategy} like a mapping error:
+ * {@code FAIL_FAST} throws a {@link CsvParsingException}, the skip strategies drop the row,
+ * and reaching {@code maxErrors} stops the read early.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * ColumnarCsvReader reader = ColumnarCsvReader.create();
+ * CsvSchema schema = reader.inferSchema(path);
+ * int amount = schema.indexOf("amount");
+ * double[] total = {0};
+ * reader.read(path, schema, batch -> {
+ *     double[] values = batch.doubles(amount);
+ *     for (int row = 0; row < batch.size(); row++) total[0] += values[row];
+ * });
+ * }</pre>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@Slf4j
+public class ColumnarCsvReader {
+
+    private final CsvReaderConfig config;
+
+    private ColumnarCsvReader(CsvReaderConfig config) {
+        this.config = config;
+    }
+
+    /** Creates a reader with the default config. */
+    public static ColumnarCsvReader create() {
+        return create(CsvReaderConfig.defaultConfig());
+    }
+
+    /** Creates a reader with explicit config. */
+    public static ColumnarCsvReader create(CsvReaderConfig config) {
+        return new ColumnarCsvReader(Objects.requireNonNull(config, "config"));
+    }
+
+    /**
+     * Infers the schema of a CSV stream from its header and first rows. The stream is closed.
+     */
+    public CsvSchema inferSchema(InputStream inputStream) {
+        return inferSchema(() -> CsvTokenizers.open(inputStream, config));
+    }
+
+    /**
+     * Infers the schema of a CSV file from its header and first rows.
+     */
+    public CsvSchema inferSchema(Path path) {
+        return inferSchema(() -> CsvTokenizers.open(path, config));
+    }
+
+    /**
+     * Reads a CSV stream, inferring its schema from the first rows. The stream is closed.
+     *
+     * @param batchConsumer receives each filled batch; the batch is reused after it returns
+     * @return counts and errors; {@code successRecords} is always empty
+     */
+    public CsvReadResult<CsvColumnBatch> read(InputStream inputStream, Consumer<CsvColumnBatch> batchConsumer) {
+        return read(() -> CsvTokenizers.open(inputStream, config), null, batchConsumer);
+    }
+
+    /**
+     * Reads a CSV stream with a known schema. The stream is closed.
+     *
+     * @param batchConsumer receives each filled batch; the batch is reused after it returns
+     * @return counts and errors; {@code successRecords} is always empty
+     */
+    public CsvReadResult<CsvColumnBatch> read(InputStream inputStream, CsvSchema schema,
+                                              Consumer<CsvColumnBatch> batchConsumer) {
+        return read(() -> CsvTokenizers.open(inputStream, config), Objects.requireNonNull(schema, "schema"),
+                batchConsumer);
+    }
+
+    /**
+     * Reads a CSV file, inferring its schema from the first rows.
+     *
+     * @param batchConsumer receives each filled batch; the batch is reused after it returns
+     * @return counts and errors; {@code successRecords} is always empty
+     */
+    public CsvReadResult<CsvColumnBatch> read(Path path, Consumer<CsvColumnBatch> batchConsumer) {
+        return read(() -> CsvTokenizers.open(path, config), null, batchConsumer);
+    }
+
+    /**
+     * Reads a CSV file with a known schema.
+     *
+     * @param batchConsumer receives each filled batch; the batch is reused after it returns
+     * @return counts and errors; {@code successRecords} is always empty
+     */
+    public CsvReadResult<CsvColumnBatch> read(Path path, CsvSchema schema, Consumer<CsvColumnBatch> batchConsumer) {
+        return read(() -> CsvTokenizers.open(path, config), Objects.requireNonNull(schema, "schema"), batchConsumer);
+    }
+
+    private interface TokenizerSource {
+        CsvTokenizer open() throws IOException;
+    }
+
+    private CsvSchema inferSchema(TokenizerSource source) {
+        try (CsvTokenizer tokenizer = source.open()) {
+            Sample sample = sample(tokenizer, config.getSchemaSampleRows(), new CsvRowGate(config));
+            return infer(sample.headers, sample.rows);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+    }
+
+    private CsvReadResult<CsvColumnBatch> read(TokenizerSource source, CsvSchema schema,
+                                               Consumer<CsvColumnBatch> batchConsumer) {
+        Objects.requireNonNull(batchConsumer, "batchConsumer");
+        Instant start = Instant.now();
+        CsvErrorCollector errors = new CsvErrorCollector(config);
+        CsvRowGate gate = new CsvRowGate(config);
+        long totalRows;
+        long successCount;
+
+        try (errors; CsvTokenizer tokenizer = source.open()) {
+            Sample sample = sample(tokenizer, schema == null ? config.getSchemaSampleRows() : 0, gate);
+            CsvSchema resolved = schema != null ? schema : infer(sample.headers, sample.rows);
+            Session session = new Session(resolved, errors, batchConsumer);
+
+            totalRows = sample.totalRows;
+            boolean stopped = false;
+            CsvRowBatch.Cursor cursor = sample.rows.cursor();
+            for (int r = 0; r < sample.rows.size() && !stopped; r++) {
+                stopped = !session.accept(cursor.moveTo(r), sample.rows.lineNumber(r), sample.rows, r);
+            }
+            long lineNumber = sample.lineNumber;
+            while (!stopped && tokenizer.nextRecord()) {
+                lineNumber++;
+                totalRows++;
+                if (gate.test(tokenizer)) continue;
+                stopped = !session.accept(tokenizer, lineNumber, null, -1);
+            }
+            session.finish();
+            successCount = session.successCount;
+
+        } catch (CsvParsingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+
+        Duration elapsed = Duration.between(start, Instant.now());
+        return new CsvReadResult<>(List.of(), errors.errors(), totalRows, successCount, errors.count(), elapsed,
+                errors.spillFile(), gate.filtered());
+    }
+
+    /**
+     * Reads the header, if configured, binds {@code gate} to it and buffers up to {@code maxRows}
+     * data rows the gate lets through.
+     */
+    private Sample sample(CsvTokenizer tokenizer, int maxRows, CsvRowGate gate) throws IOException {
+        long lineNumber = 0;
+        String[] headers = null;
+        if (config.isHasHeader() && tokenizer.nextRecord()) {
+            lineNumber++;
+            headers = tokenizer.toArray();
+        }
+        gate.bind(headers);
+        CsvRowBatch rows = new CsvRowBatch(Math.min(Math.max(maxRows, 1), 1024));
+        long totalRows = 0;
+        while (rows.size() < maxRows && tokenizer.nextRecord()) {
+            lineNumber++;
+            totalRows++;
+            if (!gate.test(tokenizer)) rows.add(tokenizer, lineNumber);
+        }
+        return new Sample(headers, rows, lineNumber, totalRows);
+    }
+
+    /**
+     * Gives every column the narrowest type that all of its non-blank sampled values fit.
+     */
+    static CsvSchema infer(String[] headers, CsvRowBatch rows) {
+        int width = headers != null ? headers.length : 0;
+        CsvRowBatch.Cursor cursor = rows.cursor();
+        for (int r = 0; r < rows.size(); r++) {
+            width = Math.max(width, cursor.moveTo(r).size());
+        }
+        ColumnGuess[] guesses = new ColumnGuess[width];
+        for (int c = 0; c < width; c++) guesses[c] = new ColumnGuess();
+        for (int r = 0; r < rows.size(); r++) {
+            cursor.moveTo(r);
+            for (int c = 0; c < cursor.size(); c++) {
+                if (!cursor.isBlank(c)) guesses[c].observe(cursor.cell(c));
+            }
+        }
+        List<CsvSchema.Column> columns = new ArrayList<>(width);
+        for (int c = 0; c < width; c++) {
+            String name = headers != null && c < headers.length && headers[c] != null && !headers[c].isBlank()
+                    ? headers[c].trim() : "column" + c;
+            columns.add(new CsvSchema.Column(name, guesses[c].type()));
+        }
+        return new CsvSchema(columns);
+    }
+
+    private boolean maxErrorsReached(CsvErrorCollector errors, long lineNumber) {
+        if (config.getMaxErrors() >= 0 && errors.count() >= config.getMaxErrors()) {
+            log.warn("Max errors ({}) reached. Stopping early at line {}.",
+                    config.getMaxErrors(), lineNumber);
+            return true;
+        }
+        return false;
+    }
+
+    private void handleError(CsvErrorCollector errors, long line, String rawLine, Exception e) {
+        String raw = errors.truncate(rawLine);
+        ErrorStrategy strategy = config.getErrorStrategy();
+        if (strategy == ErrorStrategy.FAIL_FAST) {
+            throw new CsvParsingException(line, raw, e.getMessage(), e);
+        }
+        if (strategy == ErrorStrategy.SKIP_AND_LOG) {
+            errors.add(line, raw, e.getMessage(), e);
+        }
+        // SKIP_SILENT: do nothing
+    }
+
+    /** Header and buffered first rows of a file, with the counts of what was read. */
+    private record Sample(String[] headers, CsvRowBatch rows, long lineNumber, long totalRows) {
+    }
+
+    /**
+     * Fills the batch of one read and hands it to the consumer whenever it is full.
+     */
+    private final class Session {
+
+        private final CsvColumnBatch batch;
+        private final CsvErrorCollector errors;
+        private final Consumer<CsvColumnBatch> consumer;
+        private long successCount;
+
+        Session(CsvSchema schema, CsvErrorCollector errors, Consumer<CsvColumnBatch> consumer) {
+            this.batch = new CsvColumnBatch(schema, Math.max(config.getBatchSize(), 1), config.isStacklessErrors());
+            this.errors = errors;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Adds a row, or handles its error.
+         *
+         * @param sampled the sample holding the row, or null if {@code row} is the tokenizer
+         * @return false if {@code maxErrors} was reached and reading must stop
+         */
+        boolean accept(CsvRowView row, long lineNumber, CsvRowBatch sampled, int sampledRow) {
+            if (maxErrorsReached(errors, lineNumber)) return false;
+            try {
+                batch.append(row, lineNumber);
+            } catch (RuntimeException e) {
+                String raw = sampled != null ? sampled.rawRecord(sampledRow, config.getDelimiter())
+                        : ((CsvTokenizer) row).rawRecord();
+                handleError(errors, lineNumber, raw, e);
+                return true;
+            }
+            successCount++;
+            if (batch.isFull()) {
+                consumer.accept(batch);
+                batch.clear();
+            }
+            return true;
+        }
+
+        void finish() {
+            if (batch.size() > 0) consumer.accept(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Tracks which types every sampled value of one column fits.
+     */
+    private static final class ColumnGuess {
+
+        private boolean seen;
+        private boolean bool = true;
+        private boolean integral = true;
+        private boolean fitsInt = true;
+        private boolean decimal = true;
+        private boolean date = true;
+
+        void observe(CharSequence cell) {
+            seen = true;
+            int start = CharSequences.trimStart(cell);
+            int end = CharSequences.trimEnd(cell, start);
+            if (bool) bool = isBoolean(cell);
+            if (decimal) decimal = isPlainNumber(cell, start, end, true);
+            if (integral) {
+                integral = isPlainNumber(cell, start, end, false);
+                if (integral) observeIntegral(cell);
+            }
+            if (date) date = isDate(cell, start, end);
+        }
+
+        CsvColumnType type() {
+            if (!seen) return CsvColumnType.STRING;
+            if (bool) return CsvColumnType.BOOLEAN;
+            if (integral) return fitsInt ? CsvColumnType.INT : CsvColumnType.LONG;
+            if (decimal) return CsvColumnType.DECIMAL;
+            if (date) return CsvColumnType.DATE;
+            return CsvColumnType.STRING;
+        }
+
+        private void observeIntegral(CharSequence cell) {
+            try {
+                long value = Long.parseLong(cell.toString().trim());
+                if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) fitsInt = false;
+            } catch (NumberFormatException e) {
+                integral = false; // beyond the range of long
+            }
+        }
+
+        private static boolean isBoolean(CharSequence cell) {
+            try {
+                CsvColumnBatch.parseBoolean(cell);
+                return true;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+
+        private static boolean isDate(CharSequence cell, int start, int end) {
+            if (end - start != 10 || cell.charAt(start + 4) != '-' || cell.charAt(start + 7) != '-') return false;
+            try {
+                CsvColumnBatch.parseDate(cell);
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Matches {@code [+-]?digits} or, if {@code fraction}, also {@code [+-]?digits?(.digits?)?([eE][+-]?digits)?}
+         * with at least one mantissa digit. A leading zero followed by another digit does not match.
+         */
+        private static boolean isPlainNumber(CharSequence cell, int start, int end, boolean fraction) {
+            int i = start;
+            if (i < end && (cell.charAt(i) == '+' || cell.charAt(i) == '-')) i++;
+            int intStart = i;
+            while (i < end && isDigit(cell.charAt(i))) i++;
+            int intDigits = i - intStart;
+            if (intDigits > 1 && cell.charAt(intStart) == '0') return false;
+            if (!fraction) return intDigits > 0 && i == end;
+            int fracDigits = 0;
+            if (i < end && cell.charAt(i) == '.') {
+                int fracStart = ++i;
+                while (i < end && isDigit(cell.charAt(i))) i++;
+                fracDigits = i - fracStart;
+            }
+            if (intDigits + fracDigits == 0) return false;
+            if (i < end && (cell.charAt(i) == 'e' || cell.charAt(i) == 'E')) {
+                i++;
+                if (i < end && (cell.charAt(i) == '+' || cell.charAt(i) == '-')) i++;
+                int expStart = i;
+                while (i < end && isDigit(cell.charAt(i))) i++;
+                if (i == expStart) return false;
+            }
+            return i == end;
+        }
+
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
@@ -1,23 +1,32 @@
 package dev.gmky.utils.csv.reader;
 
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
 import dev.gmky.utils.csv.config.CsvReaderConfig;
 import dev.gmky.utils.csv.exception.CsvParsingException;
 import dev.gmky.utils.csv.mapper.AnnotationCsvRowMapper;
 import dev.gmky.utils.csv.mapper.CsvRowMapper;
+import dev.gmky.utils.csv.parser.CsvDecompression;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.parser.CsvTokenizers;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
 import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.ClassUtils;
 
-import java.io.InputStreamReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Spring Batch {@code ItemReader} that reads and maps CSV rows to DTOs using
- * {@link AnnotationCsvRowMapper} backed by OpenCSV.
+ * {@link AnnotationCsvRowMapper}, tokenized by the engine selected in {@link CsvReaderConfig}.
  * <p>
  * Respects the Spring Batch {@code open/read/close} lifecycle and integrates
  * with {@link dev.gmky.utils.batch.config.BatchJobFactory#createStep}.
@@ -28,6 +37,20 @@ import java.io.InputStreamReader;
  * CsvBatchReader<UserDto> reader = new CsvBatchReader<>(UserDto.class, resource);
  * Step step = batchJobFactory.createStep("importUsers", reader, processor, writer, batchConfig);
  * }</pre>
+ * <p>
+ * Readers created from a {@link Path} memory-map the file instead of streaming it.
+ * </p>
+ * <h3>Restart:</h3>
+ * <p>
+ * With the {@link CsvReaderConfig.Engine#NATIVE NATIVE} or
+ * {@link CsvReaderConfig.Engine#NATIVE_BYTES NATIVE_BYTES} engine, a local file and a charset
+ * supported by {@link CsvFileSplitter#supports(CsvReaderConfig)}, every {@link #update} also
+ * stores the byte offset and line number just past the last record read, with the file's
+ * size and last-modified time. On restart the reader checks that the file still has that
+ * size and time and that the offset still falls on a record boundary, and resumes tokenizing
+ * there instead of re-reading and re-mapping every row before it. In any other setup, or if
+ * a check fails, it falls back to skipping the saved number of items one by one.
+ * </p>
  *
  * @param <T> the target DTO type
  * @author HiepVH
@@ -39,12 +62,36 @@ public class CsvBatchReader<T> extends AbstractItemCountingItemStreamItemReader<
     @NonNull private final Class<T> targetType;
     @NonNull private final Resource resource;
     @NonNull private final CsvReaderConfig config;
+    private final Path path; // non-null = memory-mapped local file
+    private final CsvFileSplitter.Range headerRange; // header of a range reader, null if none
+    private final CsvFileSplitter.Range range;       // non-null = reads only this byte range of path
+
+    private static final String BYTE_OFFSET = "byte.offset";
+    private static final String LINE_NUMBER = "line.number";
+    private static final String OFFSET_READ_COUNT = "byte.offset.read.count";
+    private static final String FILE_SIZE = "file.size";
+    private static final String FILE_MODIFIED = "file.last.modified";
+    private static final int SCAN_BLOCK_SIZE = 64 * 1024;
 
-    private CSVReader csvReader;
+    private CsvTokenizer tokenizer;
     private CsvRowMapper<T> mapper;
+    private CsvRowGate gate;
     private String[] headers;
     private long lineNumber;
 
+    // Byte offset checkpointing
+    private Path file;                  // local file behind the resource, null if offsets are not tracked
+    private boolean utf8;
+    private FileChannel channel;        // tokenizer channel after a restart, and for offset scans
+    private ByteBuffer scanBuffer;
+    private long checkpointChars;       // tokenizer char offset whose byte offset is known
+    private long checkpointBytes;
+    private long restartOffset = -1;
+    private long restartLine;
+    private int restartReadCount;
+    private long restartFileSize;
+    private long restartFileModified;
+
     /**
      * Creates a reader with default config (reads from {@code @CsvRecord} annotation or defaults).
      */
@@ -56,9 +103,48 @@ public class CsvBatchReader<T> extends AbstractItemCountingItemStreamItemReader<
      * Creates a reader with explicit config.
      */
     public CsvBatchReader(Class<T> targetType, Resource resource, CsvReaderConfig config) {
+        this(targetType, resource, config, null);
+    }
+
+    /**
+     * Creates a reader that memory-maps a local file, with default config.
+     */
+    public CsvBatchReader(Class<T> targetType, Path path) {
+        this(targetType, path, OpenCsvStreamingReader.resolveConfigPublic(targetType));
+    }
+
+    /**
+     * Creates a reader that memory-maps a local file, with explicit config.
+     */
+    public CsvBatchReader(Class<T> targetType, Path path, CsvReaderConfig config) {
+        this(targetType, new FileSystemResource(path), config, path);
+    }
+
+    /**
+     * Creates a reader over one byte range of a local file, as computed by {@link CsvFileSplitter}
+     * (see {@link CsvRangePartitioner}). Headers are read from {@code header}; line numbers are
+     * absolute, counted from {@link CsvFileSplitter.Range#firstLineNumber()}.
+     *
+     * @param header the header range, or null if the file has no header
+     * @param range  the data range to read; it must start on a record boundary
+     */
+    public CsvBatchReader(Class<T> targetType, Path path, CsvReaderConfig config,
+                          CsvFileSplitter.Range header, CsvFileSplitter.Range range) {
+        this(targetType, new FileSystemResource(path), config, path, header, range);
+    }
+
+    private CsvBatchReader(Class<T> targetType, Resource resource, CsvReaderConfig config, Path path) {
+        this(targetType, resource, config, path, null, null);
+    }
+
+    private CsvBatchReader(Class<T> targetType, Resource resource, CsvReaderConfig config, Path path,
+                           CsvFileSplitter.Range headerRange, CsvFileSplitter.Range range) {
         this.targetType = targetType;
         this.resource = resource;
         this.config = config;
+        this.path = path;
+        this.headerRange = headerRange;
+        this.range = range;
         setName(ClassUtils.getShortName(getClass()) + "[" + targetType.getSimpleName() + "]");
     }
 
@@ -66,37 +152,103 @@ public class CsvBatchReader<T> extends AbstractItemCountingItemStreamItemReader<
     protected void doOpen() throws Exception {
         log.debug("Opening CsvBatchReader for type {} on resource {}",
                 targetType.getSimpleName(), resource.getFilename());
-        var parser = new CSVParserBuilder()
-                .withSeparator(config.getDelimiter())
-                .withQuoteChar(config.getQuoteChar())
-                .withEscapeChar(config.getEscapeChar())
-                .withIgnoreLeadingWhiteSpace(config.isTrimValues())
-                .build();
-        this.csvReader = new CSVReaderBuilder(
-                new InputStreamReader(resource.getInputStream(), config.getCharset()))
-                .withCSVParser(parser)
-                .build();
-
-        if (config.isHasHeader()) {
-            this.headers = csvReader.readNext();
-            log.debug("CSV headers: {}", (Object) headers);
+        if (range != null) {
+            openRange();
+        } else {
+            this.tokenizer = path != null
+                    ? CsvTokenizers.open(path, config)
+                    : CsvTokenizers.open(resource.getInputStream(), resource.getFilename(), config);
+            if (config.isHasHeader()) {
+                this.headers = tokenizer.nextRecord() ? tokenizer.toArray() : null;
+            }
+            this.lineNumber = config.isHasHeader() ? 1 : 0;
+        }
+        log.debug("CSV headers: {}", (Object) headers);
+        this.mapper = CsvRowMapper.forConfig(targetType, headers, config);
+        this.gate = new CsvRowGate(config).bind(headers);
+        if (config.isProjection()) tokenizer.project(gate.projection(mapper.boundColumns()));
+        this.file = config.getEngine() != CsvReaderConfig.Engine.OPENCSV && CsvFileSplitter.supports(config)
+                ? uncompressedLocalFile() : null;
+        this.utf8 = StandardCharsets.UTF_8.equals(config.getCharset());
+        this.checkpointChars = 0;
+        this.checkpointBytes = range != null ? range.start() : 0;
+    }
+
+    private void openRange() throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.headers = null;
+        if (headerRange != null) {
+            try (CsvTokenizer header = CsvTokenizers.open(channel, headerRange.start(), headerRange.length(), config)) {
+                this.headers = header.nextRecord() ? header.toArray() : null;
+            }
+        }
+        this.tokenizer = CsvTokenizers.open(channel, range.start(), range.length(), config);
+        this.lineNumber = range.firstLineNumber() - 1;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        restartOffset = -1;
+        if (isSaveState() && executionContext.containsKey(getExecutionContextKey(BYTE_OFFSET))) {
+            restartOffset = executionContext.getLong(getExecutionContextKey(BYTE_OFFSET));
+            restartLine = executionContext.getLong(getExecutionContextKey(LINE_NUMBER));
+            restartReadCount = executionContext.getInt(getExecutionContextKey(OFFSET_READ_COUNT));
+            restartFileSize = executionContext.getLong(getExecutionContextKey(FILE_SIZE), -1);
+            restartFileModified = executionContext.getLong(getExecutionContextKey(FILE_MODIFIED), -1);
+        }
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (!isSaveState()) return;
+        long offset = byteOffset();
+        if (offset < 0) return;
+        long size;
+        long modified;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            log.debug("CsvBatchReader cannot read the attributes of {}", file, e);
+            return;
+        }
+        executionContext.putLong(getExecutionContextKey(BYTE_OFFSET), offset);
+        executionContext.putLong(getExecutionContextKey(LINE_NUMBER), lineNumber);
+        executionContext.putInt(getExecutionContextKey(OFFSET_READ_COUNT), getCurrentItemCount());
+        executionContext.putLong(getExecutionContextKey(FILE_SIZE), size);
+        executionContext.putLong(getExecutionContextKey(FILE_MODIFIED), modified);
+    }
+
+    /**
+     * Resumes at the saved byte offset when it is still valid, otherwise skips items one by one.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (restartOffset >= 0 && restartReadCount == itemIndex && seek(restartOffset)) {
+            lineNumber = restartLine;
+            log.info("CsvBatchReader resumed at byte {} (line {}, item {})", restartOffset, lineNumber, itemIndex);
+            return;
+        }
+        if (restartOffset >= 0) {
+            log.warn("CsvBatchReader cannot resume at byte {}; skipping {} items instead", restartOffset, itemIndex);
         }
-        this.mapper = new AnnotationCsvRowMapper<>(targetType, headers);
-        this.lineNumber = config.isHasHeader() ? 1 : 0;
+        super.jumpToItem(itemIndex);
     }
 
     @Override
     protected T doRead() throws Exception {
-        String[] row;
-        while ((row = csvReader.readNext()) != null) {
+        while (tokenizer.nextRecord()) {
             lineNumber++;
             // Skip empty rows
-            if (row.length == 0 || (row.length == 1 && row[0].isBlank())) continue;
+            if (tokenizer.size() == 0 || (tokenizer.size() == 1 && tokenizer.isBlank(0))) continue;
+            if (gate.test(tokenizer)) continue; // rejected by the row filter
             try {
-                return mapper.map(row, headers, lineNumber);
+                return mapper.map(tokenizer, headers, lineNumber);
             } catch (Exception e) {
                 log.warn("CsvBatchReader: row {} mapping failed: {}", lineNumber, e.getMessage());
-                throw new CsvParsingException(lineNumber, String.join(",", row), e.getMessage(), e);
+                throw new CsvParsingException(lineNumber, tokenizer.rawRecord(), e.getMessage(), e);
             }
         }
         return null; // signals end-of-file to Spring Batch
@@ -104,9 +256,109 @@ public class CsvBatchReader<T> extends AbstractItemCountingItemStreamItemReader<
 
     @Override
     protected void doClose() throws Exception {
-        if (csvReader != null) {
-            csvReader.close();
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        if (tokenizer != null) {
+            tokenizer.close();
             log.debug("CsvBatchReader closed. Total rows processed: {}", lineNumber);
+            if (mapper != null) {
+                mapper.stringPools().forEach((field, pool) -> log.debug("String pool for {}.{}: {}",
+                        targetType.getSimpleName(), field, pool));
+            }
+        }
+    }
+
+    private Path localFile() {
+        if (path != null) return path;
+        try {
+            return resource.isFile() ? resource.getFile().toPath() : null;
+        } catch (IOException e) {
+            return null;
         }
     }
+
+    /** Returns the local file if it is not compressed; offsets into compressed content cannot be seeked to. */
+    private Path uncompressedLocalFile() throws IOException {
+        Path local = localFile();
+        return local != null && CsvDecompression.compressionOf(local, config) == CsvReaderConfig.Compression.NONE
+                ? local : null;
+    }
+
+    /**
+     * Returns the byte offset just past the current record, or -1 if it is not tracked.
+     * Byte tokenizers report it directly; for UTF-8 files read through chars, the chars read
+     * since the previous checkpoint are counted on the raw bytes, which are usually still in
+     * the page cache.
+     */
+    private long byteOffset() {
+        if (file == null || tokenizer == null) return -1;
+        long read = tokenizer.byteOffset();
+        boolean countChars = read < 0;
+        long chars = countChars ? tokenizer.charOffset() : read;
+        if (chars < 0) return -1;
+        try {
+            long bytes = utf8 && countChars
+                    ? skipUtf8Chars(checkpointBytes, chars - checkpointChars)
+                    : checkpointBytes + chars - checkpointChars;
+            checkpointChars = chars;
+            checkpointBytes = bytes;
+            return bytes;
+        } catch (IOException e) {
+            log.debug("CsvBatchReader cannot compute the byte offset of line {}", lineNumber, e);
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the offset of the first byte after {@code chars} UTF-8 encoded chars starting
+     * at {@code position} (a supplementary character counts as two chars, as when decoded).
+     */
+    private long skipUtf8Chars(long position, long chars) throws IOException {
+        if (channel == null) channel = FileChannel.open(file, StandardOpenOption.READ);
+        if (scanBuffer == null) scanBuffer = ByteBuffer.allocate(SCAN_BLOCK_SIZE);
+        long remaining = chars;
+        for (;;) {
+            scanBuffer.clear();
+            int n = channel.read(scanBuffer, position);
+            if (n <= 0) return position;
+            for (int i = 0; i < n; i++) {
+                byte b = scanBuffer.get(i);
+                if ((b & 0xC0) != 0x80) { // not a continuation byte: starts a char
+                    if (remaining <= 0) return position;
+                    remaining -= (b & 0xF8) == 0xF0 ? 2 : 1;
+                }
+                position++;
+            }
+        }
+    }
+
+    /**
+     * Reopens the tokenizer at {@code offset} if the file is unchanged since the checkpoint
+     * and the offset is a record boundary of it.
+     */
+    private boolean seek(long offset) throws IOException {
+        if (file == null) return false;
+        if (Files.size(file) != restartFileSize
+                || Files.getLastModifiedTime(file).toMillis() != restartFileModified) return false;
+        if (channel == null) channel = FileChannel.open(file, StandardOpenOption.READ);
+        long first = range != null ? range.start() : 0;
+        long size = range != null ? range.end() : channel.size();
+        if (offset <= first || offset > size) return false;
+
+        ByteBuffer bytes = ByteBuffer.allocate(2);
+        channel.read(bytes, offset - 1);
+        byte previous = bytes.get(0);
+        if (previous != '\n' && previous != '\r' && offset < size) return false;
+        long start = previous == '\r' && bytes.position() == 2 && bytes.get(1) == '\n' ? offset + 1 : offset;
+
+        CsvTokenizer resumed = CsvTokenizers.open(channel, start, size - start, config);
+        if (config.isProjection()) resumed.project(gate.projection(mapper.boundColumns()));
+        tokenizer.close();
+        tokenizer = resumed;
+        checkpointChars = 0;
+        checkpointBytes = start;
+        return true;
+    }
 }
@@ -0,0 +1,265 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.converter.CharSequences;
+import dev.gmky.utils.csv.converter.FastDateParser;
+import dev.gmky.utils.csv.converter.FastNumberParser;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.model.CsvColumnType;
+import dev.gmky.utils.csv.model.CsvSchema;
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * A batch of CSV rows stored column by column in primitive arrays, as produced by
+ * {@link ColumnarCsvReader}.
+ * <p>
+ * Each column of the {@link CsvSchema} has one array of {@link #capacity()} slots, of which
+ * the first {@link #size()} hold values: {@link #ints} for {@code INT}, {@link #longs} for
+ * {@code LONG}, {@link #doubles} for {@code DECIMAL}, {@link #booleans} for {@code BOOLEAN},
+ * {@link #epochDays} for {@code DATE} and dictionary {@link #codes} for {@code STRING}.
+ * Blank or missing cells are flagged in {@link #nulls} and leave a zero in the value array.
+ * Aggregations can loop over these arrays without creating an object per row:
+ * </p>
+ * <pre>{@code
+ * int[] qty = batch.ints(schema.indexOf("qty"));
+ * for (int row = 0; row < batch.size(); row++) total += qty[row];
+ * }</pre>
+ * <p>
+ * The reader fills the same batch over and over: arrays and values are only valid during the
+ * callback they are passed to. Dictionaries live for the whole read, so string codes stay
+ * comparable across batches.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvColumnBatch {
+
+    private static final String ISO_PATTERN = "yyyy-MM-dd";
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ISO_LOCAL_DATE;
+
+    private final CsvSchema schema;
+    private final CsvColumnType[] types;
+    private final int[][] ints; // INT, DATE and STRING columns
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final boolean[][] booleans;
+    private final boolean[][] nulls;
+    private final CsvStringDictionary[] dictionaries;
+    private final long[] lineNumbers;
+    private final boolean stacklessErrors;
+    private int size;
+
+    CsvColumnBatch(CsvSchema schema, int capacity, boolean stacklessErrors) {
+        int columns = schema.size();
+        this.schema = schema;
+        this.types = new CsvColumnType[columns];
+        this.ints = new int[columns][];
+        this.longs = new long[columns][];
+        this.doubles = new double[columns][];
+        this.booleans = new boolean[columns][];
+        this.nulls = new boolean[columns][capacity];
+        this.dictionaries = new CsvStringDictionary[columns];
+        this.lineNumbers = new long[capacity];
+        this.stacklessErrors = stacklessErrors;
+        for (int c = 0; c < columns; c++) {
+            types[c] = schema.column(c).type();
+            switch (types[c]) {
+                case INT, DATE -> ints[c] = new int[capacity];
+                case STRING -> {
+                    ints[c] = new int[capacity];
+                    dictionaries[c] = new CsvStringDictionary();
+                }
+                case LONG -> longs[c] = new long[capacity];
+                case DECIMAL -> doubles[c] = new double[capacity];
+                case BOOLEAN -> booleans[c] = new boolean[capacity];
+            }
+        }
+    }
+
+    /** Returns the schema of this batch. */
+    public CsvSchema schema() {
+        return schema;
+    }
+
+    /** Returns the number of rows in this batch. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns the number of rows this batch holds when full. */
+    public int capacity() {
+        return lineNumbers.length;
+    }
+
+    /** Returns the line number the given row was read from. */
+    public long lineNumber(int row) {
+        return lineNumbers[checkRow(row)];
+    }
+
+    /** Returns the values of an {@code INT} column. */
+    public int[] ints(int column) {
+        return ints[checkType(column, CsvColumnType.INT)];
+    }
+
+    /** Returns the values of a {@code LONG} column. */
+    public long[] longs(int column) {
+        return longs[checkType(column, CsvColumnType.LONG)];
+    }
+
+    /** Returns the values of a {@code DECIMAL} column. */
+    public double[] doubles(int column) {
+        return doubles[checkType(column, CsvColumnType.DECIMAL)];
+    }
+
+    /** Returns the values of a {@code BOOLEAN} column. */
+    public boolean[] booleans(int column) {
+        return booleans[checkType(column, CsvColumnType.BOOLEAN)];
+    }
+
+    /** Returns the values of a {@code DATE} column as {@link LocalDate#toEpochDay() epoch days}. */
+    public int[] epochDays(int column) {
+        return ints[checkType(column, CsvColumnType.DATE)];
+    }
+
+    /** Returns the dictionary codes of a {@code STRING} column. */
+    public int[] codes(int column) {
+        return ints[checkType(column, CsvColumnType.STRING)];
+    }
+
+    /** Returns the dictionary of a {@code STRING} column, shared by all batches of a read. */
+    public CsvStringDictionary dictionary(int column) {
+        return dictionaries[checkType(column, CsvColumnType.STRING)];
+    }
+
+    /** Returns the null flags of a column: {@code true} where the cell was blank or missing. */
+    public boolean[] nulls(int column) {
+        return nulls[checkColumn(column)];
+    }
+
+    /** Returns true if the cell at the given column and row was blank or missing. */
+    public boolean isNull(int column, int row) {
+        return nulls[checkColumn(column)][checkRow(row)];
+    }
+
+    /**
+     * Returns the value at the given column and row as an object ({@link Integer}, {@link Long},
+     * {@link Double}, {@link Boolean}, {@link LocalDate} or {@link String}), or null for a blank
+     * cell. Meant for inspection and tests; the typed arrays avoid the boxing.
+     */
+    public Object get(int column, int row) {
+        if (isNull(column, row)) return null;
+        return switch (types[column]) {
+            case INT -> ints[column][row];
+            case LONG -> longs[column][row];
+            case DECIMAL -> doubles[column][row];
+            case BOOLEAN -> booleans[column][row];
+            case DATE -> LocalDate.ofEpochDay(ints[column][row]);
+            case STRING -> dictionaries[column].get(ints[column][row]);
+        };
+    }
+
+    boolean isFull() {
+        return size == lineNumbers.length;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    /**
+     * Parses the cells of {@code row} into the next free slot. The row is only added once all
+     * of its cells have parsed; cells beyond the schema are ignored.
+     *
+     * @throws CsvMappingException if a cell does not hold a value of its column's type
+     */
+    void append(CsvRowView row, long lineNumber) {
+        int r = size;
+        int cells = row.size();
+        for (int c = 0; c < types.length; c++) {
+            if (c >= cells || row.isBlank(c)) {
+                nulls[c][r] = true;
+                clearValue(c, r);
+                continue;
+            }
+            CharSequence cell = row.cell(c);
+            try {
+                switch (types[c]) {
+                    case INT -> ints[c][r] = FastNumberParser.parseInt(cell);
+                    case LONG -> longs[c][r] = FastNumberParser.parseLong(cell);
+                    case DECIMAL -> doubles[c][r] = FastNumberParser.parseDouble(cell);
+                    case BOOLEAN -> booleans[c][r] = parseBoolean(cell);
+                    case DATE -> ints[c][r] = (int) parseDate(cell).toEpochDay();
+                    case STRING -> ints[c][r] = dictionaries[c].encode(cell);
+                }
+            } catch (RuntimeException e) {
+                throw new CsvMappingException(lineNumber, schema.column(c).name(), cell.toString(),
+                        "Not a valid " + types[c] + " value", e, !stacklessErrors);
+            }
+            nulls[c][r] = false;
+        }
+        lineNumbers[r] = lineNumber;
+        size++;
+    }
+
+    /**
+     * Parses {@code true} or {@code false}, ignoring case and surrounding whitespace.
+     *
+     * @throws IllegalArgumentException for any other value
+     */
+    static boolean parseBoolean(CharSequence value) {
+        int start = CharSequences.trimStart(value);
+        int end = CharSequences.trimEnd(value, start);
+        if (regionMatches(value, start, end, "true")) return true;
+        if (regionMatches(value, start, end, "false")) return false;
+        throw new IllegalArgumentException("Expected true or false");
+    }
+
+    /**
+     * Parses an ISO {@code yyyy-MM-dd} date, ignoring surrounding whitespace.
+     */
+    static LocalDate parseDate(CharSequence value) {
+        return FastDateParser.parseLocalDate(value, ISO_PATTERN, ISO_DATE);
+    }
+
+    private void clearValue(int c, int r) {
+        switch (types[c]) {
+            case INT, DATE, STRING -> ints[c][r] = 0;
+            case LONG -> longs[c][r] = 0L;
+            case DECIMAL -> doubles[c][r] = 0d;
+            case BOOLEAN -> booleans[c][r] = false;
+        }
+    }
+
+    private static boolean regionMatches(CharSequence value, int start, int end, String expected) {
+        if (end - start != expected.length()) return false;
+        for (int i = 0; i < expected.length(); i++) {
+            if (Character.toLowerCase(value.charAt(start + i)) != expected.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private int checkColumn(int column) {
+        if (column < 0 || column >= types.length) {
+            throw new IndexOutOfBoundsException("Column " + column + " out of bounds for " + types.length + " columns");
+        }
+        return column;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + size + " rows");
+        }
+        return row;
+    }
+
+    private int checkType(int column, CsvColumnType expected) {
+        if (types[checkColumn(column)] != expected) {
+            throw new IllegalArgumentException("Column " + column + " (" + schema.column(column).name()
+                    + ") is " + types[column] + ", not " + expected);
+        }
+        return column;
+    }
+}
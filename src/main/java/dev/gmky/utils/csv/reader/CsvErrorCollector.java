@@ -0,0 +1,99 @@
+package dev.gmky.utils.csv.reader;
+
+import com.opencsv.CSVWriter;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.model.CsvError;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the row errors of one read for a {@link dev.gmky.utils.csv.model.CsvReadResult}.
+ * <p>
+ * The first {@link CsvReaderConfig#getErrorSpillThreshold() errorSpillThreshold} errors are
+ * kept in memory; later ones are appended to a temporary CSV file with the columns
+ * {@code lineNumber,message,rawLine}, so a bad file cannot grow the heap without bound.
+ * Raw lines are cut to {@link CsvReaderConfig#getMaxRawLineLength() maxRawLineLength}.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class CsvErrorCollector implements Closeable {
+
+    private static final String[] SPILL_HEADER = {"lineNumber", "message", "rawLine"};
+
+    private final int spillThreshold;
+    private final int maxRawLineLength;
+    private final List<CsvError> retained = new ArrayList<>();
+    private long count;
+    private Path spillFile;
+    private CSVWriter spillWriter;
+
+    CsvErrorCollector(CsvReaderConfig config) {
+        this.spillThreshold = config.getErrorSpillThreshold();
+        this.maxRawLineLength = config.getMaxRawLineLength();
+    }
+
+    /**
+     * Records an error, spilling it to the temporary file once the threshold is reached.
+     */
+    void add(long lineNumber, String rawLine, String message, Exception cause) {
+        count++;
+        if (spillThreshold < 0 || retained.size() < spillThreshold) {
+            retained.add(CsvError.of(lineNumber, rawLine, message, cause));
+            return;
+        }
+        try {
+            if (spillWriter == null) {
+                spillFile = Files.createTempFile("csv-errors-", ".csv");
+                spillWriter = new CSVWriter(Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8));
+                spillWriter.writeNext(SPILL_HEADER, false);
+            }
+            spillWriter.writeNext(new String[]{String.valueOf(lineNumber), message, rawLine});
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill CSV errors to " + spillFile, e);
+        }
+    }
+
+    /**
+     * Cuts {@code rawLine} to the configured maximum length, marking the cut with {@code "..."}.
+     */
+    String truncate(String rawLine) {
+        if (maxRawLineLength < 0 || rawLine == null || rawLine.length() <= maxRawLineLength) return rawLine;
+        return rawLine.substring(0, maxRawLineLength) + "...";
+    }
+
+    /** Returns the number of errors recorded, in memory or spilled. */
+    long count() {
+        return count;
+    }
+
+    /** Returns the errors kept in memory. */
+    List<CsvError> errors() {
+        return retained;
+    }
+
+    /** Returns the file errors were spilled to, or null if none were. */
+    Path spillFile() {
+        return spillFile;
+    }
+
+    @Override
+    public void close() {
+        if (spillWriter == null) return;
+        try {
+            spillWriter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spill CSV errors to " + spillFile, e);
+        } finally {
+            spillWriter = null;
+        }
+    }
+}
@@ -0,0 +1,435 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Splits a local CSV file into byte ranges that each start on a record boundary,
+ * so every range can be tokenized independently on its own core.
+ * <p>
+ * The file is cut into fixed-size chunks which are scanned in parallel. Because a
+ * chunk may begin inside a quoted field, each chunk is scanned once for every
+ * possible entry state of the quote-aware scanner at the same time (the hypotheses
+ * share a precomputed automaton, so this costs one table lookup per byte). Stitching
+ * the chunks together in order then selects the true entry state of each chunk, which
+ * yields the first record start at or after every cut and the number of records
+ * before it, i.e. absolute line numbers.
+ * </p>
+ * <p>
+ * The scanner follows {@link dev.gmky.utils.csv.parser.NativeCsvTokenizer} semantics
+ * (quote, doubled quote, escape, {@code \r\n} and trimming rules). It works on raw bytes
+ * and therefore only {@link #supports(CsvReaderConfig) supports} charsets in which the
+ * delimiter, quote, escape and line-break characters are single ASCII bytes that cannot
+ * occur inside a multi-byte sequence, such as UTF-8 and ISO-8859-1.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvFileSplitter {
+
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final int SCAN_BLOCK_SIZE = 64 * 1024;
+
+    // Scanner states
+    private static final int RECORD_START = 0;
+    private static final int FIELD_START = 1;
+    private static final int UNQUOTED = 2;
+    private static final int UNQUOTED_ESC = 3;
+    private static final int QUOTED = 4;
+    private static final int QUOTED_ESC = 5;
+    private static final int QUOTED_QUOTE = 6;
+    private static final int AFTER_CR = 7;
+    private static final int STATES = 8;
+
+    // Byte classes
+    private static final int OTHER = 0;
+    private static final int DELIM = 1;
+    private static final int QUOTE = 2;
+    private static final int ESC = 3;
+    private static final int LF = 4;
+    private static final int CR = 5;
+    private static final int WS = 6;
+    private static final int CLASSES = 7;
+    private static final int CLASS_BITS = 3; // table rows are padded to 1 << CLASS_BITS entries
+
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final long chunkSize;
+    private final boolean hasHeader;
+    private final boolean utf8;
+    private final Executor executor;
+    private final byte[] classes = new byte[256];
+
+    // Automaton over hypothesis tuples: the scanner state reached from each of the STATES entry states
+    private int[] next;      // (tuple << CLASS_BITS) + class -> next tuple << CLASS_BITS
+    private int[] startMask; // (tuple << CLASS_BITS) + class -> bit h set if hypothesis h is at a record start
+    private int[] packed;    // tuple -> entry state h in bits [3h, 3h + 3)
+
+    /**
+     * Creates a splitter cutting chunks of {@link CsvReaderConfig#getSplitSize()} bytes.
+     */
+    public CsvFileSplitter(CsvReaderConfig config) {
+        this(config, config.getSplitSize());
+    }
+
+    public CsvFileSplitter(CsvReaderConfig config, long chunkSize) {
+        if (!supports(config)) {
+            throw new IllegalArgumentException("Byte-range splitting is not supported for charset "
+                    + config.getCharset() + " with the configured delimiter, quote and escape characters");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.chunkSize = Math.min(chunkSize, MAX_CHUNK_SIZE);
+        this.hasHeader = config.isHasHeader();
+        this.utf8 = StandardCharsets.UTF_8.equals(config.getCharset());
+        this.executor = config.getExecutor() != null ? config.getExecutor() : ForkJoinPool.commonPool();
+        initClasses(config);
+        buildAutomaton();
+    }
+
+    /**
+     * Returns whether files read with the given configuration can be split on raw bytes.
+     */
+    public static boolean supports(CsvReaderConfig config) {
+        Charset charset = config.getCharset();
+        if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() != 1f) {
+            return false;
+        }
+        String special = "\r\n" + config.getDelimiter() + config.getQuoteChar()
+                + (config.getEscapeChar() != '\0' ? String.valueOf(config.getEscapeChar()) : "");
+        byte[] encoded = special.getBytes(charset);
+        if (encoded.length != special.length()) return false;
+        for (int i = 0; i < encoded.length; i++) {
+            if (special.charAt(i) >= 0x80 || encoded[i] != special.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Splits the whole file behind the channel. The channel is left open.
+     *
+     * @param channel the CSV file channel
+     * @return the header range (if configured) and the data ranges in file order
+     * @throws IOException if the file cannot be read or mapped
+     */
+    public Split split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long dataStart = utf8 && startsWith(channel, UTF8_BOM) ? UTF8_BOM.length : 0;
+
+        Range header = null;
+        long linesBefore = 0;
+        if (hasHeader && dataStart < size) {
+            long headerEnd = findSecondRecordStart(channel, dataStart, size);
+            header = new Range(dataStart, headerEnd, 1, 1);
+            dataStart = headerEnd;
+            linesBefore = 1;
+        }
+
+        List<Range> ranges = new ArrayList<>();
+        if (dataStart >= size) return new Split(header, ranges, 0);
+
+        int chunks = (int) ((size - dataStart + chunkSize - 1) / chunkSize);
+        List<CompletableFuture<ChunkScan>> scans = new ArrayList<>(chunks);
+        for (int k = 0; k < chunks; k++) {
+            long from = dataStart + k * chunkSize;
+            long to = Math.min(from + chunkSize, size);
+            scans.add(CompletableFuture.supplyAsync(() -> scan(channel, from, to), executor));
+        }
+
+        int state = RECORD_START;
+        long rangeStart = -1;
+        long rangeLine = 0;
+        long rangeCount = 0;
+        long total = 0;
+        for (CompletableFuture<ChunkScan> future : scans) {
+            ChunkScan scan = join(future);
+            long first = scan.firstStart[state];
+            if (first >= 0) {
+                if (rangeStart >= 0) ranges.add(new Range(rangeStart, first, rangeLine, rangeCount));
+                rangeStart = first;
+                rangeLine = linesBefore + 1;
+                rangeCount = 0;
+            }
+            rangeCount += scan.starts[state];
+            linesBefore += scan.starts[state];
+            total += scan.starts[state];
+            state = scan.endState[state];
+        }
+        ranges.add(new Range(rangeStart, size, rangeLine, rangeCount));
+        return new Split(header, ranges, total);
+    }
+
+    // ---------------------------- Scanning -----------------------------------
+
+    private ChunkScan scan(FileChannel channel, long from, long to) {
+        MappedByteBuffer buf;
+        try {
+            buf = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        final byte[] cls = classes;
+        final int[] nxt = next;
+        final int[] mask = startMask;
+        long[] firstStart = new long[STATES];
+        long[] starts = new long[STATES];
+        Arrays.fill(firstStart, -1);
+
+        // Copy out in blocks: plain array access keeps the hot loop free of buffer bounds checks
+        byte[] block = new byte[(int) Math.min(SCAN_BLOCK_SIZE, to - from)];
+        int row = 0; // current tuple << CLASS_BITS
+        for (int base = 0, n = buf.limit(); base < n; base += block.length) {
+            int len = Math.min(block.length, n - base);
+            buf.get(base, block, 0, len);
+            for (int i = 0; i < len; i++) {
+                int t = row + cls[block[i] & 0xFF];
+                int m = mask[t];
+                while (m != 0) {
+                    int h = Integer.numberOfTrailingZeros(m);
+                    m &= m - 1;
+                    if (firstStart[h] < 0) firstStart[h] = from + base + i;
+                    starts[h]++;
+                }
+                row = nxt[t];
+            }
+        }
+
+        int[] endState = new int[STATES];
+        for (int h = 0; h < STATES; h++) {
+            endState[h] = (packed[row >>> CLASS_BITS] >>> (3 * h)) & 7;
+        }
+        return new ChunkScan(firstStart, starts, endState);
+    }
+
+    /**
+     * Scans the first record sequentially and returns the offset where the second one begins.
+     */
+    private long findSecondRecordStart(FileChannel channel, long from, long size) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+        int state = RECORD_START;
+        long pos = from;
+        while (pos < size) {
+            buf.clear();
+            int n = channel.read(buf, pos);
+            if (n <= 0) break;
+            for (int i = 0; i < n; i++, pos++) {
+                int c = classes[buf.get(i) & 0xFF];
+                if (pos > from && isRecordStart(state, c)) return pos;
+                state = step(state, c);
+            }
+        }
+        return size;
+    }
+
+    private static boolean startsWith(FileChannel channel, byte[] prefix) throws IOException {
+        if (channel.size() < prefix.length) return false;
+        ByteBuffer buf = ByteBuffer.allocate(prefix.length);
+        while (buf.hasRemaining() && channel.read(buf, buf.position()) > 0) {
+            // read the whole prefix
+        }
+        return Arrays.equals(buf.array(), prefix);
+    }
+
+    private static ChunkScan join(CompletableFuture<ChunkScan> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw e;
+        }
+    }
+
+    // ---------------------------- Automaton -----------------------------------
+
+    private void initClasses(CsvReaderConfig config) {
+        // Assigned from lowest to highest priority
+        if (config.isTrimValues()) {
+            for (int b = 0; b <= ' '; b++) classes[b] = WS;
+        }
+        classes['\n'] = LF;
+        classes['\r'] = CR;
+        char escape = config.getEscapeChar();
+        if (escape != '\0' && escape != config.getQuoteChar()) classes[escape] = ESC;
+        classes[config.getQuoteChar()] = QUOTE;
+        classes[config.getDelimiter()] = DELIM;
+    }
+
+    /**
+     * Builds the automaton over hypothesis tuples reachable from the identity tuple
+     * (hypothesis h in state h), together with the record-start masks.
+     */
+    private void buildAutomaton() {
+        int identity = 0;
+        for (int h = 0; h < STATES; h++) identity |= h << (3 * h);
+
+        Map<Integer, Integer> ids = new HashMap<>();
+        List<Integer> tuples = new ArrayList<>();
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        ids.put(identity, 0);
+        tuples.add(identity);
+        queue.add(identity);
+        List<int[]> rows = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            int tuple = queue.poll();
+            int[] row = new int[CLASSES * 2];
+            for (int c = 0; c < CLASSES; c++) {
+                int target = 0;
+                int mask = 0;
+                for (int h = 0; h < STATES; h++) {
+                    int s = (tuple >>> (3 * h)) & 7;
+                    if (isRecordStart(s, c)) mask |= 1 << h;
+                    target |= step(s, c) << (3 * h);
+                }
+                Integer id = ids.get(target);
+                if (id == null) {
+                    id = tuples.size();
+                    ids.put(target, id);
+                    tuples.add(target);
+                    queue.add(target);
+                }
+                row[c] = id << CLASS_BITS;
+                row[CLASSES + c] = mask;
+            }
+            rows.add(row);
+        }
+
+        next = new int[tuples.size() << CLASS_BITS];
+        startMask = new int[tuples.size() << CLASS_BITS];
+        packed = new int[tuples.size()];
+        for (int id = 0; id < tuples.size(); id++) {
+            packed[id] = tuples.get(id);
+            System.arraycopy(rows.get(id), 0, next, id << CLASS_BITS, CLASSES);
+            System.arraycopy(rows.get(id), CLASSES, startMask, id << CLASS_BITS, CLASSES);
+        }
+    }
+
+    private static boolean isRecordStart(int state, int c) {
+        return state == RECORD_START || (state == AFTER_CR && c != LF);
+    }
+
+    private static int step(int state, int c) {
+        return switch (state) {
+            case RECORD_START, FIELD_START, AFTER_CR -> {
+                if (state == AFTER_CR && c == LF) yield RECORD_START;
+                if (c == WS) yield FIELD_START;
+                if (c == QUOTE) yield QUOTED;
+                yield unquoted(c);
+            }
+            case UNQUOTED -> unquoted(c);
+            case UNQUOTED_ESC -> c == QUOTE || c == ESC ? UNQUOTED : unquoted(c);
+            case QUOTED -> c == QUOTE ? QUOTED_QUOTE : c == ESC ? QUOTED_ESC : QUOTED;
+            case QUOTED_ESC -> QUOTED;
+            case QUOTED_QUOTE -> c == QUOTE ? QUOTED : unquoted(c);
+            default -> throw new IllegalStateException("Unknown scanner state " + state);
+        };
+    }
+
+    private static int unquoted(int c) {
+        return switch (c) {
+            case DELIM -> FIELD_START;
+            case LF -> RECORD_START;
+            case CR -> AFTER_CR;
+            case ESC -> UNQUOTED_ESC;
+            default -> UNQUOTED;
+        };
+    }
+
+    private record ChunkScan(long[] firstStart, long[] starts, int[] endState) {
+    }
+
+    /**
+     * Incremental form of the scanner for decoded characters arriving in pieces, as in
+     * {@link ReactiveCsvReader}. It follows a single hypothesis from the start of the input,
+     * so it works for any charset.
+     */
+    static final class RecordScanner {
+
+        private final char delimiter;
+        private final char quote;
+        private final char escape; // equal to quote when escaping is disabled
+        private final boolean trim;
+        private int state = RECORD_START;
+
+        RecordScanner(CsvReaderConfig config) {
+            this.delimiter = config.getDelimiter();
+            this.quote = config.getQuoteChar();
+            char esc = config.getEscapeChar();
+            this.escape = esc != '\0' ? esc : quote;
+            this.trim = config.isTrimValues();
+        }
+
+        /**
+         * Scans {@code chars[from, to)}, continuing from the previous call, and returns the
+         * index of the last record start in that range, or -1 if there is none. A record
+         * start is only known once the character at it has been seen.
+         */
+        int scan(char[] chars, int from, int to) {
+            int last = -1;
+            int s = state;
+            for (int i = from; i < to; i++) {
+                int c = classOf(chars[i]);
+                if (isRecordStart(s, c)) last = i;
+                s = step(s, c);
+            }
+            state = s;
+            return last;
+        }
+
+        private int classOf(char c) {
+            if (c == delimiter) return DELIM;
+            if (c == quote) return QUOTE;
+            if (c == escape) return ESC;
+            if (c == '\n') return LF;
+            if (c == '\r') return CR;
+            if (trim && c <= ' ') return WS;
+            return OTHER;
+        }
+    }
+
+    // ---------------------------- Result types -----------------------------------
+
+    /**
+     * Result of splitting a file.
+     *
+     * @param header      the header record's range, or null if the config has no header
+     * @param ranges      data ranges in file order; empty if the file has no data records
+     * @param recordCount total number of data records across all ranges
+     */
+    public record Split(Range header, List<Range> ranges, long recordCount) {
+    }
+
+    /**
+     * A byte range {@code [start, end)} holding whole records.
+     *
+     * @param start           offset of the first byte, always a record start
+     * @param end             offset just past the last byte
+     * @param firstLineNumber line number of the first record, counted from 1 including the header
+     * @param recordCount     number of records in the range
+     */
+    public record Range(long start, long end, long firstLineNumber, long recordCount) {
+
+        public long length() {
+            return end - start;
+        }
+    }
+}
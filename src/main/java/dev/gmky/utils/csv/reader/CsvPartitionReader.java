@@ -0,0 +1,87 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reader for the worker step of a partitioned CSV import.
+ * <p>
+ * One instance serves every partition of a step. When a worker step execution opens it,
+ * a range {@link CsvBatchReader} is created from the range stored by
+ * {@link CsvRangePartitioner} in that execution's context, and every later call is routed
+ * to the reader of the step execution running on the calling thread. Each partition thus
+ * tokenizes only its own byte range and checkpoints into its own execution context.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * Step step = batchJobFactory.createPartitionedCsvStep("importUsers", UserDto.class, path, csvConfig,
+ *         processor, writer, batchConfig, taskExecutor, 8);
+ * }</pre>
+ *
+ * @param <T> the target DTO type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class CsvPartitionReader<T> implements ItemStreamReader<T> {
+
+    private final Class<T> targetType;
+    private final Path path;
+    private final CsvReaderConfig config;
+    private final Map<StepExecution, CsvBatchReader<T>> readers = new ConcurrentHashMap<>();
+
+    public CsvPartitionReader(Class<T> targetType, Path path, CsvReaderConfig config) {
+        this.targetType = targetType;
+        this.path = path;
+        this.config = config;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        CsvBatchReader<T> reader = new CsvBatchReader<>(targetType, path, config,
+                CsvRangePartitioner.header(executionContext), CsvRangePartitioner.range(executionContext));
+        reader.open(executionContext);
+        readers.put(currentStepExecution(), reader);
+    }
+
+    @Override
+    public T read() throws Exception {
+        return reader().read();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        reader().update(executionContext);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        CsvBatchReader<T> reader = readers.remove(currentStepExecution());
+        if (reader != null) reader.close();
+    }
+
+    private CsvBatchReader<T> reader() {
+        CsvBatchReader<T> reader = readers.get(currentStepExecution());
+        if (reader == null) {
+            throw new IllegalStateException("CsvPartitionReader has not been opened for this step execution");
+        }
+        return reader;
+    }
+
+    private static StepExecution currentStepExecution() {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            throw new IllegalStateException("CsvPartitionReader must be used inside a step execution");
+        }
+        return context.getStepExecution();
+    }
+}
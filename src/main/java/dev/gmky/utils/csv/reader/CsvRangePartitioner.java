@@ -0,0 +1,112 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.parser.CsvDecompression;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Batch {@link Partitioner} that splits a local CSV file into quote-safe byte ranges
+ * with {@link CsvFileSplitter}, one partition per range.
+ * <p>
+ * Each partition's {@link ExecutionContext} holds its data range, the header range and the
+ * absolute line number of its first record; {@link CsvPartitionReader} reads them back. The
+ * same context stores the partition's restart state, so a failed partition resumes on its
+ * own. The file may yield fewer partitions than the grid size when records are larger than
+ * a grid cell.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@Slf4j
+public class CsvRangePartitioner implements Partitioner {
+
+    /** Prefix of the partition names. */
+    public static final String PARTITION_PREFIX = "partition";
+
+    static final String RANGE_START = "csv.range.start";
+    static final String RANGE_END = "csv.range.end";
+    static final String RANGE_FIRST_LINE = "csv.range.firstLine";
+    static final String RANGE_RECORD_COUNT = "csv.range.recordCount";
+    static final String HEADER_START = "csv.header.start";
+    static final String HEADER_END = "csv.header.end";
+
+    private final Path path;
+    private final CsvReaderConfig config;
+
+    /**
+     * @param path   the local CSV file
+     * @param config reader configuration; its charset and special characters must be
+     *               {@link CsvFileSplitter#supports(CsvReaderConfig) splittable}
+     */
+    public CsvRangePartitioner(Path path, CsvReaderConfig config) {
+        if (!CsvFileSplitter.supports(config)) {
+            throw new IllegalArgumentException("Byte-range partitioning is not supported for charset "
+                    + config.getCharset() + " with the configured delimiter, quote and escape characters");
+        }
+        this.path = path;
+        this.config = config;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (CsvDecompression.compressionOf(channel, String.valueOf(path.getFileName()), config)
+                    != CsvReaderConfig.Compression.NONE) {
+                throw new IllegalStateException("Byte-range partitioning is not supported for compressed file " + path);
+            }
+            long chunkSize = Math.max(1, (channel.size() + gridSize - 1) / Math.max(gridSize, 1));
+            CsvFileSplitter.Split split = new CsvFileSplitter(config, chunkSize).split(channel);
+            List<CsvFileSplitter.Range> ranges = split.ranges();
+
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            for (int i = 0; i < ranges.size(); i++) {
+                CsvFileSplitter.Range range = ranges.get(i);
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(RANGE_START, range.start());
+                context.putLong(RANGE_END, range.end());
+                context.putLong(RANGE_FIRST_LINE, range.firstLineNumber());
+                context.putLong(RANGE_RECORD_COUNT, range.recordCount());
+                if (split.header() != null) {
+                    context.putLong(HEADER_START, split.header().start());
+                    context.putLong(HEADER_END, split.header().end());
+                }
+                partitions.put(PARTITION_PREFIX + i, context);
+            }
+            log.debug("Split {} into {} partitions ({} records)", path, partitions.size(), split.recordCount());
+            return partitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to partition CSV file " + path, e);
+        }
+    }
+
+    /**
+     * Returns the data range stored in a partition context.
+     */
+    static CsvFileSplitter.Range range(ExecutionContext context) {
+        if (!context.containsKey(RANGE_START)) {
+            throw new IllegalStateException("Execution context holds no CSV range; was it created by CsvRangePartitioner?");
+        }
+        return new CsvFileSplitter.Range(context.getLong(RANGE_START), context.getLong(RANGE_END),
+                context.getLong(RANGE_FIRST_LINE), context.getLong(RANGE_RECORD_COUNT));
+    }
+
+    /**
+     * Returns the header range stored in a partition context, or null if the file has no header.
+     */
+    static CsvFileSplitter.Range header(ExecutionContext context) {
+        if (!context.containsKey(HEADER_START)) return null;
+        return new CsvFileSplitter.Range(context.getLong(HEADER_START), context.getLong(HEADER_END), 1, 1);
+    }
+}
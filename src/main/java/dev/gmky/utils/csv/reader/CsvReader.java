@@ -1,8 +1,13 @@
 package dev.gmky.utils.csv.reader;
 
+import dev.gmky.utils.csv.exception.CsvParsingException;
 import dev.gmky.utils.csv.model.CsvReadResult;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -14,9 +19,12 @@ import java.util.stream.Stream;
  * <ul>
  *   <li>Eager: {@link #readAll} loads all rows into a {@code List}</li>
  *   <li>Lazy: {@link #stream} returns a {@code Stream<T>} for large files</li>
- *   <li>Callback: {@link #read} processes rows without materializing them</li>
- *   <li>Error-aware: {@link #readWithResult} captures errors per-row</li>
+ *   <li>Callback: {@link #read} processes rows, one at a time or in batches, without materializing them</li>
+ *   <li>Error-aware: {@link #readWithResult} captures errors per-row, optionally streaming rows to a consumer</li>
  * </ul>
+ * Every pattern accepts either an {@link InputStream} or a local file {@link Path}.
+ * Implementations may read {@code Path} inputs more efficiently (e.g. memory-mapped);
+ * the defaults simply open an input stream.
  *
  * @param <T> the target DTO type
  * @author HiepVH
@@ -51,6 +59,26 @@ public interface CsvReader<T> {
      */
     void read(InputStream inputStream, Consumer<T> rowConsumer);
 
+    /**
+     * Processes rows in batches of up to {@code batchSize}, e.g. for bulk inserts or publishing.
+     * <p>
+     * The same list instance is passed for every batch and cleared once the consumer returns;
+     * copy it to keep rows beyond the call. The last batch may be smaller. Only one batch is
+     * held in memory at a time.
+     * </p>
+     *
+     * @param inputStream   the CSV input stream
+     * @param batchSize     the maximum number of rows per batch
+     * @param batchConsumer the consumer to invoke for each batch of mapped DTOs
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @since 1.0.4
+     */
+    default void read(InputStream inputStream, int batchSize, Consumer<List<T>> batchConsumer) {
+        CsvRowBatcher<T> batcher = new CsvRowBatcher<>(batchSize, batchConsumer);
+        read(inputStream, batcher);
+        batcher.flush();
+    }
+
     /**
      * Reads all rows and collects both successes and per-row errors into a {@link CsvReadResult}.
      *
@@ -58,4 +86,124 @@ public interface CsvReader<T> {
      * @return a result object containing success records, errors, and statistics
      */
     CsvReadResult<T> readWithResult(InputStream inputStream);
+
+    /**
+     * Streams rows to {@code rowConsumer} while tracking counts and per-row errors, without
+     * keeping the mapped rows: the returned result has an empty
+     * {@link CsvReadResult#successRecords() successRecords} and carries counts, errors,
+     * timing and {@link CsvReadResult#rowsPerSecond() throughput} only.
+     * <p>
+     * The default implementation delegates to {@link #readWithResult(InputStream)} and
+     * therefore holds every row until the read ends; implementations should override it.
+     * </p>
+     *
+     * @param inputStream the CSV input stream
+     * @param rowConsumer the consumer to invoke for each mapped DTO
+     * @return a summary of the read
+     * @since 1.0.4
+     */
+    default CsvReadResult<T> readWithResult(InputStream inputStream, Consumer<T> rowConsumer) {
+        CsvReadResult<T> result = readWithResult(inputStream);
+        result.successRecords().forEach(rowConsumer);
+        return new CsvReadResult<>(List.of(), result.errors(), result.totalRows(), result.successCount(),
+                result.errorCount(), result.elapsed(), result.errorSpillFile(), result.filteredCount());
+    }
+
+    /**
+     * Reads all rows of a local file eagerly into a {@link List}.
+     *
+     * @param path the CSV file
+     * @return list of successfully mapped DTOs
+     */
+    default List<T> readAll(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return readAll(in);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+    }
+
+    /**
+     * Returns a lazy {@link Stream} of DTOs read from a local file.
+     * <p>The stream must be closed after use to release the file.</p>
+     *
+     * @param path the CSV file
+     * @return lazy stream of mapped DTOs
+     */
+    default Stream<T> stream(Path path) {
+        InputStream in;
+        try {
+            in = Files.newInputStream(path);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to open/read CSV stream", e);
+        }
+        return stream(in).onClose(() -> {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Processes each row of a local file via the provided {@link Consumer}.
+     *
+     * @param path        the CSV file
+     * @param rowConsumer the consumer to invoke for each mapped DTO
+     */
+    default void read(Path path, Consumer<T> rowConsumer) {
+        try (InputStream in = Files.newInputStream(path)) {
+            read(in, rowConsumer);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+    }
+
+    /**
+     * Processes the rows of a local file in batches of up to {@code batchSize}.
+     * See {@link #read(InputStream, int, Consumer)} for how batches are reused.
+     *
+     * @param path          the CSV file
+     * @param batchSize     the maximum number of rows per batch
+     * @param batchConsumer the consumer to invoke for each batch of mapped DTOs
+     * @throws IllegalArgumentException if {@code batchSize} is less than 1
+     * @since 1.0.4
+     */
+    default void read(Path path, int batchSize, Consumer<List<T>> batchConsumer) {
+        CsvRowBatcher<T> batcher = new CsvRowBatcher<>(batchSize, batchConsumer);
+        read(path, batcher);
+        batcher.flush();
+    }
+
+    /**
+     * Reads all rows of a local file and collects successes and per-row errors.
+     *
+     * @param path the CSV file
+     * @return a result object containing success records, errors, and statistics
+     */
+    default CsvReadResult<T> readWithResult(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return readWithResult(in);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+    }
+
+    /**
+     * Streams the rows of a local file to {@code rowConsumer} and returns a summary without
+     * the mapped rows. See {@link #readWithResult(InputStream, Consumer)}.
+     *
+     * @param path        the CSV file
+     * @param rowConsumer the consumer to invoke for each mapped DTO
+     * @return a summary of the read
+     * @since 1.0.4
+     */
+    default CsvReadResult<T> readWithResult(Path path, Consumer<T> rowConsumer) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return readWithResult(in, rowConsumer);
+        } catch (IOException e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.mapper.CsvRow;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Groups rows into batches for {@link CsvReader#read(java.io.InputStream, int, Consumer)}.
+ * <p>
+ * A single list is reused for every batch: it is handed to the batch consumer as a
+ * read-only view and cleared when the consumer returns, so nothing is retained between
+ * batches. Flyweight {@link CsvRow}s are copied as they are added.
+ * </p>
+ *
+ * @param <T> the row type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class CsvRowBatcher<T> implements Consumer<T> {
+
+    private final int batchSize;
+    private final Consumer<List<T>> batchConsumer;
+    private final List<T> batch;
+    private final List<T> view;
+
+    CsvRowBatcher(int batchSize, Consumer<List<T>> batchConsumer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.batchConsumer = batchConsumer;
+        this.batch = new ArrayList<>(Math.min(batchSize, 1 << 16));
+        this.view = Collections.unmodifiableList(batch);
+    }
+
+    @Override
+    public void accept(T row) {
+        batch.add(CsvRow.detach(row));
+        if (batch.size() == batchSize) flush();
+    }
+
+    /**
+     * Hands the rows collected so far, if any, to the batch consumer.
+     */
+    void flush() {
+        if (batch.isEmpty()) return;
+        try {
+            batchConsumer.accept(view);
+        } finally {
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.filter.CsvRowFilter;
+import dev.gmky.utils.csv.parser.CsvRowView;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * Decides, right after a record is tokenized, whether a read skips it: blank records when
+ * {@link CsvReaderConfig#isSkipEmptyLines() skipEmptyLines} is set, and records rejected by
+ * the configured {@link CsvReaderConfig#getRowFilter() rowFilter}, which are counted.
+ * <p>
+ * One gate serves one read. {@link #bind(String[])} must be called with the header before
+ * the first record is tested; {@link #test} may then be called from several threads.
+ * </p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class CsvRowGate implements Predicate<CsvRowView> {
+
+    private final boolean skipEmptyLines;
+    private final CsvRowFilter configuredFilter;
+    private final LongAdder filtered = new LongAdder();
+    private CsvRowFilter filter;
+
+    CsvRowGate(CsvReaderConfig config) {
+        this.skipEmptyLines = config.isSkipEmptyLines();
+        this.configuredFilter = config.getRowFilter();
+    }
+
+    /**
+     * Resolves the filter's column names against the header.
+     *
+     * @return this gate
+     * @throws IllegalArgumentException if a filtered column is not in the header
+     */
+    CsvRowGate bind(String[] headers) {
+        this.filter = configuredFilter != null ? configuredFilter.bind(headers) : null;
+        return this;
+    }
+
+    /**
+     * Returns true if the record is to be skipped.
+     */
+    @Override
+    public boolean test(CsvRowView row) {
+        if (skipEmptyLines && (row.size() == 0 || (row.size() == 1 && row.isBlank(0)))) return true;
+        if (filter != null && !filter.accept(row)) {
+            filtered.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of records the filter has rejected.
+     */
+    long filtered() {
+        return filtered.sum();
+    }
+
+    /**
+     * Adds the filter's columns to the columns a mapper binds, for
+     * {@link dev.gmky.utils.csv.parser.CsvTokenizer#project}.
+     *
+     * @return the columns to tokenize, or null for all of them
+     */
+    int[] projection(int[] boundColumns) {
+        if (filter == null || boundColumns == null) return boundColumns;
+        int[] filterColumns = filter.columns();
+        if (filterColumns == null) return null;
+        return IntStream.concat(Arrays.stream(boundColumns), Arrays.stream(filterColumns))
+                .distinct().sorted().toArray();
+    }
+}
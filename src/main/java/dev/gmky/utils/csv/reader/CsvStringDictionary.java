@@ -0,0 +1,108 @@
+package dev.gmky.utils.csv.reader;
+
+import java.util.Arrays;
+
+/**
+ * Append-only dictionary that gives every distinct string of a {@code STRING} column a
+ * dense {@code int} code, in order of first appearance.
+ * <p>
+ * {@link #encode(CharSequence)} looks a cell up by its characters, so a value seen before
+ * costs no allocation. One dictionary is shared by all batches of a read, so codes can be
+ * compared and grouped on across batches. Unlike {@link dev.gmky.utils.csv.mapper.CsvStringPool}
+ * nothing is ever evicted: memory grows with the number of distinct values, which suits
+ * the low- and medium-cardinality columns dictionary encoding is meant for.
+ * </p>
+ * <p>Not thread-safe; it is filled by the reading thread only.</p>
+ *
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public final class CsvStringDictionary {
+
+    private String[] values = new String[16];
+    private int[] hashes = new int[16];
+    private int size;
+    private int[] table = new int[32]; // code + 1 per slot, 0 = free
+    private int mask = 31;
+
+    /**
+     * Returns the code of the given value, adding it if it has not been seen before.
+     */
+    public int encode(CharSequence value) {
+        int length = value.length();
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + value.charAt(i);
+        }
+        int slot = spread(hash) & mask;
+        while (true) {
+            int entry = table[slot];
+            if (entry == 0) break;
+            int code = entry - 1;
+            if (hashes[code] == hash && contentEquals(values[code], value, length)) return code;
+            slot = (slot + 1) & mask;
+        }
+        int code = add(value.toString(), hash);
+        table[slot] = code + 1;
+        if (size * 2 > table.length) rehash();
+        return code;
+    }
+
+    /**
+     * Returns the value with the given code.
+     *
+     * @throws IndexOutOfBoundsException if no value has that code
+     */
+    public String get(int code) {
+        if (code < 0 || code >= size) {
+            throw new IndexOutOfBoundsException("Code " + code + " out of bounds for " + size + " values");
+        }
+        return values[code];
+    }
+
+    /**
+     * Returns the number of distinct values, which is also the next code to be given out.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CsvStringDictionary[size=" + size + "]";
+    }
+
+    private int add(String value, int hash) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+            hashes = Arrays.copyOf(hashes, size << 1);
+        }
+        values[size] = value;
+        hashes[size] = hash;
+        return size++;
+    }
+
+    private void rehash() {
+        int[] grown = new int[table.length << 1];
+        int grownMask = grown.length - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = spread(hashes[code]) & grownMask;
+            while (grown[slot] != 0) slot = (slot + 1) & grownMask;
+            grown[slot] = code + 1;
+        }
+        table = grown;
+        mask = grownMask;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean contentEquals(String candidate, CharSequence value, int length) {
+        if (candidate.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != value.charAt(i)) return false;
+        }
+        return true;
+    }
+}
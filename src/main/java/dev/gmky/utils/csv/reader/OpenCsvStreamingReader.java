@@ -1,29 +1,32 @@
 package dev.gmky.utils.csv.reader;
 
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
 import dev.gmky.utils.csv.annotation.CsvRecord;
 import dev.gmky.utils.csv.callback.CsvReadCallback;
 import dev.gmky.utils.csv.config.CsvReaderConfig;
 import dev.gmky.utils.csv.config.CsvReaderConfig.ErrorStrategy;
 import dev.gmky.utils.csv.exception.CsvParsingException;
-import dev.gmky.utils.csv.mapper.AnnotationCsvRowMapper;
+import dev.gmky.utils.csv.mapper.CsvRow;
 import dev.gmky.utils.csv.mapper.CsvRowMapper;
-import dev.gmky.utils.csv.model.CsvError;
 import dev.gmky.utils.csv.model.CsvReadResult;
+import dev.gmky.utils.csv.parser.CsvDecompression;
+import dev.gmky.utils.csv.parser.CsvRowView;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.parser.CsvTokenizers;
 import dev.gmky.utils.csv.validator.CsvRowValidator;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -36,6 +39,25 @@ import java.util.stream.StreamSupport;
  * escaped quotes, configurable delimiters). This class layers the annotation-driven DTO
  * mapping, error handling, lifecycle callbacks, and validator on top.
  * </p>
+ * <p>
+ * Set {@link CsvReaderConfig#getEngine() engine} to {@link CsvReaderConfig.Engine#NATIVE NATIVE}
+ * to tokenize with the built-in {@link dev.gmky.utils.csv.parser.NativeCsvTokenizer} instead,
+ * which hands cells to the mapper as buffer slices rather than a {@code String[]}.
+ * </p>
+ * <p>
+ * The {@link Path} and {@link FileChannel} overloads memory-map the file in windows
+ * (see {@link dev.gmky.utils.csv.parser.MappedFileReader}) and decode straight from the
+ * mapped pages instead of copying through an {@code InputStream}.
+ * </p>
+ * <p>
+ * With {@link CsvReaderConfig#isParallel() parallel} enabled, rows are mapped and validated in
+ * batches on {@link CsvReaderConfig#getExecutor()} while the calling thread keeps tokenizing
+ * (see {@link ParallelMappingPipeline}). Consumers, callbacks, error strategies and
+ * {@code maxErrors} still see rows in file order on the calling thread. For the {@link Path}
+ * and {@link FileChannel} overloads the file is additionally split into record-aligned byte
+ * ranges (see {@link CsvFileSplitter}) that are tokenized on separate cores; line numbers in
+ * errors remain absolute.
+ * </p>
  *
  * <h3>Usage:</h3>
  * <pre>{@code
@@ -72,6 +94,19 @@ public class OpenCsvStreamingReader<T> implements dev.gmky.utils.csv.reader.CsvR
         return new OpenCsvStreamingReader<>(targetType, config, null);
     }
 
+    /**
+     * Creates a reader of DTO-less {@link CsvRow}s with default config. Sequential reads
+     * rebind one row per record; see {@link CsvRow} for when to copy it.
+     */
+    public static OpenCsvStreamingReader<CsvRow> forRows() {
+        return forRows(CsvReaderConfig.defaultConfig());
+    }
+
+    /** Creates a reader of DTO-less {@link CsvRow}s with explicit config. */
+    public static OpenCsvStreamingReader<CsvRow> forRows(CsvReaderConfig config) {
+        return new OpenCsvStreamingReader<>(CsvRow.class, config, null);
+    }
+
     /** Creates a reader with a fully custom row mapper (annotations are bypassed). */
     public static <T> OpenCsvStreamingReader<T> withMapper(
             Class<T> targetType, CsvReaderConfig config, CsvRowMapper<T> mapper) {
@@ -83,177 +118,594 @@ public class OpenCsvStreamingReader<T> implements dev.gmky.utils.csv.reader.CsvR
     @Override
     public List<T> readAll(InputStream inputStream) {
         List<T> results = new ArrayList<>();
-        read(inputStream, results::add);
+        read(inputStream, row -> results.add(CsvRow.detach(row)));
         return results;
     }
 
     @Override
     public Stream<T> stream(InputStream inputStream) {
-        try {
-            var csvReader = buildCsvReader(inputStream);
-            String[] headers = config.isHasHeader() ? csvReader.readNext() : null;
-            fireOnHeader(headers);
-
-            var mapper = resolveMapper(headers);
-            java.util.concurrent.atomic.AtomicLong lineCounter = new java.util.concurrent.atomic.AtomicLong(config.isHasHeader() ? 1 : 0);
-
-            return StreamSupport.stream(
-                    Spliterators.spliteratorUnknownSize(csvReader.iterator(), java.util.Spliterator.ORDERED),
-                    config.isParallel()
-            ).map(columns -> {
-                long currentLine = lineCounter.incrementAndGet();
-                if (shouldSkipEmpty(columns)) return null;
-                try {
-                    String[] processedColumns = trimIfNeeded(columns);
-                    return mapper.map(processedColumns, headers, currentLine);
-                } catch (Exception e) {
-                    log.warn("Row {} mapping failed: {}", currentLine, e.getMessage());
-                    return null;
-                }
-            }).filter(Objects::nonNull)
-              .onClose(() -> {
-                  try {
-                      csvReader.close();
-                  } catch (IOException ignored) {
-                      log.debug("Failed to close CSVReader in stream onClose handler");
-                  }
-              });
-        } catch (Exception e) {
-            throw new CsvParsingException(0, "", "Failed to open/read CSV stream", e);
-        }
+        return stream(() -> CsvTokenizers.open(inputStream, config));
     }
 
     @Override
     public void read(InputStream inputStream, Consumer<T> rowConsumer) {
-        readWithResult(inputStream, rowConsumer);
+        readWithResult(() -> CsvTokenizers.open(inputStream, config), rowConsumer);
     }
 
     @Override
     public CsvReadResult<T> readWithResult(InputStream inputStream) {
-        return readWithResult(inputStream, null);
+        return readWithResult(() -> CsvTokenizers.open(inputStream, config), null);
+    }
+
+    @Override
+    public CsvReadResult<T> readWithResult(InputStream inputStream, Consumer<T> rowConsumer) {
+        return readWithResult(() -> CsvTokenizers.open(inputStream, config), Objects.requireNonNull(rowConsumer));
+    }
+
+    // ------------------------- Memory-mapped file API ----------------------------
+
+    @Override
+    public List<T> readAll(Path path) {
+        List<T> results = new ArrayList<>();
+        read(path, row -> results.add(CsvRow.detach(row)));
+        return results;
+    }
+
+    @Override
+    public Stream<T> stream(Path path) {
+        return splittable(path)
+                ? splitStream(() -> FileChannel.open(path, StandardOpenOption.READ), true)
+                : stream(() -> CsvTokenizers.open(path, config));
+    }
+
+    @Override
+    public void read(Path path, Consumer<T> rowConsumer) {
+        readWithResult(path, rowConsumer);
+    }
+
+    @Override
+    public CsvReadResult<T> readWithResult(Path path) {
+        return splittable(path)
+                ? readSplit(() -> FileChannel.open(path, StandardOpenOption.READ), true, null)
+                : readWithResult(() -> CsvTokenizers.open(path, config), null);
+    }
+
+    @Override
+    public CsvReadResult<T> readWithResult(Path path, Consumer<T> rowConsumer) {
+        Objects.requireNonNull(rowConsumer);
+        return splittable(path)
+                ? readSplit(() -> FileChannel.open(path, StandardOpenOption.READ), true, rowConsumer)
+                : readWithResult(() -> CsvTokenizers.open(path, config), rowConsumer);
+    }
+
+    /**
+     * Reads all rows from a memory-mapped file channel. The channel is left open.
+     */
+    public List<T> readAll(FileChannel channel) {
+        List<T> results = new ArrayList<>();
+        read(channel, row -> results.add(CsvRow.detach(row)));
+        return results;
+    }
+
+    /**
+     * Returns a lazy stream over a memory-mapped file channel. The channel is left open.
+     */
+    public Stream<T> stream(FileChannel channel) {
+        return splittable(channel)
+                ? splitStream(() -> channel, false)
+                : stream(() -> CsvTokenizers.open(channel, config));
+    }
+
+    /**
+     * Processes each row of a memory-mapped file channel. The channel is left open.
+     */
+    public void read(FileChannel channel, Consumer<T> rowConsumer) {
+        readWithResult(channel, rowConsumer);
+    }
+
+    /**
+     * Processes the rows of a memory-mapped file channel in batches of up to {@code batchSize}.
+     * See {@link #read(InputStream, int, Consumer)} for how batches are reused. The channel is left open.
+     */
+    public void read(FileChannel channel, int batchSize, Consumer<List<T>> batchConsumer) {
+        CsvRowBatcher<T> batcher = new CsvRowBatcher<>(batchSize, batchConsumer);
+        read(channel, batcher);
+        batcher.flush();
+    }
+
+    /**
+     * Reads a memory-mapped file channel and collects successes and errors. The channel is left open.
+     */
+    public CsvReadResult<T> readWithResult(FileChannel channel) {
+        return splittable(channel)
+                ? readSplit(() -> channel, false, null)
+                : readWithResult(() -> CsvTokenizers.open(channel, config), null);
+    }
+
+    /**
+     * Streams the rows of a memory-mapped file channel to {@code rowConsumer} and returns a
+     * summary without the mapped rows. The channel is left open.
+     */
+    public CsvReadResult<T> readWithResult(FileChannel channel, Consumer<T> rowConsumer) {
+        Objects.requireNonNull(rowConsumer);
+        return splittable(channel)
+                ? readSplit(() -> channel, false, rowConsumer)
+                : readWithResult(() -> CsvTokenizers.open(channel, config), rowConsumer);
     }
 
     // ---------------------------- Internal logic -----------------------------------
 
+    /** Opens the tokenizer for one read operation, deferred so open failures are reported uniformly. */
+    @FunctionalInterface
+    private interface TokenizerSource {
+        CsvTokenizer open() throws IOException;
+    }
+
+    /** Opens the file channel for one split read. */
+    @FunctionalInterface
+    private interface ChannelSource {
+        FileChannel open() throws IOException;
+    }
+
+    /** Whether file reads can be split into byte ranges tokenized on separate cores. */
+    private boolean splittable() {
+        return config.isParallel() && CsvFileSplitter.supports(config);
+    }
+
+    /** Whether {@code path} can be split; compressed files are read sequentially. */
+    private boolean splittable(Path path) {
+        try {
+            return splittable() && CsvDecompression.compressionOf(path, config) == CsvReaderConfig.Compression.NONE;
+        } catch (IOException e) {
+            return false; // let the sequential read report it
+        }
+    }
+
+    /** Whether {@code channel} can be split; compressed files are read sequentially. */
+    private boolean splittable(FileChannel channel) {
+        try {
+            return splittable()
+                    && CsvDecompression.compressionOf(channel, null, config) == CsvReaderConfig.Compression.NONE;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Stream<T> stream(TokenizerSource source) {
+        try {
+            CsvTokenizer tokenizer = source.open();
+            String[] headers = config.isHasHeader() && tokenizer.nextRecord() ? tokenizer.toArray() : null;
+            fireOnHeader(headers);
+
+            var mapper = resolveMapper(headers);
+            CsvRowGate gate = new CsvRowGate(config).bind(headers);
+            project(tokenizer, mapper, gate);
+            long firstLine = config.isHasHeader() ? 1 : 0;
+            if (config.isParallel()) {
+                var pipeline = ParallelMappingPipeline.overTokenizer(tokenizer, mapper, null, headers, firstLine,
+                        config, gate);
+                return StreamSupport.stream(new PipelineSpliterator(pipeline), true)
+                        .onClose(() -> {
+                            pipeline.close();
+                            closeQuietly(tokenizer);
+                        });
+            }
+
+            Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+                private long lineNumber = firstLine;
+
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
+                    try {
+                        while (tokenizer.nextRecord()) {
+                            lineNumber++;
+                            if (gate.test(tokenizer)) continue;
+                            T record = mapRow(mapper, tokenizer, headers, lineNumber);
+                            if (record != null) {
+                                action.accept(record);
+                                return true;
+                            }
+                        }
+                        return false;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            };
+
+            return StreamSupport.stream(spliterator, false)
+                    .onClose(() -> closeQuietly(tokenizer));
+        } catch (Exception e) {
+            throw new CsvParsingException(0, "", "Failed to open/read CSV stream", e);
+        }
+    }
+
     @SuppressWarnings("unchecked")
-    private CsvReadResult<T> readWithResult(InputStream inputStream, Consumer<T> externalConsumer) {
+    private CsvReadResult<T> readWithResult(TokenizerSource source, Consumer<T> rowConsumer) {
         Instant start = Instant.now();
-        List<T> successRecords = new ArrayList<>();
-        List<CsvError> errors = new ArrayList<>();
-        long[] totalRows = {0};
+        List<T> successRecords = rowConsumer == null ? new ArrayList<>() : List.of();
+        RowSink<T> sink = new RowSink<>(rowConsumer != null
+                ? rowConsumer
+                : record -> successRecords.add(CsvRow.detach(record)));
+        CsvErrorCollector errors = new CsvErrorCollector(config);
+        CsvRowGate gate = new CsvRowGate(config);
+        long totalRows;
         String[] headers = null;
 
         fireOnStart();
 
-        try (CSVReader csvReader = buildCsvReader(inputStream)) {
+        try (errors; CsvTokenizer tokenizer = source.open()) {
             if (config.isHasHeader()) {
-                headers = csvReader.readNext();
+                headers = tokenizer.nextRecord() ? tokenizer.toArray() : null;
                 fireOnHeader(headers);
             }
 
-            CsvRowMapper<T> mapper = resolveMapper(headers);
+            CsvRowMapper<T> mapper = config.isParallel() ? resolveMapper(headers) : resolveSequentialMapper(headers);
+            gate.bind(headers);
+            project(tokenizer, mapper, gate);
             CsvRowValidator<T> validator = (CsvRowValidator<T>) config.getValidator();
-            long lineNumber = config.isHasHeader() ? 1 : 0;
-            String[] row;
+            totalRows = config.isParallel()
+                    ? readParallel(tokenizer, mapper, validator, headers, gate, sink, errors)
+                    : readSequential(tokenizer, mapper, validator, headers, gate, sink, errors);
+            logStringPools(mapper);
 
-            while ((row = csvReader.readNext()) != null) {
-                lineNumber++;
-                totalRows[0]++;
-
-                if (shouldSkipEmpty(row)) continue;
-
-                // Check max-errors guard
-                if (config.getMaxErrors() >= 0 && errors.size() >= config.getMaxErrors()) {
-                    log.warn("Max errors ({}) reached. Stopping early at line {}.",
-                            config.getMaxErrors(), lineNumber);
-                    break;
-                }
-
-                String rawLine = String.join(String.valueOf(config.getDelimiter()), row);
-                String[] processed = trimIfNeeded(row);
+        } catch (dev.gmky.utils.csv.exception.CsvParsingException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        }
 
-                try {
-                    T record = mapper.map(processed, headers, lineNumber);
+        return complete(start, successRecords, sink, errors, totalRows, gate);
+    }
 
-                    // Validate
-                    if (validator != null) {
-                        List<String> violations = validator.validate(record);
-                        if (!violations.isEmpty()) {
-                            handleError(errors, lineNumber, rawLine, null,
-                                    new dev.gmky.utils.csv.exception.CsvValidationException(lineNumber, violations));
-                            continue;
-                        }
-                    }
+    /**
+     * Splits a file into byte ranges that are tokenized, mapped and validated on the
+     * configured executor, then applies the outcomes in file order.
+     */
+    @SuppressWarnings("unchecked")
+    private CsvReadResult<T> readSplit(ChannelSource source, boolean closeChannel, Consumer<T> rowConsumer) {
+        Instant start = Instant.now();
+        List<T> successRecords = rowConsumer == null ? new ArrayList<>() : List.of();
+        RowSink<T> sink = new RowSink<>(rowConsumer != null ? rowConsumer : successRecords::add);
+        CsvErrorCollector errors = new CsvErrorCollector(config);
+        CsvRowGate gate = new CsvRowGate(config);
+        long totalRows;
 
-                    successRecords.add(record);
-                    if (externalConsumer != null) externalConsumer.accept(record);
-                    fireOnRow(lineNumber, record);
+        fireOnStart();
 
-                } catch (dev.gmky.utils.csv.exception.CsvParsingException e) {
-                    // Already handled and thrown by a nested call (e.g., handleError in FAIL_FAST)
-                    throw e;
-                } catch (Exception e) {
-                    handleError(errors, lineNumber, rawLine, e.getMessage(), e);
-                }
+        FileChannel channel = null;
+        try (errors) {
+            channel = source.open();
+            CsvRowValidator<T> validator = (CsvRowValidator<T>) config.getValidator();
+            try (var pipeline = openSplitPipeline(channel, validator, gate)) {
+                totalRows = applyBatches(pipeline, sink, errors);
+                logStringPools(pipeline.mapper());
             }
-
         } catch (dev.gmky.utils.csv.exception.CsvParsingException e) {
             throw e;
         } catch (Exception e) {
             throw new CsvParsingException(0, "", "Failed to read CSV", e);
+        } finally {
+            if (closeChannel && channel != null) closeQuietly(channel);
         }
 
+        return complete(start, successRecords, sink, errors, totalRows, gate);
+    }
+
+    private Stream<T> splitStream(ChannelSource source, boolean closeChannel) {
+        FileChannel channel = null;
+        try {
+            channel = source.open();
+            var pipeline = openSplitPipeline(channel, null, new CsvRowGate(config));
+            FileChannel opened = channel;
+            return StreamSupport.stream(new PipelineSpliterator(pipeline), true)
+                    .onClose(() -> {
+                        pipeline.close();
+                        if (closeChannel) closeQuietly(opened);
+                    });
+        } catch (Exception e) {
+            if (closeChannel && channel != null) closeQuietly(channel);
+            throw new CsvParsingException(0, "", "Failed to open/read CSV stream", e);
+        }
+    }
+
+    /**
+     * Splits the file, reads the header from its own range, fires {@code onHeader} and binds {@code gate}.
+     */
+    private ParallelMappingPipeline<T> openSplitPipeline(FileChannel channel, CsvRowValidator<T> validator,
+                                                         CsvRowGate gate) throws IOException {
+        CsvFileSplitter.Split split = new CsvFileSplitter(config).split(channel);
+        String[] headers = null;
+        if (split.header() != null) {
+            CsvFileSplitter.Range header = split.header();
+            try (CsvTokenizer tokenizer = CsvTokenizers.open(channel, header.start(), header.length(), config)) {
+                headers = tokenizer.nextRecord() ? tokenizer.toArray() : null;
+            }
+            fireOnHeader(headers);
+        }
+        CsvRowMapper<T> mapper = resolveMapper(headers);
+        gate.bind(headers);
+        return ParallelMappingPipeline.overRanges(split.ranges(),
+                range -> {
+                    CsvTokenizer tokenizer = CsvTokenizers.open(channel, range.start(), range.length(), config);
+                    project(tokenizer, mapper, gate);
+                    return tokenizer;
+                },
+                split.recordCount(), mapper, validator, headers, config, gate);
+    }
+
+    private CsvReadResult<T> complete(Instant start, List<T> successRecords, RowSink<T> sink,
+                                      CsvErrorCollector errors, long totalRows, CsvRowGate gate) {
         Duration elapsed = Duration.between(start, Instant.now());
         CsvReadResult<T> result = new CsvReadResult<>(
-                successRecords, errors, totalRows[0],
-                successRecords.size(), errors.size(), elapsed
+                successRecords, errors.errors(), totalRows,
+                sink.count, errors.count(), elapsed, errors.spillFile(), gate.filtered()
         );
         fireOnComplete(result);
         return result;
     }
 
-    private void handleError(List<CsvError> errors, long line, String raw, String msg, Exception e) {
+    /**
+     * Maps and validates rows one at a time on the calling thread.
+     *
+     * @return the number of data rows read
+     */
+    private long readSequential(CsvTokenizer tokenizer, CsvRowMapper<T> mapper, CsvRowValidator<T> validator,
+                                String[] headers, CsvRowGate gate, RowSink<T> sink, CsvErrorCollector errors)
+            throws IOException {
+        long totalRows = 0;
+        long lineNumber = config.isHasHeader() ? 1 : 0;
+
+        while (tokenizer.nextRecord()) {
+            lineNumber++;
+            totalRows++;
+
+            if (gate.test(tokenizer)) continue;
+
+            // Check max-errors guard
+            if (maxErrorsReached(errors, lineNumber)) break;
+
+            T record;
+            try {
+                record = mapper.map(tokenizer, headers, lineNumber);
+
+                // Validate
+                if (validator != null) {
+                    List<String> violations = validator.validate(record);
+                    if (!violations.isEmpty()) {
+                        handleError(errors, lineNumber, tokenizer.rawRecord(), null,
+                                new dev.gmky.utils.csv.exception.CsvValidationException(lineNumber, violations,
+                                        !config.isStacklessErrors()));
+                        continue;
+                    }
+                }
+            } catch (dev.gmky.utils.csv.exception.CsvParsingException e) {
+                // Already handled and thrown by a nested call (e.g., handleError in FAIL_FAST)
+                throw e;
+            } catch (Exception e) {
+                handleError(errors, lineNumber, tokenizer.rawRecord(), e.getMessage(), e);
+                continue;
+            }
+
+            // Outside the row's try: a failing consumer aborts the read, as in applyBatches
+            sink.accept(record);
+            fireOnRow(lineNumber, record);
+        }
+        return totalRows;
+    }
+
+    /**
+     * Maps and validates batches on the configured executor while this thread tokenizes.
+     * Outcomes are applied in file order, so results match {@link #readSequential}.
+     *
+     * @return the number of data rows read
+     */
+    private long readParallel(CsvTokenizer tokenizer, CsvRowMapper<T> mapper, CsvRowValidator<T> validator,
+                              String[] headers, CsvRowGate gate, RowSink<T> sink, CsvErrorCollector errors)
+            throws IOException {
+        long headerLines = config.isHasHeader() ? 1 : 0;
+        try (var pipeline = ParallelMappingPipeline.overTokenizer(tokenizer, mapper, validator, headers, headerLines,
+                config, gate)) {
+            return applyBatches(pipeline, sink, errors);
+        }
+    }
+
+    /**
+     * Applies mapped batches in file order on the calling thread.
+     *
+     * @return the number of data rows read
+     */
+    private long applyBatches(ParallelMappingPipeline<T> pipeline, RowSink<T> sink, CsvErrorCollector errors)
+            throws IOException {
+        long headerLines = config.isHasHeader() ? 1 : 0;
+        ParallelMappingPipeline.MappedBatch<T> batch;
+        while ((batch = pipeline.next()) != null) {
+            for (int i = 0; i < batch.size(); i++) {
+                long lineNumber = batch.lineNumber(i);
+                if (maxErrorsReached(errors, lineNumber)) return lineNumber - headerLines;
+
+                Exception error = batch.error(i);
+                if (error == null) {
+                    T record = batch.record(i);
+                    sink.accept(record);
+                    fireOnRow(lineNumber, record);
+                } else if (error instanceof CsvParsingException e) {
+                    throw e;
+                } else if (error instanceof dev.gmky.utils.csv.exception.CsvValidationException) {
+                    handleError(errors, lineNumber, batch.rawRecord(i), null, error);
+                } else {
+                    handleError(errors, lineNumber, batch.rawRecord(i), error.getMessage(), error);
+                }
+            }
+        }
+        return pipeline.recordsRead();
+    }
+
+    private boolean maxErrorsReached(CsvErrorCollector errors, long lineNumber) {
+        if (config.getMaxErrors() >= 0 && errors.count() >= config.getMaxErrors()) {
+            log.warn("Max errors ({}) reached. Stopping early at line {}.",
+                    config.getMaxErrors(), lineNumber);
+            return true;
+        }
+        return false;
+    }
+
+    private void handleError(CsvErrorCollector errors, long line, String rawLine, String msg, Exception e) {
+        String raw = errors.truncate(rawLine);
         ErrorStrategy strategy = config.getErrorStrategy();
         if (strategy == ErrorStrategy.FAIL_FAST) {
             throw new CsvParsingException(line, raw, msg != null ? msg : e.getMessage(), e);
         }
         fireOnError(line, raw, e);
         if (strategy == ErrorStrategy.SKIP_AND_LOG) {
-            errors.add(CsvError.of(line, raw, e.getMessage(), e));
+            errors.add(line, raw, e.getMessage(), e);
         }
         // SKIP_SILENT: do nothing
     }
 
     private CsvRowMapper<T> resolveMapper(String[] headers) {
         if (customMapper != null) return customMapper;
-        return new AnnotationCsvRowMapper<>(targetType, headers);
+        return CsvRowMapper.forConfig(targetType, headers, config);
     }
 
-    private CSVReader buildCsvReader(InputStream inputStream) {
-        var parser = new CSVParserBuilder()
-                .withSeparator(config.getDelimiter())
-                .withQuoteChar(config.getQuoteChar())
-                .withEscapeChar(config.getEscapeChar())
-                .withIgnoreLeadingWhiteSpace(config.isTrimValues())
-                .build();
-        return new CSVReaderBuilder(new InputStreamReader(inputStream, config.getCharset()))
-                .withCSVParser(parser)
-                .withSkipLines(0)
-                .build();
+    /**
+     * Like {@link #resolveMapper}, but maps {@link CsvRow}s onto one reused flyweight: rows are
+     * handed to the consumer one at a time on this thread and copied wherever they are kept.
+     */
+    @SuppressWarnings("unchecked")
+    private CsvRowMapper<T> resolveSequentialMapper(String[] headers) {
+        if (customMapper == null && targetType == CsvRow.class) {
+            return (CsvRowMapper<T>) CsvRow.mapper(headers, config, true);
+        }
+        return resolveMapper(headers);
+    }
+
+    /**
+     * Restricts full tokenization to the mapper's and the row filter's columns when projection is enabled.
+     */
+    private void project(CsvTokenizer tokenizer, CsvRowMapper<T> mapper, CsvRowGate gate) {
+        if (config.isProjection()) tokenizer.project(gate.projection(mapper.boundColumns()));
     }
 
-    private boolean shouldSkipEmpty(String[] row) {
-        return config.isSkipEmptyLines() && (row == null || row.length == 0
-                || (row.length == 1 && StringUtils.isBlank(row[0])));
+    private void logStringPools(CsvRowMapper<T> mapper) {
+        if (log.isDebugEnabled()) {
+            mapper.stringPools().forEach((field, pool) -> log.debug("String pool for {}.{}: {}",
+                    targetType.getSimpleName(), field, pool));
+        }
     }
 
-    private String[] trimIfNeeded(String[] columns) {
-        if (!config.isTrimValues()) return columns;
-        String[] trimmed = new String[columns.length];
-        for (int i = 0; i < columns.length; i++) {
-            trimmed[i] = columns[i] != null ? columns[i].trim() : null;
+    private T mapRow(CsvRowMapper<T> mapper, CsvRowView row, String[] headers, long lineNumber) {
+        try {
+            return mapper.map(row, headers, lineNumber);
+        } catch (Exception e) {
+            log.warn("Row {} mapping failed: {}", lineNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void closeQuietly(java.io.Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            log.debug("Failed to close CSV source in stream onClose handler");
+        }
+    }
+
+    /**
+     * Ordered spliterator over a {@link ParallelMappingPipeline}: splits hand out whole
+     * mapped batches, so downstream stages of a parallel stream work batch by batch.
+     * Rows that failed to map are logged and skipped, as in the sequential stream.
+     */
+    private final class PipelineSpliterator implements Spliterator<T> {
+
+        private final ParallelMappingPipeline<T> pipeline;
+        private ParallelMappingPipeline.MappedBatch<T> current;
+        private int index;
+
+        PipelineSpliterator(ParallelMappingPipeline<T> pipeline) {
+            this.pipeline = pipeline;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            for (;;) {
+                if (current == null || index >= current.size()) {
+                    current = nextBatch();
+                    index = 0;
+                    if (current == null) return false;
+                }
+                T record = take(current, index++);
+                if (record != null) {
+                    action.accept(record);
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            // The prefix must be the rest of the current batch, if any, to preserve encounter order
+            ParallelMappingPipeline.MappedBatch<T> batch = current;
+            int from = index;
+            if (batch == null || from >= batch.size()) {
+                batch = nextBatch();
+                from = 0;
+                if (batch == null) return null;
+            }
+            current = null;
+            List<T> records = new ArrayList<>(batch.size() - from);
+            for (int i = from; i < batch.size(); i++) {
+                T record = take(batch, i);
+                if (record != null) records.add(record);
+            }
+            return Spliterators.spliterator(records.toArray(), Spliterator.ORDERED);
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED;
+        }
+
+        private ParallelMappingPipeline.MappedBatch<T> nextBatch() {
+            try {
+                return pipeline.next();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private T take(ParallelMappingPipeline.MappedBatch<T> batch, int i) {
+            Exception error = batch.error(i);
+            if (error != null) {
+                log.warn("Row {} mapping failed: {}", batch.lineNumber(i), error.getMessage());
+                return null;
+            }
+            return batch.record(i);
+        }
+    }
+
+    /**
+     * Receives the successfully mapped rows of one read, in file order, and counts them.
+     */
+    private static final class RowSink<T> implements Consumer<T> {
+
+        private final Consumer<T> downstream;
+        private long count;
+
+        RowSink(Consumer<T> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void accept(T record) {
+            count++;
+            downstream.accept(record);
         }
-        return trimmed;
     }
 
     // ---------------------- Lifecycle helpers ----------------------------------
@@ -0,0 +1,325 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.exception.CsvValidationException;
+import dev.gmky.utils.csv.mapper.CsvRowMapper;
+import dev.gmky.utils.csv.parser.CsvRowBatch;
+import dev.gmky.utils.csv.parser.CsvRowView;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.validator.CsvRowValidator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Ordered worker pipeline behind {@link CsvReaderConfig#isParallel() parallel} reads.
+ * <p>
+ * It has two sources of work:
+ * </p>
+ * <ul>
+ *   <li>{@link #overTokenizer}: the calling thread tokenizes and copies rows into
+ *       {@link CsvRowBatch}es of {@link CsvReaderConfig#getBatchSize() batchSize}; each
+ *       batch is mapped and validated on the configured executor.</li>
+ *   <li>{@link #overRanges}: each {@link CsvFileSplitter.Range} is tokenized, mapped and
+ *       validated by one worker, so tokenizing also scales across cores.</li>
+ * </ul>
+ * <p>
+ * Either way {@link #next()} hands completed batches back strictly in file order, so
+ * callers can apply callbacks, error strategies and the max-errors guard exactly as a
+ * sequential read would. At most {@code 2 x parallelism} batches are in flight.
+ * </p>
+ *
+ * @param <T> the target DTO type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+final class ParallelMappingPipeline<T> implements AutoCloseable {
+
+    /** Opens a tokenizer positioned at the first record of a byte range. */
+    @FunctionalInterface
+    interface RangeOpener {
+        CsvTokenizer open(CsvFileSplitter.Range range) throws IOException;
+    }
+
+    /** Produces the next unit of work, or null when there is none left. */
+    @FunctionalInterface
+    private interface TaskSource<T> {
+        Supplier<MappedBatch<T>> next() throws IOException;
+    }
+
+    private final CsvRowMapper<T> mapper;
+    private final CsvRowValidator<T> validator;
+    private final String[] headers;
+    private final Predicate<CsvRowView> skipRow;
+    private final Executor executor;
+    private final int maxInFlight;
+    private final char delimiter;
+    private final boolean stacklessErrors;
+
+    private final ArrayDeque<CompletableFuture<MappedBatch<T>>> inFlight = new ArrayDeque<>();
+    private TaskSource<T> source;
+    private long recordsRead;
+    private boolean exhausted;
+    private volatile boolean cancelled;
+
+    private ParallelMappingPipeline(CsvRowMapper<T> mapper, CsvRowValidator<T> validator, String[] headers,
+                                    CsvReaderConfig config, Predicate<CsvRowView> skipRow) {
+        this.mapper = mapper;
+        this.validator = validator;
+        this.headers = headers;
+        this.skipRow = skipRow;
+        this.executor = config.getExecutor() != null ? config.getExecutor() : ForkJoinPool.commonPool();
+        int parallelism = executor instanceof ForkJoinPool pool
+                ? pool.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.maxInFlight = Math.max(parallelism, 1) * 2;
+        this.delimiter = config.getDelimiter();
+        this.stacklessErrors = config.isStacklessErrors();
+    }
+
+    /**
+     * Creates a pipeline fed by a tokenizer that is read on the calling thread.
+     *
+     * @param lineNumber line number of the record read last (the header, if any)
+     */
+    static <T> ParallelMappingPipeline<T> overTokenizer(CsvTokenizer tokenizer, CsvRowMapper<T> mapper,
+                                                        CsvRowValidator<T> validator, String[] headers,
+                                                        long lineNumber, CsvReaderConfig config,
+                                                        Predicate<CsvRowView> skipRow) {
+        var pipeline = new ParallelMappingPipeline<>(mapper, validator, headers, config, skipRow);
+        int batchSize = Math.max(config.getBatchSize(), 1);
+        ConcurrentLinkedDeque<CsvRowBatch> freeBatches = new ConcurrentLinkedDeque<>();
+        long[] line = {lineNumber};
+        pipeline.source = () -> {
+            CsvRowBatch rows = freeBatches.poll();
+            if (rows == null) rows = new CsvRowBatch(batchSize);
+            while (rows.size() < batchSize) {
+                if (!tokenizer.nextRecord()) {
+                    pipeline.exhausted = true;
+                    break;
+                }
+                line[0]++;
+                pipeline.recordsRead++;
+                if (!pipeline.skipRow.test(tokenizer)) rows.add(tokenizer, line[0]);
+            }
+            if (rows.size() == 0) {
+                freeBatches.push(rows);
+                return null;
+            }
+            CsvRowBatch batch = rows;
+            return () -> {
+                MappedBatch<T> out = pipeline.map(batch);
+                batch.clear();
+                freeBatches.push(batch);
+                return out;
+            };
+        };
+        return pipeline;
+    }
+
+    /**
+     * Creates a pipeline in which every range is tokenized and mapped by one worker.
+     *
+     * @param recordCount total number of data records across the ranges
+     */
+    static <T> ParallelMappingPipeline<T> overRanges(List<CsvFileSplitter.Range> ranges, RangeOpener opener,
+                                                     long recordCount, CsvRowMapper<T> mapper,
+                                                     CsvRowValidator<T> validator, String[] headers,
+                                                     CsvReaderConfig config, Predicate<CsvRowView> skipRow) {
+        var pipeline = new ParallelMappingPipeline<>(mapper, validator, headers, config, skipRow);
+        pipeline.recordsRead = recordCount;
+        Iterator<CsvFileSplitter.Range> it = ranges.iterator();
+        pipeline.source = () -> {
+            if (!it.hasNext()) {
+                pipeline.exhausted = true;
+                return null;
+            }
+            CsvFileSplitter.Range range = it.next();
+            return () -> pipeline.map(range, opener);
+        };
+        return pipeline;
+    }
+
+    /**
+     * Returns the next mapped batch in file order, or null once the input is exhausted.
+     */
+    MappedBatch<T> next() throws IOException {
+        while (!exhausted && inFlight.size() < maxInFlight) {
+            Supplier<MappedBatch<T>> task = source.next();
+            if (task != null) inFlight.add(CompletableFuture.supplyAsync(task, executor));
+        }
+        CompletableFuture<MappedBatch<T>> head = inFlight.poll();
+        if (head == null) return null;
+        try {
+            return head.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of data records tokenized so far, or in total when reading ranges.
+     */
+    long recordsRead() {
+        return recordsRead;
+    }
+
+    /** Returns the mapper rows are mapped with. */
+    CsvRowMapper<T> mapper() {
+        return mapper;
+    }
+
+    /**
+     * Stops workers from mapping rows that will never be consumed, waits for the running
+     * ones to return and drops pending batches, so the caller may close the tokenizer or
+     * file channel the workers read from. The tokenizer is not closed.
+     */
+    @Override
+    public void close() {
+        cancelled = true;
+        for (CompletableFuture<MappedBatch<T>> batch : inFlight) {
+            try {
+                batch.join();
+            } catch (CompletionException | CancellationException ignored) {
+                // the batch is dropped either way
+            }
+        }
+        inFlight.clear();
+    }
+
+    private MappedBatch<T> map(CsvRowBatch rows) {
+        MappedBatch<T> out = new MappedBatch<>(rows.size());
+        CsvRowBatch.Cursor cursor = rows.cursor();
+        for (int i = 0; i < rows.size() && !cancelled; i++) {
+            long line = rows.lineNumber(i);
+            Exception error;
+            try {
+                T record = mapper.map(cursor.moveTo(i), headers, line);
+                error = validate(record, line);
+                if (error == null) {
+                    out.add(line, record, null, null);
+                    continue;
+                }
+            } catch (Exception e) {
+                error = e;
+            }
+            out.add(line, null, error, rows.rawRecord(i, delimiter));
+        }
+        return out;
+    }
+
+    private MappedBatch<T> map(CsvFileSplitter.Range range, RangeOpener opener) {
+        MappedBatch<T> out = new MappedBatch<>((int) Math.min(range.recordCount(), 1 << 16));
+        if (cancelled) return out;
+        long line = range.firstLineNumber() - 1;
+        try (CsvTokenizer tokenizer = opener.open(range)) {
+            while (!cancelled && tokenizer.nextRecord()) {
+                line++;
+                if (skipRow.test(tokenizer)) continue;
+                Exception error;
+                try {
+                    T record = mapper.map(tokenizer, headers, line);
+                    error = validate(record, line);
+                    if (error == null) {
+                        out.add(line, record, null, null);
+                        continue;
+                    }
+                } catch (Exception e) {
+                    error = e;
+                }
+                out.add(line, null, error, tokenizer.rawRecord());
+            }
+        } catch (CsvParsingException e) {
+            // Tokenizer line numbers are relative to the range
+            throw new CsvParsingException(range.firstLineNumber() - 1 + e.getLineNumber(),
+                    e.getRawLine(), e.getReason(), e.getCause());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out;
+    }
+
+    private CsvValidationException validate(T record, long line) {
+        if (validator == null) return null;
+        List<String> violations = validator.validate(record);
+        return violations.isEmpty() ? null : new CsvValidationException(line, violations, !stacklessErrors);
+    }
+
+    /**
+     * Outcome of mapping one batch: per row, either a record or the exception it failed with
+     * together with its raw line.
+     */
+    static final class MappedBatch<T> {
+
+        private long[] lines;
+        private Object[] records;
+        private Exception[] errors;
+        private String[] rawLines;
+        private int size;
+
+        private MappedBatch(int capacity) {
+            int initial = Math.max(capacity, 1);
+            this.lines = new long[initial];
+            this.records = new Object[initial];
+        }
+
+        private void add(long line, Object record, Exception error, String rawLine) {
+            if (size == lines.length) {
+                lines = Arrays.copyOf(lines, size << 1);
+                records = Arrays.copyOf(records, size << 1);
+            }
+            if (error != null) {
+                if (errors == null) {
+                    errors = new Exception[lines.length];
+                    rawLines = new String[lines.length];
+                } else if (errors.length < lines.length) {
+                    errors = Arrays.copyOf(errors, lines.length);
+                    rawLines = Arrays.copyOf(rawLines, lines.length);
+                }
+                errors[size] = error;
+                rawLines[size] = rawLine;
+            }
+            lines[size] = line;
+            records[size++] = record;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long lineNumber(int index) {
+            return lines[index];
+        }
+
+        @SuppressWarnings("unchecked")
+        T record(int index) {
+            return (T) records[index];
+        }
+
+        /** Returns the failure for the given row, or null if it mapped successfully. */
+        Exception error(int index) {
+            return errors != null && index < errors.length ? errors[index] : null;
+        }
+
+        /** Returns the raw line of a failed row. */
+        String rawRecord(int index) {
+            return rawLines[index];
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.config.CsvReaderConfig.ErrorStrategy;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.exception.CsvValidationException;
+import dev.gmky.utils.csv.mapper.CsvRowMapper;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.parser.NativeCsvTokenizer;
+import dev.gmky.utils.csv.validator.CsvRowValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads CSV content arriving as a {@code Flux<DataBuffer>}, such as a multipart upload or
+ * {@code DataBufferUtils.read(...)} on a file, and emits the mapped rows as a {@code Flux<T>}.
+ * <p>
+ * Buffers are decoded as they arrive and every complete record is tokenized with the
+ * {@link NativeCsvTokenizer} (whatever {@link CsvReaderConfig#getEngine() engine} is
+ * configured), mapped with {@link CsvRowMapper#forConfig} and checked by the configured
+ * {@link CsvRowValidator}. A record split across buffers is carried over until its end has
+ * arrived. Upstream buffers are requested one at a time as downstream demand requires, so
+ * memory stays bounded by the buffer size and the longest record, and no thread blocks.
+ * Each buffer is released once decoded.
+ * </p>
+ * <p>
+ * Row errors follow the {@link ErrorStrategy}: {@code FAIL_FAST} terminates the flux with a
+ * {@link CsvParsingException}, the skip strategies drop the row (logging it for
+ * {@code SKIP_AND_LOG}), and reaching {@code maxErrors} completes the flux early.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * ReactiveCsvReader<UserDto> reader = ReactiveCsvReader.forType(UserDto.class);
+ * Flux<UserDto> users = reader.read(filePart.content());
+ * }</pre>
+ *
+ * @param <T> the target DTO type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+@Slf4j
+public class ReactiveCsvReader<T> {
+
+    private final Class<T> targetType;
+    private final CsvReaderConfig config;
+    private final CsvRowMapper<T> customMapper; // null = CsvRowMapper.forConfig
+
+    private ReactiveCsvReader(Class<T> targetType, CsvReaderConfig config, CsvRowMapper<T> customMapper) {
+        this.targetType = targetType;
+        this.config = config;
+        this.customMapper = customMapper;
+    }
+
+    /** Creates a reader using annotation-driven mapping and the DTO's {@code @CsvRecord} config. */
+    public static <T> ReactiveCsvReader<T> forType(Class<T> targetType) {
+        return forType(targetType, OpenCsvStreamingReader.resolveConfigPublic(targetType));
+    }
+
+    /** Creates a reader with explicit config. Annotation config on the DTO is overridden. */
+    public static <T> ReactiveCsvReader<T> forType(Class<T> targetType, CsvReaderConfig config) {
+        return new ReactiveCsvReader<>(targetType, config, null);
+    }
+
+    /** Creates a reader with a fully custom row mapper (annotations are bypassed). */
+    public static <T> ReactiveCsvReader<T> withMapper(Class<T> targetType, CsvReaderConfig config,
+                                                      CsvRowMapper<T> mapper) {
+        return new ReactiveCsvReader<>(targetType, config, mapper);
+    }
+
+    /**
+     * Returns a flux of the rows in {@code content}. Nothing is read until it is subscribed
+     * to, and each subscription reads {@code content} afresh.
+     */
+    public Flux<T> read(Flux<DataBuffer> content) {
+        return Flux.defer(() -> {
+            Session session = new Session();
+            return content
+                    .takeWhile(buffer -> !session.stopped)
+                    .concatMapIterable(session::feed, 1)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(session.finish())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+        });
+    }
+
+    /**
+     * Parsing state of one subscription: undecoded bytes of a split character, decoded
+     * characters of the records not yet complete, and the scanner state over them.
+     */
+    private final class Session {
+
+        private final CsvFileSplitter.RecordScanner scanner = new CsvFileSplitter.RecordScanner(config);
+        private final CsvRowValidator<T> validator;
+        private final CharsetDecoder decoder = config.getCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private ByteBuffer carry = ByteBuffer.allocate(0);
+        private char[] pending = new char[1024];
+        private int length;  // chars in pending
+        private int scanned; // chars of pending already seen by the scanner
+        private boolean headerRead = !config.isHasHeader();
+        private String[] headers;
+        private CsvRowMapper<T> mapper;
+        private CsvRowGate gate;
+        private long lineNumber;
+        private long errors;
+        private boolean stopped;
+
+        @SuppressWarnings("unchecked")
+        Session() {
+            this.validator = (CsvRowValidator<T>) config.getValidator();
+        }
+
+        List<T> feed(DataBuffer buffer) {
+            try (DataBuffer.ByteBufferIterator chunks = buffer.readableByteBuffers()) {
+                while (chunks.hasNext()) decode(chunks.next(), false);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+            int boundary = scanner.scan(pending, scanned, length);
+            scanned = length;
+            return boundary > 0 ? parse(boundary) : List.of();
+        }
+
+        List<T> finish() {
+            if (stopped) return List.of();
+            decode(ByteBuffer.allocate(0), true);
+            CharBuffer out = CharBuffer.wrap(pending, length, pending.length - length);
+            decoder.flush(out);
+            length = out.position();
+            return length > 0 ? parse(length) : List.of();
+        }
+
+        private void decode(ByteBuffer in, boolean endOfInput) {
+            if (carry.hasRemaining()) {
+                in = ByteBuffer.allocate(carry.remaining() + in.remaining()).put(carry).put(in).flip();
+            }
+            ensureCapacity((int) (in.remaining() * (double) decoder.maxCharsPerByte()) + 1);
+            CharBuffer out = CharBuffer.wrap(pending, length, pending.length - length);
+            decoder.decode(in, out, endOfInput);
+            length = out.position();
+            carry = in.hasRemaining() ? ByteBuffer.allocate(in.remaining()).put(in).flip() : ByteBuffer.allocate(0);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (pending.length - length < extra) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, length + extra));
+            }
+        }
+
+        /** Tokenizes and maps the complete records in {@code pending[0, end)}, then drops them. */
+        private List<T> parse(int end) {
+            List<T> rows = new ArrayList<>();
+            // continues the record count of earlier chunks, and strips a BOM only before the first
+            CharArrayReader chunk = new CharArrayReader(pending, 0, end);
+            try (CsvTokenizer tokenizer = new NativeCsvTokenizer(chunk, config, end, lineNumber)) {
+                if (mapper != null && config.isProjection()) tokenizer.project(gate.projection(mapper.boundColumns()));
+                while (!stopped && tokenizer.nextRecord()) {
+                    lineNumber++;
+                    if (!headerRead) {
+                        headers = tokenizer.toArray();
+                        headerRead = true;
+                        continue;
+                    }
+                    if (mapper == null) {
+                        mapper = customMapper != null ? customMapper
+                                : CsvRowMapper.forConfig(targetType, headers, config);
+                        gate = new CsvRowGate(config).bind(headers);
+                        if (config.isProjection()) tokenizer.project(gate.projection(mapper.boundColumns()));
+                    }
+                    if (gate.test(tokenizer)) continue;
+                    T row = mapRow(tokenizer);
+                    if (row != null) rows.add(row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            System.arraycopy(pending, end, pending, 0, length - end);
+            length -= end;
+            scanned -= end;
+            return rows;
+        }
+
+        private T mapRow(CsvTokenizer tokenizer) {
+            Exception error;
+            try {
+                T row = mapper.map(tokenizer, headers, lineNumber);
+                List<String> violations = validator != null ? validator.validate(row) : List.of();
+                if (violations.isEmpty()) return row;
+                error = new CsvValidationException(lineNumber, violations, !config.isStacklessErrors());
+            } catch (Exception e) {
+                error = e;
+            }
+            if (config.getErrorStrategy() == ErrorStrategy.FAIL_FAST) {
+                throw new CsvParsingException(lineNumber, tokenizer.rawRecord(), error.getMessage(), error);
+            }
+            if (config.getErrorStrategy() == ErrorStrategy.SKIP_AND_LOG) {
+                log.warn("Row {} mapping failed: {}", lineNumber, error.getMessage());
+                if (config.getMaxErrors() >= 0 && ++errors >= config.getMaxErrors()) {
+                    log.warn("Max errors ({}) reached. Stopping early at line {}.", config.getMaxErrors(), lineNumber);
+                    stopped = true;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,508 @@
+package dev.gmky.utils.csv.writer;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.annotation.CsvRecord;
+import dev.gmky.utils.csv.config.CsvWriterConfig;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.converter.TypeConverterRegistry;
+import dev.gmky.utils.csv.converter.impl.BooleanConverter;
+import dev.gmky.utils.csv.converter.impl.NumberConverter;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.mapper.AnnotationCsvRowMapper;
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes annotated DTOs as CSV, the inverse of the CSV readers.
+ * <p>
+ * Columns come from the same {@link CsvFieldMeta} metadata the readers bind with:
+ * index-based fields are written at their {@link CsvColumn#index() index}, the others fill
+ * the remaining columns in declaration order under their {@link CsvColumn#value() name}.
+ * Values are formatted with {@link TypeConverter#format}, so {@code @CsvDateFormat}
+ * patterns, enums and custom converters round-trip. Primitive {@code int}, {@code long},
+ * {@code double} and {@code boolean} fields are read without boxing, and integers are
+ * written digit by digit straight into the buffer.
+ * </p>
+ * <p>
+ * Rows are formatted into a reusable char buffer; a cell is only quoted if it contains the
+ * delimiter, quote or escape character or a line break (or always, with
+ * {@link CsvWriterConfig.QuoteMode#ALL}). Completed rows are encoded and handed to the
+ * output in blocks of about {@link CsvWriterConfig#getBufferSize() bufferSize} chars. A row
+ * whose value fails to format is left out entirely and reported as a {@link CsvMappingException}.
+ * </p>
+ *
+ * <h3>Usage:</h3>
+ * <pre>{@code
+ * try (CsvWriter<UserDto> writer = new CsvWriter<>(UserDto.class, outputStream)) {
+ *     writer.writeAll(users);
+ * }
+ * }</pre>
+ * Instances are not thread-safe. Closing the writer closes the output.
+ *
+ * @param <T> the source DTO type
+ * @author HiepVH
+ * @since 1.0.4
+ */
+public class CsvWriter<T> implements Closeable, Flushable {
+
+    // How each column is formatted, decided once per writer
+    private static final byte KIND_EMPTY = 0;
+    private static final byte KIND_STRING = 1;
+    private static final byte KIND_INT = 2;
+    private static final byte KIND_LONG = 3;
+    private static final byte KIND_DOUBLE = 4;
+    private static final byte KIND_BOOLEAN = 5;
+    private static final byte KIND_INTEGRAL = 6;   // boxed Integer/Long/Short/Byte with the built-in format
+    private static final byte KIND_CONVERTER = 7;
+    private static final byte KIND_TO_STRING = 8;  // no converter: String.valueOf
+
+    private static final int MIN_BUFFER_SIZE = 64;
+    private static final int MAX_LONG_LENGTH = 20;
+    private static final String LONG_MIN_VALUE = Long.toString(Long.MIN_VALUE);
+
+    private final Class<T> targetType;
+    private final OutputStream out;            // exactly one of out and channel is set
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer bytes;
+    private char[] chars;
+    private int position;
+    private int rowStart;                      // start of the row being formatted
+
+    // Column layout, in output order
+    private final CsvFieldMeta[] fields;       // null entries: columns no field binds
+    private final byte[] kinds;
+    private final TypeConverter<Object>[] converters;
+    private final boolean headerWritten;
+
+    private final char delimiter;
+    private final char quoteChar;
+    private final char escapeChar;
+    private final boolean escapeEnabled;
+    private final boolean quoteAll;
+    private final boolean plainIntegers;       // integers never need quoting
+    private final String lineSeparator;
+
+    private long rowsWritten;
+    private long bytesWritten;
+    private boolean closed;
+
+    /**
+     * Creates a writer with config read from the DTO's {@code @CsvRecord} annotation, or defaults.
+     */
+    public CsvWriter(Class<T> targetType, OutputStream out) {
+        this(targetType, out, resolveConfig(targetType));
+    }
+
+    /**
+     * Creates a writer with explicit config.
+     */
+    public CsvWriter(Class<T> targetType, OutputStream out, CsvWriterConfig config) {
+        this(targetType, out, config, AnnotationCsvRowMapper.defaultRegistry());
+    }
+
+    /**
+     * Creates a writer with a custom converter registry.
+     */
+    public CsvWriter(Class<T> targetType, OutputStream out, CsvWriterConfig config, TypeConverterRegistry registry) {
+        this(targetType, Objects.requireNonNull(out, "out"), null, config, registry, config.isHasHeader());
+    }
+
+    /**
+     * Creates a writer over a byte channel, with config read from the DTO's {@code @CsvRecord}
+     * annotation, or defaults.
+     */
+    public CsvWriter(Class<T> targetType, WritableByteChannel channel) {
+        this(targetType, channel, resolveConfig(targetType));
+    }
+
+    /**
+     * Creates a writer over a byte channel, with explicit config.
+     */
+    public CsvWriter(Class<T> targetType, WritableByteChannel channel, CsvWriterConfig config) {
+        this(targetType, channel, config, AnnotationCsvRowMapper.defaultRegistry());
+    }
+
+    /**
+     * Creates a writer over a byte channel, with a custom converter registry.
+     */
+    public CsvWriter(Class<T> targetType, WritableByteChannel channel, CsvWriterConfig config,
+                     TypeConverterRegistry registry) {
+        this(targetType, null, Objects.requireNonNull(channel, "channel"), config, registry, config.isHasHeader());
+    }
+
+    /**
+     * Creates a writer over a byte channel that writes the header row only if {@code writeHeader}
+     * is set, e.g. to append to a file that already has one.
+     */
+    CsvWriter(Class<T> targetType, WritableByteChannel channel, CsvWriterConfig config,
+              TypeConverterRegistry registry, boolean writeHeader) {
+        this(targetType, null, Objects.requireNonNull(channel, "channel"), config, registry, writeHeader);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CsvWriter(Class<T> targetType, OutputStream out, WritableByteChannel channel, CsvWriterConfig config,
+                      TypeConverterRegistry registry, boolean writeHeader) {
+        this.targetType = targetType;
+        this.out = out;
+        this.channel = channel;
+        this.encoder = config.getCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.chars = new char[Math.max(MIN_BUFFER_SIZE, config.getBufferSize())];
+        this.bytes = ByteBuffer.allocate((int) Math.ceil(chars.length * (double) encoder.maxBytesPerChar()));
+
+        this.delimiter = config.getDelimiter();
+        this.quoteChar = config.getQuoteChar();
+        this.escapeChar = config.getEscapeChar();
+        this.escapeEnabled = escapeChar != '\0' && escapeChar != quoteChar;
+        this.quoteAll = config.getQuoteMode() == CsvWriterConfig.QuoteMode.ALL;
+        this.plainIntegers = !quoteAll && (delimiter < '0' || delimiter > '9') && delimiter != '-'
+                && (quoteChar < '0' || quoteChar > '9') && quoteChar != '-';
+        this.lineSeparator = config.getLineSeparator();
+
+        this.fields = layout(targetType, AnnotationCsvRowMapper.fieldMetas(targetType));
+        this.kinds = new byte[fields.length];
+        this.converters = new TypeConverter[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            CsvFieldMeta meta = fields[i];
+            if (meta == null) continue;
+            converters[i] = (TypeConverter<Object>) resolveConverter(meta, registry);
+            kinds[i] = kindOf(meta, converters[i]);
+        }
+
+        this.headerWritten = writeHeader;
+        if (writeHeader) {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) putChar(delimiter);
+                if (fields[i] != null) putCell(fields[i].getColumnName());
+            }
+            put(lineSeparator, 0, lineSeparator.length());
+            rowStart = position;
+        }
+    }
+
+    /**
+     * Places each field at its column: index-based fields at their index, the others in the
+     * free columns in declaration order.
+     */
+    private static CsvFieldMeta[] layout(Class<?> targetType, List<CsvFieldMeta> metas) {
+        int width = metas.size();
+        for (CsvFieldMeta meta : metas) {
+            if (meta.isIndexBased()) width = Math.max(width, meta.getColumnIndex() + 1);
+        }
+        CsvFieldMeta[] columns = new CsvFieldMeta[width];
+        for (CsvFieldMeta meta : metas) {
+            if (!meta.isIndexBased()) continue;
+            CsvFieldMeta other = columns[meta.getColumnIndex()];
+            if (other != null) {
+                throw new IllegalStateException("Fields [" + other.getFieldName() + "] and [" + meta.getFieldName()
+                        + "] of " + targetType.getSimpleName() + " share column " + meta.getColumnIndex());
+            }
+            columns[meta.getColumnIndex()] = meta;
+        }
+        int next = 0;
+        for (CsvFieldMeta meta : metas) {
+            if (meta.isIndexBased()) continue;
+            while (columns[next] != null) next++;
+            columns[next] = meta;
+        }
+        for (CsvFieldMeta meta : columns) {
+            if (meta != null && !meta.isReadable()) {
+                throw new IllegalStateException("Cannot read field [" + meta.getFieldName() + "] of "
+                        + targetType.getSimpleName() + ": add a field of the same name and type");
+            }
+        }
+        while (width > 0 && columns[width - 1] == null) width--;
+        return Arrays.copyOf(columns, width);
+    }
+
+    private static TypeConverter<?> resolveConverter(CsvFieldMeta meta, TypeConverterRegistry registry) {
+        if (meta.getCustomConverter() != null) return meta.getCustomConverter();
+        if (meta.getFieldType() == String.class) return null;
+        return registry.findConverter(meta.getFieldType());
+    }
+
+    /**
+     * Primitive and integral fields skip the converter only when it is a built-in one, whose
+     * format is {@code String.valueOf}; any other converter is always asked to format.
+     */
+    private static byte kindOf(CsvFieldMeta meta, TypeConverter<?> converter) {
+        Class<?> type = meta.getFieldType();
+        if (meta.getCustomConverter() == null && type == String.class) return KIND_STRING;
+        if (converter == null) return KIND_TO_STRING;
+        Class<?> converterType = converter.getClass();
+        if (converterType == NumberConverter.class) {
+            if (type == int.class) return KIND_INT;
+            if (type == long.class) return KIND_LONG;
+            if (type == double.class) return KIND_DOUBLE;
+            if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+                return KIND_INTEGRAL;
+            }
+        }
+        if (converterType == BooleanConverter.class && type == boolean.class) return KIND_BOOLEAN;
+        return KIND_CONVERTER;
+    }
+
+    /**
+     * Writes one row. If a value fails to format, nothing of the row is written.
+     *
+     * @param item the DTO to write
+     * @throws CsvMappingException if a value cannot be read or formatted
+     * @throws IOException         if the output cannot be written
+     */
+    public void write(T item) throws IOException {
+        if (closed) throw new IOException("Writer closed");
+        Objects.requireNonNull(item, "item");
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) putChar(delimiter);
+            try {
+                putValue(item, i);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                position = rowStart;
+                CsvFieldMeta meta = fields[i];
+                long lineNumber = rowsWritten + (headerWritten ? 2 : 1);
+                throw new CsvMappingException(lineNumber, meta.getFieldName(), "",
+                        "Formatting failed: " + e.getMessage(), e);
+            }
+        }
+        put(lineSeparator, 0, lineSeparator.length());
+        rowStart = position;
+        rowsWritten++;
+    }
+
+    /**
+     * Writes every item, in iteration order.
+     *
+     * @throws CsvMappingException if a value cannot be read or formatted; earlier rows are kept
+     * @throws IOException         if the output cannot be written
+     */
+    public void writeAll(Iterable<? extends T> items) throws IOException {
+        for (T item : items) {
+            write(item);
+        }
+    }
+
+    private void putValue(T item, int i) throws Exception {
+        CsvFieldMeta meta = fields[i];
+        switch (kinds[i]) {
+            case KIND_EMPTY -> {
+                // column no field binds
+            }
+            case KIND_STRING -> putCell((String) meta.getValue(item));
+            case KIND_INT -> putInteger(meta.getInt(item));
+            case KIND_LONG -> putInteger(meta.getLong(item));
+            case KIND_DOUBLE -> putCell(Double.toString(meta.getDouble(item)));
+            case KIND_BOOLEAN -> putCell(meta.getBoolean(item) ? "true" : "false");
+            case KIND_INTEGRAL -> {
+                Object value = meta.getValue(item);
+                if (value != null) putInteger(((Number) value).longValue());
+            }
+            case KIND_CONVERTER -> {
+                Object value = meta.getValue(item);
+                if (value != null) putCell(converters[i].format(value, meta));
+            }
+            default -> {
+                Object value = meta.getValue(item);
+                if (value != null) putCell(value.toString());
+            }
+        }
+    }
+
+    private void putInteger(long value) throws IOException {
+        if (!plainIntegers || value == Long.MIN_VALUE) {
+            putCell(value == Long.MIN_VALUE ? LONG_MIN_VALUE : Long.toString(value));
+            return;
+        }
+        ensureCapacity(MAX_LONG_LENGTH);
+        if (value < 0) {
+            chars[position++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long rest = value; rest >= 10; rest /= 10) {
+            length++;
+        }
+        int p = position + length;
+        do {
+            chars[--p] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        position += length;
+    }
+
+    /** Writes a cell, quoted if needed; null writes an empty cell. */
+    private void putCell(String value) throws IOException {
+        if (value == null) return;
+        int length = value.length();
+        if (!quoteAll && !needsQuotes(value, length)) {
+            put(value, 0, length);
+            return;
+        }
+        putChar(quoteChar);
+        int from = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == quoteChar || (escapeEnabled && c == escapeChar)) {
+                put(value, from, i + 1);
+                putChar(c); // doubled
+                from = i + 1;
+            }
+        }
+        put(value, from, length);
+        putChar(quoteChar);
+    }
+
+    private boolean needsQuotes(String value, int length) {
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == quoteChar || c == '\n' || c == '\r' || (escapeEnabled && c == escapeChar)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void putChar(char c) throws IOException {
+        if (position == chars.length) ensureCapacity(1);
+        chars[position++] = c;
+    }
+
+    private void put(String value, int from, int to) throws IOException {
+        int length = to - from;
+        ensureCapacity(length);
+        value.getChars(from, to, chars, position);
+        position += length;
+    }
+
+    /**
+     * Makes room for {@code length} more chars: completed rows are encoded and written out,
+     * and the buffer only grows when the current row alone does not fit.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (chars.length - position >= length) return;
+        if (rowStart > 0) encode(rowStart, false);
+        if (chars.length - position < length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, position + length));
+        }
+    }
+
+    /**
+     * Encodes {@code chars[0, end)} and writes the bytes out, then moves the rest of the
+     * buffer to its start. An unpaired high surrogate at {@code end} stays in the buffer.
+     */
+    private void encode(int end, boolean endOfInput) throws IOException {
+        CharBuffer in = CharBuffer.wrap(chars, 0, end);
+        for (CoderResult result = encoder.encode(in, bytes, endOfInput); !result.isUnderflow();
+             result = encoder.encode(in, bytes, endOfInput)) {
+            if (result.isOverflow()) writeBytes();
+            else result.throwException();
+        }
+        if (endOfInput) {
+            while (encoder.flush(bytes).isOverflow()) {
+                writeBytes();
+            }
+        }
+        writeBytes();
+        int consumed = in.position();
+        System.arraycopy(chars, consumed, chars, 0, position - consumed);
+        position -= consumed;
+        rowStart = Math.max(0, rowStart - consumed);
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        int length = bytes.remaining();
+        if (channel != null) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        } else {
+            out.write(bytes.array(), bytes.arrayOffset(), length);
+        }
+        bytesWritten += length;
+        bytes.clear();
+    }
+
+    /**
+     * Writes every completed row to the output and flushes it.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (closed) throw new IOException("Writer closed");
+        encode(position, false);
+        if (out != null) out.flush();
+    }
+
+    /**
+     * Drops the rows still in the buffer, e.g. those of a chunk that failed part-way.
+     */
+    void discard() {
+        position = 0;
+        rowStart = 0;
+        encoder.reset();
+    }
+
+    /**
+     * Writes the remaining rows and closes the output.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) return;
+        closed = true;
+        try (Closeable output = out != null ? out : channel) {
+            encode(position, true);
+            if (out != null) out.flush();
+        }
+    }
+
+    /**
+     * Returns the number of rows written, not counting the header.
+     */
+    public long rowsWritten() {
+        return rowsWritten;
+    }
+
+    /**
+     * Returns the number of bytes handed to the output so far. Rows still in the buffer are
+     * counted once {@link #flush()} or {@link #close()} writes them.
+     */
+    public long bytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the DTO type this writer formats.
+     */
+    public Class<T> getTargetType() {
+        return targetType;
+    }
+
+    /** Reads config from @CsvRecord annotation on the target DTO, or returns defaults. */
+    static CsvWriterConfig resolveConfig(Class<?> targetType) {
+        CsvRecord annotation = targetType.getAnnotation(CsvRecord.class);
+        if (annotation == null) return CsvWriterConfig.defaultConfig();
+        return CsvWriterConfig.builder()
+                .delimiter(annotation.delimiter())
+                .charset(java.nio.charset.Charset.forName(annotation.encoding()))
+                .hasHeader(annotation.hasHeader())
+                .quoteChar(annotation.quoteChar())
+                .escapeChar(annotation.escapeChar())
+                .build();
+    }
+}
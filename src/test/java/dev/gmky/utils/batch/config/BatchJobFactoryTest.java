@@ -1,5 +1,6 @@
 package dev.gmky.utils.batch.config;
 
+import dev.gmky.utils.csv.config.CsvReaderConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,12 +9,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.partition.support.PartitionStep;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.ItemReader;
 import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -295,4 +300,20 @@ class BatchJobFactoryTest {
 
         assertNotNull(job);
     }
+
+    @Test
+    void testCreatePartitionedCsvStep() {
+        Path file = Path.of("import.csv");
+        CsvReaderConfig csvConfig = CsvReaderConfig.defaultConfig();
+        TaskExecutor taskExecutor = new SyncTaskExecutor();
+
+        Step step = factory.createPartitionedCsvStep("importStep", String.class, file, csvConfig,
+                processor, writer, BatchJobConfig.simple(100), taskExecutor, 4);
+
+        assertNotNull(step);
+        assertEquals("importStep", step.getName());
+        assertInstanceOf(PartitionStep.class, step);
+        assertThrows(IllegalArgumentException.class, () -> factory.createPartitionedCsvStep("importStep",
+                String.class, file, csvConfig, processor, writer, BatchJobConfig.simple(100), taskExecutor, 0));
+    }
 }
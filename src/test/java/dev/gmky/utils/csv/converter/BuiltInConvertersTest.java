@@ -2,6 +2,7 @@ package dev.gmky.utils.csv.converter;
 
 import dev.gmky.utils.csv.annotation.CsvColumn;
 import dev.gmky.utils.csv.annotation.CsvDateFormat;
+import dev.gmky.utils.csv.annotation.CsvEnumValue;
 import dev.gmky.utils.csv.converter.impl.*;
 import dev.gmky.utils.csv.mapper.CsvFieldMeta;
 import org.junit.jupiter.api.Test;
@@ -39,10 +40,23 @@ class BuiltInConvertersTest {
         @CsvColumn("p_int") int pIntField;
         @CsvColumn("obj") Object objField;
         @CsvColumn("status") Status statusField;
+        @CsvColumn("code") Code codeField;
+        @CsvColumn("clash") ClashingCode clashField;
     }
 
     enum Status { ACTIVE, INACTIVE }
 
+    enum Code {
+        @CsvEnumValue({"A", "act"}) ACTIVE,
+        @CsvEnumValue("I") INACTIVE,
+        PENDING
+    }
+
+    enum ClashingCode {
+        @CsvEnumValue("b") A,
+        B
+    }
+
     private CsvFieldMeta meta(String fieldName) throws Exception {
         Field f = SampleDto.class.getDeclaredField(fieldName);
         CsvColumn col = f.getAnnotation(CsvColumn.class);
@@ -101,6 +115,18 @@ class BuiltInConvertersTest {
         assertThat(conv.convert("  ", meta("intField"))).isNull();
     }
 
+    @Test
+    void numberConverter_shouldParsePrimitivesFromSlices() throws Exception {
+        var conv = new NumberConverter();
+        var slice = new StringBuilder("[ -42 ]");
+        assertThat(conv.convertInt(slice.subSequence(1, 6), meta("pIntField"))).isEqualTo(-42);
+        assertThat(conv.convertLong(" 9999999999", meta("longField"))).isEqualTo(9_999_999_999L);
+        assertThat(conv.convertDouble("2.5 ", meta("dblField"))).isEqualTo(2.5);
+        assertThatThrownBy(() -> conv.convertInt(" 4x ", meta("pIntField")))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessage("For input string: \"4x\"");
+    }
+
     // ---- BooleanConverter ----
 
     @Test
@@ -122,6 +148,17 @@ class BuiltInConvertersTest {
         assertThat(conv.convert("0", meta("boolField"))).isFalse();
     }
 
+    @Test
+    void booleanConverter_shouldMatchPrimitiveValuesFromSlices() throws Exception {
+        var conv = new BooleanConverter();
+        var m = meta("boolField");
+        assertThat(conv.convertBoolean(" On ", m)).isTrue();
+        assertThat(conv.convertBoolean("YES", m)).isTrue();
+        assertThat(conv.convertBoolean(new StringBuilder("x1x").subSequence(1, 2), m)).isTrue();
+        assertThat(conv.convertBoolean("onn", m)).isFalse();
+        assertThat(conv.convertBoolean("no", m)).isFalse();
+    }
+
     @Test
     void booleanConverter_shouldReturnNullForBlank() throws Exception {
         var conv = new BooleanConverter();
@@ -212,6 +249,31 @@ class BuiltInConvertersTest {
                 .hasMessageContaining("Unknown enum value");
     }
 
+    @Test
+    void enumConverter_shouldResolveCodesAndSlicesIgnoringCase() throws Exception {
+        var conv = new EnumConverter();
+        assertThat(conv.convert(" a ", meta("codeField"))).isEqualTo(Code.ACTIVE);
+        assertThat(conv.convert("ACT", meta("codeField"))).isEqualTo(Code.ACTIVE);
+        assertThat(conv.convert("inactive", meta("codeField"))).isEqualTo(Code.INACTIVE);
+        assertThat(conv.convertSlice(new StringBuilder("Pending"), meta("codeField"))).isEqualTo(Code.PENDING);
+        assertThat(conv.convert("  ", meta("codeField"))).isNull();
+    }
+
+    @Test
+    void enumConverter_shouldFormatByFirstCodeOrName() throws Exception {
+        var conv = new EnumConverter();
+        assertThat(conv.format(Code.ACTIVE, meta("codeField"))).isEqualTo("A");
+        assertThat(conv.format(Code.PENDING, meta("codeField"))).isEqualTo("PENDING");
+    }
+
+    @Test
+    void enumConverter_shouldRejectCodeClashingWithAnotherConstant() throws Exception {
+        var conv = new EnumConverter();
+        assertThatThrownBy(() -> conv.convert("A", meta("clashField")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("clashes with B");
+    }
+
     // ---- TypeConverterRegistry ----
 
     @Test
@@ -0,0 +1,58 @@
+package dev.gmky.utils.csv.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastDateParserTest {
+
+    private static Object outcome(Supplier<?> parse) {
+        try {
+            return parse.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    @Test
+    void shouldParseDatesLikeTheFormatter() {
+        String[] patterns = {"yyyy-MM-dd", "yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss", "yyyy-MM-dd HH:mm:ss", "dd/MM/yyyy"};
+        String[] values = {"2024-02-29", "2023-02-29", "2024-04-31", "2024-13-01", "0000-01-01", "2024-1-01",
+                "20240229", "20230230", "2024-02-29T23:59:59", "2024-02-29 00:00:00", "2024-02-29T24:00:00",
+                "2024-02-29T12:60:00", "2024-02-30T10:00:00", "29/02/2024", " 2024-01-31 ", "2024-01-3x", ""};
+        for (String pattern : patterns) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+            for (String value : values) {
+                assertThat(outcome(() -> FastDateParser.parseLocalDate(value, pattern, formatter)))
+                        .as("%s as %s", value, pattern)
+                        .isEqualTo(outcome(() -> LocalDate.parse(value.trim(), formatter)));
+                assertThat(outcome(() -> FastDateParser.parseLocalDateTime(value, pattern, formatter)))
+                        .as("%s as %s", value, pattern)
+                        .isEqualTo(outcome(() -> LocalDateTime.parse(value.trim(), formatter)));
+            }
+        }
+    }
+
+    @Test
+    void shouldParseEveryDayOfALeapCycle() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        for (LocalDate d = LocalDate.of(1999, 1, 1); d.getYear() < 2004; d = d.plusDays(1)) {
+            assertThat(FastDateParser.parseLocalDate(d.toString(), "yyyy-MM-dd", formatter)).isEqualTo(d);
+        }
+    }
+
+    @Test
+    void shouldUseIsoDateForBlankPattern() {
+        CharSequence slice = new StringBuilder("x2024-05-06x").subSequence(1, 11);
+        assertThat(FastDateParser.parseLocalDate(slice, "", DateTimeFormatter.ISO_LOCAL_DATE))
+                .isEqualTo(LocalDate.of(2024, 5, 6));
+        assertThatThrownBy(() -> FastDateParser.parseLocalDate("2024-02-30", "", DateTimeFormatter.ISO_LOCAL_DATE))
+                .hasMessageContaining("Invalid date");
+    }
+}
@@ -0,0 +1,91 @@
+package dev.gmky.utils.csv.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class FastNumberParserTest {
+
+    private static final String ALPHABET = "0123456789.,-+ $€£¥eE_x";
+
+    /** The pre-existing BigDecimalConverter logic. */
+    private static BigDecimal legacyBigDecimal(String value) {
+        return new BigDecimal(value.trim().replace("$", "").replace("€", "")
+                .replace("£", "").replace("¥", "").replace(",", ""));
+    }
+
+    private static <T> void assertSameOutcome(String input, Callable<T> expected, Callable<T> actual) {
+        Object want;
+        Object got;
+        try {
+            want = expected.call();
+        } catch (Exception e) {
+            want = e.getClass().getName() + ": " + e.getMessage();
+        }
+        try {
+            got = actual.call();
+        } catch (Exception e) {
+            got = e.getClass().getName() + ": " + e.getMessage();
+        }
+        assertThat(got).as("input [%s]", input).isEqualTo(want);
+    }
+
+    private static String randomInput(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = random.nextInt(24);
+        for (int i = 0; i < length; i++) sb.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        return sb.toString();
+    }
+
+    @Test
+    void shouldParseDoublesExactlyLikeTheJdk() {
+        String[] samples = {"0", "-0", "+1.5", " 3.14 ", ".5", "5.", "123456789.123456789", "9007199254740993",
+                "0.1", "1e10", "NaN", "-Infinity", "1.5d", "0x1p3", "", ".", "-", "1..2", "12,5",
+                "0.0000000000000000000001", "0.00000000000000000000001", "4.35", "1234567.89"};
+        for (String s : samples) {
+            assertSameOutcome(s, () -> Double.parseDouble(s), () -> FastNumberParser.parseDouble(s));
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            String s = random.nextBoolean()
+                    ? String.valueOf(random.nextLong(1_000_000_000L) / Math.pow(10, random.nextInt(12)))
+                    : (random.nextInt(1_000_000) + "." + random.nextInt(1_000_000));
+            assertSameOutcome(s, () -> Double.parseDouble(s), () -> FastNumberParser.parseDouble(s));
+            String noise = randomInput(random);
+            assertSameOutcome(noise, () -> Double.parseDouble(noise), () -> FastNumberParser.parseDouble(noise));
+        }
+    }
+
+    @Test
+    void shouldParseBigDecimalsLikeTheLegacyConverter() {
+        String[] samples = {"$1,234.50", " -€99 ", "£0.00", "-0.00", "¥+5", "+$.5", "1,2,3", "1 000", "$ 5", "5-",
+                "1e3", "123456789012345678", "1234567890123456789.5", "", "$", ".", "-.", "00012.3400"};
+        for (String s : samples) {
+            assertSameOutcome(s, () -> legacyBigDecimal(s), () -> FastNumberParser.parseBigDecimal(s));
+        }
+        Random random = new Random(11);
+        for (int i = 0; i < 20_000; i++) {
+            String s = randomInput(random);
+            assertSameOutcome(s, () -> legacyBigDecimal(s), () -> FastNumberParser.parseBigDecimal(s));
+        }
+
+        BigDecimal parsed = FastNumberParser.parseBigDecimal("$1,234.50");
+        assertThat(parsed.unscaledValue().longValue()).isEqualTo(123450);
+        assertThat(parsed.scale()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldParseIntegersFromSlices() {
+        CharSequence slice = new StringBuilder("| -2147483648 |").subSequence(1, 14);
+        assertThat(FastNumberParser.parseInt(slice)).isEqualTo(Integer.MIN_VALUE);
+        assertThat(FastNumberParser.parseLong(" 9223372036854775807")).isEqualTo(Long.MAX_VALUE);
+        assertThat(catchThrowable(() -> FastNumberParser.parseLong(" 1,000 ")))
+                .isInstanceOf(NumberFormatException.class)
+                .hasMessage("For input string: \"1,000\"");
+    }
+}
@@ -0,0 +1,71 @@
+package dev.gmky.utils.csv.filter;
+
+import dev.gmky.utils.csv.parser.CsvRowView;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowFilterTest {
+
+    record Row(String... cells) implements CsvRowView {
+        @Override
+        public int size() {
+            return cells.length;
+        }
+
+        @Override
+        public CharSequence cell(int index) {
+            return cells[index];
+        }
+    }
+
+    private static final String[] HEADERS = {"Id", " Region ", "Status"};
+
+    @Test
+    void equalsAny_shouldResolveHeaderNamesIgnoringCase() {
+        CsvRowFilter filter = CsvRowFilter.equalsAny("region", "EU", "APAC").bind(HEADERS);
+
+        assertThat(filter.accept(new Row("1", "EU", "ACTIVE"))).isTrue();
+        assertThat(filter.accept(new Row("2", "APAC", "ACTIVE"))).isTrue();
+        assertThat(filter.accept(new Row("3", "US", "ACTIVE"))).isFalse();
+        assertThat(filter.accept(new Row("4", "eu", "ACTIVE"))).isFalse();
+        assertThat(filter.columns()).containsExactly(1);
+    }
+
+    @Test
+    void combinators_shouldBindBothSides() {
+        CsvRowFilter filter = CsvRowFilter.equalsAny("Region", "EU")
+                .and(CsvRowFilter.equalsAny("Status", "INACTIVE").negate())
+                .or(CsvRowFilter.column(0, id -> id.length() > 2))
+                .bind(HEADERS);
+
+        assertThat(filter.accept(new Row("1", "EU", "ACTIVE"))).isTrue();
+        assertThat(filter.accept(new Row("2", "EU", "INACTIVE"))).isFalse();
+        assertThat(filter.accept(new Row("300", "US", "INACTIVE"))).isTrue();
+        assertThat(filter.columns()).containsExactly(0, 1, 2);
+        assertThat(CsvRowFilter.equalsAny(1, "x").negate().negate().accept(new Row("a", "x"))).isTrue();
+    }
+
+    @Test
+    void column_shouldTestMissingCellsAsEmpty() {
+        CsvRowFilter filter = CsvRowFilter.column(5, CharSequence::isEmpty);
+
+        assertThat(filter.accept(new Row("1", "EU"))).isTrue();
+        assertThat(filter.bind(null)).isSameAs(filter);
+        assertThat(((CsvRowFilter) row -> true).columns()).isNull();
+    }
+
+    @Test
+    void bind_shouldRejectUnknownOrUnboundColumns() {
+        CsvRowFilter filter = CsvRowFilter.equalsAny("Country", "VN");
+
+        assertThatThrownBy(() -> filter.bind(HEADERS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Country");
+        assertThatThrownBy(() -> filter.accept(new Row("1")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> CsvRowFilter.column(-1, cell -> true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -125,4 +125,110 @@ class AnnotationCsvRowMapperTest {
                 .isInstanceOf(CsvMappingException.class)
                 .hasMessageContaining("Cannot instantiate DTO");
     }
+
+    record OrderRecord(@CsvColumn(value = "id", required = true) long id,
+                       @CsvColumn("qty") int qty,
+                       @CsvColumn(value = "status", defaultValue = "NEW") String status,
+                       @CsvColumn("day") java.time.DayOfWeek day,
+                       String note) {
+        OrderRecord {
+            if (qty < 0) throw new IllegalArgumentException("qty must not be negative");
+        }
+    }
+
+    static final class ImmutableDto {
+        private final String name;
+        private final boolean active;
+
+        ImmutableDto(@CsvColumn("name") String name, @CsvColumn(index = 1) boolean active) {
+            this.name = name;
+            this.active = active;
+        }
+    }
+
+    @Test
+    void shouldMapRecordsThroughCanonicalConstructor() throws Exception {
+        String[] headers = {"id", "qty", "status", "day"};
+        var mapper = new AnnotationCsvRowMapper<>(OrderRecord.class, headers);
+
+        assertThat(mapper.map(new String[]{"7", "3", "PAID", "FRIDAY"}, headers, 2))
+                .isEqualTo(new OrderRecord(7, 3, "PAID", java.time.DayOfWeek.FRIDAY, null));
+        // The reused argument array must not leak values from the previous row
+        assertThat(mapper.map(new String[]{"8", "", ""}, headers, 3))
+                .isEqualTo(new OrderRecord(8, 0, "NEW", null, null));
+
+        assertThatThrownBy(() -> mapper.map(new String[]{"", "1"}, headers, 4))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("Required field is blank");
+        assertThatThrownBy(() -> mapper.map(new String[]{"9", "-1"}, headers, 5))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("line 5")
+                .hasMessageContaining("Constructor failed: qty must not be negative");
+    }
+
+    @Test
+    void shouldMapThroughAnnotatedConstructor() throws Exception {
+        String[] headers = {"name", "active"};
+        ImmutableDto dto = new AnnotationCsvRowMapper<>(ImmutableDto.class, headers)
+                .map(new String[]{"bob", "yes"}, headers, 2);
+
+        assertThat(dto.name).isEqualTo("bob");
+        assertThat(dto.active).isTrue();
+    }
+
+    @Data
+    static class DefaultsDto {
+        @CsvColumn(value = "qty", defaultValue = "5") private int qty;
+        @CsvColumn(value = "day", defaultValue = "SUNDAY") private java.time.DayOfWeek day;
+        @CsvColumn(value = "bad", defaultValue = "abc") private Integer bad;
+    }
+
+    @Test
+    void bindingPlan_shouldReportMissingAndUnmappedColumns() {
+        CsvBindingPlan plan = AnnotationCsvRowMapper.inspect(TestDto.class, new String[]{"colB", "extra", "colA"});
+
+        assertThat(plan.targetType()).isEqualTo(TestDto.class);
+        assertThat(plan.unmappedHeaders()).containsExactly("extra");
+        assertThat(plan.fields()).filteredOn(f -> f.fieldName().equals("colA"))
+                .singleElement()
+                .satisfies(f -> assertThat(f.columnIndex()).isEqualTo(2));
+        assertThat(plan.missingRequiredColumns())
+                .extracting(CsvBindingPlan.FieldBinding::columnName)
+                .containsExactly("colReq");
+        // index 3 is out of range of a three-column header
+        assertThat(plan.missingColumns())
+                .extracting(CsvBindingPlan.FieldBinding::fieldName)
+                .contains("missingCol", "req", "pl");
+        assertThat(plan.fields()).filteredOn(f -> f.fieldName().equals("colC"))
+                .singleElement()
+                .satisfies(f -> assertThat(f.converterType()).isEqualTo(CustomStrConverter.class));
+        assertThat(plan.fields()).filteredOn(f -> f.fieldName().equals("colA"))
+                .singleElement()
+                .satisfies(f -> assertThat(f.converterType()).isNull());
+    }
+
+    @Test
+    void boundColumns_shouldListResolvedColumnsOnly() {
+        var mapper = new AnnotationCsvRowMapper<>(TestDto.class, new String[]{"colB", "extra", "colA"});
+
+        assertThat(mapper.boundColumns()).isSorted().doesNotHaveDuplicates().contains(0, 2).doesNotContain(1, -1);
+    }
+
+    @Test
+    void bindingPlan_shouldApplyPreconvertedDefaultsOnEveryRow() throws Exception {
+        String[] headers = {"qty", "day", "bad"};
+        var mapper = new AnnotationCsvRowMapper<>(DefaultsDto.class, headers);
+        assertThat(mapper.getBindingPlan().missingColumns()).isEmpty();
+
+        for (int line = 1; line <= 3; line++) {
+            DefaultsDto dto = mapper.map(new String[]{"", " ", "1"}, headers, line);
+            assertThat(dto.getQty()).isEqualTo(5);
+            assertThat(dto.getDay()).isEqualTo(java.time.DayOfWeek.SUNDAY);
+        }
+        // A default that cannot be converted is still reported per row
+        assertThatThrownBy(() -> mapper.map(new String[]{"1", "MONDAY", ""}, headers, 9))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("line 9")
+                .hasMessageContaining("Conversion failed");
+    }
 }
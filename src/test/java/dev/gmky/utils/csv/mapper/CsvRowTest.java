@@ -0,0 +1,101 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.reader.OpenCsvStreamingReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowTest {
+
+    private static final String[] HEADERS = {"id", " Amount ", "ref", "paid", "day", "ordered", "at", "note"};
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static CsvRow row(String... cells) throws Exception {
+        return CsvRow.mapper(HEADERS, CsvReaderConfig.defaultConfig(), false)
+                .map(new ArrayRowView(cells), HEADERS, 2);
+    }
+
+    @Test
+    void typedAccessors_shouldConvertCellsByIndexOrName() throws Exception {
+        CsvRow row = row("7", "12.50", "3000000000", "yes", "MONDAY", "02/01/2024", "2024-01-02T03:04:05", " ");
+
+        assertThat(row.getInt("id")).isEqualTo(7);
+        assertThat(row.getDecimal("amount")).isEqualByComparingTo(new BigDecimal("12.50"));
+        assertThat(row.getDouble(1)).isEqualTo(12.5);
+        assertThat(row.getLong(2)).isEqualTo(3_000_000_000L);
+        assertThat(row.getBoolean("paid")).isTrue();
+        assertThat(row.get("day", DayOfWeek.class)).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(row.getDate("ordered", "dd/MM/yyyy")).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(row.get("ordered", LocalDate.class, "dd/MM/yyyy")).isEqualTo(LocalDate.of(2024, 1, 2));
+        assertThat(row.getDateTime("at")).isEqualTo(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        assertThat(row.isBlank("note")).isTrue();
+        assertThat(row.getDecimal("note")).isNull();
+        assertThat(row.getString(9)).isNull();
+        assertThat(row.cell(9)).isEmpty();
+        assertThat(row.lineNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void typedAccessors_shouldReportColumnAndLineOnFailure() throws Exception {
+        CsvRow row = row("x", "1", "", "true", "", "", "", "");
+
+        assertThatThrownBy(() -> row.getInt("id"))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("line 2")
+                .hasMessageContaining("[id]")
+                .hasMessageContaining("[x]");
+        assertThatThrownBy(() -> row.getLong("ref"))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("Column is blank");
+        assertThatThrownBy(() -> row.get("id", Object.class))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("No TypeConverter");
+        assertThatThrownBy(() -> row.getInt("missing"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Unknown column: missing");
+    }
+
+    @Test
+    void sequentialRead_shouldReuseOneRowAndCopyRowsThatAreKept() {
+        String csv = "id,name\n1,a\n2,b\n3,c\n";
+        for (CsvReaderConfig.Engine engine : CsvReaderConfig.Engine.values()) {
+            OpenCsvStreamingReader<CsvRow> reader = OpenCsvStreamingReader.forRows(
+                    CsvReaderConfig.builder().engine(engine).build());
+
+            Map<CsvRow, Boolean> seen = new IdentityHashMap<>();
+            List<CsvRow> kept = new ArrayList<>();
+            int[] sum = {0};
+            reader.read(stream(csv), row -> {
+                seen.put(row, true);
+                sum[0] += row.getInt("id");
+                if (row.getString("name").equals("b")) kept.add(row.copy());
+            });
+            assertThat(seen).as(engine.name()).hasSize(1);
+            assertThat(sum[0]).isEqualTo(6);
+            assertThat(kept.get(0).getInt(0)).isEqualTo(2);
+            assertThat(kept.get(0).lineNumber()).isEqualTo(3);
+
+            List<CsvRow> all = reader.readAll(stream(csv));
+            assertThat(all).extracting(row -> row.getString("name")).containsExactly("a", "b", "c");
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvStringPoolTest {
+
+    @Data
+    static class TradeDto {
+        @CsvColumn(value = "currency", dedup = true)
+        private String currency;
+
+        @CsvColumn("comment")
+        private String comment;
+    }
+
+    @Test
+    void intern_shouldReturnCanonicalInstanceForEqualSlices() {
+        CsvStringPool pool = new CsvStringPool();
+        String first = pool.intern(CharBuffer.wrap("xxUSDxx".toCharArray(), 2, 3));
+        String second = pool.intern(CharBuffer.wrap("USD".toCharArray()));
+
+        assertThat(first).isEqualTo("USD");
+        assertThat(second).isSameAs(first);
+        assertThat(pool.intern(new StringBuilder("EUR"))).isEqualTo("EUR").isNotSameAs(first);
+        assertThat(pool.hits()).isEqualTo(1);
+        assertThat(pool.misses()).isEqualTo(2);
+        assertThat(pool.hitRate()).isEqualTo(1 / 3d);
+        assertThat(pool.size()).isEqualTo(2);
+        assertThat(pool.intern("")).isEmpty();
+    }
+
+    @Test
+    void intern_shouldStayBoundedForHighCardinalityValues() {
+        CsvStringPool pool = new CsvStringPool(16);
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(pool.intern("value-" + i)).isEqualTo("value-" + i);
+        }
+        assertThat(pool.capacity()).isEqualTo(16);
+        assertThat(pool.size()).isLessThanOrEqualTo(16);
+        assertThat(pool.hits()).isZero();
+
+        String longValue = "x".repeat(CsvStringPool.MAX_LENGTH + 1);
+        assertThat(pool.intern(longValue)).isEqualTo(longValue);
+        assertThat(pool.intern(new StringBuilder(longValue))).isNotSameAs(longValue);
+        assertThat(pool.toString()).contains("hits=0");
+        assertThatThrownBy(() -> new CsvStringPool(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mappers_shouldDeduplicateAnnotatedColumns() throws Exception {
+        String[] headers = {"currency", "comment"};
+        var reflective = new AnnotationCsvRowMapper<>(TradeDto.class, headers);
+        var generated = GeneratedCsvRowMapper.forType(TradeDto.class, headers);
+
+        for (CsvRowMapper<TradeDto> mapper : java.util.List.of(reflective, generated)) {
+            TradeDto a = mapper.map(new ArrayRowView(new String[]{new String("USD"), new String("x")}), headers, 2);
+            TradeDto b = mapper.map(new ArrayRowView(new String[]{new String("USD"), new String("x")}), headers, 3);
+            assertThat(b.getCurrency()).isSameAs(a.getCurrency());
+            assertThat(b.getComment()).isEqualTo(a.getComment()).isNotSameAs(a.getComment());
+            assertThat(mapper.stringPools()).containsOnlyKeys("currency");
+            assertThat(mapper.stringPools().get("currency").hits()).isEqualTo(1);
+        }
+
+        var all = new AnnotationCsvRowMapper<>(TradeDto.class, headers, true);
+        assertThat(all.stringPools()).containsOnlyKeys("currency", "comment");
+        assertThat(GeneratedCsvRowMapper.forType(TradeDto.class, headers, true).stringPools())
+                .containsOnlyKeys("currency", "comment");
+    }
+}
@@ -0,0 +1,207 @@
+package dev.gmky.utils.csv.mapper;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.converter.IntConverter;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.converter.impl.StringConverter;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.parser.ArrayRowView;
+import dev.gmky.utils.csv.parser.CsvRowBatch;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class GeneratedCsvRowMapperTest {
+
+    private static final String[] HEADERS = {"name", "count", "total", "ratio", "active", "f", "s", "b",
+            "boxed", "price", "day", "date", "custom"};
+
+    @Data
+    static class AllTypesDto {
+        @CsvColumn(value = "name", required = true) private String name;
+        @CsvColumn("count") private int count;
+        @CsvColumn("total") private long total;
+        @CsvColumn("ratio") private double ratio;
+        @CsvColumn("active") private boolean active;
+        @CsvColumn("f") private float f;
+        @CsvColumn("s") private short s;
+        @CsvColumn("b") private byte b;
+        @CsvColumn(value = "boxed", defaultValue = "7") private Integer boxed;
+        @CsvColumn("price") private BigDecimal price;
+        @CsvColumn("day") private DayOfWeek day;
+        @CsvColumn("date") private LocalDate date;
+        @CsvColumn(value = "custom", converter = Shout.class) private String custom;
+        @CsvColumn("absent") private String absent;
+    }
+
+    /** No setters: fields are written through method handles. */
+    static class FieldOnlyDto {
+        @CsvColumn(index = 0) private int id;
+        @CsvColumn(index = 1) private String label;
+        @CsvColumn(index = 2) private boolean flag;
+    }
+
+    /** Setters with side effects: neither mapper may call them. */
+    static class NormalizingSetterDto {
+        @CsvColumn(index = 0) private String code;
+        @CsvColumn(index = 1) private int qty;
+
+        public void setCode(String code) {
+            this.code = code.toLowerCase();
+        }
+
+        public void setQty(int qty) {
+            this.qty = Math.max(qty, 0);
+        }
+    }
+
+    static class NoNoArgDto {
+        @CsvColumn(index = 0) private String value;
+
+        NoNoArgDto(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class Shout extends StringConverter {
+        @Override
+        public String convert(String value, CsvFieldMeta meta) {
+            return value.toUpperCase();
+        }
+    }
+
+    @Test
+    void shouldMapLikeTheReflectiveMapper() throws Exception {
+        var reflective = new AnnotationCsvRowMapper<>(AllTypesDto.class, HEADERS);
+        var generated = GeneratedCsvRowMapper.forType(AllTypesDto.class, HEADERS);
+
+        String[][] rows = {
+                {"alice", " 42 ", "9000000000", "0.25", "YES", "1.5", "-3", "127", "", "12.34", "MONDAY", "2024-02-29", "hi"},
+                {"bob", "-1", "0", "1e3", "off", "0", "0", "0", "5", "0", "SUNDAY", "", ""},
+                {"carol", "", "", "", "", "", "", "", " ", "", "", "", ""},
+                {"dave", "+7"}
+        };
+        for (String[] row : rows) {
+            assertThat(generated.map(row, HEADERS, 2)).isEqualTo(reflective.map(row, HEADERS, 2));
+        }
+
+        AllTypesDto dto = generated.map(rows[0], HEADERS, 2);
+        assertThat(dto.getCount()).isEqualTo(42);
+        assertThat(dto.getTotal()).isEqualTo(9_000_000_000L);
+        assertThat(dto.isActive()).isTrue();
+        assertThat(dto.getBoxed()).isEqualTo(7);
+        assertThat(dto.getCustom()).isEqualTo("HI");
+    }
+
+    @Test
+    void shouldParsePrimitivesFromSlices() throws Exception {
+        var generated = GeneratedCsvRowMapper.forType(AllTypesDto.class, HEADERS);
+        CsvRowBatch batch = new CsvRowBatch(1);
+        batch.add(new ArrayRowView(new String[]{"n", " 123 ", "-9", "0.5", "On"}), 2);
+
+        AllTypesDto dto = generated.map(batch.cursor().moveTo(0), HEADERS, 2);
+        assertThat(dto.getCount()).isEqualTo(123);
+        assertThat(dto.getTotal()).isEqualTo(-9L);
+        assertThat(dto.getRatio()).isEqualTo(0.5);
+        assertThat(dto.isActive()).isTrue();
+    }
+
+    @Test
+    void shouldReportErrorsLikeTheReflectiveMapper() {
+        var reflective = new AnnotationCsvRowMapper<>(AllTypesDto.class, HEADERS);
+        var generated = GeneratedCsvRowMapper.forType(AllTypesDto.class, HEADERS);
+
+        String[][] rows = {{"", "1"}, {"x", "abc"}, {"x", "1", "99999999999999999999"}, {"x", "1", "1", "1", "1", "1", "1", "300"}};
+        for (String[] row : rows) {
+            Throwable expected = catchThrowable(() -> reflective.map(row, HEADERS, 3));
+            assertThatThrownBy(() -> generated.map(row, HEADERS, 3))
+                    .isInstanceOf(CsvMappingException.class)
+                    .hasMessage(expected.getMessage());
+        }
+
+        String[] noNameHeader = {"count"};
+        assertThatThrownBy(() -> GeneratedCsvRowMapper.forType(AllTypesDto.class, noNameHeader).map(new String[]{"1"}, noNameHeader, 4))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("Required column 'name' not found");
+    }
+
+    @Test
+    void shouldWriteFieldsWithoutSetters() throws Exception {
+        FieldOnlyDto dto = GeneratedCsvRowMapper.forType(FieldOnlyDto.class, null)
+                .map(new String[]{"5", "five", "on"}, null, 1);
+
+        assertThat(dto.id).isEqualTo(5);
+        assertThat(dto.label).isEqualTo("five");
+        assertThat(dto.flag).isTrue();
+    }
+
+    @Test
+    void shouldBypassSettersLikeTheReflectiveMapper() throws Exception {
+        String[] row = {"ABC", "-4"};
+        NormalizingSetterDto reflective = new AnnotationCsvRowMapper<>(NormalizingSetterDto.class, null).map(row, null, 1);
+        NormalizingSetterDto generated = GeneratedCsvRowMapper.forType(NormalizingSetterDto.class, null).map(row, null, 1);
+
+        assertThat(generated.code).isEqualTo(reflective.code).isEqualTo("ABC");
+        assertThat(generated.qty).isEqualTo(reflective.qty).isEqualTo(-4);
+    }
+
+    @Test
+    void shouldFailWithoutNoArgConstructor() {
+        var mapper = GeneratedCsvRowMapper.forType(NoNoArgDto.class, null);
+        assertThatThrownBy(() -> mapper.map(new String[]{"v"}, null, 9))
+                .isInstanceOf(CsvMappingException.class)
+                .hasMessageContaining("Cannot instantiate DTO");
+    }
+
+    record PointRecord(@CsvColumn("x") int x, @CsvColumn("y") double y, @CsvColumn("label") String label) {
+    }
+
+    @Test
+    void shouldMapRecordsLikeTheReflectiveMapper() throws Exception {
+        String[] headers = {"label", "x", "y"};
+        var reflective = new AnnotationCsvRowMapper<>(PointRecord.class, headers);
+        var generated = GeneratedCsvRowMapper.forType(PointRecord.class, headers);
+
+        for (String[] row : new String[][]{{"a", "1", "2.5"}, {"", " 3 ", ""}, {"c"}}) {
+            assertThat(generated.map(row, headers, 2)).isEqualTo(reflective.map(row, headers, 2));
+        }
+        assertThat(generated.map(new String[]{"p", "4", "0.5"}, headers, 3)).isEqualTo(new PointRecord(4, 0.5, "p"));
+    }
+
+    /** Parses hex; the boxed path is deliberately unsupported so the test proves the primitive path is used. */
+    public static class HexConverter implements TypeConverter<Integer>, IntConverter {
+        @Override
+        public int convertInt(CharSequence value, CsvFieldMeta meta) {
+            return Integer.parseInt(value, 0, value.length(), 16);
+        }
+
+        @Override
+        public Integer convert(String value, CsvFieldMeta meta) {
+            throw new UnsupportedOperationException("boxed conversion");
+        }
+
+        @Override
+        public Class<Integer> getTargetType() {
+            return Integer.class;
+        }
+    }
+
+    @Data
+    static class HexDto {
+        @CsvColumn(index = 0, converter = HexConverter.class) private int value;
+    }
+
+    @Test
+    void shouldUsePrimitiveConverterSpiForPrimitiveFields() throws Exception {
+        String[] row = {"ff"};
+        assertThat(GeneratedCsvRowMapper.forType(HexDto.class, null).map(row, null, 1).getValue()).isEqualTo(255);
+        assertThat(new AnnotationCsvRowMapper<>(HexDto.class, null).map(row, null, 1).getValue()).isEqualTo(255);
+    }
+}
@@ -0,0 +1,146 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteCsvTokenizerTest {
+
+    private static final CsvReaderConfig DEFAULT = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE_BYTES).build();
+
+    private static List<List<String>> tokenize(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (tokenizer) {
+            while (tokenizer.nextRecord()) {
+                rows.add(List.of(tokenizer.toArray()));
+            }
+        }
+        return rows;
+    }
+
+    private static List<List<String>> tokenize(String csv, CsvReaderConfig config, int bufferSize) throws IOException {
+        byte[] bytes = csv.getBytes(config.getCharset());
+        return tokenize(new ByteCsvTokenizer(new ByteArrayInputStream(bytes), config, bufferSize));
+    }
+
+    private static List<List<String>> tokenize(String csv) throws IOException {
+        return tokenize(csv, DEFAULT, ByteCsvTokenizer.DEFAULT_BUFFER_SIZE);
+    }
+
+    private static CsvReaderConfig config(Charset charset) {
+        return CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE_BYTES).charset(charset).build();
+    }
+
+    @Test
+    void shouldHandleQuotesEscapesAndLineBreaks() throws IOException {
+        assertThat(tokenize("\"a,b\",\"say \"\"hi\"\"\",\"x\\\"y\",p\\\"q\r\n  a , \"b\r\nc\" ,\t\"  d\"\n\nx"))
+                .containsExactly(List.of("a,b", "say \"hi\"", "x\"y", "p\"q"), List.of("a", "b\nc", "d"),
+                        List.of(""), List.of("x"));
+    }
+
+    @Test
+    void shouldDecodeNonAsciiCellsAndStripByteOrderMark() throws IOException {
+        String csv = "\uFEFFname,city\nJosé,Zürich\n\"Łódź, PL\",東京\n";
+
+        assertThat(tokenize(csv))
+                .containsExactly(List.of("name", "city"), List.of("José", "Zürich"), List.of("Łódź, PL", "東京"));
+        assertThat(tokenize("name,city\nJosé,Zürich\n", config(StandardCharsets.ISO_8859_1), 3))
+                .containsExactly(List.of("name", "city"), List.of("José", "Zürich"));
+    }
+
+    @Test
+    void shouldExposeAsciiCellsAsByteSlices() throws IOException {
+        byte[] bytes = " 42 ,é,\"\"\n".getBytes(StandardCharsets.UTF_8);
+        try (var tokenizer = new ByteCsvTokenizer(new ByteArrayInputStream(bytes), DEFAULT)) {
+            assertThat(tokenizer.nextRecord()).isTrue();
+            assertThat(tokenizer.cell(0)).isInstanceOf(ByteSlice.class).hasToString("42");
+            assertThat(tokenizer.cell(1)).isInstanceOf(String.class).hasToString("é");
+            assertThat(tokenizer.isBlank(1)).isFalse();
+            assertThat(tokenizer.isBlank(2)).isTrue();
+            assertThat(tokenizer.rawRecord()).isEqualTo("42,é,");
+            assertThat(tokenizer.byteOffset()).isEqualTo(bytes.length);
+            assertThat(tokenizer.charOffset()).isEqualTo(-1);
+            assertThatThrownBy(() -> tokenizer.cell(3)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(tokenizer.nextRecord()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldMatchNativeTokenizerAcrossBufferBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder("id,name,comment\r\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"nâme ").append(i).append(", jr\",")
+                    .append(i % 3 == 0 ? "\"multi\nline \"\"quoted\"\"\"" : " plain \\\"esc\\\" " + "x".repeat(i % 40))
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1}) {
+            CsvReaderConfig config = config(charset);
+            List<List<String>> expected = tokenize(new NativeCsvTokenizer(new StringReader(csv.toString()), config));
+
+            for (int bufferSize : new int[]{1, 2, 7, 64, 4096}) {
+                assertThat(tokenize(csv.toString(), config, bufferSize)).as("%s, buffer size %d", charset, bufferSize)
+                        .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    void projectionShouldReturnSkippedCellsRaw() throws IOException {
+        byte[] bytes = " \"a \"\"b\"\"\", x ,c\\,d\n".getBytes(StandardCharsets.UTF_8);
+        try (var tokenizer = new ByteCsvTokenizer(new ByteArrayInputStream(bytes), DEFAULT)) {
+            tokenizer.project(new int[]{1});
+            assertThat(tokenizer.nextRecord()).isTrue();
+            assertThat(tokenizer.toArray()).containsExactly("\"a \"\"b\"\"\"", "x", "c\\", "d");
+            assertThat(tokenizer.nextRecord()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldFailOnUnterminatedQuote() {
+        assertThatThrownBy(() -> tokenize("a,b\n\"open,field\n"))
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRejectUnsupportedCharset() {
+        CsvReaderConfig utf16 = config(StandardCharsets.UTF_16);
+
+        assertThat(ByteCsvTokenizer.supports(utf16)).isFalse();
+        assertThatThrownBy(() -> new ByteCsvTokenizer(new ByteArrayInputStream(new byte[0]), utf16))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void factoryShouldSelectByteTokenizerOrFallBackToNative(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("data.csv");
+        Files.writeString(file, "a,b\n1,2\n");
+
+        try (var fromStream = CsvTokenizers.open(new ByteArrayInputStream(new byte[0]), DEFAULT);
+             var fromFile = CsvTokenizers.open(file, DEFAULT)) {
+            assertThat(fromStream).isInstanceOf(ByteCsvTokenizer.class);
+            assertThat(fromFile).isInstanceOf(ByteCsvTokenizer.class);
+            assertThat(tokenize(fromFile)).containsExactly(List.of("a", "b"), List.of("1", "2"));
+        }
+        try (var tokenizer = CsvTokenizers.open(new ByteArrayInputStream(new byte[0]), config(StandardCharsets.UTF_16))) {
+            assertThat(tokenizer).isInstanceOf(NativeCsvTokenizer.class);
+        }
+        try (var tokenizer = CsvTokenizers.open(new StringReader("a"), DEFAULT)) {
+            assertThat(tokenizer).isInstanceOf(NativeCsvTokenizer.class);
+        }
+    }
+}
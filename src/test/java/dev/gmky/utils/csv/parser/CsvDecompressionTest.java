@@ -0,0 +1,218 @@
+package dev.gmky.utils.csv.parser;
+
+import com.github.luben.zstd.ZstdOutputStream;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.config.CsvReaderConfig.Compression;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvDecompressionTest {
+
+    private static final CsvReaderConfig AUTO = CsvReaderConfig.defaultConfig();
+
+    private static byte[] content() {
+        StringBuilder sb = new StringBuilder("id,name,city\n");
+        for (int i = 0; i < 20_000; i++) {
+            sb.append(i).append(",Nguyễn ").append(i % 97).append(",\"Hà Nội, VN\"\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] zstd(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream zstd = new ZstdOutputStream(out)) {
+            zstd.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Writes {@code data} as BGZF members of at most {@code blockSize} uncompressed bytes,
+     * followed by the empty end-of-file member.
+     */
+    private static byte[] bgzf(byte[] data, int blockSize) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int from = 0; ; from += blockSize) {
+            byte[] block = Arrays.copyOfRange(data, Math.min(data.length, from), Math.min(data.length, from + blockSize));
+            Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            deflater.setInput(block);
+            deflater.finish();
+            byte[] deflated = new byte[block.length + 1024];
+            int length = deflater.deflate(deflated);
+            deflater.end();
+            CRC32 crc = new CRC32();
+            crc.update(block);
+            ByteBuffer member = ByteBuffer.allocate(18 + length + 8).order(ByteOrder.LITTLE_ENDIAN)
+                    .put(new byte[]{0x1F, (byte) 0x8B, 8, 4, 0, 0, 0, 0, 0, (byte) 0xFF, 6, 0, 'B', 'C', 2, 0})
+                    .putShort((short) (18 + length + 8 - 1))
+                    .put(deflated, 0, length)
+                    .putInt((int) crc.getValue())
+                    .putInt(block.length);
+            out.writeBytes(member.array());
+            if (block.length == 0) return out.toByteArray();
+        }
+    }
+
+    private static byte[] readAll(byte[] compressed, String filename, CsvReaderConfig config) throws IOException {
+        try (InputStream in = CsvDecompression.decompress(new ByteArrayInputStream(compressed), filename, config)) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Test
+    void detect_shouldUseMagicBytesThenFileName() {
+        assertThat(CsvDecompression.detect(new byte[]{0x1F, (byte) 0x8B, 8, 0}, 4, "data.csv")).isEqualTo(Compression.GZIP);
+        assertThat(CsvDecompression.detect(new byte[]{0x28, (byte) 0xB5, 0x2F, (byte) 0xFD}, 4, null))
+                .isEqualTo(Compression.ZSTD);
+        assertThat(CsvDecompression.detect("PK\u0003\u0004".getBytes(StandardCharsets.ISO_8859_1), 4, null))
+                .isEqualTo(Compression.ZIP);
+        assertThat(CsvDecompression.detect("id,n".getBytes(StandardCharsets.US_ASCII), 4, "Data.CSV.GZ"))
+                .isEqualTo(Compression.GZIP);
+        assertThat(CsvDecompression.detect("id,n".getBytes(StandardCharsets.US_ASCII), 4, "data.csv"))
+                .isEqualTo(Compression.NONE);
+        assertThat(CsvDecompression.detect(new byte[0], 0, null)).isEqualTo(Compression.NONE);
+    }
+
+    @Test
+    void decompress_shouldRoundTripEveryFormat() throws IOException {
+        byte[] content = content();
+
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            out.putNextEntry(new ZipEntry("export/"));
+            out.putNextEntry(new ZipEntry("export/data.csv"));
+            out.write(content);
+            out.putNextEntry(new ZipEntry("export/other.csv"));
+            out.write("ignored".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertThat(readAll(gzip(content), null, AUTO)).isEqualTo(content);
+        assertThat(readAll(zstd(content), null, AUTO)).isEqualTo(content);
+        assertThat(readAll(zip.toByteArray(), null, AUTO)).isEqualTo(content);
+        assertThat(readAll(content, "plain.csv", AUTO)).isEqualTo(content);
+        assertThat(readAll(new byte[0], null, AUTO)).isEmpty();
+
+        var forced = CsvReaderConfig.builder().compression(Compression.NONE).build();
+        assertThat(readAll(gzip(content), "data.csv.gz", forced)).isEqualTo(gzip(content));
+    }
+
+    @Test
+    void decompress_shouldReadPlainInputWithoutZstdJniOnTheClasspath() throws Exception {
+        byte[] content = content();
+        ClassLoader loader = new WithoutZstdJni(CsvDecompressionTest.class.getClassLoader());
+        Class<?> configType = loader.loadClass(CsvReaderConfig.class.getName());
+        Object config = configType.getMethod("defaultConfig").invoke(null);
+        Method decompress = loader.loadClass(CsvDecompression.class.getName())
+                .getMethod("decompress", InputStream.class, String.class, configType);
+
+        try (InputStream in = (InputStream) decompress.invoke(null, new ByteArrayInputStream(content), null, config)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        try (InputStream in = (InputStream) decompress.invoke(null, new ByteArrayInputStream(gzip(content)), null, config)) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        byte[] zstd = zstd(content);
+        assertThatThrownBy(() -> decompress.invoke(null, new ByteArrayInputStream(zstd), null, config))
+                .isInstanceOf(InvocationTargetException.class)
+                .cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("zstd-jni");
+    }
+
+    @Test
+    void decompress_shouldInflateMultiMemberGzipInOrder() throws IOException {
+        byte[] content = content();
+        byte[] bgzf = bgzf(content, 7_000);
+        assertThat(ParallelGzipInputStream.isBgzf(bgzf, bgzf.length)).isTrue();
+
+        assertThat(readAll(bgzf, null, AUTO)).isEqualTo(content);
+
+        // A plain gzip member after the BGZF ones is inflated sequentially
+        byte[] tail = "99999,tail,end\n".getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream mixed = new ByteArrayOutputStream();
+        mixed.writeBytes(bgzf);
+        mixed.writeBytes(gzip(tail));
+        mixed.writeBytes(gzip(tail));
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.writeBytes(content);
+        expected.writeBytes(tail);
+        expected.writeBytes(tail);
+        assertThat(readAll(mixed.toByteArray(), null, AUTO)).isEqualTo(expected.toByteArray());
+
+        // Multi-member files without block sizes still read fully
+        ByteArrayOutputStream concatenated = new ByteArrayOutputStream();
+        concatenated.writeBytes(gzip(content));
+        concatenated.writeBytes(gzip(tail));
+        assertThat(readAll(concatenated.toByteArray(), null, AUTO)).endsWith(tail).hasSize(content.length + tail.length);
+    }
+
+    @Test
+    void decompress_shouldReportCorruptMembers() {
+        byte[] bgzf = bgzf(content(), 7_000);
+        bgzf[40] ^= 0x55;
+        assertThatThrownBy(() -> readAll(bgzf, null, AUTO)).isInstanceOf(ZipException.class)
+                .hasMessageContaining("Corrupt gzip member");
+
+        byte[] truncated = Arrays.copyOf(bgzf(content(), 7_000), 100);
+        assertThatThrownBy(() -> readAll(truncated, null, AUTO)).isInstanceOf(IOException.class);
+    }
+
+    /**
+     * Loads this library's classes afresh and hides zstd-jni from them, as in an application
+     * that does not depend on the optional library.
+     */
+    private static final class WithoutZstdJni extends ClassLoader {
+
+        WithoutZstdJni(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith("com.github.luben.zstd.")) throw new ClassNotFoundException(name);
+            if (!name.startsWith("dev.gmky.utils.csv.")) return super.loadClass(name, resolve);
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        if (in == null) throw new ClassNotFoundException(name);
+                        byte[] bytes = in.readAllBytes();
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+                if (resolve) resolveClass(loaded);
+                return loaded;
+            }
+        }
+    }
+}
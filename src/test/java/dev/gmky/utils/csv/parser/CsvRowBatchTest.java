@@ -0,0 +1,47 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowBatchTest {
+
+    @Test
+    void shouldSnapshotRowsIndependentlyOfTokenizerBuffer() throws IOException {
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+        CsvRowBatch batch = new CsvRowBatch(1);
+        try (var tokenizer = new NativeCsvTokenizer(new StringReader("a,\"b,c\"\n,\n" + "x".repeat(100) + "\n"), config, 4)) {
+            long line = 10;
+            while (tokenizer.nextRecord()) {
+                batch.add(tokenizer, line++);
+            }
+        }
+
+        assertThat(batch.size()).isEqualTo(3);
+        CsvRowBatch.Cursor cursor = batch.cursor();
+        assertThat(cursor.moveTo(0).toArray()).containsExactly("a", "b,c");
+        assertThat(cursor.moveTo(1).toArray()).containsExactly("", "");
+        assertThat(cursor.isBlank(0)).isTrue();
+        assertThat(cursor.moveTo(2).cell(0)).hasToString("x".repeat(100));
+        assertThat(batch.lineNumber(2)).isEqualTo(12);
+        assertThat(batch.rawRecord(0, ';')).isEqualTo("a;b,c");
+        assertThatThrownBy(() -> cursor.get(1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void clearShouldAllowReuse() {
+        CsvRowBatch batch = new CsvRowBatch(2);
+        batch.add(new ArrayRowView(new String[]{"one", "two"}), 1);
+        batch.clear();
+        batch.add(new ArrayRowView(new String[]{"three"}), 2);
+
+        assertThat(batch.size()).isEqualTo(1);
+        assertThat(batch.cursor().moveTo(0).toArray()).containsExactly("three");
+        assertThat(batch.lineNumber(0)).isEqualTo(2);
+    }
+}
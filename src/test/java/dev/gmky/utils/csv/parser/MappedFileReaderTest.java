@@ -0,0 +1,95 @@
+package dev.gmky.utils.csv.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static String readFully(MappedFileReader reader, int chunk) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        char[] buf = new char[chunk];
+        int n;
+        while ((n = reader.read(buf, 0, buf.length)) != -1) {
+            sb.append(buf, 0, n);
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void shouldDecodeMultiByteSequencesAcrossWindows() throws IOException {
+        String content = "id,name\n" + "1,Nguyễn Văn Ả 😀,€\n".repeat(50);
+        Path file = Files.writeString(tempDir.resolve("utf8.csv"), content, StandardCharsets.UTF_8);
+
+        for (int window : new int[]{16, 17, 31, 1024}) {
+            try (var reader = new MappedFileReader(FileChannel.open(file), StandardCharsets.UTF_8, true, window)) {
+                assertThat(reader.size()).isEqualTo(Files.size(file));
+                assertThat(readFully(reader, 7)).as("window %d", window).isEqualTo(content);
+            }
+        }
+    }
+
+    @Test
+    void shouldReadSupplementaryCharsOneCharAtATime() throws IOException {
+        String content = "a\uD83D\uDE00b😀";
+        Path file = Files.writeString(tempDir.resolve("emoji.csv"), content, StandardCharsets.UTF_8);
+
+        try (var reader = new MappedFileReader(FileChannel.open(file), StandardCharsets.UTF_8, true)) {
+            char[] buf = new char[2];
+            assertThat(reader.read(buf, 0, 1)).isEqualTo(1);
+            assertThat(reader.read(buf, 1, 1)).isEqualTo(1);
+            assertThat(reader.read(buf, 0, 1)).isEqualTo(1);
+            assertThat(buf).containsExactly('\uDE00', '\uD83D');
+        }
+        try (var reader = new MappedFileReader(FileChannel.open(file), StandardCharsets.UTF_8, true)) {
+            StringBuilder sb = new StringBuilder();
+            char[] one = new char[1];
+            int n;
+            while ((n = reader.read(one, 0, 1)) != -1) {
+                assertThat(n).isEqualTo(1);
+                sb.append(one[0]);
+            }
+            assertThat(sb).hasToString(content);
+        }
+    }
+
+    @Test
+    void shouldReturnEndOfInputForEmptyFile() throws IOException {
+        Path file = Files.createFile(tempDir.resolve("empty.csv"));
+        try (var reader = new MappedFileReader(FileChannel.open(file), StandardCharsets.UTF_8, true)) {
+            assertThat(reader.read(new char[8], 0, 8)).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    void shouldLeaveChannelOpenWhenNotOwned() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("a.csv"), "a,b\n");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var reader = new MappedFileReader(channel, StandardCharsets.UTF_8, false);
+            reader.close();
+            assertThat(channel.isOpen()).isTrue();
+            assertThatThrownBy(() -> reader.read(new char[4], 0, 4)).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    void shouldRejectTinyWindow() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("b.csv"), "a\n");
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertThatThrownBy(() -> new MappedFileReader(channel, StandardCharsets.UTF_8, false, 4))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NativeCsvTokenizerTest {
+
+    private static final CsvReaderConfig DEFAULT = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+
+    private static List<List<String>> tokenize(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (tokenizer) {
+            while (tokenizer.nextRecord()) {
+                rows.add(List.of(tokenizer.toArray()));
+            }
+        }
+        return rows;
+    }
+
+    private static List<List<String>> tokenize(String csv, CsvReaderConfig config, int bufferSize) throws IOException {
+        return tokenize(new NativeCsvTokenizer(new StringReader(csv), config, bufferSize));
+    }
+
+    private static List<List<String>> tokenize(String csv) throws IOException {
+        return tokenize(csv, DEFAULT, NativeCsvTokenizer.DEFAULT_BUFFER_SIZE);
+    }
+
+    @Test
+    void shouldSplitSimpleRecords() throws IOException {
+        assertThat(tokenize("a,b,c\n1,2,3\n"))
+                .containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"));
+    }
+
+    @Test
+    void shouldHandleQuotesEscapesAndDoubledQuotes() throws IOException {
+        assertThat(tokenize("\"a,b\",\"say \"\"hi\"\"\",\"x\\\"y\",p\\\"q\n"))
+                .containsExactly(List.of("a,b", "say \"hi\"", "x\"y", "p\"q"));
+    }
+
+    @Test
+    void shouldDropEscapeBeforeOrdinaryChar() throws IOException {
+        assertThat(tokenize("\"a\\xb\",a\\xb,\"a\\\\b\"\n"))
+                .containsExactly(List.of("axb", "axb", "a\\b"));
+    }
+
+    @Test
+    void shouldNormalizeLineBreaksInsideQuotes() throws IOException {
+        assertThat(tokenize("a,\"b\r\nc\",d\r\ne,\"f\rg\"\rh\n"))
+                .containsExactly(List.of("a", "b\nc", "d"), List.of("e", "f\ng"), List.of("h"));
+    }
+
+    @Test
+    void shouldReportEmptyLinesAndTrailingDelimiters() throws IOException {
+        assertThat(tokenize("\n\na,,\n,\nx"))
+                .containsExactly(List.of(""), List.of(""), List.of("a", "", ""), List.of("", ""), List.of("x"));
+    }
+
+    @Test
+    void shouldStripByteOrderMark() throws IOException {
+        assertThat(tokenize("\uFEFFh1,h2\nv1,v2\n"))
+                .containsExactly(List.of("h1", "h2"), List.of("v1", "v2"));
+    }
+
+    @Test
+    void shouldTrimWhenConfigured() throws IOException {
+        assertThat(tokenize("  a , \"b c\" ,\t\"  d\"\n"))
+                .containsExactly(List.of("a", "b c", "d"));
+
+        var noTrim = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).trimValues(false).build();
+        assertThat(tokenize(" a , b \n", noTrim, 64))
+                .containsExactly(List.of(" a ", " b "));
+    }
+
+    @Test
+    void shouldNotTreatTabDelimiterAsWhitespace() throws IOException {
+        var tsv = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).delimiter('\t').build();
+        assertThat(tokenize("a\t\tb\n", tsv, 64)).containsExactly(List.of("a", "", "b"));
+    }
+
+    @Test
+    void shouldTreatQuotesLiterallyWhenEscapeIsDisabled() throws IOException {
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).escapeChar('\0').build();
+        assertThat(tokenize("a\\b,\"c\\\"\"d\"\n", config, 64)).containsExactly(List.of("a\\b", "c\\\"d"));
+    }
+
+    @Test
+    void shouldFailOnUnterminatedQuote() {
+        assertThatThrownBy(() -> tokenize("a,b\n\"open,field\n"))
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    void shouldExposeCellsAsSlices() throws IOException {
+        try (var tokenizer = new NativeCsvTokenizer(new StringReader(" x ,\"y\"\n"), DEFAULT)) {
+            assertThat(tokenizer.nextRecord()).isTrue();
+            assertThat(tokenizer.cell(0)).isInstanceOf(CharSlice.class);
+            assertThat(tokenizer.cell(0).toString()).isEqualTo("x");
+            assertThat(tokenizer.isBlank(1)).isFalse();
+            assertThat(tokenizer.rawRecord()).isEqualTo("x,y");
+            assertThatThrownBy(() -> tokenizer.cell(2)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(tokenizer.nextRecord()).isFalse();
+        }
+    }
+
+    @Test
+    void shouldMatchOpenCsvAcrossBufferBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder("id,name,comment\r\n");
+        for (int i = 0; i < 200; i++) {
+            csv.append(i).append(",\"name ").append(i).append(", jr\",")
+                    .append(i % 3 == 0 ? "\"multi\nline \"\"quoted\"\"\"" : "plain \\\"esc\\\" " + "x".repeat(i % 40))
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        var openCsv = CsvReaderConfig.defaultConfig();
+        List<List<String>> expected = tokenize(new OpenCsvTokenizer(new StringReader(csv.toString()), openCsv));
+
+        for (int bufferSize : new int[]{1, 2, 7, 64, 4096}) {
+            assertThat(tokenize(csv.toString(), DEFAULT, bufferSize)).as("buffer size %d", bufferSize)
+                    .isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldKeepLongRecordWhole_whenSurrogatePairMeetsBufferEnd(@TempDir Path dir) throws IOException {
+        String csv = "abc😀def,x\n\"ab😀\nc😀\",y\n";
+        Path file = Files.writeString(dir.resolve("emoji.csv"), csv, StandardCharsets.UTF_8);
+
+        for (int bufferSize = 1; bufferSize <= 8; bufferSize++) {
+            var reader = new MappedFileReader(FileChannel.open(file), StandardCharsets.UTF_8, true);
+            assertThat(tokenize(new NativeCsvTokenizer(reader, DEFAULT, bufferSize))).as("buffer size %d", bufferSize)
+                    .containsExactly(List.of("abc😀def", "x"), List.of("ab😀\nc😀", "y"));
+        }
+    }
+
+    @Test
+    void projectionShouldSkipOtherColumnsWithoutLosingRecordBoundaries() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 200; i++) {
+            csv.append(i % 3 == 0 ? "\"multi\nline, \"\"quoted\"\"\"" : " plain \\\"esc\\\" ").append(',')
+                    .append(i).append(',')
+                    .append(i % 2 == 0 ? "\"a,b\r\nc\"" : "x".repeat(i % 40)).append(',')
+                    .append(" v").append(i).append(' ')
+                    .append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        List<List<String>> expected = tokenize(csv.toString());
+
+        for (int bufferSize : new int[]{1, 2, 7, 64, 4096}) {
+            var tokenizer = new NativeCsvTokenizer(new StringReader(csv.toString()), DEFAULT, bufferSize);
+            tokenizer.project(new int[]{1, 3});
+            List<List<String>> rows = tokenize(tokenizer);
+            assertThat(rows).as("buffer size %d", bufferSize).hasSameSizeAs(expected);
+            for (int r = 0; r < rows.size(); r++) {
+                assertThat(rows.get(r)).hasSize(4);
+                assertThat(rows.get(r).get(1)).isEqualTo(expected.get(r).get(1));
+                assertThat(rows.get(r).get(3)).isEqualTo(expected.get(r).get(3));
+            }
+        }
+    }
+
+    @Test
+    void projectionShouldReturnSkippedCellsRaw() throws IOException {
+        try (var tokenizer = new NativeCsvTokenizer(new StringReader(" \"a \"\"b\"\"\", x ,c\\,d\n"), DEFAULT)) {
+            tokenizer.project(new int[]{1});
+            assertThat(tokenizer.nextRecord()).isTrue();
+            assertThat(tokenizer.toArray()).containsExactly("\"a \"\"b\"\"\"", "x", "c\\", "d");
+            assertThat(tokenizer.nextRecord()).isFalse();
+        }
+    }
+
+    @Test
+    void projectionShouldFailOnUnterminatedQuoteInSkippedCell() {
+        assertThatThrownBy(() -> {
+            var tokenizer = new NativeCsvTokenizer(new StringReader("a,\"open\n"), DEFAULT);
+            tokenizer.project(new int[]{0});
+            tokenize(tokenizer);
+        }).isInstanceOf(CsvParsingException.class).hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRejectNonPositiveBufferSize() {
+        assertThatThrownBy(() -> new NativeCsvTokenizer(new StringReader(""), DEFAULT, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void factoryShouldSelectEngine() throws IOException {
+        try (var tokenizer = CsvTokenizers.open(new StringReader("a"), DEFAULT)) {
+            assertThat(tokenizer).isInstanceOf(NativeCsvTokenizer.class);
+        }
+        try (var tokenizer = CsvTokenizers.open(new StringReader("a"), CsvReaderConfig.defaultConfig())) {
+            assertThat(tokenizer).isInstanceOf(OpenCsvTokenizer.class);
+        }
+    }
+}
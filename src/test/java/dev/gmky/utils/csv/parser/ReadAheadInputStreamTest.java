@@ -0,0 +1,105 @@
+package dev.gmky.utils.csv.parser;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReadAheadInputStreamTest {
+
+    private static byte[] content(int rows) {
+        StringBuilder sb = new StringBuilder("id,name\n");
+        for (int i = 0; i < rows; i++) sb.append(i).append(",name").append(i).append('\n');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** A source that trickles a few bytes per read, like a slow remote store. */
+    private static InputStream slow(byte[] data) {
+        return new FilterInputStream(new ByteArrayInputStream(data)) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(b, off, Math.min(len, 16));
+            }
+        };
+    }
+
+    @Test
+    void read_shouldCountParserStallsOnSlowInput() throws IOException {
+        byte[] data = content(20);
+        CsvReadAheadMetrics metrics = new CsvReadAheadMetrics();
+
+        try (InputStream in = new ReadAheadInputStream(slow(data), 64, 3, true, metrics)) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        assertThat(metrics.bytesRead()).isEqualTo(data.length);
+        assertThat(metrics.buffersFilled()).isEqualTo((data.length + 63) / 64);
+        assertThat(metrics.parserStalls()).isPositive();
+        assertThat(metrics.parserStallTime()).isPositive();
+    }
+
+    @Test
+    void read_shouldCountIoStallsWhenParserFallsBehind() throws Exception {
+        byte[] data = content(20);
+        CsvReadAheadMetrics metrics = new CsvReadAheadMetrics();
+
+        try (InputStream in = new ReadAheadInputStream(new ByteArrayInputStream(data), 16, 2, false, metrics)) {
+            Thread.sleep(50); // both buffers are filled while nothing is parsed
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        assertThat(metrics.ioStalls()).isPositive();
+        assertThat(metrics.ioStallTime()).isPositive();
+
+        metrics.reset();
+        assertThat(metrics.bytesRead()).isZero();
+        assertThat(metrics.ioStalls()).isZero();
+    }
+
+    @Test
+    void tokenizers_shouldReadAheadStreamsAndFilesWhenConfigured(@TempDir Path dir) throws IOException {
+        byte[] data = content(5_000);
+        Path file = dir.resolve("data.csv");
+        Files.write(file, data);
+        CsvReadAheadMetrics metrics = new CsvReadAheadMetrics();
+
+        for (CsvReaderConfig.Engine engine : CsvReaderConfig.Engine.values()) {
+            CsvReaderConfig config = CsvReaderConfig.builder().engine(engine).readAhead(true)
+                    .readAheadBuffers(3).readAheadBufferSize(4096).readAheadMetrics(metrics).build();
+            try (CsvTokenizer fromStream = CsvTokenizers.open(new ByteArrayInputStream(data), config);
+                 CsvTokenizer fromFile = CsvTokenizers.open(file, config)) {
+                int records = 0;
+                while (fromStream.nextRecord()) {
+                    assertThat(fromFile.nextRecord()).isTrue();
+                    assertThat(fromFile.toArray()).as(engine.name()).containsExactly(fromStream.toArray());
+                    records++;
+                }
+                assertThat(fromFile.nextRecord()).isFalse();
+                assertThat(records).isEqualTo(5_001);
+            }
+        }
+        assertThat(metrics.bytesRead()).isEqualTo(4L * data.length);
+    }
+
+    @Test
+    void constructor_shouldRejectFewerThanTwoBuffers() {
+        CsvReaderConfig config = CsvReaderConfig.builder().readAhead(true).readAheadBuffers(1).build();
+
+        assertThatThrownBy(() -> CsvTokenizers.open(new ByteArrayInputStream(new byte[0]), config))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("at least 2 buffers");
+    }
+}
@@ -0,0 +1,152 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.model.CsvColumnType;
+import dev.gmky.utils.csv.model.CsvReadResult;
+import dev.gmky.utils.csv.model.CsvSchema;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarCsvReaderTest {
+
+    private static final String ORDERS = """
+            id,customer,qty,amount,paid,ordered,ref,zip
+            1,Ann,3,10.5,true,2024-01-02,3000000000,007
+            2,Bob,-1,2,FALSE,2024-01-03,1,100
+
+            3,Ann,,1e2,false,,2,200
+            """;
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void inferSchema_shouldPickNarrowestTypes() {
+        CsvSchema schema = ColumnarCsvReader.create().inferSchema(stream(ORDERS));
+
+        assertThat(schema.columns()).containsExactly(
+                new CsvSchema.Column("id", CsvColumnType.INT),
+                new CsvSchema.Column("customer", CsvColumnType.STRING),
+                new CsvSchema.Column("qty", CsvColumnType.INT),
+                new CsvSchema.Column("amount", CsvColumnType.DECIMAL),
+                new CsvSchema.Column("paid", CsvColumnType.BOOLEAN),
+                new CsvSchema.Column("ordered", CsvColumnType.DATE),
+                new CsvSchema.Column("ref", CsvColumnType.LONG),
+                new CsvSchema.Column("zip", CsvColumnType.STRING));
+    }
+
+    @Test
+    void read_shouldFillTypedColumns() {
+        List<List<Object>> rows = new ArrayList<>();
+        CsvReadResult<CsvColumnBatch> result = ColumnarCsvReader.create().read(stream(ORDERS), batch -> {
+            for (int r = 0; r < batch.size(); r++) {
+                List<Object> row = new ArrayList<>();
+                for (int c = 0; c < batch.schema().size(); c++) row.add(batch.get(c, r));
+                rows.add(row);
+            }
+            assertThat(batch.dictionary(1).size()).isEqualTo(2);
+            assertThat(batch.codes(1)[2]).isEqualTo(batch.codes(1)[0]);
+            assertThat(batch.isNull(2, 2)).isTrue();
+            assertThat(batch.lineNumber(2)).isEqualTo(5);
+        });
+
+        assertThat(rows).containsExactly(
+                List.of(1, "Ann", 3, 10.5, true, LocalDate.of(2024, 1, 2), 3_000_000_000L, "007"),
+                List.of(2, "Bob", -1, 2.0, false, LocalDate.of(2024, 1, 3), 1L, "100"),
+                Arrays.asList(3, "Ann", null, 100.0, false, null, 2L, "200"));
+        assertThat(result.successRecords()).isEmpty();
+        assertThat(result.successCount()).isEqualTo(3);
+        assertThat(result.totalRows()).isEqualTo(4);
+        assertThat(result.isFullySuccessful()).isTrue();
+    }
+
+    @Test
+    void read_shouldAggregateInBatchesWithEitherEngine(@TempDir Path dir) throws Exception {
+        StringBuilder csv = new StringBuilder("region,qty,price\n");
+        long expectedQty = 0;
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("R").append(i % 7).append(',').append(i).append(',').append(i % 4 * 0.25).append('\n');
+            expectedQty += i;
+        }
+        Path file = dir.resolve("sales.csv");
+        Files.writeString(file, csv);
+
+        for (CsvReaderConfig.Engine engine : CsvReaderConfig.Engine.values()) {
+            CsvReaderConfig config = CsvReaderConfig.builder().engine(engine).batchSize(999).schemaSampleRows(50).build();
+            ColumnarCsvReader reader = ColumnarCsvReader.create(config);
+            CsvSchema schema = reader.inferSchema(file);
+            int region = schema.indexOf("region");
+            int qty = schema.indexOf("qty");
+            long[] total = {0};
+            Map<String, Integer> perRegion = new HashMap<>();
+            List<Integer> sizes = new ArrayList<>();
+
+            CsvReadResult<CsvColumnBatch> result = reader.read(file, schema, batch -> {
+                sizes.add(batch.size());
+                int[] values = batch.ints(qty);
+                int[] codes = batch.codes(region);
+                for (int r = 0; r < batch.size(); r++) {
+                    total[0] += values[r];
+                    perRegion.merge(batch.dictionary(region).get(codes[r]), 1, Integer::sum);
+                }
+            });
+
+            assertThat(total[0]).as(engine.name()).isEqualTo(expectedQty);
+            assertThat(perRegion).hasSize(7).containsEntry("R0", 1429);
+            assertThat(sizes).hasSize(11).startsWith(999).endsWith(10);
+            assertThat(result.successCount()).isEqualTo(10_000);
+        }
+    }
+
+    @Test
+    void read_shouldApplyErrorStrategyToValuesPastTheSample() {
+        String csv = "id,name\n1,a\n2,b\nx,c\n3,d\n4000000000,e\n";
+        CsvReaderConfig config = CsvReaderConfig.builder().schemaSampleRows(2).build();
+
+        List<Integer> ids = new ArrayList<>();
+        CsvReadResult<CsvColumnBatch> result = ColumnarCsvReader.create(config).read(stream(csv), batch -> {
+            for (int r = 0; r < batch.size(); r++) ids.add(batch.ints(0)[r]);
+        });
+        assertThat(ids).containsExactly(1, 2, 3);
+        assertThat(result.errorCount()).isEqualTo(2);
+        assertThat(result.errors().get(0).lineNumber()).isEqualTo(4);
+        assertThat(result.errors().get(0).rawLine()).isEqualTo("x,c");
+
+        CsvReaderConfig failFast = CsvReaderConfig.builder().schemaSampleRows(2)
+                .errorStrategy(CsvReaderConfig.ErrorStrategy.FAIL_FAST).build();
+        assertThatThrownBy(() -> ColumnarCsvReader.create(failFast).read(stream(csv), batch -> { }))
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("[id]");
+
+        CsvSchema asText = ColumnarCsvReader.create(config).inferSchema(stream(csv)).withType("id", CsvColumnType.STRING);
+        assertThat(ColumnarCsvReader.create(config).read(stream(csv), asText, batch -> { }).successCount()).isEqualTo(5);
+    }
+
+    @Test
+    void inferSchema_shouldNameColumnsWithoutHeader() {
+        CsvReaderConfig config = CsvReaderConfig.builder().hasHeader(false).build();
+        CsvSchema schema = ColumnarCsvReader.create(config).inferSchema(stream("1,a\n2,b,true\n"));
+
+        assertThat(schema.columns()).containsExactly(
+                new CsvSchema.Column("column0", CsvColumnType.INT),
+                new CsvSchema.Column("column1", CsvColumnType.STRING),
+                new CsvSchema.Column("column2", CsvColumnType.BOOLEAN));
+    }
+}
@@ -4,11 +4,18 @@ import dev.gmky.utils.csv.annotation.CsvColumn;
 import dev.gmky.utils.csv.annotation.CsvRecord;
 import dev.gmky.utils.csv.config.CsvReaderConfig;
 import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.filter.CsvRowFilter;
 import lombok.Data;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -67,6 +74,42 @@ class CsvBatchReaderTest {
         reader.doClose();
     }
 
+    @Test
+    void shouldSkipRowsRejectedByRowFilterWithoutMappingThem() throws Exception {
+        String csv = "Name,Age\nJohn,30\nSkipped,not-a-number\nJane,25\n";
+        CsvReaderConfig config = CsvReaderConfig.builder()
+                .rowFilter(CsvRowFilter.equalsAny("Name", "Skipped").negate()).build();
+        CsvBatchReader<TestDto> reader = new CsvBatchReader<>(TestDto.class, resource(csv), config);
+        reader.doOpen();
+
+        assertThat(reader.doRead().getName()).isEqualTo("John");
+        assertThat(reader.doRead().getName()).isEqualTo("Jane");
+        assertThat(reader.doRead()).isNull();
+
+        reader.doClose();
+    }
+
+    @Test
+    void shouldTrimCellsAndHeadersOnBothSidesWhenTrimValuesIsSet() throws Exception {
+        String csv = "Name ,Age\n  John  , 30 \n";
+        for (CsvReaderConfig.Engine engine : CsvReaderConfig.Engine.values()) {
+            CsvReaderConfig config = CsvReaderConfig.builder().engine(engine).build();
+            CsvBatchReader<TestDto> reader = new CsvBatchReader<>(TestDto.class, resource(csv), config);
+            reader.doOpen();
+
+            TestDto row = reader.doRead();
+            assertThat(row.getName()).as(engine.name()).isEqualTo("John");
+            assertThat(row.getAge()).isEqualTo(30);
+            reader.doClose();
+        }
+
+        CsvReaderConfig untrimmed = CsvReaderConfig.builder().trimValues(false).build();
+        CsvBatchReader<TestDto> reader = new CsvBatchReader<>(TestDto.class, resource("Name ,Age\n  John  ,30\n"), untrimmed);
+        reader.doOpen();
+        assertThat(reader.doRead().getName()).isEqualTo("  John  ");
+        reader.doClose();
+    }
+
     @Test
     void shouldThrowExceptionOnMappingFailure() throws Exception {
         String csv = "Name,Age\nJohn,invalid-age\n";
@@ -95,4 +138,134 @@ class CsvBatchReaderTest {
         
         reader.doClose();
     }
+
+    @Test
+    void shouldReadMemoryMappedPath(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("people.csv"), "Name,Age\nJohn,30\nJane,25\n");
+        CsvBatchReader<TestDto> reader = new CsvBatchReader<>(TestDto.class, file);
+
+        reader.doOpen();
+        assertThat(reader.doRead().getName()).isEqualTo("John");
+        assertThat(reader.doRead().getName()).isEqualTo("Jane");
+        assertThat(reader.doRead()).isNull();
+        reader.doClose();
+    }
+
+    private static final String RESTART_CSV = "\uFEFFName,Age\r\n"
+            + "Jos\u00e9,30\r\n"
+            + "\"Multi\r\nline \uD83D\uDE00\",31\r\n"
+            + "\r\n"
+            + "Zo\u00eb,32\r\n"
+            + "Ann,33\r\n"
+            + "Bad,zz\r\n"
+            + "Last,35";
+
+    private static CsvReaderConfig nativeConfig() {
+        return CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+    }
+
+    @Test
+    void restart_shouldResumeAtSavedByteOffset(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("restart.csv"), RESTART_CSV);
+        for (boolean mapped : new boolean[]{true, false}) {
+            Files.writeString(file, RESTART_CSV);
+            ExecutionContext context = new ExecutionContext();
+            CsvBatchReader<TestDto> first = mapped
+                    ? new CsvBatchReader<>(TestDto.class, file, nativeConfig())
+                    : new CsvBatchReader<>(TestDto.class, new FileSystemResource(file), nativeConfig());
+            first.open(context);
+            assertThat(first.read().getName()).isEqualTo("Jos\u00e9");
+            assertThat(first.read().getName()).isEqualTo("Multi\nline \uD83D\uDE00");
+            assertThat(first.read().getName()).isEqualTo("Zo\u00eb");
+            first.update(context);
+            first.close();
+            assertThat(context.containsKey(first.getExecutionContextKey("byte.offset"))).isTrue();
+
+            // Rows before the checkpoint would now fail to map if they were read again; size and
+            // timestamp are kept, so the checkpoint still trusts the file
+            FileTime modified = Files.getLastModifiedTime(file);
+            Files.writeString(file, RESTART_CSV.replace("30", "xx").replace("31", "xx").replace("32", "xx"));
+            Files.setLastModifiedTime(file, modified);
+
+            CsvBatchReader<TestDto> resumed = mapped
+                    ? new CsvBatchReader<>(TestDto.class, file, nativeConfig())
+                    : new CsvBatchReader<>(TestDto.class, new FileSystemResource(file), nativeConfig());
+            resumed.open(context);
+            assertThat(resumed.read().getName()).isEqualTo("Ann");
+            assertThatThrownBy(resumed::read)
+                    .isInstanceOfSatisfying(CsvParsingException.class, e -> assertThat(e.getLineNumber()).isEqualTo(7));
+            assertThat(resumed.read().getName()).isEqualTo("Last");
+            assertThat(resumed.read()).isNull();
+            resumed.close();
+        }
+    }
+
+    @Test
+    void restart_shouldFallBackToSkippingItems(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("restart.csv"), RESTART_CSV.substring(1)); // OpenCSV keeps a BOM
+
+        // OpenCSV does not track offsets: the saved item count is replayed
+        ExecutionContext context = new ExecutionContext();
+        CsvBatchReader<TestDto> first = new CsvBatchReader<>(TestDto.class, file);
+        first.open(context);
+        first.read();
+        first.read();
+        first.update(context);
+        first.close();
+        assertThat(context.containsKey(first.getExecutionContextKey("byte.offset"))).isFalse();
+        CsvBatchReader<TestDto> resumed = new CsvBatchReader<>(TestDto.class, file);
+        resumed.open(context);
+        assertThat(resumed.read().getName()).isEqualTo("Zo\u00eb");
+        resumed.close();
+
+        // An offset that is not on a record boundary is rejected
+        context = new ExecutionContext();
+        first = new CsvBatchReader<>(TestDto.class, file, nativeConfig());
+        first.open(context);
+        first.read();
+        first.update(context);
+        first.close();
+        String key = first.getExecutionContextKey("byte.offset");
+        context.putLong(key, context.getLong(key) + 3);
+        resumed = new CsvBatchReader<>(TestDto.class, file, nativeConfig());
+        resumed.open(context);
+        assertThat(resumed.read().getName()).isEqualTo("Multi\nline \uD83D\uDE00");
+        resumed.close();
+
+        // A file whose size or timestamp changed since the checkpoint is replayed
+        String grown = RESTART_CSV.replace("Name,Age\r\n", "Name,Age\r\nPre,29\r\n");
+        String sameSize = RESTART_CSV.replace("Jos\u00e9,30\r\n", "J,1\r\nX,2\r\n");
+        assertThat(sameSize.getBytes(StandardCharsets.UTF_8)).hasSameSizeAs(RESTART_CSV.getBytes(StandardCharsets.UTF_8));
+        for (String changed : new String[]{grown, sameSize}) {
+            Files.writeString(file, RESTART_CSV);
+            context = new ExecutionContext();
+            first = new CsvBatchReader<>(TestDto.class, file, nativeConfig());
+            first.open(context);
+            first.read();
+            first.read();
+            first.read();
+            first.update(context);
+            first.close();
+            FileTime modified = Files.getLastModifiedTime(file);
+            Files.writeString(file, changed);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(modified.toMillis() + 60_000));
+            resumed = new CsvBatchReader<>(TestDto.class, file, nativeConfig());
+            resumed.open(context);
+            assertThat(resumed.read().getName()).isEqualTo("Zo\u00eb");
+            resumed.close();
+        }
+
+        // Resources that are not local files are replayed as well
+        context = new ExecutionContext();
+        CsvBatchReader<TestDto> stream = new CsvBatchReader<>(TestDto.class, resource(RESTART_CSV), nativeConfig());
+        stream.open(context);
+        stream.read();
+        stream.update(context);
+        stream.close();
+        assertThat(context.containsKey(stream.getExecutionContextKey("byte.offset"))).isFalse();
+        stream = new CsvBatchReader<>(TestDto.class, resource(RESTART_CSV), nativeConfig());
+        stream.open(context);
+        assertThat(stream.read().getName()).isEqualTo("Multi\nline \uD83D\uDE00");
+        stream.close();
+    }
 }
@@ -0,0 +1,120 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.parser.CsvTokenizer;
+import dev.gmky.utils.csv.parser.CsvTokenizers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvFileSplitterTest {
+
+    private static final CsvReaderConfig NATIVE = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+
+    @TempDir
+    Path dir;
+
+    private static String trickyCsv(int rows) {
+        StringBuilder sb = new StringBuilder("id,text,note\r\n");
+        for (int i = 0; i < rows; i++) {
+            if (i % 11 == 0) sb.append('\n');
+            sb.append(i).append(',');
+            switch (i % 5) {
+                case 0 -> sb.append("\"multi\nline, \"\"quoted\"\"\"");
+                case 1 -> sb.append("plain \\\"esc\\\" text");
+                case 2 -> sb.append("  \"trimmed\r\nquote\"  ");
+                case 3 -> sb.append("\"esc \\\" inside\n\"");
+                default -> sb.append("\"ünïcødé ✓\"");
+            }
+            sb.append(',').append("x".repeat(i % 13)).append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r");
+        }
+        return sb.toString();
+    }
+
+    private static List<List<String>> tokenize(CsvTokenizer tokenizer) throws IOException {
+        List<List<String>> rows = new ArrayList<>();
+        try (tokenizer) {
+            while (tokenizer.nextRecord()) rows.add(List.of(tokenizer.toArray()));
+        }
+        return rows;
+    }
+
+    @Test
+    void rangesShouldStartOnRecordBoundariesForAnyChunkSize() throws IOException {
+        Path file = Files.writeString(dir.resolve("tricky.csv"), "\uFEFF" + trickyCsv(120));
+        List<List<String>> expected;
+        try (FileChannel channel = FileChannel.open(file)) {
+            expected = tokenize(CsvTokenizers.open(channel, NATIVE));
+        }
+
+        for (long chunkSize : new long[]{1, 2, 3, 7, 16, 61, 256, 1 << 20}) {
+            try (FileChannel channel = FileChannel.open(file)) {
+                CsvFileSplitter.Split split = new CsvFileSplitter(NATIVE, chunkSize).split(channel);
+
+                List<List<String>> actual = new ArrayList<>();
+                CsvFileSplitter.Range header = split.header();
+                actual.addAll(tokenize(CsvTokenizers.open(channel, header.start(), header.length(), NATIVE)));
+                long expectedLine = 2;
+                for (CsvFileSplitter.Range range : split.ranges()) {
+                    assertThat(range.firstLineNumber()).as("chunk %d", chunkSize).isEqualTo(expectedLine);
+                    List<List<String>> rows = tokenize(CsvTokenizers.open(channel, range.start(), range.length(), NATIVE));
+                    assertThat(rows).hasSize((int) range.recordCount());
+                    actual.addAll(rows);
+                    expectedLine += range.recordCount();
+                }
+
+                assertThat(actual).as("chunk %d", chunkSize).isEqualTo(expected);
+                assertThat(split.recordCount()).isEqualTo(expected.size() - 1);
+                if (chunkSize < 64) assertThat(split.ranges()).hasSizeGreaterThan(10);
+            }
+        }
+    }
+
+    @Test
+    void shouldHandleHeaderOnlyEmptyAndHeaderlessFiles() throws IOException {
+        Path headerOnly = Files.writeString(dir.resolve("header.csv"), "a,b\r\n");
+        try (FileChannel channel = FileChannel.open(headerOnly)) {
+            CsvFileSplitter.Split split = new CsvFileSplitter(NATIVE, 2).split(channel);
+            assertThat(split.header()).isEqualTo(new CsvFileSplitter.Range(0, 5, 1, 1));
+            assertThat(split.ranges()).isEmpty();
+        }
+
+        Path empty = Files.writeString(dir.resolve("empty.csv"), "");
+        try (FileChannel channel = FileChannel.open(empty)) {
+            assertThat(new CsvFileSplitter(NATIVE).split(channel).ranges()).isEmpty();
+        }
+
+        var noHeader = CsvReaderConfig.builder().hasHeader(false).build();
+        Path data = Files.writeString(dir.resolve("data.csv"), "1,x\n2,y\n3,z");
+        try (FileChannel channel = FileChannel.open(data)) {
+            CsvFileSplitter.Split split = new CsvFileSplitter(noHeader, 4).split(channel);
+            assertThat(split.header()).isNull();
+            assertThat(split.ranges()).containsExactly(
+                    new CsvFileSplitter.Range(0, 4, 1, 1),
+                    new CsvFileSplitter.Range(4, 8, 2, 1),
+                    new CsvFileSplitter.Range(8, 11, 3, 1));
+        }
+    }
+
+    @Test
+    void supportsOnlyAsciiCompatibleCharsets() {
+        assertThat(CsvFileSplitter.supports(CsvReaderConfig.defaultConfig())).isTrue();
+        assertThat(CsvFileSplitter.supports(CsvReaderConfig.builder().charset(StandardCharsets.ISO_8859_1).build())).isTrue();
+        assertThat(CsvFileSplitter.supports(CsvReaderConfig.builder().charset(StandardCharsets.UTF_16LE).build())).isFalse();
+        assertThat(CsvFileSplitter.supports(CsvReaderConfig.builder().delimiter('§').build())).isFalse();
+
+        var utf16 = CsvReaderConfig.builder().charset(StandardCharsets.UTF_16).build();
+        assertThatThrownBy(() -> new CsvFileSplitter(utf16)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CsvFileSplitter(NATIVE, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
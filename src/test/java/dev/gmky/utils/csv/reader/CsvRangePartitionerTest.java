@@ -0,0 +1,128 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRangePartitionerTest {
+
+    @Data
+    static class Row {
+        @CsvColumn("Name") private String name;
+        @CsvColumn(value = "Age", required = true) private Integer age;
+    }
+
+    private static final CsvReaderConfig CONFIG = CsvReaderConfig.builder()
+            .engine(CsvReaderConfig.Engine.NATIVE).build();
+
+    private static String content(int rows) {
+        StringBuilder sb = new StringBuilder("Name,Age\n");
+        for (int i = 0; i < rows; i++) {
+            if (i % 41 == 0) sb.append('\n');
+            sb.append(i % 7 == 0 ? "\"Multi\nline " + i + "\"" : "Row " + i)
+                    .append(',').append(i == 777 ? "bad" : String.valueOf(i)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /** Reads one partition the way a worker step execution would. */
+    private static List<String> readPartition(CsvPartitionReader<Row> reader, ExecutionContext context,
+                                              int limit, List<Long> errorLines) throws Exception {
+        StepSynchronizationManager.register(new StepExecution("worker", new JobExecution(1L)));
+        try {
+            List<String> names = new ArrayList<>();
+            reader.open(context);
+            while (names.size() < limit) {
+                try {
+                    Row row = reader.read();
+                    if (row == null) break;
+                    names.add(row.getName());
+                } catch (CsvParsingException e) {
+                    errorLines.add(e.getLineNumber());
+                }
+            }
+            reader.update(context);
+            reader.close();
+            return names;
+        } finally {
+            StepSynchronizationManager.close();
+        }
+    }
+
+    @Test
+    void partitions_shouldReadEveryRecordOnceWithAbsoluteLineNumbers(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("import.csv"), content(2_000));
+        List<String> expected = new ArrayList<>();
+        List<Long> expectedErrors = new ArrayList<>();
+        var whole = new CsvBatchReader<>(Row.class, file, CONFIG);
+        whole.open(new ExecutionContext());
+        for (; ; ) {
+            try {
+                Row row = whole.read();
+                if (row == null) break;
+                expected.add(row.getName());
+            } catch (CsvParsingException e) {
+                expectedErrors.add(e.getLineNumber());
+            }
+        }
+        whole.close();
+
+        Map<String, ExecutionContext> partitions = new CsvRangePartitioner(file, CONFIG).partition(4);
+        assertThat(partitions).hasSizeBetween(2, 4).containsKey(CsvRangePartitioner.PARTITION_PREFIX + "0");
+
+        var reader = new CsvPartitionReader<>(Row.class, file, CONFIG);
+        List<String> actual = new ArrayList<>();
+        List<Long> errors = new ArrayList<>();
+        for (ExecutionContext context : partitions.values()) {
+            actual.addAll(readPartition(reader, context, Integer.MAX_VALUE, errors));
+        }
+        assertThat(actual).isEqualTo(expected);
+        assertThat(errors).isEqualTo(expectedErrors).hasSize(1);
+    }
+
+    @Test
+    void partition_shouldResumeFromItsOwnCheckpoint(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("import.csv"), content(500));
+        Map<String, ExecutionContext> partitions = new CsvRangePartitioner(file, CONFIG).partition(3);
+        ExecutionContext last = new ArrayList<>(partitions.values()).get(partitions.size() - 1);
+        var reader = new CsvPartitionReader<>(Row.class, file, CONFIG);
+
+        List<String> all = readPartition(reader, new ExecutionContext(last), Integer.MAX_VALUE, new ArrayList<>());
+        List<String> head = readPartition(reader, last, 10, new ArrayList<>());
+        assertThat(last.entrySet()).anyMatch(e -> e.getKey().endsWith("byte.offset"));
+        List<String> tail = readPartition(reader, last, Integer.MAX_VALUE, new ArrayList<>());
+
+        assertThat(head).hasSize(10);
+        List<String> resumed = new ArrayList<>(head);
+        resumed.addAll(tail);
+        assertThat(resumed).isEqualTo(all);
+    }
+
+    @Test
+    void shouldRejectUnsplittableConfigAndForeignContexts(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("import.csv"), content(5));
+        var utf16 = CsvReaderConfig.builder().charset(Charset.forName("UTF-16")).build();
+        assertThatThrownBy(() -> new CsvRangePartitioner(file, utf16)).isInstanceOf(IllegalArgumentException.class);
+
+        var reader = new CsvPartitionReader<>(Row.class, file, CONFIG);
+        assertThatThrownBy(() -> reader.open(new ExecutionContext())).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(reader::read).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -6,24 +6,36 @@ import dev.gmky.utils.csv.annotation.CsvIgnore;
 import dev.gmky.utils.csv.annotation.CsvRecord;
 import dev.gmky.utils.csv.callback.CsvReadCallback;
 import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.filter.CsvRowFilter;
 import dev.gmky.utils.csv.mapper.CsvRowMapper;
+import dev.gmky.utils.csv.model.CsvError;
 import dev.gmky.utils.csv.model.CsvReadResult;
 import dev.gmky.utils.csv.validator.CsvRowValidator;
 import lombok.Data;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 class OpenCsvStreamingReaderTest {
 
@@ -155,6 +167,90 @@ class OpenCsvStreamingReaderTest {
         assertThat(names).containsExactly("Alice", "Bob");
     }
 
+    @Test
+    void readInBatches_shouldReuseOneBoundedBatch(@TempDir Path dir) throws Exception {
+        String content = generatedCsv(1_000);
+        Path file = Files.writeString(dir.resolve("batches.csv"), content);
+        var sequential = CsvReaderConfig.builder().maxErrors(-1).build();
+        List<UserDto> expected = OpenCsvStreamingReader.forType(UserDto.class, sequential).readAll(csv(content));
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().maxErrors(-1).parallel(parallel).batchSize(64).splitSize(4096).build();
+            var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+            List<Integer> sizes = new ArrayList<>();
+            List<UserDto> rows = new ArrayList<>();
+            Set<List<UserDto>> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+            Consumer<List<UserDto>> consumer = batch -> {
+                sizes.add(batch.size());
+                rows.addAll(batch);
+                instances.add(batch);
+            };
+
+            reader.read(csv(content), 100, consumer);
+            reader.read(file, 100, consumer);
+
+            assertThat(rows).isEqualTo(Stream.concat(expected.stream(), expected.stream()).toList());
+            assertThat(sizes).allMatch(size -> size <= 100).contains(expected.size() % 100);
+            assertThat(instances).hasSize(2);
+            assertThat(instances).allSatisfy(batch -> assertThat(batch).isEmpty());
+        }
+        var reader = OpenCsvStreamingReader.forType(UserDto.class);
+        assertThatThrownBy(() -> reader.read(csv(content), 0, batch -> { }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void readInBatches_shouldAbortWhenBatchConsumerFails(@TempDir Path dir) throws Exception {
+        String content = generatedCsv(1_000);
+        Path file = Files.writeString(dir.resolve("batches.csv"), content);
+
+        for (boolean parallel : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().parallel(parallel).batchSize(64).splitSize(4096).build();
+            var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+            AtomicInteger calls = new AtomicInteger();
+            Consumer<List<UserDto>> failing = batch -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("insert failed");
+            };
+
+            assertThatThrownBy(() -> reader.read(csv(content), 100, failing)).as("parallel %s", parallel)
+                    .isInstanceOf(CsvParsingException.class)
+                    .hasRootCauseMessage("insert failed");
+            assertThatThrownBy(() -> reader.read(file, 100, failing)).as("parallel %s", parallel)
+                    .isInstanceOf(CsvParsingException.class)
+                    .hasRootCauseMessage("insert failed");
+            assertThat(calls.get()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void streamingReadWithResult_shouldCountWithoutRetainingRows(@TempDir Path dir) throws Exception {
+        String content = generatedCsv(1_000);
+        Path file = Files.writeString(dir.resolve("streaming.csv"), content);
+        for (boolean parallel : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().maxErrors(-1).parallel(parallel).splitSize(4096).build();
+            var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+            CsvReadResult<UserDto> expected = reader.readWithResult(csv(content));
+
+            List<UserDto> fromStream = new ArrayList<>();
+            assertStreamingSummary(reader.readWithResult(csv(content), fromStream::add), fromStream, expected);
+            List<UserDto> fromFile = new ArrayList<>();
+            assertStreamingSummary(reader.readWithResult(file, fromFile::add), fromFile, expected);
+        }
+    }
+
+    private static void assertStreamingSummary(CsvReadResult<UserDto> summary, List<UserDto> consumed,
+                                               CsvReadResult<UserDto> expected) {
+        assertThat(summary.successRecords()).isEmpty();
+        assertThat(consumed).isEqualTo(expected.successRecords());
+        assertThat(summary.successCount()).isEqualTo(expected.successCount());
+        assertThat(summary.totalRows()).isEqualTo(expected.totalRows());
+        assertThat(summary.errorCount()).isEqualTo(expected.errorCount()).isPositive();
+        assertThat(summary.errors()).extracting(CsvError::lineNumber)
+                .isEqualTo(expected.errors().stream().map(CsvError::lineNumber).toList());
+        assertThat(summary.rowsPerSecond()).isPositive();
+    }
+
     @Test
     void readWithResult_shouldTrackErrorsOnSkipAndLog() {
         var config = CsvReaderConfig.builder()
@@ -169,6 +265,54 @@ class OpenCsvStreamingReaderTest {
         assertThat(result.elapsed()).isNotNull();
     }
 
+    @Test
+    void readWithResult_shouldSpillErrorsBeyondThreshold() throws Exception {
+        StringBuilder content = new StringBuilder("Name,Email,Age\n");
+        for (int i = 0; i < 50; i++) {
+            content.append("User ").append(i).append(",u").append(i).append("@example.com,x").append(i).append('\n');
+        }
+        content.append("Ok,ok@example.com,1\n");
+        for (boolean parallel : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().maxErrors(-1).errorSpillThreshold(10).parallel(parallel)
+                    .batchSize(7).build();
+
+            CsvReadResult<UserDto> result = OpenCsvStreamingReader.forType(UserDto.class, config)
+                    .readWithResult(csv(content.toString()));
+
+            assertThat(result.successCount()).isEqualTo(1);
+            assertThat(result.errors()).hasSize(10).extracting(CsvError::lineNumber).startsWith(2L, 3L);
+            assertThat(result.errorCount()).isEqualTo(50);
+            assertThat(result.isFullySuccessful()).isFalse();
+            Path spill = result.errorSpillFile();
+            try {
+                List<String> lines = Files.readAllLines(spill);
+                assertThat(lines).hasSize(41);
+                assertThat(lines.get(0)).isEqualTo("lineNumber,message,rawLine");
+                assertThat(lines.get(1)).startsWith("\"12\",").endsWith("\"User 10,u10@example.com,x10\"");
+            } finally {
+                Files.deleteIfExists(spill);
+            }
+        }
+    }
+
+    @Test
+    void readWithResult_shouldTruncateRawLinesAndDropStackTraces() {
+        for (boolean generated : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().maxRawLineLength(6).stacklessErrors(true)
+                    .generatedMapper(generated).build();
+
+            CsvReadResult<UserDto> result = OpenCsvStreamingReader.forType(UserDto.class, config)
+                    .readWithResult(csv(MISSING_REQUIRED_CSV + "Ann,ann@example.com,old,true,1,01/01/2020\n"));
+
+            assertThat(result.errorSpillFile()).isNull();
+            assertThat(result.errors()).hasSize(2).allSatisfy(error -> {
+                assertThat(error.rawLine()).hasSize(9).endsWith("...");
+                assertThat(error.cause().getStackTrace()).isEmpty();
+            });
+            assertThat(result.errors().get(0).rawLine()).isEqualTo("Bob,,2...");
+        }
+    }
+
     @Test
     void readWithResult_shouldThrowOnFailFast() {
         var config = CsvReaderConfig.builder()
@@ -228,11 +372,11 @@ class OpenCsvStreamingReaderTest {
     void shouldThrowExceptionOnStreamIOError() {
         var reader = OpenCsvStreamingReader.forType(UserDto.class);
         
-        assertThatThrownBy(() -> reader.readAll(null))
+        assertThatThrownBy(() -> reader.readAll((InputStream) null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to read CSV");
                 
-        assertThatThrownBy(() -> reader.stream(null))
+        assertThatThrownBy(() -> reader.stream((InputStream) null))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Failed to open/read");
     }
@@ -336,4 +480,441 @@ class OpenCsvStreamingReaderTest {
         assertThat(users).hasSize(1);
         assertThat(users.get(0).getName()).isEqualTo("Alice");
     }
+
+    @Test
+    void nativeEngine_shouldMapLikeOpenCsv() {
+        var config = CsvReaderConfig.builder()
+                .engine(CsvReaderConfig.Engine.NATIVE)
+                .errorStrategy(CsvReaderConfig.ErrorStrategy.FAIL_FAST).build();
+        var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+
+        assertThat(reader.readAll(csv(SIMPLE_CSV)))
+                .isEqualTo(OpenCsvStreamingReader.forType(UserDto.class).readAll(csv(SIMPLE_CSV)));
+        assertThat(reader.readAll(csv(QUOTED_CSV)).get(0).getName()).isEqualTo("Alice, Jr.");
+        assertThat(reader.readAll(csv(MULTILINE_CSV)).get(0).getName()).isEqualTo("Alice\nMultiline");
+        assertThat(reader.readAll(csv("\uFEFF" + SIMPLE_CSV))).hasSize(2);
+    }
+
+    @Test
+    void nativeEngine_shouldTrackErrorsAndStream() {
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+        var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+
+        CsvReadResult<UserDto> result = reader.readWithResult(csv(MISSING_REQUIRED_CSV));
+        assertThat(result.errorCount()).isEqualTo(1);
+        assertThat(result.errors().get(0).lineNumber()).isEqualTo(2);
+        assertThat(result.errors().get(0).rawLine()).isEqualTo("Bob,,25,true,1000.00,01/01/2020");
+
+        try (Stream<UserDto> stream = reader.stream(csv(SIMPLE_CSV))) {
+            assertThat(stream.map(UserDto::getName)).containsExactly("Alice", "Bob");
+        }
+    }
+
+    @Test
+    void nativeEngine_shouldFailOnUnterminatedQuote() {
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).build();
+        var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+
+        assertThatThrownBy(() -> reader.readAll(csv("Name,Email\n\"Alice,alice@example.com\n")))
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    void pathOverloads_shouldMemoryMapAndMapRows(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("users.csv"), SIMPLE_CSV + "Carl,,1,true,1.00,01/01/2020\n");
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            var reader = OpenCsvStreamingReader.forType(UserDto.class,
+                    CsvReaderConfig.builder().engine(engine).build());
+
+            assertThat(reader.readAll(file)).extracting(UserDto::getName).containsExactly("Alice", "Bob");
+            try (Stream<UserDto> stream = reader.stream(file)) {
+                assertThat(stream.count()).isEqualTo(2);
+            }
+            CsvReadResult<UserDto> result = reader.readWithResult(file);
+            assertThat(result.totalRows()).isEqualTo(3);
+            assertThat(result.errors()).extracting(e -> e.lineNumber()).containsExactly(4L);
+
+            try (FileChannel channel = FileChannel.open(file)) {
+                assertThat(reader.readAll(channel)).hasSize(2);
+                assertThat(reader.readWithResult(channel).errorCount()).isEqualTo(1);
+                try (Stream<UserDto> stream = reader.stream(channel)) {
+                    assertThat(stream.count()).isEqualTo(2);
+                }
+                assertThat(channel.isOpen()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void pathOverloads_shouldReportMissingFile(@TempDir Path dir) {
+        var reader = OpenCsvStreamingReader.forType(UserDto.class);
+        Path missing = dir.resolve("missing.csv");
+
+        assertThatThrownBy(() -> reader.readAll(missing)).hasMessageContaining("Failed to read CSV");
+        assertThatThrownBy(() -> reader.stream(missing)).hasMessageContaining("Failed to open/read");
+    }
+
+    @Test
+    void defaultPathMethods_shouldDelegateToInputStreamApi(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("users.csv"), SIMPLE_CSV);
+        var delegate = OpenCsvStreamingReader.forType(UserDto.class);
+        CsvReader<UserDto> reader = new CsvReader<>() {
+            @Override public List<UserDto> readAll(InputStream in) { return delegate.readAll(in); }
+            @Override public Stream<UserDto> stream(InputStream in) { return delegate.stream(in); }
+            @Override public void read(InputStream in, java.util.function.Consumer<UserDto> c) { delegate.read(in, c); }
+            @Override public CsvReadResult<UserDto> readWithResult(InputStream in) { return delegate.readWithResult(in); }
+        };
+
+        assertThat(reader.readAll(file)).hasSize(2);
+        assertThat(reader.readWithResult(file).successCount()).isEqualTo(2);
+        List<String> names = new ArrayList<>();
+        reader.read(file, u -> names.add(u.getName()));
+        assertThat(names).containsExactly("Alice", "Bob");
+        try (Stream<UserDto> stream = reader.stream(file)) {
+            assertThat(stream.count()).isEqualTo(2);
+        }
+        assertThatThrownBy(() -> reader.readAll(dir.resolve("missing.csv"))).hasMessageContaining("Failed to read CSV");
+        assertThatThrownBy(() -> reader.stream(dir.resolve("missing.csv"))).hasMessageContaining("Failed to open/read");
+    }
+
+    private static String generatedCsv(int rows) {
+        StringBuilder sb = new StringBuilder("Name,Email,Age,Active,Salary,Joined\n");
+        for (int i = 0; i < rows; i++) {
+            if (i % 97 == 0) sb.append('\n'); // blank line, counted but skipped
+            String email = i % 50 == 7 ? "" : "u" + i + "@example.com";
+            String age = i % 81 == 3 ? "x" + i : String.valueOf(i % 90);
+            sb.append("\"User ").append(i).append("\",").append(email).append(',').append(age)
+                    .append(",true,").append(i).append(".50,01/01/2020\n");
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void parallel_shouldMatchSequentialResultsAndOrder() {
+        String content = generatedCsv(3_000);
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            for (int maxErrors : new int[]{-1, 25}) {
+                var sequential = CsvReaderConfig.builder().engine(engine).maxErrors(maxErrors).build();
+                var parallel = CsvReaderConfig.builder().engine(engine).maxErrors(maxErrors)
+                        .parallel(true).batchSize(64).build();
+
+                var expected = OpenCsvStreamingReader.forType(UserDto.class, sequential).readWithResult(csv(content));
+                var actual = OpenCsvStreamingReader.forType(UserDto.class, parallel).readWithResult(csv(content));
+
+                assertThat(actual.successRecords()).as("%s/%d", engine, maxErrors).isEqualTo(expected.successRecords());
+                assertThat(actual.totalRows()).isEqualTo(expected.totalRows());
+                assertThat(actual.errors()).extracting(e -> e.lineNumber() + "|" + e.rawLine() + "|" + e.message())
+                        .isEqualTo(expected.errors().stream()
+                                .map(e -> e.lineNumber() + "|" + e.rawLine() + "|" + e.message()).toList());
+            }
+        }
+    }
+
+    @Test
+    void generatedMapper_shouldMatchReflectiveMapper() {
+        String content = generatedCsv(1_000);
+        for (boolean parallel : new boolean[]{false, true}) {
+            var reflective = CsvReaderConfig.builder().parallel(parallel).batchSize(64).build();
+            var generated = CsvReaderConfig.builder().parallel(parallel).batchSize(64).generatedMapper(true).build();
+
+            var expected = OpenCsvStreamingReader.forType(UserDto.class, reflective).readWithResult(csv(content));
+            var actual = OpenCsvStreamingReader.forType(UserDto.class, generated).readWithResult(csv(content));
+
+            assertThat(actual.successRecords()).isEqualTo(expected.successRecords());
+            assertThat(actual.errors()).extracting(e -> e.lineNumber() + "|" + e.message())
+                    .isEqualTo(expected.errors().stream().map(e -> e.lineNumber() + "|" + e.message()).toList());
+        }
+    }
+
+    record UserRecord(@CsvColumn("Name") String name, @CsvColumn(value = "Email", required = true) String email,
+                      @CsvColumn("Age") int age) {
+    }
+
+    @Test
+    void records_shouldMatchBeanMappingInParallel() {
+        String content = generatedCsv(1_000);
+        for (boolean generated : new boolean[]{false, true}) {
+            var config = CsvReaderConfig.builder().parallel(true).batchSize(32).generatedMapper(generated).build();
+
+            var beans = OpenCsvStreamingReader.forType(UserDto.class, config).readWithResult(csv(content));
+            var records = OpenCsvStreamingReader.forType(UserRecord.class, config).readWithResult(csv(content));
+
+            assertThat(records.successRecords()).extracting(UserRecord::name, UserRecord::email, UserRecord::age)
+                    .isEqualTo(beans.successRecords().stream()
+                            .map(u -> tuple(u.getName(), u.getEmail(), u.getAge()))
+                            .toList());
+            assertThat(records.errors()).extracting(CsvError::lineNumber)
+                    .isEqualTo(beans.errors().stream().map(CsvError::lineNumber).toList());
+        }
+    }
+
+    @Test
+    void parallel_shouldFireCallbacksInOrderOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<Long> rowLines = new ArrayList<>();
+        List<Long> errorLines = new ArrayList<>();
+        List<String> consumed = new ArrayList<>();
+        CsvReadCallback<UserDto> callback = new CsvReadCallback<>() {
+            @Override public void onRow(long lineNumber, UserDto record) {
+                assertThat(Thread.currentThread()).isSameAs(caller);
+                rowLines.add(lineNumber);
+            }
+            @Override public void onError(long lineNumber, String rawLine, Exception e) {
+                assertThat(Thread.currentThread()).isSameAs(caller);
+                errorLines.add(lineNumber);
+            }
+        };
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE)
+                .parallel(true).batchSize(16).maxErrors(-1).callback(callback).build();
+
+        OpenCsvStreamingReader.forType(UserDto.class, config).read(csv(generatedCsv(500)), u -> consumed.add(u.getName()));
+
+        assertThat(rowLines).isSorted().hasSize(consumed.size());
+        assertThat(errorLines).isSorted().isNotEmpty();
+        assertThat(consumed.get(0)).isEqualTo("User 0");
+    }
+
+    @Test
+    void parallel_shouldFailFastOnFirstErrorInFileOrder() {
+        var config = CsvReaderConfig.builder().parallel(true).batchSize(8)
+                .errorStrategy(CsvReaderConfig.ErrorStrategy.FAIL_FAST).build();
+        var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+
+        assertThatThrownBy(() -> reader.readAll(csv(generatedCsv(200))))
+                .isInstanceOfSatisfying(CsvParsingException.class, e -> assertThat(e.getLineNumber()).isEqualTo(6));
+    }
+
+    @Test
+    void parallel_shouldUseConfiguredExecutorAndValidator() {
+        var executor = java.util.concurrent.Executors.newFixedThreadPool(3);
+        try {
+            CsvRowValidator<UserDto> validator = u -> u.getAge() != null && u.getAge() > 80
+                    ? List.of("too old") : Collections.emptyList();
+            var config = CsvReaderConfig.builder().parallel(true).batchSize(10).maxErrors(-1)
+                    .executor(executor).validator(validator).build();
+
+            var result = OpenCsvStreamingReader.forType(UserDto.class, config).readWithResult(csv(generatedCsv(300)));
+            var expected = OpenCsvStreamingReader.forType(UserDto.class,
+                    CsvReaderConfig.builder().maxErrors(-1).validator(validator).build()).readWithResult(csv(generatedCsv(300)));
+
+            assertThat(result.successRecords()).isEqualTo(expected.successRecords());
+            assertThat(result.errorCount()).isEqualTo(expected.errorCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_streamShouldKeepEncounterOrderAndSkipFailedRows() {
+        String content = generatedCsv(2_000);
+        var sequential = OpenCsvStreamingReader.forType(UserDto.class);
+        var parallel = OpenCsvStreamingReader.forType(UserDto.class,
+                CsvReaderConfig.builder().parallel(true).batchSize(50).build());
+
+        List<String> expected;
+        try (Stream<UserDto> stream = sequential.stream(csv(content))) {
+            expected = stream.map(UserDto::getName).toList();
+        }
+        try (Stream<UserDto> stream = parallel.stream(csv(content))) {
+            assertThat(stream.isParallel()).isTrue();
+            assertThat(stream.map(UserDto::getName).toList()).isEqualTo(expected);
+        }
+        try (Stream<UserDto> stream = parallel.stream(csv(content))) {
+            assertThat(stream.count()).isEqualTo(expected.size());
+        }
+        try (Stream<UserDto> stream = parallel.stream(csv(content))) {
+            assertThat(stream.limit(3).map(UserDto::getName)).containsExactly("User 0", "User 1", "User 2");
+        }
+    }
+
+    @Test
+    void splitPath_shouldMatchSequentialReadWithAbsoluteLineNumbers(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("big.csv"), generatedCsv(2_000));
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            var sequential = CsvReaderConfig.builder().engine(engine).maxErrors(-1).build();
+            var split = CsvReaderConfig.builder().engine(engine).maxErrors(-1).parallel(true).splitSize(4096).build();
+
+            var expected = OpenCsvStreamingReader.forType(UserDto.class, sequential).readWithResult(file);
+            var reader = OpenCsvStreamingReader.forType(UserDto.class, split);
+            var actual = reader.readWithResult(file);
+
+            assertThat(actual.successRecords()).isEqualTo(expected.successRecords());
+            assertThat(actual.totalRows()).isEqualTo(expected.totalRows());
+            assertThat(actual.errors()).extracting(e -> e.lineNumber() + "|" + e.rawLine())
+                    .isEqualTo(expected.errors().stream().map(e -> e.lineNumber() + "|" + e.rawLine()).toList());
+
+            List<String> consumed = new ArrayList<>();
+            reader.read(file, u -> consumed.add(u.getName()));
+            try (Stream<UserDto> stream = reader.stream(file)) {
+                assertThat(stream.isParallel()).isTrue();
+                assertThat(stream.map(UserDto::getName).toList()).isEqualTo(consumed);
+            }
+            try (FileChannel channel = FileChannel.open(file)) {
+                assertThat(reader.readAll(channel)).isEqualTo(expected.successRecords());
+                try (Stream<UserDto> stream = reader.stream(channel)) {
+                    assertThat(stream.count()).isEqualTo(expected.successCount());
+                }
+                assertThat(channel.isOpen()).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void splitStream_shouldWaitForRunningWorkersOnClose(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("big.csv"), generatedCsv(2_000));
+        var config = CsvReaderConfig.builder().maxErrors(-1).parallel(true).splitSize(2048).build();
+        AtomicInteger mapping = new AtomicInteger();
+        CsvRowMapper<String> slowMapper = (columns, headers, line) -> {
+            mapping.incrementAndGet();
+            try {
+                Thread.sleep(1);
+                return columns[0];
+            } finally {
+                mapping.decrementAndGet();
+            }
+        };
+        var reader = OpenCsvStreamingReader.withMapper(String.class, config, slowMapper);
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            try (Stream<String> stream = reader.stream(channel)) {
+                assertThat(stream.limit(3)).hasSize(3);
+            }
+            assertThat(mapping.get()).isZero();
+        }
+        try (Stream<String> stream = reader.stream(file)) {
+            assertThat(stream.limit(3)).hasSize(3);
+        }
+        assertThat(mapping.get()).isZero();
+    }
+
+    @Test
+    void splitPath_shouldStopAtMaxErrorsAndReportTokenizerErrorsAbsolutely(@TempDir Path dir) throws Exception {
+        Path file = Files.writeString(dir.resolve("big.csv"), generatedCsv(1_000));
+        var limited = CsvReaderConfig.builder().maxErrors(5).parallel(true).splitSize(2048).build();
+        var expected = OpenCsvStreamingReader.forType(UserDto.class, CsvReaderConfig.builder().maxErrors(5).build())
+                .readWithResult(file);
+        var actual = OpenCsvStreamingReader.forType(UserDto.class, limited).readWithResult(file);
+        assertThat(actual.totalRows()).isEqualTo(expected.totalRows());
+        assertThat(actual.successRecords()).isEqualTo(expected.successRecords());
+
+        Path broken = Files.writeString(dir.resolve("broken.csv"), generatedCsv(1_000) + "\"Open,x@example.com\n");
+        var nativeSplit = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).maxErrors(-1)
+                .parallel(true).splitSize(2048).build();
+        long lastLine = 1 + 1_000 + 11 + 1; // header, rows, blank lines, broken record
+        assertThatThrownBy(() -> OpenCsvStreamingReader.forType(UserDto.class, nativeSplit).readAll(broken))
+                .isInstanceOfSatisfying(CsvParsingException.class, e -> {
+                    assertThat(e.getLineNumber()).isEqualTo(lastLine);
+                    assertThat(e.getReason()).contains("Unterminated quoted field");
+                });
+    }
+
+    @Test
+    void dedupStrings_shouldShareInstancesOfRepeatedValues(@TempDir Path dir) throws Exception {
+        StringBuilder content = new StringBuilder("Name,Email,Age\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append("Team ").append(i % 5).append(",u").append(i).append("@example.com,").append(i % 90).append('\n');
+        }
+        Path file = Files.writeString(dir.resolve("dedup.csv"), content);
+        var plain = OpenCsvStreamingReader.forType(UserDto.class, CsvReaderConfig.builder().maxErrors(-1).build())
+                .readAll(file);
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            for (boolean parallel : new boolean[]{false, true}) {
+                var config = CsvReaderConfig.builder().engine(engine).maxErrors(-1).dedupStrings(true)
+                        .parallel(parallel).splitSize(4096).build();
+                List<UserDto> users = OpenCsvStreamingReader.forType(UserDto.class, config).readAll(file);
+
+                assertThat(users).as("%s/%s", engine, parallel).isEqualTo(plain);
+                long distinctInstances = users.stream().map(UserDto::getName)
+                        .map(System::identityHashCode).distinct().count();
+                long distinctValues = users.stream().map(UserDto::getName).distinct().count();
+                assertThat(distinctValues).isEqualTo(5);
+                assertThat(distinctInstances).as("%s/%s", engine, parallel).isEqualTo(distinctValues);
+            }
+        }
+    }
+
+    @Test
+    void projection_shouldMatchFullTokenizationOnWideFile(@TempDir Path dir) throws Exception {
+        StringBuilder content = new StringBuilder("Note,Name,Extra,Email,Age,Comment\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append(i % 4 == 0 ? "\"a, \"\"quoted\"\"\nnote\"" : "note " + i).append(",User ").append(i)
+                    .append(",\"x,y\",u").append(i).append("@example.com,")
+                    .append(i % 97 == 0 ? "bad" : String.valueOf(i % 90)).append(", tail \n");
+        }
+        Path file = Files.writeString(dir.resolve("wide.csv"), content);
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            var full = CsvReaderConfig.builder().engine(engine).maxErrors(-1).build();
+            var expected = OpenCsvStreamingReader.forType(UserRecord.class, full).readWithResult(file);
+            assertThat(expected.errorCount()).isPositive();
+            for (boolean parallel : new boolean[]{false, true}) {
+                var config = CsvReaderConfig.builder().engine(engine).maxErrors(-1).projection(true)
+                        .parallel(parallel).splitSize(4096).build();
+                var reader = OpenCsvStreamingReader.forType(UserRecord.class, config);
+                var actual = reader.readWithResult(file);
+
+                assertThat(actual.successRecords()).as("%s/%s", engine, parallel).isEqualTo(expected.successRecords());
+                assertThat(actual.errors()).extracting(CsvError::lineNumber)
+                        .isEqualTo(expected.errors().stream().map(CsvError::lineNumber).toList());
+                try (Stream<UserRecord> stream = reader.stream(file)) {
+                    assertThat(stream.count()).isEqualTo(expected.successCount());
+                }
+            }
+        }
+    }
+
+    @Test
+    void rowFilter_shouldDropRowsBeforeMappingAndCountThem(@TempDir Path dir) throws Exception {
+        StringBuilder content = new StringBuilder("Region,Name,Email,Age\n");
+        List<String> expectedNames = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            String region = i % 3 == 0 ? "EU" : i % 3 == 1 ? "US" : "APAC";
+            content.append(region).append(",User ").append(i).append(",u").append(i).append("@example.com,")
+                    .append(i % 10 == 0 ? "bad" : String.valueOf(i % 90)).append('\n');
+            if (i % 3 == 0 && i % 10 != 0) expectedNames.add("User " + i);
+        }
+        Path file = Files.writeString(dir.resolve("regions.csv"), content);
+
+        for (var engine : CsvReaderConfig.Engine.values()) {
+            for (boolean parallel : new boolean[]{false, true}) {
+                AtomicInteger callbackRows = new AtomicInteger();
+                AtomicInteger callbackErrors = new AtomicInteger();
+                var config = CsvReaderConfig.builder().engine(engine).parallel(parallel).projection(parallel)
+                        .splitSize(4096).batchSize(50).maxErrors(-1)
+                        .rowFilter(CsvRowFilter.equalsAny("region", "EU"))
+                        .callback(new CsvReadCallback<UserDto>() {
+                            @Override
+                            public void onRow(long lineNumber, UserDto record) {
+                                callbackRows.incrementAndGet();
+                            }
+
+                            @Override
+                            public void onError(long lineNumber, String rawLine, Exception e) {
+                                callbackErrors.incrementAndGet();
+                            }
+                        })
+                        .build();
+                var reader = OpenCsvStreamingReader.forType(UserDto.class, config);
+
+                var results = List.of(reader.readWithResult(file), reader.readWithResult(csv(content.toString())));
+                for (CsvReadResult<UserDto> result : results) {
+                    assertThat(result.successRecords()).extracting(UserDto::getName)
+                            .as("%s/%s", engine, parallel).isEqualTo(expectedNames);
+                    assertThat(result.errorCount()).isEqualTo(20);
+                    assertThat(result.filteredCount()).isEqualTo(400);
+                    assertThat(result.totalRows()).isEqualTo(600);
+                }
+                assertThat(callbackRows.get()).isEqualTo(2 * expectedNames.size());
+                assertThat(callbackErrors.get()).isEqualTo(40);
+                try (Stream<UserDto> stream = reader.stream(file)) {
+                    assertThat(stream.count()).isEqualTo(expectedNames.size());
+                }
+            }
+        }
+
+        var unknown = CsvReaderConfig.builder().rowFilter(CsvRowFilter.equalsAny("Country", "VN")).build();
+        assertThatThrownBy(() -> OpenCsvStreamingReader.forType(UserDto.class, unknown).readWithResult(file))
+                .isInstanceOf(CsvParsingException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+    }
 }
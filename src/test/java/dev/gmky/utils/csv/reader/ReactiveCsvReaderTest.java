@@ -0,0 +1,148 @@
+package dev.gmky.utils.csv.reader;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.exception.CsvParsingException;
+import dev.gmky.utils.csv.validator.CsvRowValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReactiveCsvReaderTest {
+
+    record Person(@CsvColumn("Name") String name, @CsvColumn(value = "Email", required = true) String email,
+                  @CsvColumn("Age") int age) {
+    }
+
+    private static String content(int rows) {
+        StringBuilder sb = new StringBuilder("\uFEFFName,Email,Age\r\n");
+        for (int i = 0; i < rows; i++) {
+            if (i % 41 == 0) sb.append('\n');
+            String name = i % 3 == 0 ? "\"Nguyễn, \"\"Văn\"\"\nA" + i + "\"" : "Trần " + i;
+            String email = i % 50 == 7 ? "" : "u" + i + "@example.com";
+            String age = i % 81 == 3 ? "x" + i : String.valueOf(i % 90);
+            sb.append(name).append(',').append(email).append(',').append(age).append(i % 2 == 0 ? "\r\n" : "\n");
+        }
+        return sb.toString();
+    }
+
+    private static Flux<DataBuffer> buffers(String content, int size) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int from = 0; from < bytes.length; from += size) {
+            buffers.add(DefaultDataBufferFactory.sharedInstance.wrap(
+                    Arrays.copyOfRange(bytes, from, Math.min(bytes.length, from + size))));
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    @Test
+    void read_shouldMatchBlockingReaderAcrossBufferBoundaries() {
+        String content = content(500);
+        var config = CsvReaderConfig.builder().engine(CsvReaderConfig.Engine.NATIVE).maxErrors(-1).build();
+        List<Person> expected = OpenCsvStreamingReader.forType(Person.class, config)
+                .readAll(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        assertThat(expected).hasSizeGreaterThan(400);
+
+        for (int size : new int[]{1, 2, 5, 64, 8192}) {
+            List<Person> actual = ReactiveCsvReader.forType(Person.class, config).read(buffers(content, size))
+                    .collectList().block();
+            assertThat(actual).as("buffer size %d", size).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void read_shouldRequestBuffersOnlyAsDemanded() {
+        AtomicInteger consumed = new AtomicInteger();
+        var config = CsvReaderConfig.builder().maxErrors(-1).build();
+        Flux<DataBuffer> content = buffers(content(2_000), 64).doOnNext(b -> consumed.incrementAndGet());
+
+        List<Person> first = ReactiveCsvReader.forType(Person.class, config).read(content).take(5).collectList().block();
+
+        assertThat(first).hasSize(5);
+        assertThat(consumed.get()).isLessThan(10);
+    }
+
+    @Test
+    void read_shouldApplyErrorStrategiesAndValidator() {
+        String content = "Name,Email,Age\nA,a@x.com,1\nB,,2\nC,c@x.com,bad\nD,d@x.com,40\nE,e@x.com,5\n";
+        CsvRowValidator<Person> adultsOnly = p -> p.age() >= 18 ? List.of() : List.of("too young");
+
+        var failFast = CsvReaderConfig.builder().errorStrategy(CsvReaderConfig.ErrorStrategy.FAIL_FAST).build();
+        assertThatThrownBy(() -> ReactiveCsvReader.forType(Person.class, failFast).read(buffers(content, 4))
+                .collectList().block())
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("line 3");
+
+        var skip = CsvReaderConfig.builder().validator(adultsOnly).build();
+        assertThat(ReactiveCsvReader.forType(Person.class, skip).read(buffers(content, 4))
+                .map(Person::name).collectList().block()).containsExactly("D");
+
+        var limited = CsvReaderConfig.builder().maxErrors(2).build();
+        assertThat(ReactiveCsvReader.forType(Person.class, limited).read(buffers(content, 4))
+                .map(Person::name).collectList().block()).containsExactly("A");
+    }
+
+    @Test
+    void read_shouldFailOnUnterminatedQuoteAtEnd() {
+        assertThatThrownBy(() -> ReactiveCsvReader.forType(Person.class, CsvReaderConfig.defaultConfig())
+                .read(buffers("Name,Email,Age\n\"open,a@x.com,1\n", 3)).collectList().block())
+                .isInstanceOf(CsvParsingException.class)
+                .hasMessageContaining("Unterminated quoted field");
+    }
+
+    @Test
+    void read_shouldStopAtMaxErrorsUnlessSkippingSilently() {
+        StringBuilder content = new StringBuilder("Name,Email,Age\n");
+        for (int i = 0; i < 1_000; i++) {
+            content.append('P').append(i).append(",p@x.com,").append(i % 10 == 5 ? "bad" : "7").append('\n');
+        }
+        AtomicInteger consumed = new AtomicInteger();
+        Flux<DataBuffer> source = buffers(content.toString(), 64).doOnNext(b -> consumed.incrementAndGet());
+
+        var limited = CsvReaderConfig.builder().maxErrors(3).build();
+        List<Person> rows = ReactiveCsvReader.forType(Person.class, limited).read(source).collectList().block();
+        assertThat(rows).extracting(Person::name).endsWith("P24");
+        assertThat(consumed.get()).isLessThan(20);
+
+        var silent = CsvReaderConfig.builder().errorStrategy(CsvReaderConfig.ErrorStrategy.SKIP_SILENT).maxErrors(3).build();
+        assertThat(ReactiveCsvReader.forType(Person.class, silent).read(buffers(content.toString(), 64))
+                .collectList().block()).hasSize(900);
+    }
+
+    @Test
+    void read_shouldStripByteOrderMarkOnlyAtStartOfInput() {
+        String content = "\uFEFFName,Email,Age\n\uFEFFA,a@x.com,1\nB,b@x.com,2\n";
+
+        for (int size : new int[]{1, 3, 17, 8192}) {
+            assertThat(ReactiveCsvReader.forType(Person.class, CsvReaderConfig.defaultConfig())
+                    .read(buffers(content, size)).map(Person::name).collectList().block())
+                    .as("buffer size %d", size)
+                    .containsExactly("\uFEFFA", "B");
+        }
+    }
+
+    @Test
+    void read_shouldReportAbsoluteLineOfUnterminatedQuote() {
+        String content = "Name,Email,Age\nA,a@x.com,1\nB,b@x.com,2\n\"open,c@x.com,3\n";
+
+        for (int size : new int[]{1, 5, 8192}) {
+            assertThatThrownBy(() -> ReactiveCsvReader.forType(Person.class, CsvReaderConfig.defaultConfig())
+                    .read(buffers(content, size)).collectList().block())
+                    .as("buffer size %d", size)
+                    .isInstanceOf(CsvParsingException.class)
+                    .hasMessageContaining("line 4");
+        }
+    }
+}
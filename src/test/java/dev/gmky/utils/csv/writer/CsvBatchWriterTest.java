@@ -0,0 +1,83 @@
+package dev.gmky.utils.csv.writer;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.FileSystemResource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvBatchWriterTest {
+
+    public static class StrictNameConverter implements TypeConverter<String> {
+        @Override
+        public String convert(String value, CsvFieldMeta meta) {
+            return value;
+        }
+
+        @Override
+        public String format(String value, CsvFieldMeta meta) {
+            if (value.isBlank()) throw new IllegalArgumentException("blank name");
+            return value;
+        }
+
+        @Override
+        public Class<String> getTargetType() {
+            return String.class;
+        }
+    }
+
+    record UserRow(@CsvColumn("Id") int id, @CsvColumn(value = "Name", converter = StrictNameConverter.class) String name) {
+    }
+
+    @Test
+    void shouldWriteChunksWithHeader(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("users.csv");
+        CsvBatchWriter<UserRow> writer = new CsvBatchWriter<>(UserRow.class, new FileSystemResource(file));
+        writer.open(new ExecutionContext());
+        writer.write(Chunk.of(new UserRow(1, "Ann"), new UserRow(2, "Bob")));
+        writer.write(Chunk.of(new UserRow(3, "Cid")));
+        writer.close();
+
+        assertThat(Files.readString(file, StandardCharsets.UTF_8)).isEqualTo("Id,Name\n1,Ann\n2,Bob\n3,Cid\n");
+    }
+
+    @Test
+    void shouldDropFailedChunkAndResumeAfterRestart(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("users.csv");
+        ExecutionContext context = new ExecutionContext();
+
+        CsvBatchWriter<UserRow> writer = new CsvBatchWriter<>(UserRow.class, file);
+        writer.open(context);
+        writer.write(Chunk.of(new UserRow(1, "Ann")));
+        writer.update(context);
+        assertThatThrownBy(() -> writer.write(Chunk.of(new UserRow(2, "Bob"), new UserRow(3, " "))))
+                .isInstanceOf(CsvMappingException.class);
+        assertThat(Files.readString(file)).isEqualTo("Id,Name\n1,Ann\n");
+
+        writer.write(Chunk.of(new UserRow(2, "Bob")));
+        // Crash before the second chunk is committed: its rows must not survive the restart
+        Files.writeString(file, "4,Partial\n", StandardOpenOption.APPEND);
+        writer.close();
+
+        CsvBatchWriter<UserRow> restarted = new CsvBatchWriter<>(UserRow.class, file);
+        restarted.open(context);
+        restarted.write(Chunk.of(new UserRow(5, "Eve")));
+        restarted.update(context);
+        restarted.close();
+
+        assertThat(Files.readString(file)).isEqualTo("Id,Name\n1,Ann\n5,Eve\n");
+        assertThat(context.getLong("CsvBatchWriter[UserRow].byte.offset")).isEqualTo(Files.size(file));
+    }
+}
@@ -0,0 +1,214 @@
+package dev.gmky.utils.csv.writer;
+
+import dev.gmky.utils.csv.annotation.CsvColumn;
+import dev.gmky.utils.csv.annotation.CsvDateFormat;
+import dev.gmky.utils.csv.annotation.CsvRecord;
+import dev.gmky.utils.csv.config.CsvReaderConfig;
+import dev.gmky.utils.csv.config.CsvWriterConfig;
+import dev.gmky.utils.csv.converter.TypeConverter;
+import dev.gmky.utils.csv.exception.CsvMappingException;
+import dev.gmky.utils.csv.mapper.CsvFieldMeta;
+import dev.gmky.utils.csv.reader.OpenCsvStreamingReader;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvWriterTest {
+
+    enum Status { ACTIVE, BLOCKED }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @CsvRecord
+    static class OrderDto {
+        @CsvColumn("Id")
+        private long id;
+
+        @CsvColumn("Customer")
+        private String customer;
+
+        @CsvColumn("Qty")
+        private int quantity;
+
+        @CsvColumn("Price")
+        private double price;
+
+        @CsvColumn("Paid")
+        private boolean paid;
+
+        @CsvColumn("Amount")
+        private BigDecimal amount;
+
+        @CsvColumn("Ordered")
+        @CsvDateFormat(pattern = "dd/MM/yyyy")
+        private LocalDate ordered;
+
+        @CsvColumn("Status")
+        private Status status;
+
+        @CsvColumn("Ref")
+        private Integer ref;
+    }
+
+    record IndexedRow(@CsvColumn(index = 2) String city, @CsvColumn(index = 0) String name) {
+    }
+
+    public static class FailingConverter implements TypeConverter<String> {
+        @Override
+        public String convert(String value, CsvFieldMeta meta) {
+            return value;
+        }
+
+        @Override
+        public String format(String value, CsvFieldMeta meta) {
+            if (value.startsWith("bad")) throw new IllegalArgumentException("cannot format " + value);
+            return value;
+        }
+
+        @Override
+        public Class<String> getTargetType() {
+            return String.class;
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class ConvertedDto {
+        @CsvColumn("Id")
+        private int id;
+
+        @CsvColumn(value = "Code", converter = FailingConverter.class)
+        private String code;
+    }
+
+    private static <T> String write(Class<T> type, CsvWriterConfig config, List<T> items) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter<T> writer = new CsvWriter<>(type, out, config)) {
+            writer.writeAll(items);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static OrderDto order(long id, String customer) {
+        return new OrderDto(id, customer, (int) id % 7 - 3, id / 8.0, id % 2 == 0,
+                new BigDecimal("1E+3").add(BigDecimal.valueOf(id)), LocalDate.of(2024, 1, 1).plusDays(id),
+                Status.values()[(int) id % 2], id % 3 == 0 ? null : (int) id);
+    }
+
+    @Test
+    void write_shouldFormatHeaderAndValues() throws IOException {
+        String csv = write(OrderDto.class, CsvWriterConfig.defaultConfig(), List.of(order(3, "Ann"), order(-4, null)));
+
+        assertThat(csv).isEqualTo("""
+                Id,Customer,Qty,Price,Paid,Amount,Ordered,Status,Ref
+                3,Ann,0,0.375,false,1003,04/01/2024,BLOCKED,
+                -4,,-7,-0.5,true,996,28/12/2023,ACTIVE,-4
+                """);
+    }
+
+    @Test
+    void write_shouldQuoteOnlyWhenNeeded() throws IOException {
+        List<OrderDto> orders = List.of(order(1, "Smith, John"), order(2, "say \"hi\""), order(3, "a\\b"),
+                order(4, "two\nlines"), order(5, "plain"));
+
+        String csv = write(OrderDto.class, CsvWriterConfig.defaultConfig(), orders);
+        assertThat(csv).contains("1,\"Smith, John\",", "2,\"say \"\"hi\"\"\",", "3,\"a\\\\b\",",
+                "4,\"two\nlines\",", "5,plain,");
+
+        String rfc = write(OrderDto.class, CsvWriterConfig.builder().escapeChar('\0').build(), orders);
+        assertThat(rfc).contains("3,a\\b,");
+
+        String all = write(OrderDto.class, CsvWriterConfig.builder().quoteMode(CsvWriterConfig.QuoteMode.ALL)
+                .delimiter(';').build(), List.of(order(5, "plain")));
+        assertThat(all.lines().skip(1).findFirst().orElseThrow())
+                .isEqualTo("\"5\";\"plain\";\"2\";\"0.625\";\"false\";\"1005\";\"06/01/2024\";\"BLOCKED\";\"5\"");
+    }
+
+    @Test
+    void write_shouldReadBackUnchangedWithEitherEngine() throws IOException {
+        List<OrderDto> orders = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            orders.add(order(i, i % 5 == 0 ? "Nguyễn \"Văn\", A\\" + i : "Khách " + i));
+        }
+        // A small buffer forces many partial encodes, including of multi-byte chars
+        byte[] csv = write(OrderDto.class, CsvWriterConfig.builder().bufferSize(100).build(), orders)
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (CsvReaderConfig.Engine engine : CsvReaderConfig.Engine.values()) {
+            CsvReaderConfig config = CsvReaderConfig.builder().engine(engine).build();
+            List<OrderDto> read = OpenCsvStreamingReader.forType(OrderDto.class, config)
+                    .readAll(new ByteArrayInputStream(csv));
+            assertThat(read).as(engine.name()).isEqualTo(orders);
+        }
+    }
+
+    @Test
+    void write_shouldPlaceIndexedColumnsAndReadRecords() throws IOException {
+        String csv = write(IndexedRow.class, CsvWriterConfig.builder().hasHeader(false).build(),
+                List.of(new IndexedRow("Hanoi", "Ann")));
+
+        assertThat(csv).isEqualTo("Ann,,Hanoi\n");
+    }
+
+    @Test
+    void write_shouldWriteToChannelAndCountBytes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CsvWriter<IndexedRow> writer = new CsvWriter<>(IndexedRow.class, Channels.newChannel(out),
+                CsvWriterConfig.defaultConfig());
+        writer.write(new IndexedRow("Huế", "Bình"));
+        assertThat(writer.bytesWritten()).isZero();
+
+        writer.flush();
+        assertThat(writer.bytesWritten()).isEqualTo(out.size());
+        writer.close();
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("name,,city\nBình,,Huế\n");
+        assertThat(writer.rowsWritten()).isEqualTo(1);
+        assertThatThrownBy(() -> writer.write(new IndexedRow("x", "y"))).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void write_shouldLeaveOutRowsThatFailToFormat() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter<ConvertedDto> writer = new CsvWriter<>(ConvertedDto.class, out)) {
+            writer.write(new ConvertedDto(1, "ok"));
+            assertThatThrownBy(() -> writer.write(new ConvertedDto(2, "bad")))
+                    .isInstanceOf(CsvMappingException.class)
+                    .hasMessageContaining("line 3")
+                    .hasMessageContaining("[code]");
+            writer.write(new ConvertedDto(3, "fine"));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("Id,Code\n1,ok\n3,fine\n");
+    }
+
+    @Test
+    void format_shouldUseInstantTimezone() throws Exception {
+        record Event(@CsvColumn("At") @CsvDateFormat(pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Ho_Chi_Minh")
+                     Instant at) {
+        }
+        String csv = write(Event.class, CsvWriterConfig.defaultConfig(), List.of(new Event(Instant.parse("2024-03-01T17:30:00Z"))));
+
+        assertThat(csv).isEqualTo("At\n2024-03-02 00:30\n");
+        assertThat(OpenCsvStreamingReader.forType(Event.class)
+                .readAll(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+                .containsExactly(new Event(Instant.parse("2024-03-01T17:30:00Z")));
+    }
+}